@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.api;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ways a {@link SeaTunnelRow} is copied on its way through a job: as a whole when a task hands
+ * it to more than one downstream, projected when a transform drops or reorders fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeaTunnelRowCopyBenchmark {
+
+    @Param({"8", "64"})
+    private int arity;
+
+    private SeaTunnelRow row;
+    private int[] projection;
+
+    @Setup
+    public void setup() {
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            fields[i] = i % 2 == 0 ? (Object) ("field_" + i) : (Object) (long) i;
+        }
+        row = new SeaTunnelRow(fields);
+        row.setTableId("benchmark.table");
+        // keep every other field, in reverse order
+        projection = new int[arity / 2];
+        for (int i = 0; i < projection.length; i++) {
+            projection[i] = arity - 1 - 2 * i;
+        }
+    }
+
+    @Benchmark
+    public SeaTunnelRow copy() {
+        return row.copy();
+    }
+
+    @Benchmark
+    public SeaTunnelRow copyProjection() {
+        return row.copy(projection);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(SeaTunnelRowCopyBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
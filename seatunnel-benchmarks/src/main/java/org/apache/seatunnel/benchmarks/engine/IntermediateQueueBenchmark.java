@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBatchQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBatchQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.RecordBatchQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand records from one thread to another through the intermediate queues between chained tasks,
+ * sized like the task groups size them. The queues are bounded, so the rate the producer puts
+ * records is the rate the consumer takes them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+
+    @Param({"blocking", "batch", "disruptor"})
+    private String queueType;
+
+    private final Record<?> record =
+            new Record<>(new SeaTunnelRow(new Object[] {1L, "name", 18, 0.5d}));
+
+    private IntermediateQueueFlowLifeCycle<?> lifeCycle;
+    private Thread consumer;
+    private volatile boolean running;
+    private long consumed;
+
+    @Setup
+    public void setup() {
+        lifeCycle =
+                new IntermediateQueueFlowLifeCycle<>(
+                        null, new CompletableFuture<>(), createQueue(queueType));
+        running = true;
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        consumed++;
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    lifeCycle.collect(collector);
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-consumer");
+        consumer.start();
+    }
+
+    private static AbstractIntermediateQueue<?> createQueue(String queueType) {
+        switch (queueType) {
+            case "blocking":
+                return new IntermediateBlockingQueue(
+                        new ArrayBlockingQueue<>(
+                                TaskGroupWithIntermediateBlockingQueue.QUEUE_SIZE));
+            case "batch":
+                return new IntermediateBatchQueue(
+                        new RecordBatchQueue(
+                                TaskGroupWithIntermediateBatchQueue.QUEUE_SIZE,
+                                TaskGroupWithIntermediateBatchQueue.BATCH_SIZE));
+            case "disruptor":
+                return new IntermediateDisruptor(
+                        new Disruptor<>(
+                                new RecordEventFactory(),
+                                TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                                DaemonThreadFactory.INSTANCE,
+                                ProducerType.SINGLE,
+                                new YieldingWaitStrategy()));
+            default:
+                throw new IllegalArgumentException("Unknown intermediate queue " + queueType);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        consumer.join();
+        lifeCycle.close();
+    }
+
+    @Benchmark
+    public void handOver() {
+        lifeCycle.received(record);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(IntermediateQueueBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
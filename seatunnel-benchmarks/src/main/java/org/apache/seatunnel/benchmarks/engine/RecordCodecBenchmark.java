@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare encoding a shuffle batch with the schema driven {@link RecordCodec} against serializing
+ * it record by record with the Hazelcast {@link RecordSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordCodecBenchmark {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "price", "updated", "score", "remark"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.STRING_TYPE
+                    });
+
+    @Param({"1", "1024"})
+    private int batchSize;
+
+    private RecordCodec codec;
+    private InternalSerializationService serializationService;
+
+    private ArrayList<Record<?>> batch;
+    private byte[] encodedBatch;
+    private Data serializedBatch;
+
+    @Setup
+    public void setup() {
+        codec = RecordCodec.of(ROW_TYPE);
+        serializationService =
+                new DefaultSerializationServiceBuilder()
+                        .setConfig(
+                                new SerializationConfig()
+                                        .addSerializerConfig(
+                                                new SerializerConfig()
+                                                        .setTypeClass(Record.class)
+                                                        .setImplementation(new RecordSerializer())))
+                        .build();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(
+                    new Record<>(
+                            new SeaTunnelRow(
+                                    new Object[] {
+                                        (long) i,
+                                        "name_" + i,
+                                        i % 100,
+                                        BigDecimal.valueOf(i, 2),
+                                        LocalDateTime.of(2023, 3, 1, 12, 0).plusSeconds(i),
+                                        i * 0.5d,
+                                        i % 3 == 0 ? null : "remark"
+                                    })));
+        }
+        encodedBatch = codec.encode(batch);
+        serializedBatch = serializationService.toData(batch);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return codec.encode(batch);
+    }
+
+    @Benchmark
+    public List<Record<?>> codecDecode() {
+        return codec.decode(encodedBatch);
+    }
+
+    @Benchmark
+    public Data serializerEncode() {
+        return serializationService.toData(batch);
+    }
+
+    @Benchmark
+    public List<Record<?>> serializerDecode() {
+        return serializationService.toObject(serializedBatch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RecordCodecBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.ShuffleSinkFlowLifeCycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route rows through a key-hash {@link ShuffleSinkFlowLifeCycle} into the Hazelcast queues of a
+ * single member, while one thread per downstream task drains its queue. The batch size decides how
+ * often the buffered rows are flushed to the queues.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShuffleSinkBenchmark {
+
+    private static final long JOB_ID = 1L;
+    private static final int PIPELINE_ID = 1;
+    private static final int ROWS = 1024;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE
+                    });
+
+    @Param({"1", "64", "1024"})
+    private int batchSize;
+
+    @Param({"4"})
+    private int targetPartitions;
+
+    private HazelcastInstance instance;
+    private ShuffleSinkFlowLifeCycle shuffleSink;
+    private List<Thread> drainers;
+    private volatile boolean running;
+
+    private Record<?>[] records;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.setClusterName("seatunnel-shuffle-benchmark");
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        instance = Hazelcast.newHazelcastInstance(config);
+
+        ShuffleKeyHashStrategy shuffleStrategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(JOB_ID)
+                        .inputPartitions(1)
+                        .targetPartitions(targetPartitions)
+                        .keyFieldIndexes(new int[] {0})
+                        .inputRowType(ROW_TYPE)
+                        .build();
+        ShuffleAction shuffleAction =
+                new ShuffleAction(
+                        1L,
+                        "shuffle-benchmark",
+                        ShuffleConfig.builder()
+                                .shuffleStrategy(shuffleStrategy)
+                                .batchSize(batchSize)
+                                .build());
+
+        TransformSeaTunnelTask task =
+                new TransformSeaTunnelTask(
+                        JOB_ID,
+                        new TaskLocation(new TaskGroupLocation(JOB_ID, PIPELINE_ID, 1L), 1L, 0),
+                        0,
+                        null);
+        task.setTaskExecutionContext(
+                new TaskExecutionContext(
+                        task,
+                        ((HazelcastInstanceProxy) instance).getOriginal().node.getNodeEngine(),
+                        null));
+        shuffleSink =
+                new ShuffleSinkFlowLifeCycle(task, 0, shuffleAction, new CompletableFuture<>());
+
+        running = true;
+        drainers = new ArrayList<>(targetPartitions);
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            IQueue<Record<?>> queue =
+                    shuffleStrategy.getShuffles(instance, PIPELINE_ID, targetIndex)[0];
+            Thread drainer = new Thread(() -> drain(queue), "shuffle-drainer-" + targetIndex);
+            drainer.start();
+            drainers.add(drainer);
+        }
+
+        records = new Record<?>[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            records[i] =
+                    new Record<>(
+                            new SeaTunnelRow(
+                                    new Object[] {(long) i, "name_" + i, i % 100, i * 0.5d}));
+        }
+    }
+
+    private void drain(IQueue<Record<?>> queue) {
+        List<Record<?>> batch = new ArrayList<>();
+        try {
+            while (running) {
+                if (queue.drainTo(batch) == 0) {
+                    queue.poll(100, TimeUnit.MILLISECONDS);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        for (Thread drainer : drainers) {
+            drainer.join();
+        }
+        shuffleSink.close();
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void shuffle() throws IOException {
+        shuffleSink.received(records[next]);
+        next = (next + 1) % ROWS;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ShuffleSinkBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.format;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.text.TextDeserializationSchema;
+import org.apache.seatunnel.format.text.TextSerializationSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/** Serialize rows to delimited text lines and split them back, as the file connectors do. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextFormatBenchmark {
+
+    private static final String DELIMITER = ",";
+    private static final int ROWS = 1024;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "price", "updated", "score", "remark"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.STRING_TYPE
+                    });
+
+    private TextSerializationSchema serializationSchema;
+    private TextDeserializationSchema deserializationSchema;
+
+    private SeaTunnelRow[] rows;
+    private byte[][] messages;
+    private int next;
+
+    @Setup
+    public void setup() {
+        serializationSchema =
+                TextSerializationSchema.builder()
+                        .seaTunnelRowType(ROW_TYPE)
+                        .delimiter(DELIMITER)
+                        .build();
+        deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(ROW_TYPE)
+                        .delimiter(DELIMITER)
+                        .build();
+        rows = new SeaTunnelRow[ROWS];
+        messages = new byte[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                "name_" + i,
+                                i % 100,
+                                BigDecimal.valueOf(i, 2),
+                                LocalDateTime.of(2023, 3, 1, 12, 0).plusSeconds(i),
+                                i * 0.5d,
+                                i % 3 == 0 ? null : "remark"
+                            });
+            messages[i] = serializationSchema.serialize(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        SeaTunnelRow row = rows[next];
+        next = (next + 1) % ROWS;
+        return serializationSchema.serialize(row);
+    }
+
+    @Benchmark
+    public SeaTunnelRow deserialize() throws IOException {
+        byte[] message = messages[next];
+        next = (next + 1) % ROWS;
+        return deserializationSchema.deserialize(message);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TextFormatBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
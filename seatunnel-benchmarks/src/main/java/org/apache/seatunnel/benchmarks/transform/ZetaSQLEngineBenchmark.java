@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.transform;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/** Evaluate the SQL transform's queries row by row with the {@link ZetaSQLEngine}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZetaSQLEngineBenchmark {
+
+    private static final String TABLE_NAME = "fake";
+    private static final int ROWS = 1024;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "price"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE
+                    });
+
+    @Param({
+        "select id, name, age from fake",
+        "select id, age + 1 as next_age, price * 2 as double_price from fake where age > 18",
+        "select id, upper(name) as name, concat(name, '_', id) as tag from fake",
+        "select id, name from fake where age >= 18 and age in (20, 40, 60) or name is null"
+    })
+    private String query;
+
+    private ZetaSQLEngine engine;
+    private SeaTunnelRow[] rows;
+    private int next;
+
+    @Setup
+    public void setup() {
+        engine = new ZetaSQLEngine();
+        engine.init(TABLE_NAME, ROW_TYPE, query);
+        engine.typeMapping(null);
+        rows = new SeaTunnelRow[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new SeaTunnelRow(new Object[] {(long) i, "name_" + i, i % 100, i * 0.5d});
+        }
+    }
+
+    @Benchmark
+    public SeaTunnelRow transform() {
+        SeaTunnelRow row = rows[next];
+        next = (next + 1) % ROWS;
+        return engine.transformBySQL(row);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ZetaSQLEngineBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
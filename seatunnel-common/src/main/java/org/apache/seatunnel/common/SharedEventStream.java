@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A stream of events which is read once and shared by the readers of all jobs in this JVM, such as
+ * the binlog of a database server read through one connection.
+ *
+ * <p>The streams are registered here instead of in a connector, because the engine loads this class
+ * once for the node, while it loads the classes of a connector for every job. So the events are
+ * handed over as bytes, which every subscriber deserializes with its own classes, and the position
+ * of an event as a segment and an offset in it, like a binlog file and position. The {@link Source}
+ * of a stream still belongs to the job which opened it.
+ *
+ * <p>Every subscriber has a bounded queue. A subscriber which doesn't make room in its queue within
+ * its overflow timeout is detached instead of holding up the other subscribers, it continues from
+ * its own position by itself. The source is stopped when the last subscriber leaves.
+ */
+@Slf4j
+public final class SharedEventStream {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    /** The open streams by their key, also guards the membership of every stream. */
+    private static final Map<String, SharedEventStream> STREAMS = new HashMap<>();
+
+    private final String key;
+    private final Source source;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private boolean closed;
+
+    /** The segment and offset of the next event, guarded by the stream. */
+    private String segment;
+
+    private long offset;
+    /** The last event describing the format of the events, guarded by the stream. */
+    private byte[] format;
+
+    private SharedEventStream(String key, String segment, long offset, Source source) {
+        this.key = key;
+        this.segment = segment;
+        this.offset = offset;
+        this.source = source;
+    }
+
+    /** Reads the events of a stream and publishes them to it. */
+    public interface Source {
+
+        /** Starts publishing the events from the position the stream was opened at. */
+        void start(SharedEventStream stream) throws IOException;
+
+        /** Stops publishing the events, once the last subscriber left or the stream failed. */
+        void stop() throws IOException;
+    }
+
+    /**
+     * Subscribes the events of the stream with the key from the position on. The stream is opened
+     * with a source of the factory for the first subscriber, the source is started without holding
+     * the registry, so the subscribers of other streams don't wait for it.
+     *
+     * @param tagFilter the tags of the events to receive, the events without a tag are received by
+     *     all subscribers
+     * @param queueCapacity the number of events the subscription holds
+     * @param overflowTimeoutMillis how long the stream waits for room in the full queue of the
+     *     subscription, before it detaches the subscription
+     * @return the subscription, or {@code null} if the stream already passed the position, then the
+     *     subscriber has to read the events by itself
+     */
+    public static Subscription subscribe(
+            String key,
+            String segment,
+            long offset,
+            Predicate<String> tagFilter,
+            int queueCapacity,
+            long overflowTimeoutMillis,
+            Supplier<Source> sourceFactory)
+            throws IOException {
+        SharedEventStream stream;
+        Subscription subscription;
+        synchronized (STREAMS) {
+            stream = STREAMS.get(key);
+            if (stream != null) {
+                return stream.join(
+                        segment, offset, tagFilter, queueCapacity, overflowTimeoutMillis);
+            }
+            stream = new SharedEventStream(key, segment, offset, sourceFactory.get());
+            subscription =
+                    stream.join(segment, offset, tagFilter, queueCapacity, overflowTimeoutMillis);
+            STREAMS.put(key, stream);
+        }
+        try {
+            stream.source.start(stream);
+        } catch (IOException | RuntimeException e) {
+            stream.fail(e);
+            throw e;
+        }
+        log.info("Opened the shared event stream {} at {}:{}", key, segment, offset);
+        return subscription;
+    }
+
+    private Subscription join(
+            String startSegment,
+            long startOffset,
+            Predicate<String> tagFilter,
+            int queueCapacity,
+            long overflowTimeoutMillis) {
+        synchronized (this) {
+            if (closed || !segment.equals(startSegment) || startOffset < offset) {
+                return null;
+            }
+            Subscription subscription =
+                    new Subscription(
+                            startSegment,
+                            startOffset,
+                            tagFilter,
+                            queueCapacity,
+                            overflowTimeoutMillis);
+            if (format != null) {
+                subscription.offerFormat(format);
+            }
+            subscriptions.add(subscription);
+            return subscription;
+        }
+    }
+
+    /**
+     * Publishes the next event of the stream to its subscribers, called by the source.
+     *
+     * @param nextOffset the offset after the event, or {@code 0} if it's unknown
+     * @param tag the tag the subscribers filter the event by, or {@code null} to publish the event
+     *     to all subscribers
+     */
+    public void publish(
+            String eventSegment, long eventOffset, long nextOffset, String tag, byte[] event) {
+        synchronized (this) {
+            // move on before handing the event over, a subscriber joining meanwhile won't receive
+            // it, so it must start after it
+            segment = eventSegment;
+            if (nextOffset > 0) {
+                offset = nextOffset;
+            }
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(eventSegment, eventOffset, tag, event);
+        }
+    }
+
+    /**
+     * Publishes an event which describes the format of the following events, like the format
+     * description event of a binlog. It's received by all subscribers, and first by the subscribers
+     * joining later.
+     */
+    public void publishFormat(byte[] event) {
+        synchronized (this) {
+            format = event;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.offerFormat(event);
+        }
+    }
+
+    /**
+     * Closes the stream with a failure of its source, such as a broken connection. The subscribers
+     * receive their remaining events and then the failure.
+     */
+    public void fail(Exception cause) {
+        List<Subscription> failed;
+        synchronized (STREAMS) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            STREAMS.remove(key, this);
+            failed = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+        }
+        log.warn("The shared event stream {} failed", key, cause);
+        for (Subscription subscription : failed) {
+            subscription.fail(cause);
+        }
+        stopSource();
+    }
+
+    private void leave(Subscription subscription) {
+        boolean idle;
+        synchronized (STREAMS) {
+            subscriptions.remove(subscription);
+            idle = subscriptions.isEmpty() && !closed;
+            if (idle) {
+                closed = true;
+                STREAMS.remove(key, this);
+            }
+        }
+        if (idle) {
+            log.info("Closing the shared event stream {}, no subscriber left", key);
+            stopSource();
+        }
+    }
+
+    private void stopSource() {
+        try {
+            source.stop();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to stop the source of the shared event stream {}", key, e);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /** The events of one subscriber, from its position on. */
+    public final class Subscription {
+
+        private final String startSegment;
+        private final long startOffset;
+        private final Predicate<String> tagFilter;
+        private final long overflowTimeoutMillis;
+        private final BlockingQueue<byte[]> queue;
+        private volatile boolean ended;
+        private volatile boolean detached;
+        private volatile Exception failure;
+        /** Whether the start position was reached, only used by the source. */
+        private boolean started;
+        /** The last format event received, set on joining and then only used by the source. */
+        private byte[] format;
+
+        private Subscription(
+                String startSegment,
+                long startOffset,
+                Predicate<String> tagFilter,
+                int queueCapacity,
+                long overflowTimeoutMillis) {
+            this.startSegment = startSegment;
+            this.startOffset = startOffset;
+            this.tagFilter = tagFilter;
+            this.overflowTimeoutMillis = overflowTimeoutMillis;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void offer(String eventSegment, long eventOffset, String tag, byte[] event) {
+            if (ended) {
+                return;
+            }
+            if (!started) {
+                if (eventSegment.equals(startSegment) && eventOffset < startOffset) {
+                    return;
+                }
+                started = true;
+            }
+            if (tag != null && !tagFilter.test(tag)) {
+                return;
+            }
+            enqueue(event);
+        }
+
+        private void offerFormat(byte[] event) {
+            if (ended || event == format) {
+                return;
+            }
+            format = event;
+            enqueue(event);
+        }
+
+        private void enqueue(byte[] event) {
+            long deadline = System.currentTimeMillis() + overflowTimeoutMillis;
+            try {
+                while (!queue.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (ended) {
+                        return;
+                    }
+                    if (System.currentTimeMillis() >= deadline) {
+                        log.warn(
+                                "Detaching a subscriber of the shared event stream {}, its queue"
+                                        + " is full for {} ms",
+                                key,
+                                overflowTimeoutMillis);
+                        detached = true;
+                        ended = true;
+                        leave(this);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void fail(Exception cause) {
+            failure = cause;
+            ended = true;
+        }
+
+        /**
+         * Takes the next event of the subscription.
+         *
+         * @return the event, or {@code null} once the subscription ended and its events are taken
+         */
+        public byte[] take() {
+            try {
+                while (true) {
+                    byte[] event = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        return event;
+                    }
+                    if (ended) {
+                        return queue.poll();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        /** Whether the subscription ended, by a close, a detach or a failure of the stream. */
+        public boolean isEnded() {
+            return ended;
+        }
+
+        /** Whether the subscriber fell behind and was detached, it continues by itself. */
+        public boolean isDetached() {
+            return detached;
+        }
+
+        /** The failure of the stream which ended the subscription, or {@code null}. */
+        public Exception getFailure() {
+            return failure;
+        }
+
+        /** Leaves the stream, the events which weren't taken yet are dropped. */
+        public void close() {
+            if (!ended) {
+                ended = true;
+                leave(this);
+            }
+            queue.clear();
+        }
+    }
+}
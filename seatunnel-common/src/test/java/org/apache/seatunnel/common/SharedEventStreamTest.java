@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public class SharedEventStreamTest {
+
+    private static final String SEGMENT = "mysql-bin.000001";
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long OVERFLOW_TIMEOUT_MILLIS = 10_000L;
+
+    @Test
+    public void testSubscribersOfOneKeyShareOneSource() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription first = subscribe("share", SEGMENT, 4, sources);
+        SharedEventStream.Subscription second = subscribe("share", SEGMENT, 4, sources);
+        Assertions.assertEquals(1, sources.size());
+        TestSource source = sources.get(0);
+
+        SharedEventStream.Subscription other = subscribe("share-other", SEGMENT, 4, sources);
+        Assertions.assertEquals(2, sources.size());
+        other.close();
+        Assertions.assertTrue(sources.get(1).stopped);
+
+        source.stream.publish(SEGMENT, 4, 104, null, bytes("a"));
+        Assertions.assertEquals("a", new String(first.take()));
+        Assertions.assertEquals("a", new String(second.take()));
+
+        // the source keeps running for the remaining subscriber
+        first.close();
+        Assertions.assertFalse(source.stopped);
+        source.stream.publish(SEGMENT, 104, 204, null, bytes("b"));
+        Assertions.assertEquals("b", new String(second.take()));
+
+        // and is stopped when the last subscriber leaves
+        second.close();
+        Assertions.assertTrue(source.stopped);
+        subscribe("share", SEGMENT, 204, sources).close();
+        Assertions.assertEquals(3, sources.size());
+    }
+
+    @Test
+    public void testSubscribersReceiveTheEventsFromTheirPositionOn() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription first = subscribe("position", SEGMENT, 4, sources);
+        SharedEventStream stream = sources.get(0).stream;
+        stream.publish(SEGMENT, 4, 104, null, bytes("a"));
+
+        // a subscriber at a position which the stream already passed reads by itself
+        Assertions.assertNull(subscribe("position", SEGMENT, 4, sources));
+        Assertions.assertNull(subscribe("position", "mysql-bin.000002", 4, sources));
+
+        // a subscriber ahead of the stream skips the events before its position
+        SharedEventStream.Subscription ahead = subscribe("position", SEGMENT, 204, sources);
+        stream.publish(SEGMENT, 104, 204, null, bytes("b"));
+        stream.publish(SEGMENT, 204, 304, null, bytes("c"));
+        stream.publish("mysql-bin.000002", 4, 4, null, bytes("rotate"));
+        Assertions.assertEquals("c", new String(ahead.take()));
+        Assertions.assertEquals("rotate", new String(ahead.take()));
+        for (String expected : new String[] {"a", "b", "c", "rotate"}) {
+            Assertions.assertEquals(expected, new String(first.take()));
+        }
+        Assertions.assertEquals(1, sources.size());
+        first.close();
+        ahead.close();
+    }
+
+    @Test
+    public void testEventsAreFilteredByTheirTag() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription orders =
+                subscribe("tags", SEGMENT, 4, "orders"::equals, QUEUE_CAPACITY, sources);
+        SharedEventStream.Subscription users =
+                subscribe("tags", SEGMENT, 4, "users"::equals, QUEUE_CAPACITY, sources);
+        SharedEventStream stream = sources.get(0).stream;
+
+        stream.publish(SEGMENT, 4, 104, "orders", bytes("order"));
+        stream.publish(SEGMENT, 104, 204, "users", bytes("user"));
+        stream.publish(SEGMENT, 204, 304, null, bytes("commit"));
+        Assertions.assertEquals("order", new String(orders.take()));
+        Assertions.assertEquals("commit", new String(orders.take()));
+        Assertions.assertEquals("user", new String(users.take()));
+        Assertions.assertEquals("commit", new String(users.take()));
+        orders.close();
+        users.close();
+    }
+
+    @Test
+    public void testFormatIsReceivedFirstBySubscribersJoiningLater() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription first =
+                subscribe("format", SEGMENT, 4, "orders"::equals, QUEUE_CAPACITY, sources);
+        SharedEventStream stream = sources.get(0).stream;
+        stream.publishFormat(bytes("format"));
+        stream.publish(SEGMENT, 4, 104, null, bytes("a"));
+
+        // the format is received before the position and regardless of the tags
+        SharedEventStream.Subscription second =
+                subscribe("format", SEGMENT, 204, "users"::equals, QUEUE_CAPACITY, sources);
+        stream.publish(SEGMENT, 104, 204, null, bytes("b"));
+        stream.publish(SEGMENT, 204, 304, null, bytes("c"));
+        for (String expected : new String[] {"format", "a", "b", "c"}) {
+            Assertions.assertEquals(expected, new String(first.take()));
+        }
+        Assertions.assertEquals("format", new String(second.take()));
+        Assertions.assertEquals("c", new String(second.take()));
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void testSubscriberWithFullQueueIsDetached() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription slow =
+                subscribe("overflow", SEGMENT, 4, tag -> true, 2, sources);
+        SharedEventStream.Subscription fast = subscribe("overflow", SEGMENT, 4, sources);
+        SharedEventStream stream = sources.get(0).stream;
+
+        for (int i = 0; i < 3; i++) {
+            stream.publish(SEGMENT, 4 + i * 100, 104 + i * 100, null, bytes(String.valueOf(i)));
+        }
+        Assertions.assertTrue(slow.isDetached());
+        Assertions.assertTrue(slow.isEnded());
+        Assertions.assertFalse(fast.isEnded());
+        Assertions.assertFalse(sources.get(0).stopped);
+
+        // the detached subscriber still receives the events it had room for
+        Assertions.assertEquals("0", new String(slow.take()));
+        Assertions.assertEquals("1", new String(slow.take()));
+        Assertions.assertNull(slow.take());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(String.valueOf(i), new String(fast.take()));
+        }
+        slow.close();
+        fast.close();
+        Assertions.assertTrue(sources.get(0).stopped);
+    }
+
+    @Test
+    public void testSourceIsStartedWithoutHoldingTheRegistry() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        Thread slowStart =
+                new Thread(
+                        () -> {
+                            try {
+                                SharedEventStream.subscribe(
+                                                "slow-start",
+                                                SEGMENT,
+                                                4,
+                                                tag -> true,
+                                                QUEUE_CAPACITY,
+                                                OVERFLOW_TIMEOUT_MILLIS,
+                                                () -> new TestSource(sources, release))
+                                        .close();
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        slowStart.start();
+        while (sources.isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        // the subscribers of another stream and of the starting one don't wait for the start
+        SharedEventStream.Subscription other = subscribe("fast-start", SEGMENT, 4, sources);
+        SharedEventStream.Subscription joined = subscribe("slow-start", SEGMENT, 4, sources);
+        Assertions.assertNotNull(joined);
+        Assertions.assertEquals(2, sources.size());
+        other.close();
+        joined.close();
+
+        release.countDown();
+        slowStart.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertFalse(slowStart.isAlive());
+        Assertions.assertTrue(sources.get(0).stopped);
+    }
+
+    @Test
+    public void testFailureEndsAllSubscriptions() throws Exception {
+        List<TestSource> sources = new CopyOnWriteArrayList<>();
+        SharedEventStream.Subscription first = subscribe("failure", SEGMENT, 4, sources);
+        SharedEventStream.Subscription second = subscribe("failure", SEGMENT, 4, sources);
+        TestSource source = sources.get(0);
+
+        source.stream.publish(SEGMENT, 4, 104, null, bytes("a"));
+        EOFException failure = new EOFException("Connection closed");
+        source.stream.fail(failure);
+        Assertions.assertTrue(source.stopped);
+        for (SharedEventStream.Subscription subscription :
+                new SharedEventStream.Subscription[] {first, second}) {
+            Assertions.assertEquals("a", new String(subscription.take()));
+            Assertions.assertNull(subscription.take());
+            Assertions.assertSame(failure, subscription.getFailure());
+            Assertions.assertFalse(subscription.isDetached());
+        }
+
+        // a restarted subscriber opens a new stream
+        subscribe("failure", SEGMENT, 4, sources).close();
+        Assertions.assertEquals(2, sources.size());
+    }
+
+    @Test
+    public void testFailedStartIsThrownToTheFirstSubscriber() {
+        IOException failure = new IOException("Access denied");
+        Assertions.assertSame(
+                failure,
+                Assertions.assertThrows(
+                        IOException.class,
+                        () ->
+                                SharedEventStream.subscribe(
+                                        "failed-start",
+                                        SEGMENT,
+                                        4,
+                                        tag -> true,
+                                        QUEUE_CAPACITY,
+                                        OVERFLOW_TIMEOUT_MILLIS,
+                                        () ->
+                                                new TestSource(
+                                                        new CopyOnWriteArrayList<>(),
+                                                        new CountDownLatch(0)) {
+                                                    @Override
+                                                    public void start(SharedEventStream stream)
+                                                            throws IOException {
+                                                        throw failure;
+                                                    }
+                                                })));
+    }
+
+    private static SharedEventStream.Subscription subscribe(
+            String key, String segment, long offset, List<TestSource> sources) throws IOException {
+        return subscribe(key, segment, offset, tag -> true, QUEUE_CAPACITY, sources);
+    }
+
+    private static SharedEventStream.Subscription subscribe(
+            String key,
+            String segment,
+            long offset,
+            Predicate<String> tagFilter,
+            int queueCapacity,
+            List<TestSource> sources)
+            throws IOException {
+        long overflowTimeoutMillis = queueCapacity < QUEUE_CAPACITY ? 100 : OVERFLOW_TIMEOUT_MILLIS;
+        return SharedEventStream.subscribe(
+                key,
+                segment,
+                offset,
+                tagFilter,
+                queueCapacity,
+                overflowTimeoutMillis,
+                () -> new TestSource(sources, new CountDownLatch(0)));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes();
+    }
+
+    /** A source whose events are published by the test, its start waits for the latch. */
+    private static class TestSource implements SharedEventStream.Source {
+        private final CountDownLatch release;
+        private volatile SharedEventStream stream;
+        private volatile boolean stopped;
+
+        TestSource(List<TestSource> sources, CountDownLatch release) {
+            this.release = release;
+            sources.add(this);
+        }
+
+        @Override
+        public void start(SharedEventStream stream) throws IOException {
+            this.stream = stream;
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
@@ -39,6 +39,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
     @Getter protected final double distributionFactorLower;
     @Getter protected final int sampleShardingThreshold;
     @Getter protected final int inverseSamplingRate;
+    @Getter protected final long snapshotBufferSize;
+    @Getter protected final int snapshotFetchParallelism;
+    @Getter protected final int incrementalDeserializeParallelism;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -53,6 +56,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
             double distributionFactorLower,
             int sampleShardingThreshold,
             int inverseSamplingRate,
+            long snapshotBufferSize,
+            int snapshotFetchParallelism,
+            int incrementalDeserializeParallelism,
             Properties dbzProperties) {
         this.startupConfig = startupConfig;
         this.stopConfig = stopConfig;
@@ -61,6 +67,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.distributionFactorLower = distributionFactorLower;
         this.sampleShardingThreshold = sampleShardingThreshold;
         this.inverseSamplingRate = inverseSamplingRate;
+        this.snapshotBufferSize = snapshotBufferSize;
+        this.snapshotFetchParallelism = snapshotFetchParallelism;
+        this.incrementalDeserializeParallelism = incrementalDeserializeParallelism;
         this.dbzProperties = dbzProperties;
     }
 
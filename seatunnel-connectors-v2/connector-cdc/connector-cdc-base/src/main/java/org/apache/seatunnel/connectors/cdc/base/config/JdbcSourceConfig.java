@@ -53,6 +53,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             double distributionFactorLower,
             int sampleShardingThreshold,
             int inverseSamplingRate,
+            long snapshotBufferSize,
+            int snapshotFetchParallelism,
+            int incrementalDeserializeParallelism,
             Properties dbzProperties,
             String driverClassName,
             String hostname,
@@ -73,6 +76,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 distributionFactorLower,
                 sampleShardingThreshold,
                 inverseSamplingRate,
+                snapshotBufferSize,
+                snapshotFetchParallelism,
+                incrementalDeserializeParallelism,
                 dbzProperties);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
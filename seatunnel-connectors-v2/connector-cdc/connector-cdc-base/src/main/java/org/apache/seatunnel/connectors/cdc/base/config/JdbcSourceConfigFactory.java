@@ -51,6 +51,11 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
     protected int inverseSamplingRate = JdbcSourceOptions.INVERSE_SAMPLING_RATE.defaultValue();
     protected int splitSize = SourceOptions.SNAPSHOT_SPLIT_SIZE.defaultValue();
     protected int fetchSize = SourceOptions.SNAPSHOT_FETCH_SIZE.defaultValue();
+    protected long snapshotBufferSize = SourceOptions.SNAPSHOT_BUFFER_SIZE.defaultValue();
+    protected int snapshotFetchParallelism =
+            SourceOptions.SNAPSHOT_FETCH_PARALLELISM.defaultValue();
+    protected int incrementalDeserializeParallelism =
+            SourceOptions.INCREMENTAL_DESERIALIZE_PARALLELISM.defaultValue();
     protected String serverTimeZone = JdbcSourceOptions.SERVER_TIME_ZONE.defaultValue();
     protected long connectTimeoutMillis = JdbcSourceOptions.CONNECT_TIMEOUT_MS.defaultValue();
     protected int connectMaxRetries = JdbcSourceOptions.CONNECT_MAX_RETRIES.defaultValue();
@@ -178,6 +183,34 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         return this;
     }
 
+    /**
+     * The memory budget in bytes of the records of a snapshot split which are held until the high
+     * watermark arrives, the records beyond it are spilled to a local file.
+     */
+    public JdbcSourceConfigFactory snapshotBufferSize(long snapshotBufferSize) {
+        this.snapshotBufferSize = snapshotBufferSize;
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits a reader fetches concurrently, each of them through its own
+     * connection.
+     */
+    public JdbcSourceConfigFactory snapshotFetchParallelism(int snapshotFetchParallelism) {
+        this.snapshotFetchParallelism = snapshotFetchParallelism;
+        return this;
+    }
+
+    /**
+     * The number of threads a reader deserializes the change events of the incremental phase with,
+     * the events are still emitted in their order.
+     */
+    public JdbcSourceConfigFactory incrementalDeserializeParallelism(
+            int incrementalDeserializeParallelism) {
+        this.incrementalDeserializeParallelism = incrementalDeserializeParallelism;
+        return this;
+    }
+
     /**
      * The maximum time that the connector should wait after trying to connect to the database
      * server before timing out.
@@ -238,6 +271,10 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         this.inverseSamplingRate = config.get(JdbcSourceOptions.INVERSE_SAMPLING_RATE);
         this.splitSize = config.get(SourceOptions.SNAPSHOT_SPLIT_SIZE);
         this.fetchSize = config.get(SourceOptions.SNAPSHOT_FETCH_SIZE);
+        this.snapshotBufferSize = config.get(SourceOptions.SNAPSHOT_BUFFER_SIZE);
+        this.snapshotFetchParallelism = config.get(SourceOptions.SNAPSHOT_FETCH_PARALLELISM);
+        this.incrementalDeserializeParallelism =
+                config.get(SourceOptions.INCREMENTAL_DESERIALIZE_PARALLELISM);
         this.serverTimeZone = config.get(JdbcSourceOptions.SERVER_TIME_ZONE);
         this.connectTimeoutMillis = config.get(JdbcSourceOptions.CONNECT_TIMEOUT_MS);
         this.connectMaxRetries = config.get(JdbcSourceOptions.CONNECT_MAX_RETRIES);
@@ -28,6 +28,15 @@ public interface SourceConfig extends Serializable {
 
     int getSplitSize();
 
+    /** The memory budget in bytes of the records of a snapshot split, the rest is spilled. */
+    long getSnapshotBufferSize();
+
+    /** The number of snapshot splits a reader fetches concurrently. */
+    int getSnapshotFetchParallelism();
+
+    /** The number of threads the change events of the incremental phase are deserialized with. */
+    int getIncrementalDeserializeParallelism();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
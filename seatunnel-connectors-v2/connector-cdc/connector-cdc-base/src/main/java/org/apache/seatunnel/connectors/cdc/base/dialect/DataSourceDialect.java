@@ -51,4 +51,13 @@ public interface DataSourceDialect<C extends SourceConfig> extends Serializable
 
     /** The task context used for fetch task to fetch data from external systems. */
     FetchTask.Context createFetchTaskContext(SourceSplitBase sourceSplitBase, C sourceConfig);
+
+    /**
+     * The task context of the scan fetcher {@code scanFetcherIndex} of a reader, which reads its
+     * snapshot splits concurrently to the other scan fetchers of the reader.
+     */
+    default FetchTask.Context createScanFetchTaskContext(
+            SourceSplitBase sourceSplitBase, C sourceConfig, int scanFetcherIndex) {
+        return createFetchTaskContext(sourceSplitBase, sourceConfig);
+    }
 }
@@ -44,6 +44,20 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Long> SNAPSHOT_BUFFER_SIZE =
+            Options.key("snapshot.buffer.size")
+                    .longType()
+                    .defaultValue(64L * 1024 * 1024)
+                    .withDescription(
+                            "The memory budget (bytes) of the records of a snapshot split held until the split is normalized, the records beyond it are spilled to a local file.");
+
+    public static final Option<Integer> SNAPSHOT_FETCH_PARALLELISM =
+            Options.key("snapshot.fetch.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits a reader fetches concurrently, each of them through its own connection.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -69,6 +83,13 @@ public class SourceOptions {
                     .defaultValue(1)
                     .withDescription("The number of parallel readers in the incremental phase.");
 
+    public static final Option<Integer> INCREMENTAL_DESERIALIZE_PARALLELISM =
+            Options.key("incremental.deserialize.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads a reader deserializes the change events of the incremental phase with, the events are still emitted in their order.");
+
     public static final Option<Long> STOP_TIMESTAMP =
             Options.key("stop.timestamp")
                     .longType()
@@ -105,8 +126,12 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
-                .optional(INCREMENTAL_PARALLELISM)
+                .optional(
+                        SNAPSHOT_SPLIT_SIZE,
+                        SNAPSHOT_FETCH_SIZE,
+                        SNAPSHOT_BUFFER_SIZE,
+                        SNAPSHOT_FETCH_PARALLELISM)
+                .optional(INCREMENTAL_PARALLELISM, INCREMENTAL_DESERIALIZE_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
 }
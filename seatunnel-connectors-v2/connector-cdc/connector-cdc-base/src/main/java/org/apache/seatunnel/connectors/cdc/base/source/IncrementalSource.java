@@ -183,7 +183,10 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     protected RecordEmitter<SourceRecords, T, SourceSplitStateBase> createRecordEmitter(
             SourceConfig sourceConfig, MetricsContext metricsContext) {
         return new IncrementalSourceRecordEmitter<>(
-                deserializationSchema, offsetFactory, metricsContext);
+                deserializationSchema,
+                offsetFactory,
+                metricsContext,
+                sourceConfig.getIncrementalDeserializeParallelism());
     }
 
     @Override
@@ -30,8 +30,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -45,8 +46,12 @@ public class IncrementalSourceEnumerator
     private final SourceSplitEnumerator.Context<SourceSplitBase> context;
     private final SplitAssigner splitAssigner;
 
-    /** using TreeSet to prefer assigning incremental split to task-0 for easier debug */
-    private final TreeSet<Integer> readersAwaitingSplit;
+    /**
+     * The number of split requests of each reader which are not assigned yet, a reader fetching
+     * snapshot splits concurrently has several of them. Using TreeMap to prefer assigning
+     * incremental split to task-0 for easier debug
+     */
+    private final TreeMap<Integer, Integer> readersAwaitingSplit;
 
     private volatile boolean running;
 
@@ -54,7 +59,7 @@ public class IncrementalSourceEnumerator
             SourceSplitEnumerator.Context<SourceSplitBase> context, SplitAssigner splitAssigner) {
         this.context = context;
         this.splitAssigner = splitAssigner;
-        this.readersAwaitingSplit = new TreeSet<>();
+        this.readersAwaitingSplit = new TreeMap<>();
         this.running = false;
     }
 
@@ -76,7 +81,7 @@ public class IncrementalSourceEnumerator
             return;
         }
 
-        readersAwaitingSplit.add(subtaskId);
+        readersAwaitingSplit.merge(subtaskId, 1, Integer::sum);
         if (running) {
             assignSplits();
         }
@@ -144,10 +149,12 @@ public class IncrementalSourceEnumerator
     // ------------------------------------------------------------------------------------------
 
     private void assignSplits() {
-        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        final Iterator<Map.Entry<Integer, Integer>> awaitingReader =
+                readersAwaitingSplit.entrySet().iterator();
 
         while (awaitingReader.hasNext()) {
-            int nextAwaiting = awaitingReader.next();
+            Map.Entry<Integer, Integer> awaitingRequests = awaitingReader.next();
+            int nextAwaiting = awaitingRequests.getKey();
             // if the reader that requested another split has failed in the meantime, remove
             // it from the list of waiting readers
             if (!context.registeredReaders().contains(nextAwaiting)) {
@@ -155,19 +162,22 @@ public class IncrementalSourceEnumerator
                 continue;
             }
 
-            Optional<SourceSplitBase> split;
-            synchronized (context) {
-                split = splitAssigner.getNext();
-            }
-            if (split.isPresent()) {
+            // serve all the requests of the reader before the next reader
+            while (awaitingRequests.getValue() > 0) {
+                Optional<SourceSplitBase> split;
+                synchronized (context) {
+                    split = splitAssigner.getNext();
+                }
+                if (!split.isPresent()) {
+                    // there is no available splits by now, skip assigning
+                    return;
+                }
                 final SourceSplitBase sourceSplit = split.get();
                 context.assignSplit(nextAwaiting, sourceSplit);
-                awaitingReader.remove();
+                awaitingRequests.setValue(awaitingRequests.getValue() - 1);
                 LOG.debug("Assign split {} to subtask {}", sourceSplit, nextAwaiting);
-            } else {
-                // there is no available splits by now, skip assigning
-                break;
             }
+            awaitingReader.remove();
         }
     }
 }
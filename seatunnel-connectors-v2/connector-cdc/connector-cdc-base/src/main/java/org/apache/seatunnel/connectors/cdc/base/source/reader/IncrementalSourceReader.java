@@ -84,7 +84,11 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
     @Override
     public void pollNext(Collector<T> output) throws Exception {
         if (!running) {
-            if (getNumberOfCurrentlyAssignedSplits() == 0) {
+            // request a snapshot split for each of the concurrent scan fetchers
+            int splitRequests =
+                    sourceConfig.getSnapshotFetchParallelism()
+                            - getNumberOfCurrentlyAssignedSplits();
+            for (int i = 0; i < splitRequests; i++) {
                 context.sendSplitRequest();
             }
             running = true;
@@ -131,7 +135,9 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
             finishedUnackedSplits.put(sourceSplit.splitId(), sourceSplit.asSnapshotSplit());
         }
         reportFinishedSnapshotSplitsIfNeed();
-        context.sendSplitRequest();
+        for (int i = 0; i < finishedSplitIds.size(); i++) {
+            context.sendSplitRequest();
+        }
     }
 
     private void reportFinishedSnapshotSplitsIfNeed() {
@@ -180,6 +186,14 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         return unfinishedSplits;
     }
 
+    @Override
+    public void close() {
+        super.close();
+        if (recordEmitter instanceof IncrementalSourceRecordEmitter) {
+            ((IncrementalSourceRecordEmitter<T>) recordEmitter).close();
+        }
+    }
+
     @Override
     protected SourceSplitBase toSplitType(String splitId, SourceSplitStateBase splitState) {
         return splitState.toSourceSplit();
@@ -29,11 +29,19 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmit
 
 import org.apache.kafka.connect.source.SourceRecord;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isHighWatermarkEvent;
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isWatermarkEvent;
@@ -47,6 +55,10 @@ import static org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils.i
  *
  * <p>The {@link RecordEmitter} buffers the snapshot records of split and call the stream reader to
  * emit records rather than emit the records directly.
+ *
+ * <p>The change events of the incremental phase may be deserialized on several threads, the rows
+ * are still emitted in the order of the events, and the offset of an event is only recorded in the
+ * split state once its rows are emitted.
  */
 @Slf4j
 public class IncrementalSourceRecordEmitter<T>
@@ -54,6 +66,8 @@ public class IncrementalSourceRecordEmitter<T>
 
     private static final String CDC_RECORD_FETCH_DELAY = "CDCRecordFetchDelay";
     private static final String CDC_RECORD_EMIT_DELAY = "CDCRecordEmitDelay";
+    // the shorter runs of change events are not worth handing to the deserializer threads
+    private static final int MIN_CONCURRENT_DESERIALIZE_RECORDS = 64;
 
     protected final DebeziumDeserializationSchema<T> debeziumDeserializationSchema;
     protected final OutputCollector<T> outputCollector;
@@ -63,21 +77,47 @@ public class IncrementalSourceRecordEmitter<T>
     protected final Counter recordFetchDelay;
     protected final Counter recordEmitDelay;
 
+    private final int deserializeParallelism;
+    private final ExecutorService deserializeExecutor;
+
     public IncrementalSourceRecordEmitter(
             DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
             OffsetFactory offsetFactory,
             MetricsContext metricsContext) {
+        this(debeziumDeserializationSchema, offsetFactory, metricsContext, 1);
+    }
+
+    public IncrementalSourceRecordEmitter(
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            OffsetFactory offsetFactory,
+            MetricsContext metricsContext,
+            int deserializeParallelism) {
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
         this.outputCollector = new OutputCollector<>();
         this.offsetFactory = offsetFactory;
         this.recordFetchDelay = metricsContext.counter(CDC_RECORD_FETCH_DELAY);
         this.recordEmitDelay = metricsContext.counter(CDC_RECORD_EMIT_DELAY);
+        this.deserializeParallelism = deserializeParallelism;
+        this.deserializeExecutor =
+                deserializeParallelism > 1
+                        ? Executors.newFixedThreadPool(
+                                deserializeParallelism,
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("debezium-deserializer-%d")
+                                        .setDaemon(true)
+                                        .build())
+                        : null;
     }
 
     @Override
     public void emitRecord(
             SourceRecords sourceRecords, Collector<T> collector, SourceSplitStateBase splitState)
             throws Exception {
+        if (deserializeExecutor != null && splitState.isIncrementalSplitState()) {
+            emitChangeEventsConcurrently(
+                    sourceRecords.getSourceRecordList(), collector, splitState);
+            return;
+        }
         final Iterator<SourceRecord> elementIterator = sourceRecords.iterator();
         while (elementIterator.hasNext()) {
             SourceRecord next = elementIterator.next();
@@ -86,6 +126,86 @@ public class IncrementalSourceRecordEmitter<T>
         }
     }
 
+    /**
+     * Deserializes the runs of data change records on the deserializer threads and emits their rows
+     * in order. The other records, such as schema change events, are processed in place between the
+     * runs, as the records after them may depend on them.
+     */
+    private void emitChangeEventsConcurrently(
+            List<SourceRecord> records, Collector<T> output, SourceSplitStateBase splitState)
+            throws Exception {
+        int start = 0;
+        while (start < records.size()) {
+            int end = start;
+            while (end < records.size() && isDataChangeRecord(records.get(end))) {
+                end++;
+            }
+            if (end - start < MIN_CONCURRENT_DESERIALIZE_RECORDS) {
+                for (int i = start; i < end; i++) {
+                    reportMetrics(records.get(i));
+                    processElement(records.get(i), output, splitState);
+                }
+            } else {
+                List<List<T>> rows = deserializeConcurrently(records.subList(start, end));
+                for (int i = start; i < end; i++) {
+                    SourceRecord element = records.get(i);
+                    reportMetrics(element);
+                    for (T row : rows.get(i - start)) {
+                        output.collect(row);
+                    }
+                    // the offset is recorded once all rows of the event were emitted
+                    splitState
+                            .asIncrementalSplitState()
+                            .setStartupOffset(getOffsetPosition(element));
+                }
+            }
+            if (end < records.size()) {
+                reportMetrics(records.get(end));
+                processElement(records.get(end), output, splitState);
+            }
+            start = end + 1;
+        }
+    }
+
+    private List<List<T>> deserializeConcurrently(List<SourceRecord> records) throws Exception {
+        List<List<T>> rows = new ArrayList<>(Collections.nCopies(records.size(), null));
+        int sliceSize = (records.size() + deserializeParallelism - 1) / deserializeParallelism;
+        List<Future<?>> futures = new ArrayList<>(deserializeParallelism);
+        for (int sliceStart = 0; sliceStart < records.size(); sliceStart += sliceSize) {
+            int from = sliceStart;
+            int to = Math.min(sliceStart + sliceSize, records.size());
+            futures.add(
+                    deserializeExecutor.submit(
+                            () -> {
+                                for (int i = from; i < to; i++) {
+                                    List<T> recordRows = new ArrayList<>(2);
+                                    debeziumDeserializationSchema.deserialize(
+                                            records.get(i), new ListCollector<>(recordRows));
+                                    rows.set(i, recordRows);
+                                }
+                                return null;
+                            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        return rows;
+    }
+
+    public void close() {
+        if (deserializeExecutor != null) {
+            deserializeExecutor.shutdownNow();
+        }
+    }
+
     protected void reportMetrics(SourceRecord element) {
         long now = System.currentTimeMillis();
         // record the latest process time
@@ -158,4 +278,22 @@ public class IncrementalSourceRecordEmitter<T>
             return null;
         }
     }
+
+    private static class ListCollector<T> implements Collector<T> {
+        private final List<T> rows;
+
+        private ListCollector(List<T> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(T record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return null;
+        }
+    }
 }
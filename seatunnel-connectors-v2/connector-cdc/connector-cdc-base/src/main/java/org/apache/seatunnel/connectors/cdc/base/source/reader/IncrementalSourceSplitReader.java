@@ -35,12 +35,27 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
-
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The split reader reads up to {@link SourceConfig#getSnapshotFetchParallelism()} snapshot splits
+ * concurrently, each of them on a scan fetcher with its own connection. Every scan fetcher drains
+ * the records of its split into its own buffer while the split is read, and hands the split over
+ * once its records are complete. The records of a snapshot split are returned in the order the
+ * splits complete, followed by the split as finished.
+ */
 @Slf4j
 public class IncrementalSourceSplitReader<C extends SourceConfig>
         implements SplitReader<SourceRecords, SourceSplitBase> {
+    private static final long COMPLETED_SPLIT_POLL_TIMEOUT_MILLIS = 100L;
+
     private final Queue<SourceSplitBase> splits;
     private final int subtaskId;
 
@@ -50,12 +65,19 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final DataSourceDialect<C> dataSourceDialect;
     private final C sourceConfig;
 
+    // the scan fetchers are kept open across the snapshot splits, so are their connections
+    private final List<IncrementalSourceScanFetcher> scanFetchers;
+    private final BlockingQueue<IncrementalSourceScanFetcher> completedScanFetchers;
+    private IncrementalSourceScanFetcher currentScanFetcher;
+
     public IncrementalSourceSplitReader(
             int subtaskId, DataSourceDialect<C> dataSourceDialect, C sourceConfig) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
+        this.scanFetchers = new ArrayList<>();
+        this.completedScanFetchers = new LinkedBlockingQueue<>();
     }
 
     @Override
@@ -63,6 +85,9 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
         checkSplitOrStartNext();
         checkNeedStopBinlogReader();
+        if (currentFetcher == null) {
+            return pollCompletedSnapshotSplit();
+        }
         Iterator<SourceRecords> dataIt = null;
         try {
             dataIt = currentFetcher.pollSplitRecords();
@@ -93,6 +118,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
     @Override
     public void close() throws Exception {
+        closeScanFetchers();
         if (currentFetcher != null) {
             log.info("Close current fetcher {}", currentFetcher.getClass().getCanonicalName());
             currentFetcher.close();
@@ -110,37 +136,104 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             return;
         }
 
-        if (canAssignNextSplit()) {
-            final SourceSplitBase nextSplit = splits.poll();
-            if (nextSplit == null) {
-                throw new IOException("Cannot fetch from another split - no split remaining.");
-            }
-            currentSplitId = nextSplit.splitId();
-
+        SourceSplitBase nextSplit;
+        while ((nextSplit = splits.peek()) != null) {
             if (nextSplit.isSnapshotSplit()) {
-                if (currentFetcher == null) {
-                    final FetchTask.Context taskContext =
-                            dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                IncrementalSourceScanFetcher scanFetcher = idleScanFetcher(nextSplit);
+                if (scanFetcher == null) {
+                    // all scan fetchers are busy, the split waits for the next completed one
+                    return;
                 }
+                splits.poll();
+                scanFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
             } else {
+                if (!canAssignNextSplit()) {
+                    // the snapshot splits in progress are read before the incremental split
+                    return;
+                }
+                splits.poll();
+                currentSplitId = nextSplit.splitId();
                 // point from snapshot split to incremental split
-                if (currentFetcher != null) {
+                if (!scanFetchers.isEmpty()) {
                     log.info(
                             "It's turn to read incremental split, close current snapshot fetcher.");
-                    currentFetcher.close();
+                    closeScanFetchers();
                 }
                 final FetchTask.Context taskContext =
                         dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
                 currentFetcher = new IncrementalSourceStreamFetcher(taskContext, subtaskId);
                 log.info("Stream fetcher is created.");
+                currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+                return;
             }
-            currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
         }
     }
 
     public boolean canAssignNextSplit() {
-        return currentFetcher == null || currentFetcher.isFinished();
+        if (currentFetcher != null) {
+            return currentFetcher.isFinished();
+        }
+        return scanFetchers.stream().allMatch(IncrementalSourceScanFetcher::isFinished);
+    }
+
+    private IncrementalSourceScanFetcher idleScanFetcher(SourceSplitBase nextSplit) {
+        for (IncrementalSourceScanFetcher scanFetcher : scanFetchers) {
+            if (scanFetcher.isFinished()) {
+                return scanFetcher;
+            }
+        }
+        if (scanFetchers.size() >= sourceConfig.getSnapshotFetchParallelism()) {
+            return null;
+        }
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createScanFetchTaskContext(
+                        nextSplit, sourceConfig, scanFetchers.size());
+        IncrementalSourceScanFetcher scanFetcher =
+                new IncrementalSourceScanFetcher(
+                        taskContext,
+                        subtaskId,
+                        sourceConfig.getSnapshotBufferSize(),
+                        completedScanFetchers::add);
+        scanFetchers.add(scanFetcher);
+        log.info("Scan fetcher {} of subtask {} is created.", scanFetchers.size() - 1, subtaskId);
+        return scanFetcher;
+    }
+
+    /**
+     * Returns the records of the snapshot split which completed first, and the split as finished on
+     * the next call. Returns no records if no split completed in time, so that the splits added
+     * meanwhile can be started on the idle scan fetchers.
+     */
+    private RecordsWithSplitIds<SourceRecords> pollCompletedSnapshotSplit() throws IOException {
+        try {
+            if (currentScanFetcher == null) {
+                currentScanFetcher =
+                        completedScanFetchers.poll(
+                                COMPLETED_SPLIT_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (currentScanFetcher == null) {
+                    return new ChangeEventRecords(null, null, Collections.emptySet());
+                }
+                currentSplitId = currentScanFetcher.getCurrentSnapshotSplit().splitId();
+            }
+            Iterator<SourceRecords> dataIt = currentScanFetcher.pollSplitRecords();
+            if (dataIt != null) {
+                return ChangeEventRecords.forRecords(currentSplitId, dataIt);
+            }
+        } catch (InterruptedException e) {
+            log.warn("fetch data failed.", e);
+            throw new IOException(e);
+        }
+        currentScanFetcher = null;
+        return finishedSnapshotSplit();
+    }
+
+    private void closeScanFetchers() {
+        for (IncrementalSourceScanFetcher scanFetcher : scanFetchers) {
+            scanFetcher.close();
+        }
+        scanFetchers.clear();
+        completedScanFetchers.clear();
+        currentScanFetcher = null;
     }
 
     private ChangeEventRecords finishedSnapshotSplit() {
@@ -22,24 +22,23 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkState;
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isEndWatermarkEvent;
@@ -48,6 +47,10 @@ import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.W
 
 /**
  * Fetcher to fetch data from table split, the split is the snapshot split {@link SnapshotSplit}.
+ *
+ * <p>The records of the split are drained from the queue into the buffer of the split while its
+ * task runs, so the queue stays bounded. The split is handed over to the completion listener once
+ * its records are complete.
  */
 @Slf4j
 public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, SourceSplitBase> {
@@ -59,20 +62,43 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private final ExecutorService executorService;
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile Throwable readException;
+    private volatile boolean closed;
 
     // task to read snapshot for current split
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    // the records of the current split, complete once drained counts down
+    private SourceRecord lowWatermark;
+    private SourceRecord highWatermark;
+    private SnapshotRecordBuffer outputBuffer;
+    private CountDownLatch drained;
+
+    private final long snapshotBufferSize;
+    // notified on the drainer thread once the records of a split are complete or failed
+    private final Consumer<IncrementalSourceScanFetcher> taskCompletionListener;
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
-    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, long snapshotBufferSize) {
+        this(taskContext, subtaskId, snapshotBufferSize, fetcher -> {});
+    }
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext,
+            int subtaskId,
+            long snapshotBufferSize,
+            Consumer<IncrementalSourceScanFetcher> taskCompletionListener) {
         this.taskContext = taskContext;
+        this.snapshotBufferSize = snapshotBufferSize;
+        this.taskCompletionListener = taskCompletionListener;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
-                        .setNameFormat("debezium-snapshot-reader-" + subtaskId)
+                        .setNameFormat("debezium-snapshot-reader-" + subtaskId + "-%d")
                         .build();
-        this.executorService = Executors.newSingleThreadExecutor(threadFactory);
+        // one thread runs the task of the split, the other one drains its records
+        this.executorService = Executors.newFixedThreadPool(2, threadFactory);
         this.hasNextElement = new AtomicBoolean(false);
         this.reachEnd = new AtomicBoolean(false);
     }
@@ -85,6 +111,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         this.queue = taskContext.getQueue();
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
+        this.drained = new CountDownLatch(1);
         executorService.submit(
                 () -> {
                     try {
@@ -98,6 +125,11 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                         readException = e;
                     }
                 });
+        executorService.submit(this::drainSplitRecords);
+    }
+
+    public SnapshotSplit getCurrentSnapshotSplit() {
+        return currentSnapshotSplit;
     }
 
     @Override
@@ -111,17 +143,50 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         checkReadException();
 
         if (hasNextElement.get()) {
-            // eg:
-            // data input: [low watermark event][snapshot events][high watermark event][change
-            // events][end watermark event]
-            // data output: [low watermark event][normalized events][high watermark event]
-            boolean reachChangeLogStart = false;
-            boolean reachChangeLogEnd = false;
-            SourceRecord lowWatermark = null;
-            SourceRecord highWatermark = null;
-            Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
+            drained.await();
+            checkReadException();
+            // snapshot split return its data once
+            hasNextElement.set(false);
+
+            // the buffered records are read and formatted batch by batch while they are emitted,
+            // the records are passed through as they are if no change was in the chunk range
+            Iterator<SourceRecords> normalizedRecords =
+                    Iterators.transform(
+                            outputBuffer.batches(),
+                            records ->
+                                    new SourceRecords(taskContext.formatMessageTimestamp(records)));
+            outputBuffer = null;
+            return Iterators.concat(
+                    Iterators.singletonIterator(SourceRecords.fromSingleRecord(lowWatermark)),
+                    normalizedRecords,
+                    Iterators.singletonIterator(SourceRecords.fromSingleRecord(highWatermark)));
+        }
+        // the data has been polled, no more data
+        reachEnd.compareAndSet(false, true);
+        return null;
+    }
+
+    /**
+     * Drains the records of the split from the queue while its task runs, until the end watermark.
+     *
+     * <p>eg: data input: [low watermark event][snapshot events][high watermark event][change
+     * events][end watermark event], data output: [low watermark event][normalized events][high
+     * watermark event]
+     */
+    private void drainSplitRecords() {
+        boolean reachChangeLogStart = false;
+        boolean reachChangeLogEnd = false;
+        lowWatermark = null;
+        highWatermark = null;
+        // the snapshot records beyond the memory budget are spilled to a local file
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(snapshotBufferSize);
+        try {
             while (!reachChangeLogEnd) {
                 checkReadException();
+                if (closed) {
+                    buffer.close();
+                    return;
+                }
                 List<DataChangeEvent> batch = queue.poll();
                 for (DataChangeEvent event : batch) {
                     SourceRecord record = event.getRecord();
@@ -145,30 +210,30 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                     }
 
                     if (!reachChangeLogStart) {
-                        outputBuffer.put((Struct) record.key(), record);
+                        buffer.add(record);
                     } else {
                         if (isChangeRecordInChunkRange(record)) {
                             // rewrite overlapping snapshot records through the record key
-                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                            taskContext.rewriteOutputBuffer(buffer.getChanges(), record);
                         }
                     }
                 }
             }
-            // snapshot split return its data once
-            hasNextElement.set(false);
-
-            final List<SourceRecord> normalizedRecords = new ArrayList<>();
-            normalizedRecords.add(lowWatermark);
-            normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-            normalizedRecords.add(highWatermark);
-
-            final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-            sourceRecordsSet.add(new SourceRecords(normalizedRecords));
-            return sourceRecordsSet.iterator();
+            outputBuffer = buffer;
+        } catch (InterruptedException e) {
+            // the fetcher is closed
+            buffer.close();
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            buffer.close();
+            if (readException == null) {
+                readException = e;
+            }
+        } finally {
+            drained.countDown();
         }
-        // the data has been polled, no more data
-        reachEnd.compareAndSet(false, true);
-        return null;
+        taskCompletionListener.accept(this);
     }
 
     private void assertLowWatermark(SourceRecord lowWatermark) {
@@ -191,6 +256,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
 
     @Override
     public void close() {
+        closed = true;
         try {
             if (taskContext != null) {
                 taskContext.close();
@@ -199,15 +265,21 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                 snapshotSplitReadTask.shutdown();
             }
             if (executorService != null) {
-                executorService.shutdown();
+                // the split is no longer drained, so a task blocked on its full queue is
+                // interrupted
+                executorService.shutdownNow();
                 if (!executorService.awaitTermination(
                         READER_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
                     log.warn(
-                            "Failed to close the scan fetcher in {} seconds. Service will execute force close(ExecutorService.shutdownNow)",
+                            "Failed to close the scan fetcher in {} seconds.",
                             READER_CLOSE_TIMEOUT_SECONDS);
-                    executorService.shutdownNow();
                 }
             }
+            // the records of a split which were drained but not polled
+            if (outputBuffer != null) {
+                outputBuffer.close();
+                outputBuffer = null;
+            }
         } catch (Exception e) {
             log.error("Close scan fetcher error", e);
         }
@@ -0,0 +1,700 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.header.Headers;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Buffers the records of a snapshot split until its high watermark arrives, the records are kept in
+ * memory up to a budget and the rest of them are spilled to a local file.
+ *
+ * <p>The snapshot records are only appended, the changes of the backfill are kept by key in {@link
+ * #getChanges()} and applied to the snapshot records when they are read back, so no index of the
+ * snapshot records is needed. The spilled records are written with the schemas held in memory, as
+ * all records of a split share a few schemas, and keep their headers.
+ */
+@Slf4j
+public class SnapshotRecordBuffer implements Closeable {
+
+    private static final int EMIT_BATCH_SIZE = 1024;
+    // rough per object overhead used to estimate the memory of a record
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INT = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_SHORT = 5;
+    private static final byte TYPE_BYTE = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_FLOAT = 8;
+
+    private final long memoryBudget;
+    private final List<SourceRecord> memoryRecords = new ArrayList<>();
+    private final ChangeBuffer changes = new ChangeBuffer();
+    private final List<Schema> schemas = new ArrayList<>();
+    private final Map<Schema, Integer> schemaIndexes = new IdentityHashMap<>();
+    private long memorySize;
+
+    private File spillFile;
+    private DataOutputStream spillOutput;
+    private long spilledRecords;
+    private SourceRecord lastSpilled;
+
+    public SnapshotRecordBuffer(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /** Appends a record of the snapshot, the snapshot records of a split have distinct keys. */
+    public void add(SourceRecord record) {
+        if (spillOutput == null) {
+            long size = estimateSize(record.keySchema(), record.key());
+            size += estimateSize(record.valueSchema(), record.value());
+            if (memorySize + size <= memoryBudget) {
+                memoryRecords.add(record);
+                memorySize += size;
+                return;
+            }
+            openSpillFile();
+        }
+        try {
+            writeRecord(spillOutput, record);
+            spilledRecords++;
+        } catch (IOException e) {
+            throw new SeaTunnelException("Spill snapshot record failed", e);
+        }
+    }
+
+    /**
+     * The changes of the backfill by record key, which are rewritten by {@link
+     * FetchTask.Context#rewriteOutputBuffer}. A removed key is kept with a {@code null} record to
+     * delete the snapshot record of the key.
+     */
+    public Map<Struct, SourceRecord> getChanges() {
+        return changes;
+    }
+
+    public long size() {
+        return memoryRecords.size() + spilledRecords;
+    }
+
+    /**
+     * Reads the normalized records in batches, the spill file is deleted once all records were
+     * read. The batches are read lazily, the buffer mustn't be changed after this call.
+     */
+    public Iterator<List<SourceRecord>> batches() {
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+            } catch (IOException e) {
+                throw new SeaTunnelException("Close snapshot spill file failed", e);
+            }
+            log.info(
+                    "Spilled {} of {} snapshot records to {}",
+                    spilledRecords,
+                    size(),
+                    spillFile.getPath());
+        }
+        return new NormalizedIterator();
+    }
+
+    @Override
+    public void close() {
+        if (spillFile != null) {
+            try {
+                if (spillOutput != null) {
+                    spillOutput.close();
+                }
+            } catch (IOException e) {
+                log.warn("Close snapshot spill file {} failed", spillFile.getPath(), e);
+            }
+            if (spillFile.exists() && !spillFile.delete()) {
+                log.warn("Delete snapshot spill file {} failed", spillFile.getPath());
+            }
+        }
+    }
+
+    private void openSpillFile() {
+        try {
+            spillFile = File.createTempFile("seatunnel-cdc-snapshot-", ".spill");
+            spillFile.deleteOnExit();
+            spillOutput =
+                    new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+        } catch (IOException e) {
+            throw new SeaTunnelException("Create snapshot spill file failed", e);
+        }
+    }
+
+    /** Reads the memory records and then the spilled records, with the changes applied. */
+    private class NormalizedIterator implements Iterator<List<SourceRecord>> {
+        private final Set<Struct> appliedKeys = new HashSet<>();
+        private final Iterator<SourceRecord> memoryIterator = memoryRecords.iterator();
+        private DataInputStream spillInput;
+        private long spillRead;
+        private SourceRecord lastRead;
+        private Iterator<SourceRecord> insertedIterator;
+        private List<SourceRecord> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readBatch();
+            }
+            return !next.isEmpty();
+        }
+
+        @Override
+        public List<SourceRecord> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<SourceRecord> batch = next;
+            next = null;
+            return batch;
+        }
+
+        private List<SourceRecord> readBatch() {
+            List<SourceRecord> batch = new ArrayList<>(EMIT_BATCH_SIZE);
+            SourceRecord record;
+            while (batch.size() < EMIT_BATCH_SIZE && (record = nextSnapshotRecord()) != null) {
+                if (changes.isEmpty() || !changes.containsKey(record.key())) {
+                    batch.add(record);
+                } else {
+                    // the key was changed in the backfill, take the record of the change
+                    appliedKeys.add((Struct) record.key());
+                    SourceRecord change = changes.get(record.key());
+                    if (change != null) {
+                        batch.add(change);
+                    }
+                }
+            }
+            if (batch.size() < EMIT_BATCH_SIZE) {
+                // the keys inserted in the backfill follow the snapshot records
+                if (insertedIterator == null) {
+                    insertedIterator =
+                            changes.entrySet().stream()
+                                    .filter(
+                                            change ->
+                                                    change.getValue() != null
+                                                            && !appliedKeys.contains(
+                                                                    change.getKey()))
+                                    .map(Map.Entry::getValue)
+                                    .iterator();
+                }
+                while (batch.size() < EMIT_BATCH_SIZE && insertedIterator.hasNext()) {
+                    batch.add(insertedIterator.next());
+                }
+            }
+            return batch;
+        }
+
+        private void closeSpillInput() {
+            if (spillInput != null) {
+                try {
+                    spillInput.close();
+                } catch (IOException e) {
+                    log.warn("Close snapshot spill file {} failed", spillFile.getPath(), e);
+                }
+            }
+        }
+
+        private SourceRecord nextSnapshotRecord() {
+            if (memoryIterator.hasNext()) {
+                return memoryIterator.next();
+            }
+            if (spillRead >= spilledRecords) {
+                return null;
+            }
+            try {
+                if (spillInput == null) {
+                    spillInput =
+                            new DataInputStream(
+                                    new BufferedInputStream(new FileInputStream(spillFile)));
+                }
+                lastRead = readRecord(spillInput, lastRead);
+                if (++spillRead == spilledRecords) {
+                    closeSpillInput();
+                    close();
+                }
+                return lastRead;
+            } catch (IOException e) {
+                closeSpillInput();
+                close();
+                throw new SeaTunnelException("Read snapshot spill file failed", e);
+            }
+        }
+    }
+
+    private void writeRecord(DataOutputStream out, SourceRecord record) throws IOException {
+        // the partition, offset and topic are mostly the same as the ones of the last record
+        boolean sameSource =
+                lastSpilled != null
+                        && Objects.equals(lastSpilled.topic(), record.topic())
+                        && Objects.equals(lastSpilled.kafkaPartition(), record.kafkaPartition())
+                        && Objects.equals(lastSpilled.sourcePartition(), record.sourcePartition())
+                        && Objects.equals(lastSpilled.sourceOffset(), record.sourceOffset());
+        out.writeBoolean(sameSource);
+        if (!sameSource) {
+            writeObject(out, record.topic());
+            writeObject(out, record.kafkaPartition());
+            writeMap(out, record.sourcePartition());
+            writeMap(out, record.sourceOffset());
+        }
+        writeObject(out, record.timestamp());
+        writeSchemaIndex(out, record.keySchema());
+        writeSchemaIndex(out, record.valueSchema());
+        writeValue(out, record.keySchema(), record.key());
+        writeValue(out, record.valueSchema(), record.value());
+        writeHeaders(out, record.headers());
+        lastSpilled = record;
+    }
+
+    private SourceRecord readRecord(DataInputStream in, SourceRecord last) throws IOException {
+        String topic;
+        Integer kafkaPartition;
+        Map<String, ?> sourcePartition;
+        Map<String, ?> sourceOffset;
+        if (in.readBoolean()) {
+            topic = last.topic();
+            kafkaPartition = last.kafkaPartition();
+            sourcePartition = last.sourcePartition();
+            sourceOffset = last.sourceOffset();
+        } else {
+            topic = (String) readObject(in);
+            kafkaPartition = (Integer) readObject(in);
+            sourcePartition = readMap(in);
+            sourceOffset = readMap(in);
+        }
+        Long timestamp = (Long) readObject(in);
+        Schema keySchema = readSchemaIndex(in);
+        Schema valueSchema = readSchemaIndex(in);
+        Object key = readValue(in, keySchema);
+        Object value = readValue(in, valueSchema);
+        Headers headers = readHeaders(in);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value,
+                timestamp,
+                headers);
+    }
+
+    private void writeHeaders(DataOutputStream out, Headers headers) throws IOException {
+        out.writeInt(headers.size());
+        for (Header header : headers) {
+            writeBytes(out, header.key().getBytes(StandardCharsets.UTF_8));
+            writeSchemaIndex(out, header.schema());
+            if (header.schema() == null) {
+                writeObject(out, header.value());
+            } else {
+                writeValue(out, header.schema(), header.value());
+            }
+        }
+    }
+
+    private Headers readHeaders(DataInputStream in) throws IOException {
+        Headers headers = new ConnectHeaders();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = new String(readBytes(in), StandardCharsets.UTF_8);
+            Schema schema = readSchemaIndex(in);
+            Object value = schema == null ? readObject(in) : readValue(in, schema);
+            headers.add(key, value, schema);
+        }
+        return headers;
+    }
+
+    private void writeSchemaIndex(DataOutputStream out, Schema schema) throws IOException {
+        if (schema == null) {
+            out.writeInt(-1);
+            return;
+        }
+        Integer index = schemaIndexes.get(schema);
+        if (index == null) {
+            index = schemas.size();
+            schemas.add(schema);
+            schemaIndexes.put(schema, index);
+        }
+        out.writeInt(index);
+    }
+
+    private Schema readSchemaIndex(DataInputStream in) throws IOException {
+        int index = in.readInt();
+        return index == -1 ? null : schemas.get(index);
+    }
+
+    private static void writeValue(DataOutputStream out, Schema schema, Object value)
+            throws IOException {
+        if (value == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    value = Decimal.fromLogical(schema, (BigDecimal) value);
+                    break;
+                case Date.LOGICAL_NAME:
+                    value = Date.fromLogical(schema, (java.util.Date) value);
+                    break;
+                case Time.LOGICAL_NAME:
+                    value = Time.fromLogical(schema, (java.util.Date) value);
+                    break;
+                case Timestamp.LOGICAL_NAME:
+                    value = Timestamp.fromLogical(schema, (java.util.Date) value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                // keep the kind of the value, the keys are compared with the ones of the changes
+                if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    out.writeBoolean(true);
+                    writeBytes(out, bytes);
+                } else {
+                    out.writeBoolean(false);
+                    writeBytes(out, (byte[]) value);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(out, schema.keySchema(), entry.getKey());
+                    writeValue(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static Object readValue(DataInputStream in, Schema schema) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Object value;
+        switch (schema.type()) {
+            case INT8:
+                value = in.readByte();
+                break;
+            case INT16:
+                value = in.readShort();
+                break;
+            case INT32:
+                value = in.readInt();
+                break;
+            case INT64:
+                value = in.readLong();
+                break;
+            case FLOAT32:
+                value = in.readFloat();
+                break;
+            case FLOAT64:
+                value = in.readDouble();
+                break;
+            case BOOLEAN:
+                value = in.readBoolean();
+                break;
+            case STRING:
+                value = new String(readBytes(in), StandardCharsets.UTF_8);
+                break;
+            case BYTES:
+                boolean byteBuffer = in.readBoolean();
+                byte[] bytes = readBytes(in);
+                value = byteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+                break;
+            case ARRAY:
+                int listSize = in.readInt();
+                List<Object> list = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; i++) {
+                    list.add(readValue(in, schema.valueSchema()));
+                }
+                value = list;
+                break;
+            case MAP:
+                int mapSize = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readValue(in, schema.keySchema()), readValue(in, schema.valueSchema()));
+                }
+                value = map;
+                break;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readValue(in, field.schema());
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                value = struct;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported schema type " + schema.type());
+        }
+        if (schema.name() != null) {
+            switch (schema.name()) {
+                case Decimal.LOGICAL_NAME:
+                    return Decimal.toLogical(schema, (byte[]) value);
+                case Date.LOGICAL_NAME:
+                    return Date.toLogical(schema, (Integer) value);
+                case Time.LOGICAL_NAME:
+                    return Time.toLogical(schema, (Integer) value);
+                case Timestamp.LOGICAL_NAME:
+                    return Timestamp.toLogical(schema, (Long) value);
+                default:
+                    break;
+            }
+        }
+        return value;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, ?> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            writeObject(out, entry.getKey());
+            writeObject(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, ?> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size == -1) {
+            return null;
+        }
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put((String) readObject(in), readObject(in));
+        }
+        return map;
+    }
+
+    /** Writes the values of the source partitions and offsets. */
+    private static void writeObject(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported source offset value type " + value.getClass());
+        }
+    }
+
+    private static Object readObject(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_INT:
+                return in.readInt();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    /** Estimates the memory of a value, it only needs to be proportional to the real size. */
+    private static long estimateSize(Schema schema, Object value) {
+        if (value == null || schema == null) {
+            return OBJECT_OVERHEAD;
+        }
+        switch (schema.type()) {
+            case STRING:
+                return OBJECT_OVERHEAD + 2L * ((String) value).length();
+            case BYTES:
+                if (value instanceof ByteBuffer) {
+                    return OBJECT_OVERHEAD + ((ByteBuffer) value).remaining();
+                }
+                return value instanceof byte[]
+                        ? OBJECT_OVERHEAD + ((byte[]) value).length
+                        : 2 * OBJECT_OVERHEAD;
+            case ARRAY:
+                long listSize = OBJECT_OVERHEAD;
+                for (Object element : (List<?>) value) {
+                    listSize += estimateSize(schema.valueSchema(), element);
+                }
+                return listSize;
+            case MAP:
+                long mapSize = OBJECT_OVERHEAD;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    mapSize += estimateSize(schema.keySchema(), entry.getKey());
+                    mapSize += estimateSize(schema.valueSchema(), entry.getValue());
+                }
+                return mapSize;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                long structSize = OBJECT_OVERHEAD;
+                for (Field field : schema.fields()) {
+                    structSize +=
+                            estimateSize(field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                return structSize;
+            default:
+                return OBJECT_OVERHEAD;
+        }
+    }
+
+    /** A removed key is kept with a {@code null} record, which deletes the snapshot record. */
+    private static class ChangeBuffer extends LinkedHashMap<Struct, SourceRecord> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SourceRecord remove(Object key) {
+            return put((Struct) key, null);
+        }
+    }
+}
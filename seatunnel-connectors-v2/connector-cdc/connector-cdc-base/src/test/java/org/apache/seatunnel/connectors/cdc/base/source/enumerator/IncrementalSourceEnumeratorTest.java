@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.PendingSplitsState;
+import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class IncrementalSourceEnumeratorTest {
+
+    @Test
+    public void testSeveralRequestsOfOneReaderAreServed() throws Exception {
+        TestContext context = new TestContext(0, 1);
+        TestSplitAssigner assigner = new TestSplitAssigner("s0", "s1", "s2", "s3", "s4");
+        IncrementalSourceEnumerator enumerator = new IncrementalSourceEnumerator(context, assigner);
+        enumerator.open();
+        enumerator.run();
+
+        // a reader fetching three snapshot splits concurrently requests three of them
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+
+        Assertions.assertEquals(Arrays.asList("s0", "s1", "s2"), context.assigned(0));
+        Assertions.assertEquals(Collections.singletonList("s3"), context.assigned(1));
+        Assertions.assertEquals(1, assigner.splits.size());
+    }
+
+    @Test
+    public void testRequestsBeforeRunAreServedOnRun() throws Exception {
+        TestContext context = new TestContext(0, 1);
+        TestSplitAssigner assigner = new TestSplitAssigner("s0", "s1", "s2", "s3");
+        IncrementalSourceEnumerator enumerator = new IncrementalSourceEnumerator(context, assigner);
+        enumerator.open();
+
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        Assertions.assertTrue(context.assignedSplits.isEmpty());
+
+        enumerator.run();
+        // the requests of task-0 are served first
+        Assertions.assertEquals(Collections.singletonList("s0"), context.assigned(0));
+        Assertions.assertEquals(Arrays.asList("s1", "s2"), context.assigned(1));
+    }
+
+    @Test
+    public void testOutstandingRequestsWaitForSplits() throws Exception {
+        TestContext context = new TestContext(0, 1);
+        TestSplitAssigner assigner = new TestSplitAssigner("s0");
+        IncrementalSourceEnumerator enumerator = new IncrementalSourceEnumerator(context, assigner);
+        enumerator.open();
+        enumerator.run();
+
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        Assertions.assertEquals(Collections.singletonList("s0"), context.assigned(0));
+        Assertions.assertTrue(context.assigned(1).isEmpty());
+
+        // the requests not served yet are kept, none of them is merged
+        assigner.splits.addAll(Arrays.asList("s1", "s2", "s3", "s4"));
+        enumerator.notifyCheckpointComplete(1L);
+        Assertions.assertEquals(Arrays.asList("s0", "s1", "s2"), context.assigned(0));
+        Assertions.assertEquals(Collections.singletonList("s3"), context.assigned(1));
+
+        // all requests are served, the remaining split waits for the next request
+        enumerator.notifyCheckpointComplete(2L);
+        Assertions.assertEquals(
+                4, context.assignedSplits.values().stream().mapToInt(List::size).sum());
+        Assertions.assertEquals(1, assigner.splits.size());
+        enumerator.handleSplitRequest(1);
+        Assertions.assertEquals(Arrays.asList("s3", "s4"), context.assigned(1));
+    }
+
+    @Test
+    public void testRequestsOfFailedReaderAreDropped() throws Exception {
+        TestContext context = new TestContext(0, 1);
+        TestSplitAssigner assigner = new TestSplitAssigner();
+        IncrementalSourceEnumerator enumerator = new IncrementalSourceEnumerator(context, assigner);
+        enumerator.open();
+        enumerator.run();
+
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(0);
+        context.registeredReaders.remove(1);
+        // the request of a reader which failed before it was handled is skipped
+        enumerator.handleSplitRequest(1);
+
+        assigner.splits.addAll(Arrays.asList("s0", "s1", "s2"));
+        enumerator.notifyCheckpointComplete(1L);
+        Assertions.assertEquals(Collections.singletonList("s0"), context.assigned(0));
+        Assertions.assertTrue(context.assigned(1).isEmpty());
+        Assertions.assertEquals(2, assigner.splits.size());
+    }
+
+    private static class TestSplit extends SourceSplitBase {
+        private static final long serialVersionUID = 1L;
+
+        TestSplit(String splitId) {
+            super(splitId);
+        }
+    }
+
+    private static class TestSplitAssigner implements SplitAssigner {
+        private final Deque<String> splits;
+
+        TestSplitAssigner(String... splitIds) {
+            this.splits = new ArrayDeque<>(Arrays.asList(splitIds));
+        }
+
+        @Override
+        public void open() {}
+
+        @Override
+        public Optional<SourceSplitBase> getNext() {
+            String splitId = splits.poll();
+            return splitId == null ? Optional.empty() : Optional.of(new TestSplit(splitId));
+        }
+
+        @Override
+        public boolean waitingForCompletedSplits() {
+            return false;
+        }
+
+        @Override
+        public void onCompletedSplits(List<SnapshotSplitWatermark> completedSplitWatermarks) {}
+
+        @Override
+        public void addSplits(Collection<SourceSplitBase> splits) {
+            splits.forEach(split -> this.splits.add(split.splitId()));
+        }
+
+        @Override
+        public PendingSplitsState snapshotState(long checkpointId) {
+            return null;
+        }
+
+        @Override
+        public void notifyCheckpointComplete(long checkpointId) {}
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<SourceSplitBase> {
+        private final Set<Integer> registeredReaders;
+        private final Map<Integer, List<String>> assignedSplits = new TreeMap<>();
+
+        TestContext(Integer... readers) {
+            this.registeredReaders = new HashSet<>(Arrays.asList(readers));
+        }
+
+        List<String> assigned(int subtaskId) {
+            return assignedSplits.getOrDefault(subtaskId, Collections.emptyList());
+        }
+
+        @Override
+        public int currentParallelism() {
+            return registeredReaders.size();
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return registeredReaders;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<SourceSplitBase> splits) {
+            List<String> assigned =
+                    assignedSplits.computeIfAbsent(subtaskId, k -> new ArrayList<>());
+            splits.forEach(split -> assigned.add(split.splitId()));
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {}
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.OffsetFactory;
+import org.apache.seatunnel.connectors.cdc.base.source.split.IncrementalSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.state.IncrementalSplitState;
+import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
+import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationSchema;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class IncrementalSourceRecordEmitterTest {
+
+    private static final String TOPIC = "test_topic";
+
+    private static final Schema CHANGE_EVENT_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.Envelope")
+                    .field("op", Schema.STRING_SCHEMA)
+                    .field("id", Schema.INT64_SCHEMA)
+                    .build();
+
+    private static final Schema SCHEMA_CHANGE_KEY_SCHEMA =
+            SchemaBuilder.struct()
+                    .name(SourceRecordUtils.SCHEMA_CHANGE_EVENT_KEY_NAME)
+                    .field("databaseName", Schema.STRING_SCHEMA)
+                    .build();
+
+    private static final Schema SCHEMA_CHANGE_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.SchemaChangeValue")
+                    .field("ddl", Schema.STRING_SCHEMA)
+                    .build();
+
+    // the position in the binlog of the next event
+    private long nextPosition;
+
+    @Test
+    public void testConcurrentDeserializationKeepsTheOrderOfTheEvents() throws Exception {
+        List<List<SourceRecord>> batches = new ArrayList<>();
+        List<SourceRecord> batch = new ArrayList<>();
+        // the runs of at least 64 change events are deserialized concurrently, the shorter ones
+        // on the reader thread
+        addChangeEvents(batch, 100);
+        addSchemaChangeEvent(batch);
+        addChangeEvents(batch, 70);
+        batches.add(batch);
+        batch = new ArrayList<>();
+        addChangeEvents(batch, 10);
+        addSchemaChangeEvent(batch);
+        addSchemaChangeEvent(batch);
+        addChangeEvents(batch, 80);
+        addSchemaChangeEvent(batch);
+        batches.add(batch);
+
+        TestDeserializationSchema serialSchema = new TestDeserializationSchema();
+        RecordingCollector serial = emit(serialSchema, 1, batches);
+        TestDeserializationSchema concurrentSchema = new TestDeserializationSchema();
+        RecordingCollector concurrent = emit(concurrentSchema, 4, batches);
+
+        Assertions.assertEquals(serial.rows, concurrent.rows);
+        Assertions.assertEquals(serial.finalOffset, concurrent.finalOffset);
+        // the last event is a schema change, which doesn't move the offset
+        Assertions.assertEquals(nextPosition - 2, concurrent.finalOffset);
+        // the rows after a schema change are deserialized with the changed schema
+        Assertions.assertTrue(concurrent.rows.contains("v1-u-after-101"));
+        Assertions.assertTrue(concurrent.rows.contains("v3-c-184"));
+        Assertions.assertTrue(
+                concurrentSchema.threads.stream()
+                        .anyMatch(thread -> thread.startsWith("debezium-deserializer-")));
+        Assertions.assertTrue(
+                serialSchema.threads.stream()
+                        .noneMatch(thread -> thread.startsWith("debezium-deserializer-")));
+    }
+
+    @Test
+    public void testOffsetIsRecordedAfterTheRowsOfTheEvent() throws Exception {
+        List<SourceRecord> batch = new ArrayList<>();
+        addChangeEvents(batch, 100);
+        addSchemaChangeEvent(batch);
+        addChangeEvents(batch, 100);
+
+        RecordingCollector concurrent =
+                emit(new TestDeserializationSchema(), 4, Collections.singletonList(batch));
+        // 200 change events, 67 of them updates, and the schema change
+        Assertions.assertEquals(268, concurrent.rows.size());
+        for (int i = 0; i < concurrent.rows.size(); i++) {
+            String row = concurrent.rows.get(i);
+            if (row.startsWith("ddl")) {
+                continue;
+            }
+            long position = Long.parseLong(row.substring(row.lastIndexOf('-') + 1));
+            // a checkpoint taken while the rows are emitted doesn't cover their event
+            Assertions.assertTrue(concurrent.rowOffsets.get(i) < position, row);
+        }
+        Assertions.assertEquals(200, concurrent.finalOffset);
+    }
+
+    private static RecordingCollector emit(
+            TestDeserializationSchema deserializationSchema,
+            int deserializeParallelism,
+            List<List<SourceRecord>> batches)
+            throws Exception {
+        IncrementalSourceRecordEmitter<String> emitter =
+                new IncrementalSourceRecordEmitter<>(
+                        deserializationSchema,
+                        new TestOffsetFactory(),
+                        new AbstractMetricsContext() {},
+                        deserializeParallelism);
+        IncrementalSplitState splitState =
+                new IncrementalSplitState(
+                        new IncrementalSplit(
+                                "incremental",
+                                Collections.emptyList(),
+                                null,
+                                null,
+                                Collections.emptyList()));
+        RecordingCollector output = new RecordingCollector(splitState);
+        try {
+            for (List<SourceRecord> batch : batches) {
+                emitter.emitRecord(new SourceRecords(batch), output, splitState);
+            }
+        } finally {
+            emitter.close();
+        }
+        output.finalOffset = position(splitState.getStartupOffset());
+        return output;
+    }
+
+    /** Adds change events, every third one is an update with two rows. */
+    private void addChangeEvents(List<SourceRecord> batch, int count) {
+        for (int i = 0; i < count; i++) {
+            long position = nextPosition++;
+            String op = position % 3 == 2 ? "u" : "c";
+            Struct value = new Struct(CHANGE_EVENT_SCHEMA).put("op", op).put("id", position);
+            batch.add(
+                    new SourceRecord(
+                            Collections.singletonMap("server", "test"),
+                            offset(position),
+                            TOPIC,
+                            null,
+                            null,
+                            CHANGE_EVENT_SCHEMA,
+                            value));
+        }
+    }
+
+    private void addSchemaChangeEvent(List<SourceRecord> batch) {
+        long position = nextPosition++;
+        batch.add(
+                new SourceRecord(
+                        Collections.singletonMap("server", "test"),
+                        offset(position),
+                        TOPIC,
+                        null,
+                        SCHEMA_CHANGE_KEY_SCHEMA,
+                        new Struct(SCHEMA_CHANGE_KEY_SCHEMA).put("databaseName", "test"),
+                        SCHEMA_CHANGE_VALUE_SCHEMA,
+                        new Struct(SCHEMA_CHANGE_VALUE_SCHEMA)
+                                .put("ddl", "ALTER TABLE t ADD COLUMN c" + position)));
+    }
+
+    private static Map<String, ?> offset(long position) {
+        return Collections.singletonMap("pos", position);
+    }
+
+    private static long position(Offset offset) {
+        return offset == null ? -1 : Long.parseLong(offset.getOffset().get("pos"));
+    }
+
+    private static class TestDeserializationSchema
+            implements DebeziumDeserializationSchema<String> {
+        private static final long serialVersionUID = 1L;
+
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+        private volatile int schemaVersion;
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<String> out) {
+            threads.add(Thread.currentThread().getName());
+            Struct value = (Struct) record.value();
+            if (SourceRecordUtils.isSchemaChangeEvent(record)) {
+                schemaVersion++;
+                out.collect("ddl-" + schemaVersion);
+                return;
+            }
+            String op = value.getString("op");
+            long id = value.getInt64("id");
+            if ("u".equals(op)) {
+                out.collect("v" + schemaVersion + "-u-before-" + id);
+                out.collect("v" + schemaVersion + "-u-after-" + id);
+            } else {
+                out.collect("v" + schemaVersion + "-" + op + "-" + id);
+            }
+        }
+
+        @Override
+        public SeaTunnelDataType<String> getProducedType() {
+            return null;
+        }
+    }
+
+    private static class RecordingCollector implements Collector<String> {
+        private final IncrementalSplitState splitState;
+        private final List<String> rows = new ArrayList<>();
+        // the offset in the split state when each row was emitted
+        private final List<Long> rowOffsets = new ArrayList<>();
+        private long finalOffset;
+
+        RecordingCollector(IncrementalSplitState splitState) {
+            this.splitState = splitState;
+        }
+
+        @Override
+        public void collect(String record) {
+            rows.add(record);
+            rowOffsets.add(position(splitState.getStartupOffset()));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestOffsetFactory extends OffsetFactory {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Offset earliest() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset neverStop() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset latest() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset specific(Map<String, String> offset) {
+            return new TestOffset(offset);
+        }
+
+        @Override
+        public Offset specific(String filename, Long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Offset timestamp(long timestamp) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class TestOffset extends Offset {
+        private static final long serialVersionUID = 1L;
+
+        TestOffset(Map<String, String> offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public int compareTo(Offset o) {
+            return Long.compare(position(this), position(o));
+        }
+    }
+}
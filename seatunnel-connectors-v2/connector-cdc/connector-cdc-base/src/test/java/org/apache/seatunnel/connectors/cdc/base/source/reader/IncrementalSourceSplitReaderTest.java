@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.config.StartupConfig;
+import org.apache.seatunnel.connectors.cdc.base.config.StopConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.util.LoggingContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class IncrementalSourceSplitReaderTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+    private static final String TOPIC = "test_topic";
+
+    @Test
+    public void testSnapshotSplitsAreReturnedInCompletionOrder() throws Exception {
+        TestDialect dialect = new TestDialect();
+        IncrementalSourceSplitReader<TestSourceConfig> reader =
+                new IncrementalSourceSplitReader<>(0, dialect, new TestSourceConfig(2));
+        reader.handleSplitsChanges(
+                new SplitsAddition<>(Arrays.asList(split("s0"), split("s1"), split("s2"))));
+
+        // two splits are started, the third one waits for a scan fetcher
+        RecordsWithSplitIds<SourceRecords> records = reader.fetch();
+        Assertions.assertNull(records.nextSplit());
+        Assertions.assertTrue(records.finishedSplits().isEmpty());
+        Assertions.assertEquals(2, dialect.contexts.size());
+        Assertions.assertNotNull(dialect.task("s0"));
+        Assertions.assertNotNull(dialect.task("s1"));
+        Assertions.assertNull(dialect.task("s2"));
+
+        // the split which completes first is returned first, then finished
+        dialect.task("s1").complete();
+        Assertions.assertEquals(
+                Arrays.asList("LOW", "s1-0", "s1-1", "HIGH"), fetchSplit(reader, "s1"));
+        Assertions.assertEquals(Collections.singleton("s1"), reader.fetch().finishedSplits());
+
+        // the idle scan fetcher takes the waiting split and keeps its connection
+        reader.fetch();
+        Assertions.assertNotNull(dialect.task("s2"));
+        Assertions.assertEquals(2, dialect.contexts.size());
+
+        dialect.task("s2").complete();
+        Assertions.assertEquals(
+                Arrays.asList("LOW", "s2-0", "s2-1", "HIGH"), fetchSplit(reader, "s2"));
+        Assertions.assertEquals(Collections.singleton("s2"), reader.fetch().finishedSplits());
+
+        dialect.task("s0").complete();
+        Assertions.assertEquals(
+                Arrays.asList("LOW", "s0-0", "s0-1", "HIGH"), fetchSplit(reader, "s0"));
+        Assertions.assertEquals(Collections.singleton("s0"), reader.fetch().finishedSplits());
+        Assertions.assertTrue(reader.canAssignNextSplit());
+
+        reader.close();
+        Assertions.assertTrue(dialect.contexts.stream().allMatch(context -> context.closed));
+    }
+
+    @Test
+    public void testSnapshotSplitsAreFetchedOneByOneByDefault() throws Exception {
+        TestDialect dialect = new TestDialect();
+        IncrementalSourceSplitReader<TestSourceConfig> reader =
+                new IncrementalSourceSplitReader<>(0, dialect, new TestSourceConfig(1));
+        reader.handleSplitsChanges(new SplitsAddition<>(Arrays.asList(split("s0"), split("s1"))));
+
+        reader.fetch();
+        Assertions.assertNotNull(dialect.task("s0"));
+        Assertions.assertNull(dialect.task("s1"));
+
+        dialect.task("s0").complete();
+        Assertions.assertEquals(
+                Arrays.asList("LOW", "s0-0", "s0-1", "HIGH"), fetchSplit(reader, "s0"));
+        Assertions.assertEquals(Collections.singleton("s0"), reader.fetch().finishedSplits());
+        reader.fetch();
+        Assertions.assertNotNull(dialect.task("s1"));
+        Assertions.assertEquals(1, dialect.contexts.size());
+        reader.close();
+    }
+
+    @Test
+    public void testRecordsAreDrainedWhileTheSplitIsRead() throws Exception {
+        // the split has many more rows than its bounded queue holds
+        TestDialect dialect = new TestDialect(1000);
+        IncrementalSourceSplitReader<TestSourceConfig> reader =
+                new IncrementalSourceSplitReader<>(0, dialect, new TestSourceConfig(2));
+        reader.handleSplitsChanges(new SplitsAddition<>(Arrays.asList(split("s0"), split("s1"))));
+
+        reader.fetch();
+        dialect.task("s0").complete();
+        List<String> values = fetchSplit(reader, "s0");
+        Assertions.assertEquals(1002, values.size());
+        Assertions.assertEquals("s0-999", values.get(1000));
+        Assertions.assertEquals(Collections.singleton("s0"), reader.fetch().finishedSplits());
+        Assertions.assertTrue(dialect.task("s0").finished.await(TIMEOUT_MILLIS, MILLISECONDS));
+        reader.close();
+    }
+
+    @Test
+    public void testSnapshotRecordsAreSpilledWhileTheSplitIsRead() throws Exception {
+        // the snapshot records of the split are beyond the memory budget of its buffer
+        TestDialect dialect = new TestDialect(1000);
+        dialect.highWatermark = new CountDownLatch(1);
+        IncrementalSourceSplitReader<TestSourceConfig> reader =
+                new IncrementalSourceSplitReader<>(0, dialect, new TestSourceConfig(1, 1024));
+        reader.handleSplitsChanges(new SplitsAddition<>(Collections.singletonList(split("s0"))));
+        Set<File> existingSpillFiles = spillFiles();
+
+        reader.fetch();
+        dialect.task("s0").complete();
+        Assertions.assertTrue(dialect.task("s0").snapshotRead.await(TIMEOUT_MILLIS, MILLISECONDS));
+        // the snapshot records are spilled before the high watermark of the split is read
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Set<File> newSpillFiles;
+        while ((newSpillFiles = spillFiles()).equals(existingSpillFiles)) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Records not spilled");
+            Thread.sleep(10);
+        }
+        newSpillFiles.removeAll(existingSpillFiles);
+
+        dialect.highWatermark.countDown();
+        List<String> values = fetchSplit(reader, "s0");
+        Assertions.assertEquals(1002, values.size());
+        Assertions.assertEquals("s0-0", values.get(1));
+        Assertions.assertEquals("s0-999", values.get(1000));
+        Assertions.assertTrue(newSpillFiles.stream().noneMatch(File::exists));
+        reader.close();
+    }
+
+    private static Set<File> spillFiles() {
+        File[] files =
+                new File(System.getProperty("java.io.tmpdir"))
+                        .listFiles(
+                                (dir, name) ->
+                                        name.startsWith("seatunnel-cdc-snapshot-")
+                                                && name.endsWith(".spill"));
+        return files == null ? new HashSet<>() : new HashSet<>(Arrays.asList(files));
+    }
+
+    /** Fetches until the records of the split are returned, and gets their values. */
+    private static List<String> fetchSplit(
+            IncrementalSourceSplitReader<TestSourceConfig> reader, String splitId)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        RecordsWithSplitIds<SourceRecords> records = reader.fetch();
+        String nextSplit;
+        while ((nextSplit = records.nextSplit()) == null) {
+            Assertions.assertTrue(records.finishedSplits().isEmpty());
+            Assertions.assertTrue(
+                    System.currentTimeMillis() < deadline, "Timed out fetching " + splitId);
+            records = reader.fetch();
+        }
+        Assertions.assertEquals(splitId, nextSplit);
+        List<String> values = new ArrayList<>();
+        SourceRecords sourceRecords;
+        while ((sourceRecords = records.nextRecordFromSplit()) != null) {
+            for (SourceRecord record : sourceRecords.getSourceRecordList()) {
+                if (WatermarkEvent.isLowWatermarkEvent(record)) {
+                    values.add("LOW");
+                } else if (WatermarkEvent.isHighWatermarkEvent(record)) {
+                    values.add("HIGH");
+                } else {
+                    values.add((String) record.value());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static SnapshotSplit split(String splitId) {
+        return new SnapshotSplit(splitId, new TableId("db", null, "t"), null, null, null, null);
+    }
+
+    private static SourceRecord watermark(String splitId, WatermarkKind kind) {
+        return WatermarkEvent.create(
+                Collections.singletonMap("server", "test"),
+                TOPIC,
+                splitId,
+                kind,
+                new TestOffset(kind.ordinal()));
+    }
+
+    private static class TestSnapshotTask implements FetchTask<SourceSplitBase> {
+        private final SnapshotSplit split;
+        private final int rows;
+        private final CountDownLatch highWatermark;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch snapshotRead = new CountDownLatch(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean running = true;
+
+        TestSnapshotTask(SnapshotSplit split, int rows, CountDownLatch highWatermark) {
+            this.split = split;
+            this.rows = rows;
+            this.highWatermark = highWatermark;
+        }
+
+        void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void execute(Context context) throws Exception {
+            completed.await();
+            String splitId = split.splitId();
+            ChangeEventQueue<DataChangeEvent> queue = context.getQueue();
+            queue.enqueue(new DataChangeEvent(watermark(splitId, WatermarkKind.LOW)));
+            for (int i = 0; i < rows; i++) {
+                queue.enqueue(
+                        new DataChangeEvent(
+                                new SourceRecord(
+                                        Collections.singletonMap("server", "test"),
+                                        Collections.singletonMap("pos", "0"),
+                                        TOPIC,
+                                        null,
+                                        null,
+                                        Schema.STRING_SCHEMA,
+                                        splitId + "-" + i)));
+            }
+            snapshotRead.countDown();
+            highWatermark.await();
+            queue.enqueue(new DataChangeEvent(watermark(splitId, WatermarkKind.HIGH)));
+            queue.enqueue(new DataChangeEvent(watermark(splitId, WatermarkKind.END)));
+            running = false;
+            finished.countDown();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+
+        @Override
+        public void shutdown() {
+            completed.countDown();
+        }
+
+        @Override
+        public SourceSplitBase getSplit() {
+            return split;
+        }
+    }
+
+    private static class TestFetchTaskContext implements FetchTask.Context {
+        private volatile ChangeEventQueue<DataChangeEvent> queue;
+        private volatile boolean closed;
+
+        @Override
+        public void configure(SourceSplitBase sourceSplitBase) {
+            this.queue =
+                    new ChangeEventQueue.Builder<DataChangeEvent>()
+                            .pollInterval(Duration.ofMillis(10))
+                            .maxBatchSize(16)
+                            .maxQueueSize(64)
+                            .loggingContextSupplier(
+                                    () -> LoggingContext.forConnector("test", "test", "test"))
+                            .build();
+        }
+
+        @Override
+        public ChangeEventQueue<DataChangeEvent> getQueue() {
+            return queue;
+        }
+
+        @Override
+        public TableId getTableId(SourceRecord record) {
+            return null;
+        }
+
+        @Override
+        public Tables.TableFilter getTableFilter() {
+            return null;
+        }
+
+        @Override
+        public Offset getStreamOffset(SourceRecord record) {
+            return null;
+        }
+
+        @Override
+        public boolean isDataChangeRecord(SourceRecord record) {
+            return false;
+        }
+
+        @Override
+        public boolean isRecordBetween(
+                SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+            return false;
+        }
+
+        @Override
+        public void rewriteOutputBuffer(
+                Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {}
+
+        @Override
+        public List<SourceRecord> formatMessageTimestamp(Collection<SourceRecord> snapshotRecords) {
+            return new ArrayList<>(snapshotRecords);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class TestDialect implements DataSourceDialect<TestSourceConfig> {
+        private static final long serialVersionUID = 1L;
+
+        private final int rowsPerSplit;
+        // the snapshot tasks wait for it before their high watermark
+        private CountDownLatch highWatermark = new CountDownLatch(0);
+        private final Map<String, TestSnapshotTask> tasks = new ConcurrentHashMap<>();
+        private final List<TestFetchTaskContext> contexts = new ArrayList<>();
+
+        TestDialect() {
+            this(2);
+        }
+
+        TestDialect(int rowsPerSplit) {
+            this.rowsPerSplit = rowsPerSplit;
+        }
+
+        TestSnapshotTask task(String splitId) {
+            return tasks.get(splitId);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public List<TableId> discoverDataCollections(TestSourceConfig sourceConfig) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isDataCollectionIdCaseSensitive(TestSourceConfig sourceConfig) {
+            return false;
+        }
+
+        @Override
+        public ChunkSplitter createChunkSplitter(TestSourceConfig sourceConfig) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+            TestSnapshotTask task =
+                    new TestSnapshotTask(
+                            sourceSplitBase.asSnapshotSplit(), rowsPerSplit, highWatermark);
+            tasks.put(sourceSplitBase.splitId(), task);
+            return task;
+        }
+
+        @Override
+        public FetchTask.Context createFetchTaskContext(
+                SourceSplitBase sourceSplitBase, TestSourceConfig sourceConfig) {
+            TestFetchTaskContext context = new TestFetchTaskContext();
+            contexts.add(context);
+            return context;
+        }
+    }
+
+    private static class TestSourceConfig implements SourceConfig {
+        private static final long serialVersionUID = 1L;
+
+        private final int snapshotFetchParallelism;
+        private final long snapshotBufferSize;
+
+        TestSourceConfig(int snapshotFetchParallelism) {
+            this(snapshotFetchParallelism, 1024 * 1024);
+        }
+
+        TestSourceConfig(int snapshotFetchParallelism, long snapshotBufferSize) {
+            this.snapshotFetchParallelism = snapshotFetchParallelism;
+            this.snapshotBufferSize = snapshotBufferSize;
+        }
+
+        @Override
+        public StartupConfig getStartupConfig() {
+            return null;
+        }
+
+        @Override
+        public StopConfig getStopConfig() {
+            return null;
+        }
+
+        @Override
+        public int getSplitSize() {
+            return 0;
+        }
+
+        @Override
+        public long getSnapshotBufferSize() {
+            return snapshotBufferSize;
+        }
+
+        @Override
+        public int getSnapshotFetchParallelism() {
+            return snapshotFetchParallelism;
+        }
+
+        @Override
+        public int getIncrementalDeserializeParallelism() {
+            return 1;
+        }
+    }
+
+    private static class TestOffset extends Offset {
+        private static final long serialVersionUID = 1L;
+
+        TestOffset(long position) {
+            this.offset = Collections.singletonMap("pos", String.valueOf(position));
+        }
+
+        @Override
+        public int compareTo(Offset o) {
+            return Long.compare(
+                    Long.parseLong(offset.get("pos")), Long.parseLong(o.getOffset().get("pos")));
+        }
+    }
+}
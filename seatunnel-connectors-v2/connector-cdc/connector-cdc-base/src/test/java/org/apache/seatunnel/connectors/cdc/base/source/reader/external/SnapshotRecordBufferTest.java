@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SnapshotRecordBufferTest {
+
+    private static final String TOPIC = "test_topic";
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.key")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("code", Schema.BYTES_SCHEMA)
+                    .build();
+
+    private static final Schema NESTED_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.nested")
+                    .field("name", Schema.STRING_SCHEMA)
+                    .field("score", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .optional()
+                    .build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("tiny", Schema.OPTIONAL_INT8_SCHEMA)
+                    .field("small", Schema.OPTIONAL_INT16_SCHEMA)
+                    .field("int", Schema.OPTIONAL_INT32_SCHEMA)
+                    .field("float", Schema.OPTIONAL_FLOAT32_SCHEMA)
+                    .field("double", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .field("flag", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("buffer", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("bytes", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("decimal", Decimal.builder(2).optional().build())
+                    .field("date", Date.builder().optional().build())
+                    .field("time", Time.builder().optional().build())
+                    .field("timestamp", Timestamp.builder().optional().build())
+                    .field(
+                            "tags",
+                            SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).optional().build())
+                    .field(
+                            "counts",
+                            SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_INT32_SCHEMA)
+                                    .optional()
+                                    .build())
+                    .field("nested", NESTED_SCHEMA)
+                    .field("missing", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    private static final Schema SIMPLE_VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.simple")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.STRING_SCHEMA)
+                    .build();
+
+    @Test
+    public void testSpilledRecordsAreReadBackUnchanged() {
+        List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(fullRecord(i));
+        }
+        // a record without the optional values
+        Struct sparse = new Struct(VALUE_SCHEMA).put("id", 5L);
+        records.add(record(5, VALUE_SCHEMA, sparse, offset(5)));
+
+        try (SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(0)) {
+            records.forEach(buffer::add);
+            List<SourceRecord> read = readAll(buffer);
+
+            Assertions.assertEquals(records.size(), read.size());
+            for (int i = 0; i < records.size(); i++) {
+                Assertions.assertNotSame(records.get(i), read.get(i));
+                Assertions.assertEquals(records.get(i), read.get(i));
+                Assertions.assertEquals(records.get(i).headers(), read.get(i).headers());
+            }
+            // the bytes keep their kind, the keys are compared with the ones of the changes
+            Struct value = (Struct) read.get(0).value();
+            Assertions.assertTrue(value.get("buffer") instanceof ByteBuffer);
+            Assertions.assertTrue(value.get("bytes") instanceof byte[]);
+            Assertions.assertTrue(((Struct) read.get(0).key()).get("code") instanceof byte[]);
+            Assertions.assertEquals(new BigDecimal("12.34"), value.get("decimal"));
+        }
+    }
+
+    @Test
+    public void testChangesAreAppliedAcrossMemoryAndSpill() {
+        List<SourceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(simpleRecord(i, "name-" + i));
+        }
+        // the estimated size of a record is 114 bytes, the first 5 records are kept in memory
+        try (SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(5 * 114)) {
+            records.forEach(buffer::add);
+            Assertions.assertEquals(10, buffer.size());
+
+            Map<Struct, SourceRecord> changes = buffer.getChanges();
+            // changes of records in memory
+            changes.put(key(1), simpleRecord(1, "updated-1"));
+            changes.remove(key(2));
+            // changes of spilled records
+            changes.put(key(5), simpleRecord(5, "updated-5"));
+            changes.remove(key(7));
+            // inserted keys, one of them deleted again, and a key deleted before the snapshot
+            changes.put(key(20), simpleRecord(20, "inserted-20"));
+            changes.put(key(21), simpleRecord(21, "inserted-21"));
+            changes.remove(key(21));
+            changes.remove(key(22));
+
+            List<SourceRecord> read = readAll(buffer);
+            Assertions.assertEquals(
+                    Arrays.asList(
+                            "name-0",
+                            "updated-1",
+                            "name-3",
+                            "name-4",
+                            "updated-5",
+                            "name-6",
+                            "name-8",
+                            "name-9",
+                            "inserted-20"),
+                    read.stream()
+                            .map(record -> ((Struct) record.value()).getString("name"))
+                            .collect(Collectors.toList()));
+            // the records in memory are passed through, the spilled ones are read back
+            Assertions.assertSame(records.get(0), read.get(0));
+            Assertions.assertSame(records.get(4), read.get(3));
+            Assertions.assertNotSame(records.get(6), read.get(5));
+            Assertions.assertEquals(records.get(6), read.get(5));
+        }
+    }
+
+    @Test
+    public void testRecordsAreReadInBatches() {
+        try (SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(100 * 114)) {
+            for (int i = 0; i < 2500; i++) {
+                buffer.add(simpleRecord(i, "name-" + i));
+            }
+            buffer.getChanges().put(key(3000), simpleRecord(3000, "inserted"));
+
+            List<Integer> batchSizes = new ArrayList<>();
+            long expectedId = 0;
+            Iterator<List<SourceRecord>> batches = buffer.batches();
+            while (batches.hasNext()) {
+                List<SourceRecord> batch = batches.next();
+                batchSizes.add(batch.size());
+                for (SourceRecord record : batch) {
+                    long id = ((Struct) record.key()).getInt64("id");
+                    Assertions.assertEquals(expectedId == 2500 ? 3000 : expectedId, id);
+                    expectedId++;
+                }
+            }
+            Assertions.assertEquals(Arrays.asList(1024, 1024, 453), batchSizes);
+        }
+    }
+
+    private static SourceRecord fullRecord(int id) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("a", id);
+        counts.put("b", null);
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", (long) id)
+                        .put("tiny", (byte) id)
+                        .put("small", (short) (id * 100))
+                        .put("int", id * 10000)
+                        .put("float", id + 0.5f)
+                        .put("double", id + 0.25d)
+                        .put("flag", id % 2 == 0)
+                        .put("name", "name-" + id + "-\u00e9")
+                        .put("buffer", ByteBuffer.wrap(new byte[] {(byte) id, 1, 2}))
+                        .put("bytes", new byte[] {3, (byte) id})
+                        .put("decimal", new BigDecimal("12.34").add(BigDecimal.valueOf(id)))
+                        .put("date", new java.util.Date(86_400_000L * (19000 + id)))
+                        .put("time", new java.util.Date(3_600_000L + id))
+                        .put("timestamp", new java.util.Date(1_600_000_000_123L + id))
+                        .put("tags", Arrays.asList("x" + id, null))
+                        .put("counts", counts)
+                        .put("nested", new Struct(NESTED_SCHEMA).put("name", "nested-" + id));
+        // records of the same source offset are written once
+        SourceRecord record = record(id, VALUE_SCHEMA, value, offset(id / 2));
+        record.headers().addString("op", "r").addInt("version", id);
+        return record;
+    }
+
+    private static SourceRecord simpleRecord(long id, String name) {
+        Struct value = new Struct(SIMPLE_VALUE_SCHEMA).put("id", id).put("name", name);
+        return record(id, SIMPLE_VALUE_SCHEMA, value, offset(0));
+    }
+
+    private static SourceRecord record(
+            long id, Schema valueSchema, Struct value, Map<String, ?> sourceOffset) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                sourceOffset,
+                TOPIC,
+                null,
+                KEY_SCHEMA,
+                key(id),
+                valueSchema,
+                value,
+                1_600_000_000_000L + id,
+                new ConnectHeaders());
+    }
+
+    private static Struct key(long id) {
+        return new Struct(KEY_SCHEMA)
+                .put("id", id)
+                .put("code", ("code-" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, ?> offset(long position) {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "binlog.000001");
+        offset.put("pos", position);
+        offset.put("snapshot", true);
+        return offset;
+    }
+
+    private static List<SourceRecord> readAll(SnapshotRecordBuffer buffer) {
+        List<SourceRecord> records = new ArrayList<>();
+        buffer.batches().forEachRemaining(records::addAll);
+        return records;
+    }
+}
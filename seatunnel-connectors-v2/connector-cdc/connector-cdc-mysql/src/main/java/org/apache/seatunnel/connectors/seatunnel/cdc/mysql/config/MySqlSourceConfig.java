@@ -21,6 +21,7 @@ import org.apache.seatunnel.connectors.cdc.base.config.JdbcSourceConfig;
 import org.apache.seatunnel.connectors.cdc.base.config.StartupConfig;
 import org.apache.seatunnel.connectors.cdc.base.config.StopConfig;
 
+import io.debezium.config.Configuration;
 import io.debezium.connector.mysql.MySqlConnectorConfig;
 import io.debezium.relational.RelationalTableFilters;
 
@@ -35,6 +36,8 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
 
     private static final long serialVersionUID = 1L;
 
+    private final Integer sharedBinlogReaderServerId;
+
     public MySqlSourceConfig(
             StartupConfig startupConfig,
             StopConfig stopConfig,
@@ -45,6 +48,9 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
             double distributionFactorLower,
             int sampleShardingThreshold,
             int inverseSamplingRate,
+            long snapshotBufferSize,
+            int snapshotFetchParallelism,
+            int incrementalDeserializeParallelism,
             Properties dbzProperties,
             String driverClassName,
             String hostname,
@@ -56,7 +62,8 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
             String serverTimeZone,
             long connectTimeoutMillis,
             int connectMaxRetries,
-            int connectionPoolSize) {
+            int connectionPoolSize,
+            Integer sharedBinlogReaderServerId) {
         super(
                 startupConfig,
                 stopConfig,
@@ -67,6 +74,9 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
                 distributionFactorLower,
                 sampleShardingThreshold,
                 inverseSamplingRate,
+                snapshotBufferSize,
+                snapshotFetchParallelism,
+                incrementalDeserializeParallelism,
                 dbzProperties,
                 driverClassName,
                 hostname,
@@ -79,6 +89,7 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize);
+        this.sharedBinlogReaderServerId = sharedBinlogReaderServerId;
     }
 
     @Override
@@ -86,6 +97,33 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
         return new MySqlConnectorConfig(getDbzConfiguration());
     }
 
+    /**
+     * The Debezium configuration of the scan fetcher {@code scanFetcherIndex} of the reader. The
+     * scan fetchers of a reader read the binlog concurrently to backfill their splits, so each of
+     * them uses the server id following the one of the previous scan fetcher.
+     *
+     * @see MySqlSourceConfigFactory#create(int)
+     */
+    public Configuration getDbzConfiguration(int scanFetcherIndex) {
+        Configuration dbzConfiguration = getDbzConfiguration();
+        if (scanFetcherIndex == 0) {
+            return dbzConfiguration;
+        }
+        long serverId = dbzConfiguration.getLong(MySqlConnectorConfig.SERVER_ID);
+        return dbzConfiguration
+                .edit()
+                .with(MySqlConnectorConfig.SERVER_ID, serverId + scanFetcherIndex)
+                .build();
+    }
+
+    /**
+     * The server id of the connection shared per server which the incremental phase reads the
+     * binlog through, {@code null} if every reader reads the binlog through its own connection.
+     */
+    public Integer getSharedBinlogReaderServerId() {
+        return sharedBinlogReaderServerId;
+    }
+
     public RelationalTableFilters getTableFilters() {
         return getDbzConnectorConfig().getTableFilters();
     }
@@ -26,13 +26,21 @@ import io.debezium.connector.mysql.MySqlConnectorConfig;
 import java.util.Properties;
 import java.util.UUID;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /** A factory to initialize {@link MySqlSourceConfig}. */
 public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
 
+    private static final int DEFAULT_LOWEST_SERVER_ID = 5400;
+    private static final int DEFAULT_HIGHEST_SERVER_ID = 6400;
+
     private ServerIdRange serverIdRange;
 
+    private boolean sharedBinlogReader = false;
+
+    private Integer sharedBinlogReaderServerId;
+
     /**
      * A numeric ID or a numeric ID range of this database client, The numeric ID syntax is like
      * '5400', the numeric ID range syntax is like '5400-5408', The numeric ID range syntax is
@@ -47,8 +55,47 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
         return this;
     }
 
+    /**
+     * Whether the incremental phase reads the binlog through one connection per MySQL server, which
+     * is shared by the readers of all jobs in the same process, instead of one connection per
+     * reader. Readers which start before the position of the shared connection, or from a GTID set,
+     * still open their own connection.
+     */
+    public MySqlSourceConfigFactory sharedBinlogReader(boolean sharedBinlogReader) {
+        this.sharedBinlogReader = sharedBinlogReader;
+        return this;
+    }
+
+    /**
+     * The server id of the shared binlog connection, required by the shared binlog reader. It must
+     * be unique across the MySQL cluster like the ids of the readers, and mustn't be one of them.
+     */
+    public MySqlSourceConfigFactory sharedBinlogReaderServerId(Integer serverId) {
+        this.sharedBinlogReaderServerId = serverId;
+        return this;
+    }
+
     /** Creates a new {@link MySqlSourceConfig} for the given subtask {@code subtaskId}. */
     public MySqlSourceConfig create(int subtaskId) {
+        if (sharedBinlogReader) {
+            checkArgument(
+                    sharedBinlogReaderServerId != null,
+                    "The shared binlog reader requires the option "
+                            + "'incremental.shared-binlog-reader.server-id'.");
+            // without a server id range the readers use random ids between 5400 and 6400
+            ServerIdRange readerServerIds =
+                    serverIdRange != null
+                            ? serverIdRange
+                            : new ServerIdRange(
+                                    DEFAULT_LOWEST_SERVER_ID, DEFAULT_HIGHEST_SERVER_ID);
+            checkArgument(
+                    sharedBinlogReaderServerId < readerServerIds.getStartServerId()
+                            || sharedBinlogReaderServerId > readerServerIds.getEndServerId(),
+                    "The server id %s of the shared binlog reader is in the server id range %s "
+                            + "of the readers.",
+                    sharedBinlogReaderServerId,
+                    readerServerIds);
+        }
         Properties props = new Properties();
         // hard code server name, because we don't need to distinguish it, docs:
         // Logical name that identifies and provides a namespace for the particular
@@ -87,9 +134,23 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
         // so use "precise" mode to avoid it.
         props.put("bigint.unsigned.handling.mode", "precise");
 
+        checkArgument(
+                serverIdRange != null || snapshotFetchParallelism == 1,
+                "The option 'snapshot.fetch.parallelism' larger than 1 requires the option "
+                        + "'server-id' with a range of at least the source parallelism "
+                        + "* 'snapshot.fetch.parallelism' ids.");
         if (serverIdRange != null) {
             props.setProperty("database.server.id.range", String.valueOf(serverIdRange));
-            int serverId = serverIdRange.getServerId(subtaskId);
+            // the scan fetchers of a reader read the binlog concurrently to backfill their
+            // splits, so every subtask has one server id per scan fetcher
+            int serverId = serverIdRange.getServerId(subtaskId * snapshotFetchParallelism);
+            checkArgument(
+                    serverId + snapshotFetchParallelism - 1 <= serverIdRange.getEndServerId(),
+                    "The server id range %s is too small for subtask %s, it must have at least "
+                            + "the source parallelism * 'snapshot.fetch.parallelism' (%s) ids.",
+                    serverIdRange,
+                    subtaskId,
+                    snapshotFetchParallelism);
             props.setProperty("database.server.id", String.valueOf(serverId));
         }
         if (databaseList != null) {
@@ -119,6 +180,9 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
                 distributionFactorLower,
                 sampleShardingThreshold,
                 inverseSamplingRate,
+                snapshotBufferSize,
+                snapshotFetchParallelism,
+                incrementalDeserializeParallelism,
                 props,
                 driverClassName,
                 hostname,
@@ -130,6 +194,7 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
                 serverTimeZone,
                 connectTimeoutMillis,
                 connectMaxRetries,
-                connectionPoolSize);
+                connectionPoolSize,
+                sharedBinlogReader ? sharedBinlogReaderServerId : null);
     }
 }
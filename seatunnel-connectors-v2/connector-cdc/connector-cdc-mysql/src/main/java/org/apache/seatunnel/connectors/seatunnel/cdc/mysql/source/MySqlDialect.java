@@ -103,6 +103,14 @@ public class MySqlDialect implements JdbcDataSourceDialect {
         return new MySqlSourceFetchTaskContext(taskSourceConfig, this);
     }
 
+    @Override
+    public MySqlSourceFetchTaskContext createScanFetchTaskContext(
+            SourceSplitBase sourceSplitBase,
+            JdbcSourceConfig taskSourceConfig,
+            int scanFetcherIndex) {
+        return new MySqlSourceFetchTaskContext(taskSourceConfig, this, scanFetcherIndex);
+    }
+
     @Override
     public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
         if (sourceSplitBase.isSnapshotSplit()) {
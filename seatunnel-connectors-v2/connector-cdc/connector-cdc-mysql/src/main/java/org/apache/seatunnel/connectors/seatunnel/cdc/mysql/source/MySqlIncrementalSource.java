@@ -81,6 +81,9 @@ public class MySqlIncrementalSource<T> extends IncrementalSource<T, JdbcSourceCo
     public SourceConfig.Factory<JdbcSourceConfig> createSourceConfigFactory(ReadonlyConfig config) {
         MySqlSourceConfigFactory configFactory = new MySqlSourceConfigFactory();
         configFactory.serverId(config.get(JdbcSourceOptions.SERVER_ID));
+        configFactory.sharedBinlogReader(config.get(MySqlSourceOptions.SHARED_BINLOG_READER));
+        configFactory.sharedBinlogReaderServerId(
+                config.get(MySqlSourceOptions.SHARED_BINLOG_READER_SERVER_ID));
         configFactory.fromReadonlyConfig(readonlyConfig);
         JdbcUrlUtil.UrlInfo urlInfo =
                 JdbcUrlUtil.getUrlInfo(config.get(JdbcCatalogOptions.BASE_URL));
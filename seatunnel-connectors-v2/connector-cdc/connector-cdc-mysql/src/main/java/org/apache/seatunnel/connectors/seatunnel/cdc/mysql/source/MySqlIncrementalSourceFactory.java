@@ -66,7 +66,14 @@ public class MySqlIncrementalSourceFactory implements TableSourceFactory, Suppor
                         JdbcSourceOptions.CONNECT_TIMEOUT_MS,
                         JdbcSourceOptions.CONNECT_MAX_RETRIES,
                         JdbcSourceOptions.CONNECTION_POOL_SIZE)
-                .optional(MySqlSourceOptions.STARTUP_MODE, MySqlSourceOptions.STOP_MODE)
+                .optional(
+                        MySqlSourceOptions.STARTUP_MODE,
+                        MySqlSourceOptions.STOP_MODE,
+                        MySqlSourceOptions.SHARED_BINLOG_READER)
+                .conditional(
+                        MySqlSourceOptions.SHARED_BINLOG_READER,
+                        true,
+                        MySqlSourceOptions.SHARED_BINLOG_READER_SERVER_ID)
                 .conditional(
                         MySqlSourceOptions.STARTUP_MODE,
                         StartupMode.SPECIFIC,
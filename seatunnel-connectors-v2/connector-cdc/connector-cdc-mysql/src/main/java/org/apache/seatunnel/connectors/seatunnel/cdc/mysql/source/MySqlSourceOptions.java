@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source;
 
+import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.configuration.SingleChoiceOption;
 import org.apache.seatunnel.connectors.cdc.base.option.SourceOptions;
@@ -48,4 +49,18 @@ public class MySqlSourceOptions {
                             .withDescription(
                                     "Optional stop mode for CDC source, valid enumerations are "
                                             + "\"never\", \"latest\", \"timestamp\"\n or \"specific\"");
+
+    public static final Option<Boolean> SHARED_BINLOG_READER =
+            Options.key("incremental.shared-binlog-reader")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the readers of the incremental phase read the binlog through one connection per MySQL server shared by all jobs in the same process, and only receive the events of their tables.");
+
+    public static final Option<Integer> SHARED_BINLOG_READER_SERVER_ID =
+            Options.key("incremental.shared-binlog-reader.server-id")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The server id of the shared binlog connection, required when the shared binlog reader is enabled. It must be unique across the MySQL cluster and outside the 'server-id' range of the readers.");
 }
@@ -29,6 +29,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.apache.seatunnel.connectors.cdc.debezium.EmbeddedDatabaseHistory;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.config.MySqlSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.offset.BinlogOffset;
+import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog.SharedBinaryLogClient;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.utils.MySqlUtils;
 
 import org.apache.kafka.connect.data.Struct;
@@ -81,8 +82,9 @@ public class MySqlSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlSourceFetchTaskContext.class);
 
+    private final MySqlConnectorConfig connectorConfig;
     private final MySqlConnection connection;
-    private final BinaryLogClient binaryLogClient;
+    private final SharedBinaryLogClient binaryLogClient;
     private final MySqlEventMetadataProvider metadataProvider;
     private MySqlDatabaseSchema databaseSchema;
     private MySqlTaskContextImpl taskContext;
@@ -96,7 +98,21 @@ public class MySqlSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
 
     public MySqlSourceFetchTaskContext(
             JdbcSourceConfig sourceConfig, JdbcDataSourceDialect dataSourceDialect) {
+        this(sourceConfig, dataSourceDialect, 0);
+    }
+
+    /**
+     * Creates the context of the scan fetcher {@code scanFetcherIndex} of the reader, whose binlog
+     * client has its own server id.
+     */
+    public MySqlSourceFetchTaskContext(
+            JdbcSourceConfig sourceConfig,
+            JdbcDataSourceDialect dataSourceDialect,
+            int scanFetcherIndex) {
         super(sourceConfig, dataSourceDialect);
+        this.connectorConfig =
+                new MySqlConnectorConfig(
+                        ((MySqlSourceConfig) sourceConfig).getDbzConfiguration(scanFetcherIndex));
         this.connection = createMySqlConnection(sourceConfig.getDbzConfiguration());
         this.binaryLogClient = createBinaryClient(sourceConfig.getDbzConfiguration());
         this.metadataProvider = new MySqlEventMetadataProvider();
@@ -118,12 +134,16 @@ public class MySqlSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                         new MySqlOffsetContext.Loader(connectorConfig), sourceSplitBase);
         validateAndLoadDatabaseHistory(offsetContext, databaseSchema);
 
+        // only the unbounded binlog reading of the incremental phase shares the connection
+        binaryLogClient.setSharedServerId(
+                sourceSplitBase.isIncrementalSplit()
+                        ? getSourceConfig().getSharedBinlogReaderServerId()
+                        : null);
+        binaryLogClient.setTableFilter(connectorConfig.getTableFilters().dataCollectionFilter());
         this.taskContext =
                 new MySqlTaskContextImpl(connectorConfig, databaseSchema, binaryLogClient);
-        final int queueSize =
-                sourceSplitBase.isSnapshotSplit()
-                        ? Integer.MAX_VALUE
-                        : getSourceConfig().getDbzConnectorConfig().getMaxQueueSize();
+        // the records of a snapshot split are drained into its buffer while the split is read
+        final int queueSize = getSourceConfig().getDbzConnectorConfig().getMaxQueueSize();
         this.queue =
                 new ChangeEventQueue.Builder<DataChangeEvent>()
                         .pollInterval(connectorConfig.getPollInterval())
@@ -193,7 +213,7 @@ public class MySqlSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
 
     @Override
     public MySqlConnectorConfig getDbzConnectorConfig() {
-        return (MySqlConnectorConfig) super.getDbzConnectorConfig();
+        return connectorConfig;
     }
 
     @Override
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog;
+
+import org.apache.seatunnel.common.SharedEventStream;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import com.github.shyiko.mysql.binlog.network.SSLMode;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link BinaryLogClient} which, once shared, receives the events of the binlog connection which
+ * is shared by all readers of the same MySQL server instead of opening its own connection. The
+ * events are deserialized by the deserializer of this client and handed to the registered listeners
+ * on the thread calling {@link #connect()}, so the debezium streaming source works the same as with
+ * a dedicated connection.
+ *
+ * <p>The client falls back to its own connection if the shared connection can't serve it, such as a
+ * GTID based start or a position which the shared connection already passed, and when it falls
+ * behind the shared connection for longer than the overflow timeout.
+ */
+@Slf4j
+public class SharedBinaryLogClient extends BinaryLogClient {
+
+    private static final long DEFAULT_CONNECT_TIMEOUT = TimeUnit.SECONDS.toMillis(3);
+    private static final int SUBSCRIPTION_QUEUE_CAPACITY = 1024;
+    private static final long OVERFLOW_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final String hostname;
+    private final int port;
+    private final String username;
+    private final String password;
+    /** Whether the tables of the tags are captured, only used by the shared connection. */
+    private final Map<String, Boolean> includedTags = new ConcurrentHashMap<>();
+
+    private volatile Integer sharedServerId;
+    private volatile Tables.TableFilter tableFilter = tableId -> true;
+    private volatile EventDeserializer eventDeserializer = new EventDeserializer();
+    private volatile SSLMode sslMode;
+    private volatile long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private volatile SharedEventStream.Subscription subscription;
+    private volatile boolean disconnected;
+
+    public SharedBinaryLogClient(String hostname, int port, String username, String password) {
+        super(hostname, port, username, password);
+        this.hostname = hostname;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * The server id of the shared connection of the server, which is subscribed on {@link
+     * #connect()}, or {@code null} to read the binlog through the own connection.
+     */
+    public void setSharedServerId(Integer sharedServerId) {
+        this.sharedServerId = sharedServerId;
+    }
+
+    /** The tables whose row events are received from the shared connection. */
+    public void setTableFilter(Tables.TableFilter tableFilter) {
+        this.tableFilter = tableFilter;
+        this.includedTags.clear();
+    }
+
+    @Override
+    public void setEventDeserializer(EventDeserializer eventDeserializer) {
+        super.setEventDeserializer(eventDeserializer);
+        this.eventDeserializer = eventDeserializer;
+    }
+
+    @Override
+    public void setSSLMode(SSLMode sslMode) {
+        super.setSSLMode(sslMode);
+        this.sslMode = sslMode;
+    }
+
+    @Override
+    public void connect(long timeout) throws IOException, TimeoutException {
+        this.connectTimeout = timeout;
+        super.connect(timeout);
+    }
+
+    @Override
+    public void connect() throws IOException {
+        SharedEventStream.Subscription current = null;
+        if (sharedServerId != null && canShare()) {
+            current =
+                    SharedEventStream.subscribe(
+                            getServerKey(),
+                            getBinlogFilename(),
+                            getBinlogPosition(),
+                            this::isIncluded,
+                            SUBSCRIPTION_QUEUE_CAPACITY,
+                            OVERFLOW_TIMEOUT,
+                            () -> new SharedBinlogReader(this, connectTimeout));
+        }
+        if (current == null) {
+            // stay on the own connection when the keep alive thread reconnects
+            sharedServerId = null;
+            super.connect();
+            return;
+        }
+        log.info(
+                "Subscribed the shared binlog reader of {} at {}:{}",
+                getServerKey(),
+                getBinlogFilename(),
+                getBinlogPosition());
+        subscription = current;
+        if (disconnected) {
+            current.close();
+        }
+        try {
+            for (LifecycleListener listener : getLifecycleListeners()) {
+                listener.onConnect(this);
+            }
+            byte[] bytes;
+            while ((bytes = current.take()) != null) {
+                Event event;
+                try {
+                    event = eventDeserializer.nextEvent(new ByteArrayInputStream(bytes));
+                } catch (IOException e) {
+                    // skipped like on the own connection, by the failure handling mode
+                    notifyEventDeserializationFailure(e);
+                    continue;
+                }
+                for (EventListener listener : getEventListeners()) {
+                    try {
+                        listener.onEvent(event);
+                    } catch (Exception e) {
+                        log.warn("{} choked on {}", listener, event, e);
+                    }
+                }
+                updateBinlogFilenameAndPosition(event);
+            }
+            if (current.getFailure() != null) {
+                notifyCommunicationFailure(current.getFailure());
+            }
+        } finally {
+            current.close();
+            if (!current.isDetached() || disconnected) {
+                for (LifecycleListener listener : getLifecycleListeners()) {
+                    listener.onDisconnect(this);
+                }
+            }
+        }
+        if (current.isDetached() && !disconnected) {
+            log.warn(
+                    "Fell behind the shared binlog reader of {}, reading the binlog by itself"
+                            + " from {}:{}",
+                    getServerKey(),
+                    getBinlogFilename(),
+                    getBinlogPosition());
+            sharedServerId = null;
+            subscription = null;
+            super.connect();
+        }
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+        disconnected = true;
+        SharedEventStream.Subscription current = subscription;
+        if (current != null) {
+            current.close();
+        }
+        super.disconnect();
+    }
+
+    @Override
+    public boolean isConnected() {
+        SharedEventStream.Subscription current = subscription;
+        return current != null ? !current.isEnded() : super.isConnected();
+    }
+
+    @Override
+    public boolean isKeepAlive() {
+        // the shared connection is kept alive by itself, there is no keep alive thread to wait for
+        return subscription == null && super.isKeepAlive();
+    }
+
+    private boolean canShare() {
+        String gtidSet = getGtidSet();
+        String filename = getBinlogFilename();
+        return (gtidSet == null || gtidSet.isEmpty()) && filename != null && !filename.isEmpty();
+    }
+
+    private void updateBinlogFilenameAndPosition(Event event) {
+        EventHeaderV4 header = event.getHeader();
+        if (header.getEventType() == EventType.ROTATE) {
+            RotateEventData rotate = (RotateEventData) SharedBinlogReader.dataOf(event);
+            setBinlogFilename(rotate.getBinlogFilename());
+            setBinlogPosition(rotate.getBinlogPosition());
+        } else if (header.getEventType() != EventType.TABLE_MAP && header.getNextPosition() > 0) {
+            setBinlogPosition(header.getNextPosition());
+        }
+    }
+
+    String getServerKey() {
+        return username + "@" + hostname + ":" + port;
+    }
+
+    private boolean isIncluded(String tag) {
+        return includedTags.computeIfAbsent(
+                tag, table -> tableFilter.isIncluded(TableId.parse(table)));
+    }
+
+    /**
+     * Creates the connection of a shared reader starting at the position of this client. It uses
+     * the configured server id of the shared connection, which is outside the server ids of the
+     * readers, and the deserializer of the shared reader.
+     */
+    BinaryLogClient createSharedConnection(EventDeserializer sharedDeserializer) {
+        BinaryLogClient client = new BinaryLogClient(hostname, port, username, password);
+        client.setServerId(sharedServerId);
+        client.setBinlogFilename(getBinlogFilename());
+        client.setBinlogPosition(getBinlogPosition());
+        client.setKeepAlive(false);
+        client.setEventDeserializer(sharedDeserializer);
+        if (sslMode != null) {
+            client.setSSLMode(sslMode);
+        }
+        return client;
+    }
+
+    private void notifyCommunicationFailure(Exception ex) {
+        for (LifecycleListener listener : getLifecycleListeners()) {
+            listener.onCommunicationFailure(this, ex);
+        }
+    }
+
+    private void notifyEventDeserializationFailure(Exception ex) {
+        for (LifecycleListener listener : getLifecycleListeners()) {
+            listener.onEventDeserializationFailure(this, ex);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The deserializer of a shared binlog connection. It keeps the bytes of every event, which the
+ * subscribers deserialize with their own deserializers, so this one only deserializes the rotate,
+ * table map and format description events and the table of a row event.
+ *
+ * <p>An event whose data can't be deserialized is still handed over with its header, every
+ * subscriber then fails on it by itself and handles it by its own {@code
+ * event.deserialization.failure.handling.mode}.
+ */
+class SharedBinlogEventDeserializer extends EventDeserializer {
+
+    private static final int HEADER_LENGTH = 19;
+    private static final int EVENT_LENGTH_OFFSET = 9;
+    private static final int TABLE_ID_LENGTH = 6;
+
+    /** The bytes of the last event, only used by the client thread. */
+    private byte[] eventBytes;
+
+    SharedBinlogEventDeserializer() {
+        EventDataDeserializer<RowsEventData> rowsDeserializer =
+                inputStream -> new RowsEventData(inputStream.readLong(TABLE_ID_LENGTH));
+        for (EventType eventType :
+                new EventType[] {
+                    EventType.WRITE_ROWS,
+                    EventType.UPDATE_ROWS,
+                    EventType.DELETE_ROWS,
+                    EventType.EXT_WRITE_ROWS,
+                    EventType.EXT_UPDATE_ROWS,
+                    EventType.EXT_DELETE_ROWS
+                }) {
+            setEventDataDeserializer(eventType, rowsDeserializer);
+        }
+    }
+
+    @Override
+    public Event nextEvent(ByteArrayInputStream inputStream) throws IOException {
+        if (inputStream.peek() == -1) {
+            return null;
+        }
+        byte[] header = inputStream.read(HEADER_LENGTH);
+        int eventLength =
+                (header[EVENT_LENGTH_OFFSET] & 0xFF)
+                        | (header[EVENT_LENGTH_OFFSET + 1] & 0xFF) << 8
+                        | (header[EVENT_LENGTH_OFFSET + 2] & 0xFF) << 16
+                        | (header[EVENT_LENGTH_OFFSET + 3] & 0xFF) << 24;
+        byte[] event = Arrays.copyOf(header, eventLength);
+        inputStream.fill(event, HEADER_LENGTH, eventLength - HEADER_LENGTH);
+        eventBytes = event;
+        try {
+            return super.nextEvent(new ByteArrayInputStream(event));
+        } catch (EventDataDeserializationException e) {
+            return new Event(e.getEventHeader(), null);
+        }
+    }
+
+    /** The bytes of the last event, including its checksum. */
+    byte[] getEventBytes() {
+        return eventBytes;
+    }
+
+    /** The data of a row event, of which the shared connection only reads the table number. */
+    static class RowsEventData implements EventData {
+        private final long tableId;
+
+        RowsEventData(long tableId) {
+            this.tableId = tableId;
+        }
+
+        long getTableId() {
+            return tableId;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog;
+
+import org.apache.seatunnel.common.SharedEventStream;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.RotateEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import io.debezium.relational.TableId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The source of the shared binlog stream of a MySQL server: a binlog connection which publishes the
+ * bytes of every event to the {@link SharedEventStream} of the server, read by the {@link
+ * SharedBinaryLogClient}s of all readers in this JVM reading the server as the same user. The table
+ * map and row events are tagged with their table, so they only reach the subscribers which capture
+ * it.
+ *
+ * <p>The format description events are published as the format of the stream, so the deserializer
+ * of a subscriber learns the checksums of the events like on its own connection. A connection
+ * closed by the server fails the stream, its subscribers restart from their own offsets.
+ */
+@Slf4j
+class SharedBinlogReader
+        implements SharedEventStream.Source,
+                BinaryLogClient.EventListener,
+                BinaryLogClient.LifecycleListener {
+
+    private final String serverKey;
+    private final long connectTimeout;
+    private final SharedBinlogEventDeserializer deserializer;
+    private final BinaryLogClient client;
+    /** The tags of the table numbers in the binlog, only used by the client thread. */
+    private final Map<Long, String> tables = new HashMap<>();
+
+    /** The binlog file of the next event, only used by the client thread. */
+    private String currentFilename;
+
+    private volatile SharedEventStream stream;
+    private volatile boolean stopped;
+
+    SharedBinlogReader(SharedBinaryLogClient firstSubscriber, long connectTimeout) {
+        this.serverKey = firstSubscriber.getServerKey();
+        this.connectTimeout = connectTimeout;
+        this.currentFilename = firstSubscriber.getBinlogFilename();
+        this.deserializer = new SharedBinlogEventDeserializer();
+        this.client = firstSubscriber.createSharedConnection(deserializer);
+        this.client.registerEventListener(this);
+        this.client.registerLifecycleListener(this);
+    }
+
+    @Override
+    public void start(SharedEventStream stream) throws IOException {
+        this.stream = stream;
+        try {
+            client.connect(connectTimeout);
+        } catch (TimeoutException e) {
+            throw new IOException(
+                    "Timed out connecting the shared binlog reader of " + serverKey, e);
+        }
+        log.info(
+                "Started the shared binlog reader of {} at {}:{}",
+                serverKey,
+                client.getBinlogFilename(),
+                client.getBinlogPosition());
+    }
+
+    @Override
+    public void stop() throws IOException {
+        stopped = true;
+        client.disconnect();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        EventHeaderV4 header = event.getHeader();
+        EventData data = dataOf(event);
+        byte[] bytes = deserializer.getEventBytes();
+        if (header.getEventType() == EventType.FORMAT_DESCRIPTION) {
+            stream.publishFormat(bytes);
+        } else if (data instanceof RotateEventData) {
+            RotateEventData rotate = (RotateEventData) data;
+            currentFilename = rotate.getBinlogFilename();
+            stream.publish(
+                    currentFilename,
+                    rotate.getBinlogPosition(),
+                    rotate.getBinlogPosition(),
+                    null,
+                    bytes);
+        } else {
+            stream.publish(
+                    currentFilename,
+                    header.getPosition(),
+                    header.getNextPosition(),
+                    changedTable(data),
+                    bytes);
+        }
+    }
+
+    /** The tag of the table of a table map or row event, {@code null} for other events. */
+    private String changedTable(EventData data) {
+        if (data instanceof TableMapEventData) {
+            TableMapEventData tableMap = (TableMapEventData) data;
+            String tag = tag(new TableId(tableMap.getDatabase(), null, tableMap.getTable()));
+            tables.put(tableMap.getTableId(), tag);
+            return tag;
+        } else if (data instanceof SharedBinlogEventDeserializer.RowsEventData) {
+            return tables.get(((SharedBinlogEventDeserializer.RowsEventData) data).getTableId());
+        }
+        return null;
+    }
+
+    /** The tag of the events of a table, parsed back by {@link TableId#parse(String)}. */
+    static String tag(TableId tableId) {
+        return tableId.toDoubleQuotedString();
+    }
+
+    static EventData dataOf(Event event) {
+        EventData data = event.getData();
+        if (data instanceof EventDeserializer.EventDataWrapper) {
+            return ((EventDeserializer.EventDataWrapper) data).getExternal();
+        }
+        return data;
+    }
+
+    @Override
+    public void onConnect(BinaryLogClient client) {}
+
+    @Override
+    public void onCommunicationFailure(BinaryLogClient client, Exception ex) {
+        stream.fail(ex);
+    }
+
+    @Override
+    public void onEventDeserializationFailure(BinaryLogClient client, Exception ex) {
+        // the deserializer hands over the events it can't deserialize, so the event couldn't be
+        // read at all
+        stream.fail(ex);
+    }
+
+    @Override
+    public void onDisconnect(BinaryLogClient client) {
+        if (!stopped) {
+            stream.fail(
+                    new EOFException("The shared binlog reader of " + serverKey + " is closed"));
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.utils;
 
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.offset.BinlogOffset;
+import org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog.SharedBinaryLogClient;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
 import io.debezium.config.Configuration;
@@ -49,9 +50,9 @@ public class MySqlConnectionUtils {
     }
 
     /** Creates a new {@link BinaryLogClient} for consuming mysql binlog. */
-    public static BinaryLogClient createBinaryClient(Configuration dbzConfiguration) {
+    public static SharedBinaryLogClient createBinaryClient(Configuration dbzConfiguration) {
         final MySqlConnectorConfig connectorConfig = new MySqlConnectorConfig(dbzConfiguration);
-        return new BinaryLogClient(
+        return new SharedBinaryLogClient(
                 connectorConfig.hostname(),
                 connectorConfig.port(),
                 connectorConfig.username(),
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+
+public class MySqlSourceConfigFactoryTest {
+
+    @Test
+    public void testEveryScanFetcherHasItsOwnServerId() {
+        MySqlSourceConfigFactory factory = factory("5400-5405");
+        factory.snapshotFetchParallelism(3);
+
+        MySqlSourceConfig config = factory.create(1);
+        Assertions.assertEquals(5403L, serverId(config, 0));
+        Assertions.assertEquals(5404L, serverId(config, 1));
+        Assertions.assertEquals(5405L, serverId(config, 2));
+        Assertions.assertEquals(5400L, serverId(factory.create(0), 0));
+    }
+
+    @Test
+    public void testServerIdRangeMustCoverEveryScanFetcher() {
+        MySqlSourceConfigFactory factory = factory("5400-5404");
+        factory.snapshotFetchParallelism(3);
+
+        factory.create(0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.create(1));
+    }
+
+    @Test
+    public void testScanFetchersRequireServerIdRange() {
+        MySqlSourceConfigFactory factory = factory(null);
+        factory.create(0);
+
+        factory.snapshotFetchParallelism(2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.create(0));
+    }
+
+    private static long serverId(MySqlSourceConfig config, int scanFetcherIndex) {
+        return config.getDbzConfiguration(scanFetcherIndex).getLong(MySqlConnectorConfig.SERVER_ID);
+    }
+
+    private static MySqlSourceConfigFactory factory(String serverId) {
+        MySqlSourceConfigFactory factory = new MySqlSourceConfigFactory();
+        factory.serverId(serverId);
+        factory.hostname("localhost").username("root").password("");
+        return factory;
+    }
+}
@@ -0,0 +1,551 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.cdc.mysql.source.reader.fetch.binlog;
+
+import org.apache.seatunnel.common.SharedEventStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.XidEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.ChecksumType;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import io.debezium.relational.Tables;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+public class SharedBinlogReaderTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+    private static final String BINLOG_FILENAME = "mysql-bin.000001";
+    private static final int SHARED_SERVER_ID = 6500;
+    private static final int HEADER_LENGTH = 19;
+    private static final int XID_EVENT_LENGTH = HEADER_LENGTH + 8;
+    private static final Tables.TableFilter ALL_TABLES = tableId -> true;
+
+    @Test
+    public void testSharedConnectionUsesTheConfiguredServerId() {
+        SharedBinaryLogClient client =
+                new SharedBinaryLogClient("localhost", 3306, "user", "password");
+        client.setBinlogFilename(BINLOG_FILENAME);
+        client.setBinlogPosition(1234L);
+        client.setSharedServerId(SHARED_SERVER_ID);
+
+        BinaryLogClient connection =
+                client.createSharedConnection(new SharedBinlogEventDeserializer());
+        Assertions.assertEquals(SHARED_SERVER_ID, connection.getServerId());
+        Assertions.assertEquals(BINLOG_FILENAME, connection.getBinlogFilename());
+        Assertions.assertEquals(1234L, connection.getBinlogPosition());
+        Assertions.assertFalse(connection.isKeepAlive());
+    }
+
+    @Test
+    public void testSubscribersOfOneServerShareOneConnection() throws Exception {
+        List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+        TestClient first = new TestClient("join-host", BINLOG_FILENAME, 4, connections);
+        TestClient second = new TestClient("join-host", BINLOG_FILENAME, 4, connections);
+        first.start();
+        second.start();
+        Assertions.assertEquals(1, connections.size());
+        FakeConnection connection = connections.get(0);
+        Assertions.assertTrue(connection.isConnected());
+
+        // the readers of another server don't share the connection
+        TestClient other = new TestClient("other-host", BINLOG_FILENAME, 4, connections);
+        other.start();
+        Assertions.assertEquals(2, connections.size());
+        other.stop();
+
+        connection.push(EventType.XID, xid(1));
+        connection.push(EventType.XID, xid(2));
+        await(() -> first.events.size() == 2 && second.events.size() == 2);
+        Assertions.assertEquals(2L, ((XidEventData) second.events.get(1).getData()).getXid());
+        Assertions.assertEquals(connection.position, first.getBinlogPosition());
+        Assertions.assertEquals(connection.position, second.getBinlogPosition());
+
+        // the connection is kept open for the remaining subscriber
+        first.stop();
+        Assertions.assertFalse(connection.disconnected);
+        connection.push(EventType.XID, xid(3));
+        await(() -> second.events.size() == 3);
+        Assertions.assertEquals(2, first.events.size());
+
+        // and closed when the last subscriber leaves
+        second.stop();
+        Assertions.assertTrue(connection.disconnected);
+
+        TestClient third =
+                new TestClient("join-host", BINLOG_FILENAME, connection.position, connections);
+        third.start();
+        Assertions.assertEquals(3, connections.size());
+        Assertions.assertEquals(connection.position, connections.get(2).getBinlogPosition());
+        third.stop();
+    }
+
+    @Test
+    public void testSubscribersReceiveTheEventsFromTheirPositionOn() throws Exception {
+        List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+        TestClient first = new TestClient("gating-host", BINLOG_FILENAME, 4, connections);
+        first.start();
+        FakeConnection connection = connections.get(0);
+        connection.push(EventType.XID, xid(1));
+        connection.push(EventType.XID, xid(2));
+        await(() -> first.events.size() == 2);
+
+        // a reader at a position which the connection already passed reads by itself
+        Assertions.assertNull(subscribe("gating-host", BINLOG_FILENAME, 4));
+        Assertions.assertNull(subscribe("gating-host", "mysql-bin.000002", 4));
+
+        // a reader ahead of the connection skips the events before its position
+        long aheadPosition = connection.position + XID_EVENT_LENGTH;
+        TestClient ahead =
+                new TestClient("gating-host", BINLOG_FILENAME, aheadPosition, connections);
+        ahead.start();
+        Assertions.assertEquals(1, connections.size());
+        connection.push(EventType.XID, xid(3));
+        connection.push(EventType.XID, xid(4));
+        connection.rotate("mysql-bin.000002", 4);
+        connection.push(EventType.XID, xid(5));
+        await(() -> first.events.size() == 6 && ahead.events.size() == 3);
+        Assertions.assertEquals(
+                Arrays.asList(EventType.XID, EventType.ROTATE, EventType.XID), eventTypes(ahead));
+        Assertions.assertEquals(
+                aheadPosition, ((EventHeaderV4) ahead.events.get(0).getHeader()).getPosition());
+        Assertions.assertEquals("mysql-bin.000002", ahead.getBinlogFilename());
+        Assertions.assertEquals(4 + XID_EVENT_LENGTH, ahead.getBinlogPosition());
+        Assertions.assertEquals("mysql-bin.000002", first.getBinlogFilename());
+        Assertions.assertEquals(4 + XID_EVENT_LENGTH, first.getBinlogPosition());
+
+        first.stop();
+        ahead.stop();
+        Assertions.assertTrue(connection.disconnected);
+    }
+
+    @Test
+    public void testRowEventsOfOtherTablesAreSkipped() throws Exception {
+        List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+        TestClient orders =
+                new TestClient(
+                        "filter-host",
+                        BINLOG_FILENAME,
+                        4,
+                        connections,
+                        tableId -> "orders".equals(tableId.table()));
+        TestClient users =
+                new TestClient(
+                        "filter-host",
+                        BINLOG_FILENAME,
+                        4,
+                        connections,
+                        tableId ->
+                                "shop".equals(tableId.catalog())
+                                        && "user.accounts".equals(tableId.table()));
+        orders.start();
+        users.start();
+        FakeConnection connection = connections.get(0);
+
+        connection.push(EventType.TABLE_MAP, tableMap(1, "shop", "orders"));
+        connection.push(EventType.EXT_WRITE_ROWS, rows(1));
+        connection.push(EventType.TABLE_MAP, tableMap(2, "shop", "user.accounts"));
+        connection.push(EventType.EXT_UPDATE_ROWS, rows(2));
+        connection.push(EventType.EXT_DELETE_ROWS, rows(1));
+        connection.push(EventType.XID, xid(1));
+
+        await(() -> orders.events.size() == 4 && users.events.size() == 3);
+        Assertions.assertEquals(
+                Arrays.asList(
+                        EventType.TABLE_MAP,
+                        EventType.EXT_WRITE_ROWS,
+                        EventType.EXT_DELETE_ROWS,
+                        EventType.XID),
+                eventTypes(orders));
+        Assertions.assertEquals(
+                Arrays.asList(EventType.TABLE_MAP, EventType.EXT_UPDATE_ROWS, EventType.XID),
+                eventTypes(users));
+        Assertions.assertEquals(
+                "user.accounts", ((TableMapEventData) users.events.get(0).getData()).getTable());
+        // the events of other tables are skipped, the position still moves on
+        Assertions.assertEquals(connection.position, orders.getBinlogPosition());
+        Assertions.assertEquals(connection.position, users.getBinlogPosition());
+
+        orders.stop();
+        users.stop();
+    }
+
+    @Test
+    public void testSubscribersReadTheChecksumsOfTheFormatDescription() throws Exception {
+        List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+        TestClient first = new TestClient("checksum-host", BINLOG_FILENAME, 4, connections);
+        first.start();
+        FakeConnection connection = connections.get(0);
+        connection.formatDescription(ChecksumType.CRC32);
+        connection.push(EventType.XID, xid(7));
+        await(() -> first.events.size() == 2);
+
+        // a reader joining later receives the format description first
+        TestClient second =
+                new TestClient("checksum-host", BINLOG_FILENAME, connection.position, connections);
+        second.start();
+        connection.push(EventType.TABLE_MAP, tableMap(1, "shop", "orders"));
+        connection.push(EventType.EXT_WRITE_ROWS, rows(1));
+        await(() -> first.events.size() == 4 && second.events.size() == 3);
+        Assertions.assertEquals(1, connections.size());
+        Assertions.assertEquals(
+                Arrays.asList(
+                        EventType.FORMAT_DESCRIPTION,
+                        EventType.TABLE_MAP,
+                        EventType.EXT_WRITE_ROWS),
+                eventTypes(second));
+        Assertions.assertTrue(second.deserializationFailures.isEmpty());
+
+        // the events are read as on the own connection, with the positions of their headers
+        EventHeaderV4 header = first.events.get(1).getHeader();
+        Assertions.assertEquals(XID_EVENT_LENGTH + 4, header.getEventLength());
+        Assertions.assertEquals(4, header.getPosition());
+        Assertions.assertEquals(7L, ((XidEventData) first.events.get(1).getData()).getXid());
+        Assertions.assertEquals(connection.position, first.getBinlogPosition());
+        Assertions.assertEquals(connection.position, second.getBinlogPosition());
+        first.stop();
+        second.stop();
+    }
+
+    @Test
+    public void testFailuresAreForwardedToAllSubscribers() throws Exception {
+        List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+        TestClient first = new TestClient("failure-host", BINLOG_FILENAME, 4, connections);
+        TestClient second = new TestClient("failure-host", BINLOG_FILENAME, 4, connections);
+        first.start();
+        second.start();
+        FakeConnection connection = connections.get(0);
+
+        // every subscriber handles an event it can't deserialize by its own failure handling mode
+        connection.push(EventType.EXT_WRITE_ROWS, rows(9, (byte) 0));
+        connection.push(EventType.XID, xid(1));
+        await(() -> first.events.size() == 1 && second.events.size() == 1);
+        Assertions.assertEquals(1, first.deserializationFailures.size());
+        Assertions.assertTrue(
+                first.deserializationFailures.get(0) instanceof EventDataDeserializationException);
+        Assertions.assertEquals(1, second.deserializationFailures.size());
+
+        IOException communicationFailure = new IOException("Connection reset");
+        connection.failCommunication(communicationFailure);
+        await(() -> first.communicationFailures.size() == 1);
+        await(() -> second.communicationFailures.size() == 1);
+        Assertions.assertEquals(Arrays.asList(communicationFailure), first.communicationFailures);
+        Assertions.assertEquals(Arrays.asList(communicationFailure), second.communicationFailures);
+        Assertions.assertTrue(connection.disconnected);
+        first.stop();
+        second.stop();
+
+        // restarted readers open a new connection, which fails them when the server closes it
+        TestClient restarted = new TestClient("failure-host", BINLOG_FILENAME, 4, connections);
+        TestClient joined = new TestClient("failure-host", BINLOG_FILENAME, 4, connections);
+        restarted.start();
+        joined.start();
+        Assertions.assertEquals(2, connections.size());
+        connections.get(1).closeUnexpectedly();
+        await(() -> restarted.communicationFailures.size() == 1);
+        await(() -> joined.communicationFailures.size() == 1);
+        Assertions.assertTrue(restarted.communicationFailures.get(0) instanceof EOFException);
+        Assertions.assertTrue(joined.communicationFailures.get(0) instanceof EOFException);
+        restarted.stop();
+        joined.stop();
+    }
+
+    private static SharedEventStream.Subscription subscribe(
+            String hostname, String filename, long position) throws IOException {
+        return SharedEventStream.subscribe(
+                "user@" + hostname + ":3306",
+                filename,
+                position,
+                tag -> true,
+                16,
+                TIMEOUT_MILLIS,
+                () -> {
+                    throw new AssertionError("The stream must not be opened again");
+                });
+    }
+
+    private static byte[] xid(long xid) {
+        return littleEndian(xid, 8);
+    }
+
+    private static byte[] tableMap(long tableId, String database, String table) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        write(data, littleEndian(tableId, 6));
+        write(data, littleEndian(0, 2));
+        for (String name : new String[] {database, table}) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            data.write(bytes.length);
+            write(data, bytes);
+            data.write(0);
+        }
+        // no columns and no column metadata
+        data.write(0);
+        data.write(0);
+        return data.toByteArray();
+    }
+
+    /** The data of a rows event without columns, followed by the given rows. */
+    private static byte[] rows(long tableId, byte... rows) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        write(data, littleEndian(tableId, 6));
+        write(data, littleEndian(0, 2));
+        // the length of the extra data, including the length itself
+        write(data, littleEndian(2, 2));
+        // no columns, so no bitmaps of the included columns
+        data.write(0);
+        write(data, rows);
+        return data.toByteArray();
+    }
+
+    private static byte[] littleEndian(long value, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (value >>> (8 * i));
+        }
+        return bytes;
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static List<EventType> eventTypes(TestClient client) {
+        return client.events.stream()
+                .map(event -> ((EventHeaderV4) event.getHeader()).getEventType())
+                .collect(Collectors.toList());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting");
+            Thread.sleep(10);
+        }
+    }
+
+    /** A binlog client of a reader, which subscribes the shared connection on its own thread. */
+    private static class TestClient extends SharedBinaryLogClient {
+        private final List<FakeConnection> connections;
+        private final List<Event> events = new CopyOnWriteArrayList<>();
+        private final List<Exception> communicationFailures = new CopyOnWriteArrayList<>();
+        private final List<Exception> deserializationFailures = new CopyOnWriteArrayList<>();
+        private Thread thread;
+        private volatile Exception connectFailure;
+
+        TestClient(
+                String hostname, String filename, long position, List<FakeConnection> connections) {
+            this(hostname, filename, position, connections, ALL_TABLES);
+        }
+
+        TestClient(
+                String hostname,
+                String filename,
+                long position,
+                List<FakeConnection> connections,
+                Tables.TableFilter tableFilter) {
+            super(hostname, 3306, "user", "password");
+            this.connections = connections;
+            setBinlogFilename(filename);
+            setBinlogPosition(position);
+            setSharedServerId(SHARED_SERVER_ID);
+            setTableFilter(tableFilter);
+            // like the debezium streaming source, which deserializes the events by itself
+            setEventDeserializer(new EventDeserializer());
+            registerEventListener(events::add);
+            registerLifecycleListener(
+                    new LifecycleListener() {
+                        @Override
+                        public void onConnect(BinaryLogClient client) {}
+
+                        @Override
+                        public void onCommunicationFailure(BinaryLogClient client, Exception ex) {
+                            communicationFailures.add(ex);
+                        }
+
+                        @Override
+                        public void onEventDeserializationFailure(
+                                BinaryLogClient client, Exception ex) {
+                            deserializationFailures.add(ex);
+                        }
+
+                        @Override
+                        public void onDisconnect(BinaryLogClient client) {}
+                    });
+        }
+
+        void start() throws InterruptedException {
+            thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    connect();
+                                } catch (Exception e) {
+                                    connectFailure = e;
+                                }
+                            });
+            thread.start();
+            await(this::isConnected);
+        }
+
+        void stop() throws Exception {
+            disconnect();
+            thread.join(TIMEOUT_MILLIS);
+            Assertions.assertFalse(thread.isAlive());
+            Assertions.assertNull(connectFailure);
+        }
+
+        @Override
+        BinaryLogClient createSharedConnection(EventDeserializer sharedDeserializer) {
+            FakeConnection connection =
+                    new FakeConnection(
+                            getBinlogFilename(),
+                            getBinlogPosition(),
+                            (SharedBinlogEventDeserializer) sharedDeserializer);
+            connections.add(connection);
+            return connection;
+        }
+    }
+
+    /**
+     * A binlog connection which reads the events of the test with its deserializer and hands them
+     * to its listeners.
+     */
+    private static class FakeConnection extends BinaryLogClient {
+        private final SharedBinlogEventDeserializer deserializer;
+        private volatile boolean connected;
+        private volatile boolean disconnected;
+        private volatile int checksumLength;
+        /** The position of the next event. */
+        private volatile long position;
+
+        FakeConnection(String filename, long position, SharedBinlogEventDeserializer deserializer) {
+            super("localhost", 3306, "user", "password");
+            this.deserializer = deserializer;
+            this.position = position;
+            setBinlogFilename(filename);
+            setBinlogPosition(position);
+        }
+
+        @Override
+        public void connect(long timeout) {
+            connected = true;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public void disconnect() {
+            if (!disconnected) {
+                disconnected = true;
+                closeUnexpectedly();
+            }
+        }
+
+        /**
+         * The format description the server sends when the connection starts within a binlog file,
+         * without a position. It appends checksums to the following events.
+         */
+        void formatDescription(ChecksumType checksumType) throws IOException {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            write(data, littleEndian(4, 2));
+            write(data, Arrays.copyOf("8.0.30".getBytes(StandardCharsets.UTF_8), 50));
+            write(data, littleEndian(0, 4));
+            data.write(HEADER_LENGTH);
+            // the lengths of the post headers of the event types before this one
+            write(data, new byte[EventType.FORMAT_DESCRIPTION.ordinal() - 1]);
+            data.write(data.size() + 1);
+            data.write(checksumType.ordinal());
+            write(data, new byte[checksumType.getLength()]);
+            checksumLength = checksumType.getLength();
+            receive(header(EventType.FORMAT_DESCRIPTION, data.size(), 0), data.toByteArray());
+        }
+
+        void push(EventType eventType, byte[] data) throws IOException {
+            byte[] dataAndChecksum = Arrays.copyOf(data, data.length + checksumLength);
+            int eventLength = HEADER_LENGTH + dataAndChecksum.length;
+            position += eventLength;
+            receive(header(eventType, dataAndChecksum.length, position), dataAndChecksum);
+        }
+
+        /** The rotate event to the next binlog file, which has no position of its own. */
+        void rotate(String filename, long nextPosition) throws IOException {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            write(data, littleEndian(nextPosition, 8));
+            write(data, filename.getBytes(StandardCharsets.UTF_8));
+            write(data, new byte[checksumLength]);
+            position = nextPosition;
+            receive(header(EventType.ROTATE, data.size(), 0), data.toByteArray());
+        }
+
+        private static byte[] header(EventType eventType, int dataLength, long nextPosition) {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            write(header, littleEndian(0, 4));
+            header.write(eventType.ordinal());
+            write(header, littleEndian(1, 4));
+            write(header, littleEndian(HEADER_LENGTH + dataLength, 4));
+            write(header, littleEndian(nextPosition, 4));
+            write(header, littleEndian(0, 2));
+            return header.toByteArray();
+        }
+
+        private void receive(byte[] header, byte[] data) throws IOException {
+            ByteArrayOutputStream event = new ByteArrayOutputStream();
+            write(event, header);
+            write(event, data);
+            Event deserialized =
+                    deserializer.nextEvent(new ByteArrayInputStream(event.toByteArray()));
+            for (EventListener listener : getEventListeners()) {
+                listener.onEvent(deserialized);
+            }
+        }
+
+        void failCommunication(Exception ex) {
+            for (LifecycleListener listener : getLifecycleListeners()) {
+                listener.onCommunicationFailure(this, ex);
+            }
+            disconnect();
+        }
+
+        void closeUnexpectedly() {
+            connected = false;
+            for (LifecycleListener listener : getLifecycleListeners()) {
+                listener.onDisconnect(this);
+            }
+        }
+    }
+}
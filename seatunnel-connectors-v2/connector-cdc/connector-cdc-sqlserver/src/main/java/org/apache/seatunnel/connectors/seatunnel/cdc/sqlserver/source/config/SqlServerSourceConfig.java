@@ -45,6 +45,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
             double distributionFactorLower,
             int sampleShardingThreshold,
             int inverseSamplingRate,
+            long snapshotBufferSize,
+            int snapshotFetchParallelism,
+            int incrementalDeserializeParallelism,
             Properties dbzProperties,
             String driverClassName,
             String hostname,
@@ -67,6 +70,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
                 distributionFactorLower,
                 sampleShardingThreshold,
                 inverseSamplingRate,
+                snapshotBufferSize,
+                snapshotFetchParallelism,
+                incrementalDeserializeParallelism,
                 dbzProperties,
                 driverClassName,
                 hostname,
@@ -87,6 +87,9 @@ public class SqlServerSourceConfigFactory extends JdbcSourceConfigFactory {
                 distributionFactorLower,
                 sampleShardingThreshold,
                 inverseSamplingRate,
+                snapshotBufferSize,
+                snapshotFetchParallelism,
+                incrementalDeserializeParallelism,
                 props,
                 DRIVER_CLASS_NAME,
                 hostname,
@@ -122,10 +122,8 @@ public class SqlServerSourceFetchTaskContext extends JdbcSourceFetchTaskContext
 
         this.taskContext = new SqlServerTaskContext(connectorConfig, databaseSchema);
 
-        final int queueSize =
-                sourceSplitBase.isSnapshotSplit()
-                        ? Integer.MAX_VALUE
-                        : getSourceConfig().getDbzConnectorConfig().getMaxQueueSize();
+        // the records of a snapshot split are drained into its buffer while the split is read
+        final int queueSize = getSourceConfig().getDbzConnectorConfig().getMaxQueueSize();
 
         this.queue =
                 new ChangeEventQueue.Builder<DataChangeEvent>()
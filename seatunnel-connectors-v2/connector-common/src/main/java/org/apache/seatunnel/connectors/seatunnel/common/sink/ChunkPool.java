@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of the fixed size chunks the {@link ChunkedRecordStream}s of a writer buffer their
+ * records in. The chunks are allocated on demand, once all of them are in use taking a chunk waits
+ * until another one is recycled.
+ */
+public class ChunkPool {
+
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Deque<ByteBuffer> freeChunks = new ArrayDeque<>();
+    private int allocatedChunks;
+
+    public ChunkPool(int chunkSize, int maxChunks) {
+        if (chunkSize <= 0 || maxChunks <= 0) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The chunk size %d and chunk count %d must be positive",
+                            chunkSize, maxChunks));
+        }
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+    }
+
+    public synchronized ByteBuffer take() throws InterruptedException {
+        while (freeChunks.isEmpty() && allocatedChunks >= maxChunks) {
+            wait();
+        }
+        ByteBuffer chunk = freeChunks.poll();
+        if (chunk == null) {
+            chunk = ByteBuffer.allocate(chunkSize);
+            allocatedChunks++;
+        }
+        return chunk;
+    }
+
+    public synchronized void recycle(ByteBuffer chunk) {
+        chunk.clear();
+        freeChunks.push(chunk);
+        notifyAll();
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+}
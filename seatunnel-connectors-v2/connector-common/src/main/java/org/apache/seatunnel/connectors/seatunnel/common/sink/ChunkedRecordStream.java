@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The body of a streamed load request, such as a stream load of Doris or StarRocks. The writer
+ * appends the records while the thread executing the request reads them, a chunk is readable once
+ * it is full or the input is ended. So the request is sent while the records are still written,
+ * without joining them into one array, and the memory of all bodies of a writer is bounded by their
+ * {@link ChunkPool}.
+ *
+ * <p>A retained stream keeps its chunks until it is released, so a failed request can be sent again
+ * with {@link #replay()}. Otherwise every chunk is recycled once it was read.
+ *
+ * <p>A failed request releases the stream right away, also while the writer still appends to it.
+ * The writer then fails on its next write, so no chunk is held for a request which is done.
+ */
+public class ChunkedRecordStream extends InputStream {
+
+    /** Added to the read queue after the last chunk. */
+    private static final ByteBuffer END_OF_INPUT = ByteBuffer.allocate(0);
+
+    private final ChunkPool pool;
+    private final boolean retained;
+    private final BlockingQueue<ByteBuffer> readQueue = new LinkedBlockingQueue<>();
+    private final List<ByteBuffer> retainedChunks = new ArrayList<>();
+    private final CountDownLatch inputEnded = new CountDownLatch(1);
+
+    private ByteBuffer writeChunk;
+    private ByteBuffer readChunk;
+    private boolean endOfInput;
+    private boolean released;
+    private long size;
+
+    public ChunkedRecordStream(ChunkPool pool, boolean retained) {
+        this.pool = pool;
+        this.retained = retained;
+    }
+
+    public void write(byte[] bytes) throws IOException {
+        write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Appends the bytes, waits for a free chunk of the pool if needed.
+     *
+     * @throws IOException if the stream was released, as the request is done
+     */
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        try {
+            while (length > 0) {
+                // the free chunk is taken without the lock, so the stream can be released meanwhile
+                ByteBuffer freeChunk = needsWriteChunk() ? pool.take() : null;
+                synchronized (this) {
+                    if (released) {
+                        if (freeChunk != null) {
+                            pool.recycle(freeChunk);
+                        }
+                        throw new IOException("The request of the stream is already done");
+                    }
+                    if (freeChunk != null) {
+                        writeChunk = freeChunk;
+                    }
+                    int written = Math.min(writeChunk.remaining(), length);
+                    writeChunk.put(bytes, offset, written);
+                    offset += written;
+                    length -= written;
+                    size += written;
+                    if (!writeChunk.hasRemaining()) {
+                        publishWriteChunk();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free chunk");
+        }
+    }
+
+    private synchronized boolean needsWriteChunk() {
+        return writeChunk == null;
+    }
+
+    /** Makes the written bytes readable and ends the stream after them. */
+    public synchronized void endInput() {
+        if (writeChunk != null) {
+            publishWriteChunk();
+        }
+        readQueue.add(END_OF_INPUT);
+        inputEnded.countDown();
+    }
+
+    private void publishWriteChunk() {
+        if (released) {
+            // nobody reads the stream anymore
+            pool.recycle(writeChunk);
+            writeChunk = null;
+            return;
+        }
+        writeChunk.flip();
+        if (retained) {
+            retainedChunks.add(writeChunk);
+            // keep the position of the retained chunk for a replay
+            readQueue.add(writeChunk.duplicate());
+        } else {
+            readQueue.add(writeChunk);
+        }
+        writeChunk = null;
+    }
+
+    /** The number of bytes written. */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (readChunk == null) {
+            if (endOfInput) {
+                return -1;
+            }
+            try {
+                readChunk = readQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the records");
+            }
+            if (readChunk == END_OF_INPUT) {
+                readChunk = null;
+                endOfInput = true;
+                return -1;
+            }
+        }
+        int read = Math.min(readChunk.remaining(), length);
+        readChunk.get(buffer, offset, read);
+        if (!readChunk.hasRemaining()) {
+            if (!retained) {
+                pool.recycle(readChunk);
+            }
+            readChunk = null;
+        }
+        return read;
+    }
+
+    /**
+     * Creates a new stream of the whole body to send it again, only for a retained stream. Waits
+     * until the input is ended, as a request may fail before all records are written.
+     */
+    public InputStream replay() throws IOException {
+        if (!retained) {
+            throw new IllegalStateException("The chunks of the stream are not retained");
+        }
+        awaitEndOfInput();
+        Iterator<ByteBuffer> chunks = retainedChunks.iterator();
+        return new InputStream() {
+            private ByteBuffer chunk;
+
+            @Override
+            public int read() {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                while (chunk == null || !chunk.hasRemaining()) {
+                    if (!chunks.hasNext()) {
+                        return -1;
+                    }
+                    chunk = chunks.next().duplicate();
+                }
+                int read = Math.min(chunk.remaining(), length);
+                chunk.get(buffer, offset, read);
+                return read;
+            }
+        };
+    }
+
+    /** Waits until the writer ended the input, so no chunk is taken for the stream anymore. */
+    public void awaitEndOfInput() throws IOException {
+        try {
+            inputEnded.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the end of the input");
+        }
+    }
+
+    /**
+     * Gives the chunks back to the pool, also the one written meanwhile. It must only be called
+     * once the request is done, so no thread reads the stream anymore.
+     */
+    public synchronized void release() {
+        released = true;
+        if (writeChunk != null) {
+            pool.recycle(writeChunk);
+            writeChunk = null;
+        }
+        if (retained) {
+            retainedChunks.forEach(pool::recycle);
+            retainedChunks.clear();
+        } else {
+            if (readChunk != null) {
+                pool.recycle(readChunk);
+                readChunk = null;
+            }
+            for (ByteBuffer chunk : readQueue) {
+                if (chunk != END_OF_INPUT) {
+                    pool.recycle(chunk);
+                }
+            }
+        }
+        readQueue.clear();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ChunkPoolTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @Test
+    public void testChunksAreBounded() throws Exception {
+        ChunkPool pool = new ChunkPool(16, 3);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ByteBuffer chunk = pool.take();
+            Assertions.assertEquals(16, chunk.capacity());
+            chunks.add(chunk);
+        }
+
+        // all chunks are in use, taking one waits until a chunk is recycled
+        CompletableFuture<ByteBuffer> waiting = takeAsync(pool);
+        Assertions.assertThrows(
+                TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+
+        ByteBuffer recycled = chunks.remove(0);
+        recycled.put(new byte[] {1, 2, 3});
+        pool.recycle(recycled);
+        ByteBuffer reused = waiting.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Assertions.assertSame(recycled, reused);
+        // a recycled chunk is empty again
+        Assertions.assertEquals(0, reused.position());
+        Assertions.assertEquals(16, reused.remaining());
+    }
+
+    @Test
+    public void testRecycledChunksAreReusedBeforeAllocating() throws Exception {
+        ChunkPool pool = new ChunkPool(8, 4);
+        ByteBuffer first = pool.take();
+        pool.recycle(first);
+        Assertions.assertSame(first, pool.take());
+
+        // the pool allocates up to the maximum number of chunks only
+        List<ByteBuffer> chunks = new ArrayList<>();
+        chunks.add(first);
+        for (int i = 0; i < 3; i++) {
+            chunks.add(pool.take());
+        }
+        // the chunks are compared by identity, empty buffers are equal
+        Set<ByteBuffer> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(chunks);
+        Assertions.assertEquals(4, distinct.size());
+        CompletableFuture<ByteBuffer> waiting = takeAsync(pool);
+        Assertions.assertThrows(
+                TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+        chunks.forEach(pool::recycle);
+        Assertions.assertTrue(
+                distinct.contains(waiting.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)));
+    }
+
+    @Test
+    public void testWaitingForChunkIsInterruptible() throws Exception {
+        ChunkPool pool = new ChunkPool(8, 1);
+        pool.take();
+        Thread current = Thread.currentThread();
+        Thread interrupter =
+                new Thread(
+                        () -> {
+                            try {
+                                Thread.sleep(100);
+                            } catch (InterruptedException e) {
+                                return;
+                            }
+                            current.interrupt();
+                        });
+        interrupter.start();
+        Assertions.assertThrows(InterruptedException.class, pool::take);
+        interrupter.join(TIMEOUT_MILLIS);
+    }
+
+    @Test
+    public void testInvalidSizes() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ChunkPool(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ChunkPool(8, 0));
+    }
+
+    private static CompletableFuture<ByteBuffer> takeAsync(ChunkPool pool) {
+        CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                future.complete(pool.take());
+                            } catch (Throwable t) {
+                                future.completeExceptionally(t);
+                            }
+                        });
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ChunkedRecordStreamTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @Test
+    public void testRecordsAreReadWhileTheyAreWritten() throws Exception {
+        // the body is larger than the pool, it only fits as the chunks are recycled once read
+        ChunkPool pool = new ChunkPool(4, 2);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, false);
+        CompletableFuture<String> body = readAsync(stream);
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            String row = "row-" + i + "\n";
+            stream.write(row.getBytes(StandardCharsets.UTF_8));
+            expected.append(row);
+        }
+        stream.endInput();
+
+        Assertions.assertEquals(
+                expected.toString(), body.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(expected.length(), stream.getSize());
+        stream.release();
+        assertAllChunksFree(pool);
+    }
+
+    @Test
+    public void testChunkIsReadableOnceFull() throws Exception {
+        ChunkPool pool = new ChunkPool(4, 2);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, false);
+        byte[] buffer = new byte[16];
+
+        stream.write(bytes("abcdef"));
+        // the first chunk is full, the second one not yet
+        Assertions.assertEquals(4, stream.read(buffer, 0, buffer.length));
+        Assertions.assertEquals("abcd", new String(buffer, 0, 4, StandardCharsets.UTF_8));
+        CompletableFuture<String> rest = readAsync(stream);
+        Assertions.assertThrows(TimeoutException.class, () -> rest.get(100, TimeUnit.MILLISECONDS));
+
+        stream.endInput();
+        Assertions.assertEquals("ef", rest.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(-1, stream.read());
+        stream.release();
+        assertAllChunksFree(pool);
+    }
+
+    @Test
+    public void testRetainedBodyIsReplayed() throws Exception {
+        ChunkPool pool = new ChunkPool(4, 4);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, true);
+        stream.write(bytes("0123456789"));
+        stream.endInput();
+
+        // the request fails after reading a part of the body
+        byte[] buffer = new byte[6];
+        Assertions.assertEquals(4, stream.read(buffer, 0, 6));
+        Assertions.assertEquals(2, stream.read(buffer, 4, 2));
+        Assertions.assertEquals("012345", new String(buffer, StandardCharsets.UTF_8));
+
+        // every replay sends the whole body again
+        Assertions.assertEquals("0123456789", readAll(stream.replay()));
+        InputStream replay = stream.replay();
+        Assertions.assertEquals('0', replay.read());
+        Assertions.assertEquals("0123456789", readAll(stream.replay()));
+        Assertions.assertEquals("123456789", readAll(replay));
+
+        // the chunks are kept until the stream is released
+        Assertions.assertEquals("6789", readAll(stream));
+        CompletableFuture<List<ByteBuffer>> waiting = takeAsync(pool, 2);
+        Assertions.assertThrows(
+                TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+        stream.release();
+        waiting.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testReplayWaitsForTheEndOfInput() throws Exception {
+        ChunkPool pool = new ChunkPool(4, 4);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, true);
+        stream.write(bytes("01234"));
+
+        CompletableFuture<String> replayed = new CompletableFuture<>();
+        startThread(
+                () -> {
+                    try {
+                        replayed.complete(readAll(stream.replay()));
+                    } catch (Throwable t) {
+                        replayed.completeExceptionally(t);
+                    }
+                });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> replayed.get(100, TimeUnit.MILLISECONDS));
+
+        stream.write(bytes("56789"));
+        stream.endInput();
+        Assertions.assertEquals("0123456789", replayed.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        stream.release();
+        assertAllChunksFree(pool);
+    }
+
+    @Test
+    public void testReplayOfStreamWhichIsNotRetained() {
+        ChunkedRecordStream stream = new ChunkedRecordStream(new ChunkPool(4, 1), false);
+        Assertions.assertThrows(IllegalStateException.class, stream::replay);
+    }
+
+    @Test
+    public void testLoadFailingWhileTheWriterAppends() throws Exception {
+        ChunkPool pool = new ChunkPool(4, 8);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, true);
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<Void> released = new CompletableFuture<>();
+
+        // the load fails after reading the first chunk and releases the stream right away
+        startThread(
+                () -> {
+                    try {
+                        stream.read(new byte[4], 0, 4);
+                        written.await();
+                        stream.release();
+                        released.complete(null);
+                    } catch (Throwable t) {
+                        released.completeExceptionally(t);
+                    }
+                });
+
+        stream.write(bytes("abcdefg"));
+        written.countDown();
+        released.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        // all chunks are back before the input is ended, also the one the writer appends to
+        assertAllChunksFree(pool);
+
+        // the writer notices the failure on its next write
+        Assertions.assertThrows(IOException.class, () -> stream.write(bytes("hijklm")));
+        stream.endInput();
+        assertAllChunksFree(pool);
+    }
+
+    @Test
+    public void testReleaseOfStreamWhichIsNotRetained() throws Exception {
+        ChunkPool pool = new ChunkPool(4, 4);
+        ChunkedRecordStream stream = new ChunkedRecordStream(pool, false);
+        stream.write(bytes("0123456789"));
+        stream.read(new byte[2], 0, 2);
+        // the request failed, the chunks which weren't read and the written one are recycled
+        stream.release();
+        assertAllChunksFree(pool);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[3];
+        int read;
+        while ((read = stream.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static CompletableFuture<String> readAsync(InputStream stream) {
+        CompletableFuture<String> body = new CompletableFuture<>();
+        startThread(
+                () -> {
+                    try {
+                        body.complete(readAll(stream));
+                    } catch (Throwable t) {
+                        body.completeExceptionally(t);
+                    }
+                });
+        return body;
+    }
+
+    private static CompletableFuture<List<ByteBuffer>> takeAsync(ChunkPool pool, int count) {
+        CompletableFuture<List<ByteBuffer>> future = new CompletableFuture<>();
+        startThread(
+                () -> {
+                    try {
+                        List<ByteBuffer> chunks = new ArrayList<>();
+                        for (int i = 0; i < count; i++) {
+                            chunks.add(pool.take());
+                        }
+                        future.complete(chunks);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+        return future;
+    }
+
+    /** Takes all chunks of the pool, which only succeeds if none is held by a stream. */
+    private static void assertAllChunksFree(ChunkPool pool) throws Exception {
+        List<ByteBuffer> chunks =
+                takeAsync(pool, pool.getMaxChunks()).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        for (ByteBuffer chunk : chunks) {
+            Assertions.assertEquals(0, chunk.position());
+        }
+        chunks.forEach(pool::recycle);
+    }
+
+    private static void startThread(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.seatunnel.connectors.doris.rest.models.RespContent;
 import org.apache.seatunnel.connectors.doris.sink.HttpPutBuilder;
 import org.apache.seatunnel.connectors.doris.sink.LoadStatus;
 import org.apache.seatunnel.connectors.doris.util.ResponseUtil;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.ChunkPool;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.ChunkedRecordStream;
 
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.entity.InputStreamEntity;
@@ -74,7 +76,8 @@ public class DorisStreamLoad implements Serializable {
     private final boolean enable2PC;
     private final boolean enableDelete;
     private final Properties streamLoadProp;
-    private final RecordStream recordStream;
+    private final ChunkPool chunkPool;
+    private ChunkedRecordStream recordStream;
     private Future<CloseableHttpResponse> pendingLoadFuture;
     private final CloseableHttpClient httpClient;
     private final ExecutorService executorService;
@@ -106,8 +109,7 @@ public class DorisStreamLoad implements Serializable {
                         TimeUnit.MILLISECONDS,
                         new LinkedBlockingQueue<>(),
                         new ThreadFactoryBuilder().setNameFormat("stream-load-upload").build());
-        this.recordStream =
-                new RecordStream(dorisConfig.getBufferSize(), dorisConfig.getBufferCount());
+        this.chunkPool = new ChunkPool(dorisConfig.getBufferSize(), dorisConfig.getBufferCount());
         lineDelimiter =
                 streamLoadProp.getProperty(LINE_DELIMITER_KEY, LINE_DELIMITER_DEFAULT).getBytes();
         loadBatchFirstRecord = true;
@@ -197,7 +199,7 @@ public class DorisStreamLoad implements Serializable {
     }
 
     @VisibleForTesting
-    public RecordStream getRecordStream() {
+    public ChunkedRecordStream getRecordStream() {
         return recordStream;
     }
 
@@ -220,13 +222,15 @@ public class DorisStreamLoad implements Serializable {
             return handlePreCommitResponse(pendingLoadFuture.get());
         } catch (Exception e) {
             throw new DorisConnectorException(DorisConnectorErrorCode.STREAM_LOAD_FAILED, e);
+        } finally {
+            recordStream.release();
         }
     }
 
     public void startLoad(String label) throws IOException {
         loadBatchFirstRecord = true;
         HttpPutBuilder putBuilder = new HttpPutBuilder();
-        recordStream.startInput();
+        recordStream = new ChunkedRecordStream(chunkPool, false);
         log.info("stream load started for {}", label);
         try {
             InputStreamEntity entity = new InputStreamEntity(recordStream);
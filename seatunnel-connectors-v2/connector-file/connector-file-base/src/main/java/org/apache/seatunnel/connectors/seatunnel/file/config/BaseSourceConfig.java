@@ -95,6 +95,16 @@ public class BaseSourceConfig {
                     .defaultValue(0L)
                     .withDescription("The number of rows to skip");
 
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The size in bytes of the splits a large file is divided into, so "
+                                    + "that it is read by several readers. Text, csv and json "
+                                    + "files are split at lines, parquet files at row groups and "
+                                    + "orc files at stripes. Files aren't split if it is not positive");
+
     public static final Option<List<String>> READ_PARTITIONS =
             Options.key("read_partitions")
                     .listType()
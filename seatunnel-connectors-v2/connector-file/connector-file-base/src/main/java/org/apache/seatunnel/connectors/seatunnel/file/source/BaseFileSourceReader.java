@@ -41,6 +41,8 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
     private final SourceReader.Context context;
     private final Deque<FileSourceSplit> sourceSplits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
+    /** Whether a split was requested from the enumerator and the answer didn't arrive yet. */
+    private volatile boolean splitRequested;
 
     public BaseFileSourceReader(
             ReadStrategy readStrategy, HadoopConf hadoopConf, SourceReader.Context context) {
@@ -58,12 +60,13 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
     public void close() throws IOException {}
 
     @Override
+    @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
             if (null != split) {
                 try {
-                    readStrategy.read(split.splitId(), output);
+                    readStrategy.read(split, output);
                 } catch (Exception e) {
                     String errorMsg =
                             String.format("Read data from this file [%s] failed", split.splitId());
@@ -75,7 +78,14 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
                 log.info("Closed the bounded File source");
                 context.signalNoMoreElement();
             } else {
-                Thread.sleep(1000L);
+                if (!splitRequested) {
+                    // the next split is only requested once the previous one is read
+                    splitRequested = true;
+                    context.sendSplitRequest();
+                }
+                if (sourceSplits.isEmpty() && !noMoreSplit) {
+                    Thread.sleep(100L);
+                }
             }
         }
     }
@@ -88,11 +98,13 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
     @Override
     public void addSplits(List<FileSourceSplit> splits) {
         sourceSplits.addAll(splits);
+        splitRequested = false;
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        splitRequested = false;
     }
 
     @Override
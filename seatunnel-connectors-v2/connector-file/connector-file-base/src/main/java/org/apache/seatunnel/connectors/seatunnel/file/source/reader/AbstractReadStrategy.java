@@ -19,18 +19,25 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.util.FileSystemUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.CommonConfigurationKeys;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.util.LineReader;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,9 +47,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 import static org.apache.parquet.avro.AvroSchemaConverter.ADD_LIST_ELEMENT_RECORDS;
@@ -72,6 +81,7 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected List<String> readColumns = new ArrayList<>();
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfig.SKIP_HEADER_ROW_NUMBER.defaultValue();
+    protected long fileSplitSize = BaseSourceConfig.FILE_SPLIT_SIZE.defaultValue();
     protected boolean isKerberosAuthorization = false;
 
     @Override
@@ -149,6 +159,100 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         return fileNames;
     }
 
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), output);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        return Collections.singletonList(new FileSourceSplit(path));
+    }
+
+    /** Divide a file into ranges of {@code fileSplitSize} bytes, for formats split at lines. */
+    protected List<FileSourceSplit> getByteRangeSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        FileSystem fs = FileSystem.get(getConfiguration(hadoopConf));
+        long fileLength = fs.getFileStatus(new Path(path)).getLen();
+        if (fileSplitSize <= 0 || fileLength <= fileSplitSize) {
+            return Collections.singletonList(new FileSourceSplit(path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /**
+     * Group the consecutive blocks of a file, e.g. row groups or stripes, into splits of about
+     * {@code fileSplitSize} bytes. A split covers its blocks from the offset of the first one to
+     * the end of the last one.
+     */
+    protected List<FileSourceSplit> getBlockSplits(
+            String path, List<Long> blockOffsets, List<Long> blockLengths) {
+        if (fileSplitSize <= 0 || blockOffsets.size() <= 1) {
+            return Collections.singletonList(new FileSourceSplit(path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = blockOffsets.get(0);
+        long end = start;
+        for (int i = 0; i < blockOffsets.size(); i++) {
+            if (end - start >= fileSplitSize) {
+                splits.add(new FileSourceSplit(path, start, end - start));
+                start = blockOffsets.get(i);
+            }
+            end = blockOffsets.get(i) + blockLengths.get(i);
+        }
+        if (splits.isEmpty()) {
+            return Collections.singletonList(new FileSourceSplit(path));
+        }
+        splits.add(new FileSourceSplit(path, start, end - start));
+        return splits;
+    }
+
+    /**
+     * Read the lines of a split of a text file. A split which doesn't start at the beginning of the
+     * file skips its first line, as that line is read by the previous split: each split reads the
+     * lines which start in it, and the line crossing its end. The header lines are only skipped by
+     * the split at the beginning of the file.
+     */
+    protected void readLines(FileSourceSplit split, long headerLines, Consumer<String> lineConsumer)
+            throws IOException {
+        Configuration configuration = getConfiguration();
+        FileSystem fs = FileSystem.get(configuration);
+        try (FSDataInputStream in = fs.open(new Path(split.getFilePath()))) {
+            long position = split.getStart();
+            long end = split.getEnd();
+            long skipLines = headerLines;
+            LineReader reader;
+            Text line = new Text();
+            if (position > 0) {
+                in.seek(position);
+                reader = new LineReader(in, configuration);
+                position += reader.readLine(line);
+                skipLines = 0;
+            } else {
+                reader = new LineReader(in, configuration);
+            }
+            while (position <= end) {
+                int bytesRead = reader.readLine(line);
+                if (bytesRead == 0) {
+                    break;
+                }
+                position += bytesRead;
+                if (skipLines > 0) {
+                    skipLines--;
+                    continue;
+                }
+                lineConsumer.accept(line.toString());
+            }
+        }
+    }
+
     @Override
     public void setPluginConfig(Config pluginConfig) {
         this.pluginConfig = pluginConfig;
@@ -159,6 +263,9 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         if (pluginConfig.hasPath(BaseSourceConfig.SKIP_HEADER_ROW_NUMBER.key())) {
             skipHeaderNumber = pluginConfig.getLong(BaseSourceConfig.SKIP_HEADER_ROW_NUMBER.key());
         }
+        if (pluginConfig.hasPath(BaseSourceConfig.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfig.FILE_SPLIT_SIZE.key());
+        }
         if (pluginConfig.hasPath(BaseSourceConfig.READ_PARTITIONS.key())) {
             readPartitions.addAll(
                     pluginConfig.getStringList(BaseSourceConfig.READ_PARTITIONS.key()));
@@ -24,16 +24,11 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
-import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FileSystem;
-import org.apache.hadoop.fs.Path;
-
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 public class JsonReadStrategy extends AbstractReadStrategy {
@@ -54,36 +49,42 @@ public class JsonReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
-        Configuration conf = getConfiguration();
-        FileSystem fs = FileSystem.get(conf);
-        Path filePath = new Path(path);
-        Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        try (BufferedReader reader =
-                new BufferedReader(
-                        new InputStreamReader(fs.open(filePath), StandardCharsets.UTF_8))) {
-            reader.lines()
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(line.getBytes());
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Read data from this file [%s] failed",
-                                                    filePath);
-                                    throw new FileConnectorException(
-                                            CommonErrorCode.FILE_OPERATION_FAILED, errorMsg);
-                                }
-                            });
-        }
+        read(new FileSourceSplit(path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readLines(
+                split,
+                0,
+                line -> {
+                    try {
+                        SeaTunnelRow seaTunnelRow =
+                                deserializationSchema.deserialize(line.getBytes());
+                        if (isMergePartition) {
+                            int index = seaTunnelRowType.getTotalFields();
+                            for (String value : partitionsMap.values()) {
+                                seaTunnelRow.setField(index++, value);
+                            }
+                        }
+                        output.collect(seaTunnelRow);
+                    } catch (IOException e) {
+                        String errorMsg =
+                                String.format(
+                                        "Read data from this file [%s] failed",
+                                        split.getFilePath());
+                        throw new FileConnectorException(
+                                CommonErrorCode.FILE_OPERATION_FAILED, errorMsg);
+                    }
+                });
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        return getByteRangeSplits(hadoopConf, path);
     }
 
     @Override
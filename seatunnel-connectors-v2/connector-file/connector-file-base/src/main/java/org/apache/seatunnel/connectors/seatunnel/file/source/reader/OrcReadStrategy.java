@@ -31,6 +31,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.conf.Configuration;
@@ -41,6 +42,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -76,6 +78,13 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -95,38 +104,97 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (!split.isWholeFile()) {
+                // only the stripes which start in the range are read
+                options.range(split.getStart(), split.getLength());
+            }
+            int numCols = children.size();
+            ColumnValueReader[] valueReaders = new ColumnValueReader[numCols];
+            for (int j = 0; j < numCols; j++) {
+                valueReaders[j] = createValueReader(children.get(j));
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
-                int num = 0;
+                Object[][] batch = new Object[rowBatch.size][];
                 for (int i = 0; i < rowBatch.size; i++) {
-                    int numCols = rowBatch.numCols;
-                    Object[] fields;
                     if (isMergePartition) {
                         int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
+                        batch[i] = new Object[numCols + partitionsMap.size()];
                         for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
+                            batch[i][index++] = value;
                         }
                     } else {
-                        fields = new Object[numCols];
+                        batch[i] = new Object[numCols];
+                    }
+                }
+                // fill the rows column by column, the reader of a column is resolved only once
+                ColumnVector[] cols = rowBatch.cols;
+                for (int j = 0; j < numCols; j++) {
+                    ColumnVector colVec = cols[j];
+                    if (colVec == null) {
+                        continue;
                     }
-                    ColumnVector[] cols = rowBatch.cols;
-                    for (int j = 0; j < numCols; j++) {
-                        if (cols[j] == null) {
-                            fields[j] = null;
-                        } else {
-                            fields[j] = readColumn(cols[j], children.get(j), num);
+                    ColumnValueReader valueReader = valueReaders[j];
+                    for (int i = 0; i < rowBatch.size; i++) {
+                        // a repeating vector only holds the value of its first row
+                        int rowNum = colVec.isRepeating ? 0 : i;
+                        if (colVec.noNulls || !colVec.isNull[rowNum]) {
+                            batch[i][j] = valueReader.read(colVec, rowNum);
                         }
                     }
-                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                    output.collect(seaTunnelRow);
-                    num++;
+                }
+                for (Object[] fields : batch) {
+                    output.collect(new SeaTunnelRow(fields));
                 }
             }
         }
     }
 
+    /**
+     * Create the reader of the values of a column, the primitive values are read from the arrays of
+     * the column vector directly.
+     */
+    private ColumnValueReader createValueReader(TypeDescription colType) {
+        switch (colType.getCategory()) {
+            case BOOLEAN:
+                return (colVec, rowNum) -> ((LongColumnVector) colVec).vector[rowNum] == 1;
+            case BYTE:
+                return (colVec, rowNum) -> (byte) ((LongColumnVector) colVec).vector[rowNum];
+            case SHORT:
+                return (colVec, rowNum) -> (short) ((LongColumnVector) colVec).vector[rowNum];
+            case INT:
+                return (colVec, rowNum) -> (int) ((LongColumnVector) colVec).vector[rowNum];
+            case LONG:
+                return (colVec, rowNum) -> ((LongColumnVector) colVec).vector[rowNum];
+            case DATE:
+                return (colVec, rowNum) ->
+                        LocalDate.ofEpochDay(((LongColumnVector) colVec).vector[rowNum]);
+            case FLOAT:
+                return (colVec, rowNum) -> (float) ((DoubleColumnVector) colVec).vector[rowNum];
+            case DOUBLE:
+                return (colVec, rowNum) -> ((DoubleColumnVector) colVec).vector[rowNum];
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+                return (colVec, rowNum) -> ((BytesColumnVector) colVec).toString(rowNum);
+            case BINARY:
+                return (colVec, rowNum) -> {
+                    BytesColumnVector bytesVec = (BytesColumnVector) colVec;
+                    int start = bytesVec.start[rowNum];
+                    return Arrays.copyOfRange(
+                            bytesVec.vector[rowNum], start, start + bytesVec.length[rowNum]);
+                };
+            case DECIMAL:
+                return (colVec, rowNum) -> readDecimalVal(colVec, rowNum);
+            case TIMESTAMP:
+                return (colVec, rowNum) -> readTimestampVal(colVec, colType, rowNum);
+            default:
+                return (colVec, rowNum) -> readColumn(colVec, colType, rowNum);
+        }
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(HadoopConf hadoopConf, String path)
             throws FileConnectorException {
@@ -163,6 +231,21 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     }
 
     @SuppressWarnings("checkstyle:MagicNumber")
+    @Override
+    public List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        OrcFile.ReaderOptions readerOptions = OrcFile.readerOptions(getConfiguration(hadoopConf));
+        List<Long> blockOffsets = new ArrayList<>();
+        List<Long> blockLengths = new ArrayList<>();
+        try (Reader reader = OrcFile.createReader(new Path(path), readerOptions)) {
+            for (StripeInformation stripe : reader.getStripes()) {
+                blockOffsets.add(stripe.getOffset());
+                blockLengths.add(stripe.getLength());
+            }
+        }
+        return getBlockSplits(path, blockOffsets, blockLengths);
+    }
+
     @Override
     boolean checkFileType(String path) {
         try {
@@ -288,6 +371,12 @@ public class OrcReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    /** Reads the value of a row from a column vector, the value must not be null. */
+    @FunctionalInterface
+    private interface ColumnValueReader {
+        Object read(ColumnVector colVec, int rowNum);
+    }
+
     private Object readColumn(ColumnVector colVec, TypeDescription colType, int rowNum) {
         Object columnObj = null;
         if (!colVec.isNull[rowNum]) {
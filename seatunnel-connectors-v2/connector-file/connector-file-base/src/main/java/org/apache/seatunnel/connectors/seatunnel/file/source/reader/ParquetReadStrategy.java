@@ -32,6 +32,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
@@ -41,33 +42,47 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.simple.NanoTime;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -78,11 +93,37 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
     private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
 
+    private static final int BATCH_SIZE = 1024;
+
+    /** The values are read from the column readers, nothing is pushed into the converters. */
+    private static final GroupConverter NO_OP_CONVERTER =
+            new GroupConverter() {
+                private final PrimitiveConverter converter = new PrimitiveConverter() {};
+
+                @Override
+                public Converter getConverter(int fieldIndex) {
+                    return converter;
+                }
+
+                @Override
+                public void start() {}
+
+                @Override
+                public void end() {}
+            };
+
     private int[] indexes;
 
     @Override
     public void read(String path, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -93,27 +134,36 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         Path filePath = new Path(path);
         Map<String, String> partitionsMap = parsePartitionsByPath(path);
         HadoopInputFile hadoopInputFile = HadoopInputFile.fromPath(filePath, getConfiguration());
+        HadoopReadOptions.Builder readOptions = HadoopReadOptions.builder(getConfiguration());
+        if (!split.isWholeFile()) {
+            // only the row groups whose middle is in the range are read
+            readOptions.withRange(split.getStart(), split.getEnd());
+        }
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(hadoopInputFile, readOptions.build())) {
+            MessageType fileSchema = reader.getFooter().getFileMetaData().getSchema();
+            ColumnValueReader[] valueReaders = createValueReaders(fileSchema);
+            if (valueReaders != null) {
+                readColumns(reader, fileSchema, valueReaders, partitionsMap, output);
+                return;
+            }
+        }
+        // nested or repeated columns are assembled into records by parquet-avro
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        AvroParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (!split.isWholeFile()) {
+            builder.withFileRange(split.getStart(), split.getEnd());
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
-                Object[] fields;
-                if (isMergePartition) {
-                    int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
-                    for (String value : partitionsMap.values()) {
-                        fields[index++] = value;
-                    }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
+                Object[] fields = createFields(fieldsCount, partitionsMap);
                 for (int i = 0; i < fieldsCount; i++) {
                     Object data = record.get(indexes[i]);
                     fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
@@ -124,6 +174,194 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    /**
+     * Read the projected columns chunk by chunk, only the column chunks of the projection are
+     * fetched from the row groups of the split. The rows of a batch are filled one column after
+     * another from the values of the column readers.
+     */
+    private void readColumns(
+            ParquetFileReader reader,
+            MessageType fileSchema,
+            ColumnValueReader[] valueReaders,
+            Map<String, String> partitionsMap,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
+        String[] fieldNames = seaTunnelRowType.getFieldNames();
+        int fieldsCount = fieldNames.length;
+        List<Type> projectedFields = new ArrayList<>(fieldsCount);
+        for (String fieldName : fieldNames) {
+            projectedFields.add(fileSchema.getType(fieldName));
+        }
+        MessageType projection = new MessageType(fileSchema.getName(), projectedFields);
+        reader.setRequestedSchema(projection);
+        String createdBy = reader.getFooter().getFileMetaData().getCreatedBy();
+        PageReadStore rowGroup;
+        while ((rowGroup = reader.readNextRowGroup()) != null) {
+            ColumnReadStoreImpl columnReadStore =
+                    new ColumnReadStoreImpl(rowGroup, NO_OP_CONVERTER, projection, createdBy);
+            ColumnReader[] columnReaders = new ColumnReader[fieldsCount];
+            for (int i = 0; i < fieldsCount; i++) {
+                columnReaders[i] =
+                        columnReadStore.getColumnReader(
+                                projection.getColumnDescription(new String[] {fieldNames[i]}));
+            }
+            long remaining = rowGroup.getRowCount();
+            while (remaining > 0) {
+                int batchSize = (int) Math.min(BATCH_SIZE, remaining);
+                Object[][] batch = new Object[batchSize][];
+                for (int row = 0; row < batchSize; row++) {
+                    batch[row] = createFields(fieldsCount, partitionsMap);
+                }
+                for (int i = 0; i < fieldsCount; i++) {
+                    ColumnReader columnReader = columnReaders[i];
+                    ColumnValueReader valueReader = valueReaders[i];
+                    int maxDefinitionLevel = columnReader.getDescriptor().getMaxDefinitionLevel();
+                    for (int row = 0; row < batchSize; row++) {
+                        // a value below the max definition level is null
+                        if (columnReader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                            batch[row][i] = valueReader.read(columnReader);
+                        }
+                        columnReader.consume();
+                    }
+                }
+                for (Object[] fields : batch) {
+                    output.collect(new SeaTunnelRow(fields));
+                }
+                remaining -= batchSize;
+            }
+        }
+    }
+
+    private Object[] createFields(int fieldsCount, Map<String, String> partitionsMap) {
+        if (!isMergePartition) {
+            return new Object[fieldsCount];
+        }
+        int index = fieldsCount;
+        Object[] fields = new Object[fieldsCount + partitionsMap.size()];
+        for (String value : partitionsMap.values()) {
+            fields[index++] = value;
+        }
+        return fields;
+    }
+
+    /**
+     * Get the value readers of the projected columns in the schema of the file.
+     *
+     * @return the value readers, or {@code null} if a column can't be read from its column chunk
+     *     directly, such as the group and repeated columns.
+     */
+    private ColumnValueReader[] createValueReaders(MessageType fileSchema) {
+        String[] fieldNames = seaTunnelRowType.getFieldNames();
+        ColumnValueReader[] valueReaders = new ColumnValueReader[fieldNames.length];
+        Set<String> projectedNames = new HashSet<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (!fileSchema.containsField(fieldNames[i]) || !projectedNames.add(fieldNames[i])) {
+                return null;
+            }
+            Type type = fileSchema.getType(fieldNames[i]);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            valueReaders[i] = createValueReader(type.asPrimitiveType());
+            if (valueReaders[i] == null
+                    || !parquetType2SeaTunnelType(type).equals(seaTunnelRowType.getFieldType(i))) {
+                return null;
+            }
+        }
+        return valueReaders;
+    }
+
+    /**
+     * The conversions are the same as {@link #resolveObject} of the values read by parquet-avro.
+     */
+    private ColumnValueReader createValueReader(PrimitiveType type) {
+        LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return ColumnReader::getBoolean;
+            case FLOAT:
+                return ColumnReader::getFloat;
+            case DOUBLE:
+                return ColumnReader::getDouble;
+            case INT32:
+                if (type.getOriginalType() == null) {
+                    return ColumnReader::getInteger;
+                }
+                switch (type.getOriginalType()) {
+                    case INT_8:
+                        return reader -> (byte) reader.getInteger();
+                    case INT_16:
+                        return reader -> (short) reader.getInteger();
+                    case DATE:
+                        return reader -> LocalDate.ofEpochDay(reader.getInteger());
+                    default:
+                        return null;
+                }
+            case INT64:
+                if (type.getOriginalType() == OriginalType.TIMESTAMP_MILLIS) {
+                    ZoneId zoneId = ZoneId.of("+8");
+                    return reader ->
+                            LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.getLong()), zoneId);
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    return null;
+                }
+                return ColumnReader::getLong;
+            case INT96:
+                return reader -> nanoTimeToLocalDateTime(reader.getBinary());
+            case BINARY:
+                if (annotation == null) {
+                    return reader -> reader.getBinary().getBytes();
+                }
+                if (annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation) {
+                    return reader -> reader.getBinary().toStringUsingUTF8();
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (annotation == null) {
+                    return reader -> nanoTimeToLocalDateTime(reader.getBinary());
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale();
+                    return reader ->
+                            new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static LocalDateTime nanoTimeToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        HadoopInputFile hadoopInputFile =
+                HadoopInputFile.fromPath(new Path(path), getConfiguration(hadoopConf));
+        List<Long> blockOffsets = new ArrayList<>();
+        List<Long> blockLengths = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetFileReader.open(hadoopInputFile)) {
+            for (BlockMetaData rowGroup : reader.getRowGroups()) {
+                blockOffsets.add(rowGroup.getStartingPos());
+                blockLengths.add(rowGroup.getCompressedSize());
+            }
+        }
+        return getBlockSplits(path, blockOffsets, blockLengths);
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -192,15 +430,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return nanoTimeToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.of("+8"));
@@ -221,6 +452,12 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    /** Reads the value at the current position of a column reader. */
+    @FunctionalInterface
+    private interface ColumnValueReader {
+        Object read(ColumnReader reader);
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(HadoopConf hadoopConf, String path)
             throws FileConnectorException {
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.hadoop.conf.Configuration;
 
@@ -39,6 +40,10 @@ public interface ReadStrategy extends Serializable {
     void read(String path, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /** Read the rows of a split, which may be a range of a file. */
+    void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException;
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(HadoopConf hadoopConf, String path)
             throws FileConnectorException;
 
@@ -46,6 +51,9 @@ public interface ReadStrategy extends Serializable {
 
     List<String> getFileNamesByPath(HadoopConf hadoopConf, String path) throws IOException;
 
+    /** Divide a file into the splits which can be read by different readers. */
+    List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path) throws IOException;
+
     void setPluginConfig(Config pluginConfig);
 
     SeaTunnelRowType getActualSeaTunnelRowTypeInfo();
@@ -32,17 +32,12 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 
-import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FileSystem;
-import org.apache.hadoop.fs.Path;
-
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 public class TextReadStrategy extends AbstractReadStrategy {
@@ -57,55 +52,55 @@ public class TextReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
-        Configuration conf = getConfiguration();
-        FileSystem fs = FileSystem.get(conf);
-        Path filePath = new Path(path);
-        Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        try (BufferedReader reader =
-                new BufferedReader(
-                        new InputStreamReader(fs.open(filePath), StandardCharsets.UTF_8))) {
-            reader.lines()
-                    .skip(skipHeaderNumber)
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(line.getBytes());
-                                    if (!readColumns.isEmpty()) {
-                                        // need column projection
-                                        Object[] fields;
-                                        if (isMergePartition) {
-                                            fields =
-                                                    new Object
-                                                            [readColumns.size()
-                                                                    + partitionsMap.size()];
-                                        } else {
-                                            fields = new Object[readColumns.size()];
-                                        }
-                                        for (int i = 0; i < indexes.length; i++) {
-                                            fields[i] = seaTunnelRow.getField(indexes[i]);
-                                        }
-                                        seaTunnelRow = new SeaTunnelRow(fields);
-                                    }
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Deserialize this data [%s] failed, please check the origin data",
-                                                    line);
-                                    throw new FileConnectorException(
-                                            FileConnectorErrorCode.DATA_DESERIALIZE_FAILED,
-                                            errorMsg,
-                                            e);
-                                }
-                            });
-        }
+        read(new FileSourceSplit(path), output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readLines(
+                split,
+                skipHeaderNumber,
+                line -> {
+                    try {
+                        SeaTunnelRow seaTunnelRow =
+                                deserializationSchema.deserialize(line.getBytes());
+                        if (!readColumns.isEmpty()) {
+                            // need column projection
+                            Object[] fields;
+                            if (isMergePartition) {
+                                fields = new Object[readColumns.size() + partitionsMap.size()];
+                            } else {
+                                fields = new Object[readColumns.size()];
+                            }
+                            for (int i = 0; i < indexes.length; i++) {
+                                fields[i] = seaTunnelRow.getField(indexes[i]);
+                            }
+                            seaTunnelRow = new SeaTunnelRow(fields);
+                        }
+                        if (isMergePartition) {
+                            int index = seaTunnelRowType.getTotalFields();
+                            for (String value : partitionsMap.values()) {
+                                seaTunnelRow.setField(index++, value);
+                            }
+                        }
+                        output.collect(seaTunnelRow);
+                    } catch (IOException e) {
+                        String errorMsg =
+                                String.format(
+                                        "Deserialize this data [%s] failed, please check the origin data",
+                                        line);
+                        throw new FileConnectorException(
+                                FileConnectorErrorCode.DATA_DESERIALIZE_FAILED, errorMsg, e);
+                    }
+                });
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(HadoopConf hadoopConf, String path)
+            throws IOException {
+        return getByteRangeSplits(hadoopConf, path);
     }
 
     @Override
@@ -19,15 +19,65 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplit;
 
+/**
+ * A file, or a range of bytes of it, read by one reader. The range of a split of a text file starts
+ * and ends at any byte and the reader aligns it to lines, the ranges of a parquet or orc file cover
+ * whole row groups or stripes.
+ */
 public class FileSourceSplit implements SourceSplit {
+    // the UID of the splits stored before they had a byte range, so their state can be restored
+    private static final long serialVersionUID = -2740936006988254518L;
+    private static final long WHOLE_FILE = -1L;
+
     private final String splitId;
+    private final String filePath;
+    private final long start;
+    private final long length;
 
     public FileSourceSplit(String splitId) {
         this.splitId = splitId;
+        this.filePath = splitId;
+        this.start = 0L;
+        this.length = WHOLE_FILE;
+    }
+
+    public FileSourceSplit(String filePath, long start, long length) {
+        this.splitId = filePath + "#" + start;
+        this.filePath = filePath;
+        this.start = start;
+        this.length = length;
     }
 
     @Override
     public String splitId() {
         return this.splitId;
     }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /** The offset of the first byte of this split. */
+    public long getStart() {
+        return start;
+    }
+
+    /** The number of bytes of this split, or -1 if the split is the whole file. */
+    public long getLength() {
+        return length;
+    }
+
+    public boolean isWholeFile() {
+        return length == WHOLE_FILE;
+    }
+
+    /** The offset after the last byte of this split. */
+    public long getEnd() {
+        return isWholeFile() ? Long.MAX_VALUE : start + length;
+    }
+
+    /** A split stored before splits had a byte range has no file path, it is the file of its id. */
+    private Object readResolve() {
+        return filePath == null ? new FileSourceSplit(splitId) : this;
+    }
 }
@@ -18,54 +18,163 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 
+/**
+ * Hand out the splits of the files one at a time to the readers which request one, the largest
+ * split first, so that a reader which finished its split early takes over the remaining work
+ * instead of waiting for the others.
+ */
 @Slf4j
 public class FileSourceSplitEnumerator
         implements SourceSplitEnumerator<FileSourceSplit, FileSourceState> {
+    /** Splits of known length first, larger ones before smaller ones. */
+    private static final Comparator<FileSourceSplit> LARGEST_FIRST =
+            Comparator.comparingLong(FileSourceSplit::getLength)
+                    .reversed()
+                    .thenComparing(FileSourceSplit::splitId);
+
     private final Context<FileSourceSplit> context;
-    private Set<FileSourceSplit> pendingSplit;
-    private Set<FileSourceSplit> assignedSplit;
+    private final PriorityQueue<FileSourceSplit> pendingSplit;
+    private final TreeSet<Integer> readersAwaitingSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
+    private final HadoopConf hadoopConf;
+    /** The files already assigned to the readers, they are not enumerated again. */
+    private final Set<String> assignedFiles;
+
+    private final Object stateLock = new Object();
+    private volatile boolean shouldEnumerate;
 
     public FileSourceSplitEnumerator(
-            SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy,
+            HadoopConf hadoopConf) {
         this.context = context;
         this.filePaths = filePaths;
-        this.assignedSplit = new HashSet<>();
+        this.readStrategy = readStrategy;
+        this.hadoopConf = hadoopConf;
+        this.pendingSplit = new PriorityQueue<>(LARGEST_FIRST);
+        this.readersAwaitingSplit = new TreeSet<>();
+        this.assignedFiles = new HashSet<>();
+        this.shouldEnumerate = true;
     }
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
+            ReadStrategy readStrategy,
+            HadoopConf hadoopConf,
             FileSourceState sourceState) {
-        this(context, filePaths);
-        this.assignedSplit = sourceState.getAssignedSplit();
+        this(context, filePaths, readStrategy, hadoopConf);
+        // the splits assigned before the checkpoint are restored by the readers
+        if (sourceState.getUnassignedSplit() == null) {
+            // a state stored before the readers requested their splits only has the assigned
+            // splits, the other files are enumerated again
+            sourceState.getAssignedSplit().forEach(split -> assignedFiles.add(split.getFilePath()));
+        } else {
+            this.pendingSplit.addAll(sourceState.getUnassignedSplit());
+            this.shouldEnumerate = sourceState.isShouldEnumerate();
+        }
     }
 
     @Override
     public void open() {
-        this.pendingSplit = new HashSet<>();
+        // do nothing
     }
 
     @Override
     public void run() {
-        // do nothing
+        if (shouldEnumerate) {
+            List<FileSourceSplit> fileSplits = getFileSplit();
+            synchronized (stateLock) {
+                pendingSplit.addAll(fileSplits);
+                shouldEnumerate = false;
+            }
+        }
+        synchronized (stateLock) {
+            assignPendingSplits();
+        }
+    }
+
+    private List<FileSourceSplit> getFileSplit() {
+        // large files are divided into several splits, the footers of parquet and orc files
+        // are only read once for all readers
+        List<FileSourceSplit> fileSplits = new ArrayList<>();
+        for (String filePath : filePaths) {
+            if (assignedFiles.contains(filePath)) {
+                continue;
+            }
+            try {
+                fileSplits.addAll(readStrategy.getFileSplits(hadoopConf, filePath));
+            } catch (IOException e) {
+                throw new FileConnectorException(
+                        CommonErrorCode.FILE_OPERATION_FAILED,
+                        String.format("Split this file [%s] failed", filePath),
+                        e);
+            }
+        }
+        Set<Integer> readers = context.registeredReaders();
+        if (readers.size() >= context.currentParallelism()) {
+            return fileSplits;
+        }
+        // every reader has its own enumerator when the source isn't coordinated, according to
+        // hashCode of split's id to determine which of them hands out the split
+        List<FileSourceSplit> ownedSplits = new ArrayList<>();
+        for (FileSourceSplit fileSplit : fileSplits) {
+            if (readers.contains(
+                    getSplitOwner(fileSplit.splitId(), context.currentParallelism()))) {
+                ownedSplits.add(fileSplit);
+            }
+        }
+        return ownedSplits;
     }
 
-    private Set<FileSourceSplit> getFileSplit() {
-        Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
-        return fileSourceSplits;
+    private static int getSplitOwner(String tp, int numReaders) {
+        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+    }
+
+    /** Give the next split to each waiting reader, or tell it all splits are assigned. */
+    private void assignPendingSplits() {
+        Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        while (awaitingReader.hasNext()) {
+            int reader = awaitingReader.next();
+            // the reader failed after sending the request, it requests again once restarted
+            if (!context.registeredReaders().contains(reader)) {
+                awaitingReader.remove();
+                continue;
+            }
+            FileSourceSplit split = pendingSplit.poll();
+            if (split != null) {
+                log.info("SubTask {} is assigned to [{}]", reader, split.splitId());
+                context.assignSplit(reader, Collections.singletonList(split));
+            } else if (!shouldEnumerate) {
+                log.info("No more splits to assign to SubTask {}", reader);
+                context.signalNoMoreSplits(reader);
+            } else {
+                // the splits are not enumerated yet, the reader is served once they are
+                return;
+            }
+            awaitingReader.remove();
+        }
     }
 
     @Override
@@ -75,66 +184,39 @@ public class FileSourceSplitEnumerator
 
     @Override
     public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
-        if (!splits.isEmpty()) {
+        // the splits are handed out again when the restarted reader requests them
+        synchronized (stateLock) {
             pendingSplit.addAll(splits);
-            assignSplit(subtaskId);
-        }
-    }
-
-    private void assignSplit(int taskId) {
-        ArrayList<FileSourceSplit> currentTaskSplits = new ArrayList<>();
-        if (context.currentParallelism() == 1) {
-            // if parallelism == 1, we should assign all the splits to reader
-            currentTaskSplits.addAll(pendingSplit);
-        } else {
-            // if parallelism > 1, according to hashCode of split's id to determine whether to
-            // allocate the current task
-            for (FileSourceSplit fileSourceSplit : pendingSplit) {
-                int splitOwner =
-                        getSplitOwner(fileSourceSplit.splitId(), context.currentParallelism());
-                if (splitOwner == taskId) {
-                    currentTaskSplits.add(fileSourceSplit);
-                }
-            }
         }
-        // assign splits
-        context.assignSplit(taskId, currentTaskSplits);
-        // save the state of assigned splits
-        assignedSplit.addAll(currentTaskSplits);
-        // remove the assigned splits from pending splits
-        currentTaskSplits.forEach(split -> pendingSplit.remove(split));
-        log.info(
-                "SubTask {} is assigned to [{}]",
-                taskId,
-                currentTaskSplits.stream()
-                        .map(FileSourceSplit::splitId)
-                        .collect(Collectors.joining(",")));
-        context.signalNoMoreSplits(taskId);
-    }
-
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
     }
 
     @Override
     public int currentUnassignedSplitSize() {
-        return pendingSplit.size();
+        synchronized (stateLock) {
+            return pendingSplit.size();
+        }
     }
 
     @Override
     public void registerReader(int subtaskId) {
-        pendingSplit = getFileSplit();
-        assignSplit(subtaskId);
+        // the reader requests its splits
     }
 
     @Override
     public FileSourceState snapshotState(long checkpointId) {
-        return new FileSourceState(assignedSplit);
+        synchronized (stateLock) {
+            return new FileSourceState(shouldEnumerate, new ArrayList<>(pendingSplit));
+        }
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) {}
 
     @Override
-    public void handleSplitRequest(int subtaskId) {}
+    public void handleSplitRequest(int subtaskId) {
+        synchronized (stateLock) {
+            readersAwaitingSplit.add(subtaskId);
+            assignPendingSplits();
+        }
+    }
 }
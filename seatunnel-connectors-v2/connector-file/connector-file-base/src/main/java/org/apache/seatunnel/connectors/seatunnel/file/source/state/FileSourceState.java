@@ -20,14 +20,32 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.state;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Set;
 
 public class FileSourceState implements Serializable {
     private static final long serialVersionUID = 9208369906513934611L;
+    private final boolean shouldEnumerate;
+    /** The splits not assigned to a reader yet, the assigned ones are in the reader states. */
+    private final List<FileSourceSplit> unassignedSplit;
+    /**
+     * The splits assigned to the readers, only set in the states stored before the readers
+     * requested their splits, which have no unassigned splits.
+     */
     private final Set<FileSourceSplit> assignedSplit;
 
-    public FileSourceState(Set<FileSourceSplit> assignedSplit) {
-        this.assignedSplit = assignedSplit;
+    public FileSourceState(boolean shouldEnumerate, List<FileSourceSplit> unassignedSplit) {
+        this.shouldEnumerate = shouldEnumerate;
+        this.unassignedSplit = unassignedSplit;
+        this.assignedSplit = null;
+    }
+
+    public boolean isShouldEnumerate() {
+        return shouldEnumerate;
+    }
+
+    public List<FileSourceSplit> getUnassignedSplit() {
+        return unassignedSplit;
     }
 
     public Set<FileSourceSplit> getAssignedSplit() {
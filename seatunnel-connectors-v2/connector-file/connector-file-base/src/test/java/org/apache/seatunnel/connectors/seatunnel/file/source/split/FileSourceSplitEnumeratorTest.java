@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.OrcReadStrategyTest.LocalConf;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSourceSplitEnumeratorTest {
+
+    /** A state stored before the readers requested their splits, "/data/part-0.txt" assigned. */
+    private static final String STATE_OF_PREVIOUS_FORMAT =
+            "rO0ABXNyAEtvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLnNlYXR1bm5lbC5maWxlLnNvdXJjZS5zdGF0ZS5GaWxlU291cmNlU3RhdGV/yrOkVij5EwIAAUwADWFzc2lnbmVkU3BsaXR0AA9MamF2YS91dGlsL1NldDt4cHNyABFqYXZhLnV0aWwuSGFzaFNldLpEhZWWuLc0AwAAeHB3DAAAABA/QAAAAAAAAXNyAEtvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLnNlYXR1bm5lbC5maWxlLnNvdXJjZS5zcGxpdC5GaWxlU291cmNlU3BsaXTZ9j05R2MyygIAAUwAB3NwbGl0SWR0ABJMamF2YS9sYW5nL1N0cmluZzt4cHQAEC9kYXRhL3BhcnQtMC50eHR4";
+
+    private LocalConf localConf;
+    private TextReadStrategy readStrategy;
+    private List<String> filePaths;
+
+    @BeforeEach
+    public void createFiles(@TempDir Path tempDir) throws Exception {
+        filePaths = new ArrayList<>();
+        // a large file divided into 3 splits of 100 bytes and a small one of 20 bytes
+        for (int size : new int[] {20, 300}) {
+            Path file = tempDir.resolve("file_" + size + ".txt");
+            Files.write(
+                    file,
+                    String.join("", Collections.nCopies(size, "x"))
+                            .getBytes(StandardCharsets.UTF_8));
+            filePaths.add(file.toUri().toString());
+        }
+        Map<String, Object> options = new HashMap<>();
+        options.put("file_split_size", 100);
+        localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        readStrategy = new TextReadStrategy();
+        readStrategy.setPluginConfig(ConfigFactory.parseMap(options));
+        readStrategy.init(localConf);
+    }
+
+    @Test
+    public void testHandOutSplitsOnRequest() {
+        TestContext context = new TestContext(2, 0, 1);
+        FileSourceSplitEnumerator enumerator =
+                new FileSourceSplitEnumerator(context, filePaths, readStrategy, localConf);
+        enumerator.open();
+        // a request sent before the files are enumerated is served by run
+        enumerator.handleSplitRequest(0);
+        enumerator.run();
+        Assertions.assertEquals(1, context.assignedSplits.get(0).size());
+        Assertions.assertEquals(3, enumerator.currentUnassignedSplitSize());
+
+        // reader 1 is slower, reader 0 takes over the remaining splits
+        enumerator.handleSplitRequest(1);
+        enumerator.handleSplitRequest(0);
+        FileSourceState state = enumerator.snapshotState(1L);
+        Assertions.assertFalse(state.isShouldEnumerate());
+        Assertions.assertEquals(1, state.getUnassignedSplit().size());
+        Assertions.assertTrue(state.getUnassignedSplit().get(0).isWholeFile());
+
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(0);
+        enumerator.handleSplitRequest(1);
+        Assertions.assertEquals(3, context.assignedSplits.get(0).size());
+        Assertions.assertEquals(1, context.assignedSplits.get(1).size());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), context.noMoreSplits);
+        // the ranges of the large file are handed out before the small file
+        Assertions.assertEquals(100L, context.assignedSplits.get(0).get(0).getLength());
+        Assertions.assertEquals(100L, context.assignedSplits.get(0).get(1).getLength());
+        Assertions.assertEquals(100L, context.assignedSplits.get(1).get(0).getLength());
+        Assertions.assertTrue(context.assignedSplits.get(0).get(2).isWholeFile());
+    }
+
+    @Test
+    public void testRestoreUnassignedSplits() {
+        TestContext context = new TestContext(2, 0, 1);
+        FileSourceSplitEnumerator enumerator =
+                new FileSourceSplitEnumerator(context, filePaths, readStrategy, localConf);
+        enumerator.run();
+        enumerator.handleSplitRequest(0);
+        FileSourceState state = enumerator.snapshotState(1L);
+
+        TestContext restoredContext = new TestContext(2, 0, 1);
+        FileSourceSplitEnumerator restored =
+                new FileSourceSplitEnumerator(
+                        restoredContext, filePaths, readStrategy, localConf, state);
+        restored.run();
+        for (int i = 0; i < 4; i++) {
+            restored.handleSplitRequest(1);
+        }
+        Set<String> splitIds = new HashSet<>();
+        context.assignedSplits.get(0).forEach(split -> splitIds.add(split.splitId()));
+        restoredContext.assignedSplits.get(1).forEach(split -> splitIds.add(split.splitId()));
+        Assertions.assertEquals(4, splitIds.size());
+        Assertions.assertEquals(3, restoredContext.assignedSplits.get(1).size());
+        Assertions.assertEquals(Collections.singleton(1), restoredContext.noMoreSplits);
+    }
+
+    @Test
+    public void testRestoreStateOfPreviousFormat() {
+        FileSourceState state =
+                SerializationUtils.deserialize(
+                        Base64.getDecoder().decode(STATE_OF_PREVIOUS_FORMAT));
+        // the assigned file is restored by its reader, it is not enumerated again
+        List<String> paths = new ArrayList<>(filePaths);
+        paths.add("/data/part-0.txt");
+
+        TestContext context = new TestContext(1, 0);
+        FileSourceSplitEnumerator restored =
+                new FileSourceSplitEnumerator(context, paths, readStrategy, localConf, state);
+        restored.run();
+        for (int i = 0; i < 5; i++) {
+            restored.handleSplitRequest(0);
+        }
+        Assertions.assertEquals(4, context.assignedSplits.get(0).size());
+        context.assignedSplits
+                .get(0)
+                .forEach(split -> Assertions.assertTrue(filePaths.contains(split.getFilePath())));
+        Assertions.assertEquals(Collections.singleton(0), context.noMoreSplits);
+    }
+
+    @Test
+    public void testEnumeratorOfEachReader() {
+        // without a coordinated source every reader has its own enumerator
+        Set<String> splitIds = new HashSet<>();
+        for (int reader = 0; reader < 2; reader++) {
+            TestContext context = new TestContext(2, reader);
+            FileSourceSplitEnumerator enumerator =
+                    new FileSourceSplitEnumerator(context, filePaths, readStrategy, localConf);
+            enumerator.run();
+            for (int i = 0; i < 5; i++) {
+                enumerator.handleSplitRequest(reader);
+            }
+            Assertions.assertEquals(Collections.singleton(reader), context.noMoreSplits);
+            for (FileSourceSplit split :
+                    context.assignedSplits.getOrDefault(reader, Collections.emptyList())) {
+                Assertions.assertTrue(splitIds.add(split.splitId()));
+            }
+        }
+        Assertions.assertEquals(4, splitIds.size());
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<FileSourceSplit> {
+        private final int parallelism;
+        private final Set<Integer> readers;
+        private final Map<Integer, List<FileSourceSplit>> assignedSplits = new HashMap<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        TestContext(int parallelism, Integer... readers) {
+            this.parallelism = parallelism;
+            this.readers = new HashSet<>(Arrays.asList(readers));
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<FileSourceSplit> splits) {
+            assignedSplits.computeIfAbsent(subtaskId, r -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.common.utils.SerializationUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+public class FileSourceSplitTest {
+
+    /** A split of "/data/part-0.txt" stored before splits had a byte range. */
+    private static final String SPLIT_OF_PREVIOUS_FORMAT =
+            "rO0ABXNyAEtvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLnNlYXR1bm5lbC5maWxlLnNvdXJjZS5zcGxpdC5GaWxlU291cmNlU3BsaXTZ9j05R2MyygIAAUwAB3NwbGl0SWR0ABJMamF2YS9sYW5nL1N0cmluZzt4cHQAEC9kYXRhL3BhcnQtMC50eHQ=";
+
+    @Test
+    public void testRestoreSplitOfPreviousFormat() {
+        FileSourceSplit split =
+                SerializationUtils.deserialize(
+                        Base64.getDecoder().decode(SPLIT_OF_PREVIOUS_FORMAT));
+        Assertions.assertEquals("/data/part-0.txt", split.splitId());
+        Assertions.assertEquals("/data/part-0.txt", split.getFilePath());
+        Assertions.assertTrue(split.isWholeFile());
+        Assertions.assertEquals(0L, split.getStart());
+    }
+
+    @Test
+    public void testSerializeSplitOfRange() {
+        FileSourceSplit split = new FileSourceSplit("/data/part-0.txt", 100L, 50L);
+        FileSourceSplit restored =
+                SerializationUtils.deserialize(SerializationUtils.serialize(split));
+        Assertions.assertEquals(split.splitId(), restored.splitId());
+        Assertions.assertEquals(split.getFilePath(), restored.getFilePath());
+        Assertions.assertEquals(100L, restored.getStart());
+        Assertions.assertEquals(50L, restored.getLength());
+    }
+}
@@ -121,6 +121,43 @@ public class ParquetReadStrategyTest {
         parquetReadStrategy.read(path, testCollector);
     }
 
+    @Test
+    public void testParquetReadProjectionMatchesFullRead() throws Exception {
+        URL resource = ParquetReadStrategyTest.class.getResource("/timestamp_as_int96.parquet");
+        URL conf = OrcReadStrategyTest.class.getResource("/test_read_parquet.conf");
+        Assertions.assertNotNull(resource);
+        Assertions.assertNotNull(conf);
+        String path = Paths.get(resource.toURI()).toString();
+        String confPath = Paths.get(conf.toURI()).toString();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+
+        ParquetReadStrategy fullReadStrategy = new ParquetReadStrategy();
+        fullReadStrategy.init(localConf);
+        SeaTunnelRowType fullRowType = fullReadStrategy.getSeaTunnelRowTypeInfo(localConf, path);
+        TestCollector fullCollector = new TestCollector();
+        fullReadStrategy.read(path, fullCollector);
+
+        ParquetReadStrategy projectionReadStrategy = new ParquetReadStrategy();
+        projectionReadStrategy.init(localConf);
+        projectionReadStrategy.setPluginConfig(ConfigFactory.parseFile(new File(confPath)));
+        SeaTunnelRowType projectionRowType =
+                projectionReadStrategy.getSeaTunnelRowTypeInfo(localConf, path);
+        TestCollector projectionCollector = new TestCollector();
+        projectionReadStrategy.read(path, projectionCollector);
+
+        List<SeaTunnelRow> fullRows = fullCollector.getRows();
+        List<SeaTunnelRow> projectionRows = projectionCollector.getRows();
+        Assertions.assertFalse(fullRows.isEmpty());
+        Assertions.assertEquals(fullRows.size(), projectionRows.size());
+        for (int i = 0; i < fullRows.size(); i++) {
+            for (int j = 0; j < projectionRowType.getTotalFields(); j++) {
+                int index = fullRowType.indexOf(projectionRowType.getFieldName(j));
+                Assertions.assertEquals(
+                        fullRows.get(i).getField(index), projectionRows.get(i).getField(j));
+            }
+        }
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.OrcReadStrategyTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.OrcReadStrategyTest.TestCollector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class TextReadStrategyTest {
+
+    @Test
+    public void testReadSplitsOfLargeFile(@TempDir Path tempDir) throws Exception {
+        StringBuilder content = new StringBuilder("id,name\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name =
+                    i % 7 == 0
+                            ? ""
+                            : "name_" + i + "_" + String.join("", Collections.nCopies(i % 13, "x"));
+            content.append(i).append(',').append(name).append(i % 5 == 0 ? "\r\n" : "\n");
+            expected.add(i + "," + name);
+        }
+        Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Object> options = new HashMap<>();
+        options.put("file_format_type", "csv");
+        options.put("skip_header_row_number", 1);
+        options.put("file_split_size", 97);
+        options.put("parse_partition_from_path", false);
+        Config pluginConfig = ConfigFactory.parseMap(options);
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        TextReadStrategy readStrategy = new TextReadStrategy();
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(localConf);
+        readStrategy.getFileNamesByPath(localConf, tempDir.toString());
+        readStrategy.setSeaTunnelRowTypeInfo(
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE}));
+
+        List<FileSourceSplit> splits =
+                readStrategy.getFileSplits(localConf, file.toUri().toString());
+        Assertions.assertTrue(splits.size() > 1);
+        TestCollector collector = new TestCollector();
+        for (FileSourceSplit split : splits) {
+            readStrategy.read(split, collector);
+        }
+        List<String> actual = new ArrayList<>();
+        for (SeaTunnelRow row : collector.getRows()) {
+            Object name = row.getField(1);
+            actual.add(row.getField(0) + "," + (name == null ? "" : name));
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+}
@@ -116,6 +116,22 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support upsert by query primary_key exist");
 
+    Option<Boolean> USE_BULK_LOAD =
+            Options.key("use_bulk_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Write the rows of a table without primary keys through the bulk load path of the database,"
+                                    + " e.g. COPY of PostgreSQL, instead of batched insert statements");
+
+    Option<Integer> WRITE_PARALLELISM =
+            Options.key("write_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of connections a sink writer writes through in parallel,"
+                                    + " the rows of one primary key are always written by the same connection");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -138,4 +154,21 @@ public interface JdbcOptions {
                     .intType()
                     .noDefaultValue()
                     .withDescription("partition num");
+
+    Option<PartitionStrategy> PARTITION_STRATEGY =
+            Options.key("partition_strategy")
+                    .enumType(PartitionStrategy.class)
+                    .defaultValue(PartitionStrategy.RANGE)
+                    .withDescription(
+                            "How the partition column is divided: 'range' splits [min, max] of a numeric column"
+                                    + " into equal ranges, 'sample' samples the column to build ranges of about"
+                                    + " the same row count, also for string and date columns");
+
+    Option<Integer> INVERSE_SAMPLING_RATE =
+            Options.key("inverse_sampling_rate")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "Every how many rows a value of the partition column is sampled by the 'sample'"
+                                    + " partition strategy, 1000 means a sampling rate of 1/1000");
 }
@@ -39,6 +39,8 @@ public class JdbcSinkConfig implements Serializable {
     private String table;
     private List<String> primaryKeys;
     private boolean supportUpsertByQueryPrimaryKeyExist;
+    private boolean useBulkLoad;
+    private int writeParallelism;
 
     public static JdbcSinkConfig of(ReadonlyConfig config) {
         JdbcSinkConfig.Builder builder = JdbcSinkConfig.builder();
@@ -50,6 +52,8 @@ public class JdbcSinkConfig implements Serializable {
         config.getOptional(SUPPORT_UPSERT_BY_QUERY_PRIMARY_KEY_EXIST)
                 .ifPresent(builder::supportUpsertByQueryPrimaryKeyExist);
         config.getOptional(JdbcOptions.QUERY).ifPresent(builder::simpleSql);
+        builder.useBulkLoad(config.get(JdbcOptions.USE_BULK_LOAD));
+        builder.writeParallelism(config.get(JdbcOptions.WRITE_PARALLELISM));
         return builder.build();
     }
 }
@@ -38,6 +38,8 @@ public class JdbcSourceConfig implements Serializable {
     private BigDecimal partitionLowerBound;
     private int fetchSize;
     private Integer partitionNumber;
+    private PartitionStrategy partitionStrategy;
+    private int inverseSamplingRate;
 
     public static JdbcSourceConfig of(ReadonlyConfig config) {
         JdbcSourceConfig.Builder builder = JdbcSourceConfig.builder();
@@ -50,6 +52,8 @@ public class JdbcSourceConfig implements Serializable {
         config.getOptional(JdbcOptions.PARTITION_LOWER_BOUND)
                 .ifPresent(builder::partitionLowerBound);
         config.getOptional(JdbcOptions.PARTITION_NUM).ifPresent(builder::partitionNumber);
+        builder.partitionStrategy(config.get(JdbcOptions.PARTITION_STRATEGY));
+        builder.inverseSamplingRate(config.get(JdbcOptions.INVERSE_SAMPLING_RATE));
         return builder.build();
     }
 
@@ -42,6 +42,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.temporal.Temporal;
 
 /**
  * InputFormat to read data from a database and generate Rows. The InputFormat has to be configured
@@ -62,6 +63,9 @@ public class JdbcInputFormat implements Serializable {
     protected Boolean autoCommit;
 
     protected transient PreparedStatement statement;
+    /** The statement of the current split if it has its own query. */
+    protected transient PreparedStatement splitStatement;
+
     protected transient ResultSet resultSet;
 
     protected boolean hasNext;
@@ -136,36 +140,48 @@ public class JdbcInputFormat implements Serializable {
             if (!connectionProvider.isConnectionValid()) {
                 openInputFormat();
             }
+            PreparedStatement currentStatement = statement;
+            if (inputSplit.getSplitQuery() != null) {
+                splitStatement =
+                        jdbcDialect.creatPreparedStatement(
+                                connectionProvider.getConnection(),
+                                inputSplit.getSplitQuery(),
+                                fetchSize);
+                currentStatement = splitStatement;
+            }
             Object[] parameterValues = inputSplit.getParameterValues();
             if (parameterValues != null) {
                 for (int i = 0; i < parameterValues.length; i++) {
                     Object param = parameterValues[i];
                     if (param instanceof String) {
-                        statement.setString(i + 1, (String) param);
+                        currentStatement.setString(i + 1, (String) param);
                     } else if (param instanceof Long) {
-                        statement.setLong(i + 1, (Long) param);
+                        currentStatement.setLong(i + 1, (Long) param);
                     } else if (param instanceof Integer) {
-                        statement.setInt(i + 1, (Integer) param);
+                        currentStatement.setInt(i + 1, (Integer) param);
                     } else if (param instanceof Double) {
-                        statement.setDouble(i + 1, (Double) param);
+                        currentStatement.setDouble(i + 1, (Double) param);
                     } else if (param instanceof Boolean) {
-                        statement.setBoolean(i + 1, (Boolean) param);
+                        currentStatement.setBoolean(i + 1, (Boolean) param);
                     } else if (param instanceof Float) {
-                        statement.setFloat(i + 1, (Float) param);
+                        currentStatement.setFloat(i + 1, (Float) param);
                     } else if (param instanceof BigDecimal) {
-                        statement.setBigDecimal(i + 1, (BigDecimal) param);
+                        currentStatement.setBigDecimal(i + 1, (BigDecimal) param);
                     } else if (param instanceof Byte) {
-                        statement.setByte(i + 1, (Byte) param);
+                        currentStatement.setByte(i + 1, (Byte) param);
                     } else if (param instanceof Short) {
-                        statement.setShort(i + 1, (Short) param);
+                        currentStatement.setShort(i + 1, (Short) param);
                     } else if (param instanceof Date) {
-                        statement.setDate(i + 1, (Date) param);
+                        currentStatement.setDate(i + 1, (Date) param);
                     } else if (param instanceof Time) {
-                        statement.setTime(i + 1, (Time) param);
+                        currentStatement.setTime(i + 1, (Time) param);
                     } else if (param instanceof Timestamp) {
-                        statement.setTimestamp(i + 1, (Timestamp) param);
+                        currentStatement.setTimestamp(i + 1, (Timestamp) param);
                     } else if (param instanceof Array) {
-                        statement.setArray(i + 1, (Array) param);
+                        currentStatement.setArray(i + 1, (Array) param);
+                    } else if (param instanceof Temporal) {
+                        // e.g. a LocalDateTime sampled from a DATETIME column
+                        currentStatement.setObject(i + 1, param);
                     } else {
                         // extends with other types if needed
                         throw new JdbcConnectorException(
@@ -178,7 +194,7 @@ public class JdbcInputFormat implements Serializable {
                     }
                 }
             }
-            resultSet = statement.executeQuery();
+            resultSet = currentStatement.executeQuery();
             hasNext = resultSet.next();
         } catch (SQLException se) {
             throw new JdbcConnectorException(
@@ -200,6 +216,15 @@ public class JdbcInputFormat implements Serializable {
         } catch (SQLException se) {
             LOG.info("Inputformat ResultSet couldn't be closed - " + se.getMessage());
         }
+        if (splitStatement != null) {
+            try {
+                splitStatement.close();
+            } catch (SQLException se) {
+                LOG.info("Inputformat Statement couldn't be closed - " + se.getMessage());
+            } finally {
+                splitStatement = null;
+            }
+        }
     }
 
     /**
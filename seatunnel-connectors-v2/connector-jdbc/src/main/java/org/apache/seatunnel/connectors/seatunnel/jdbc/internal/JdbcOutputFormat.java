@@ -28,8 +28,6 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatc
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.annotations.VisibleForTesting;
-
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.Connection;
@@ -253,7 +251,6 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                         : connectionProvider.getConnection());
     }
 
-    @VisibleForTesting
     public Connection getConnection() {
         return connectionProvider.getConnection();
     }
@@ -23,9 +23,11 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BulkLoadBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
@@ -65,8 +67,26 @@ public class JdbcOutputFormatBuilder {
                                     seaTunnelRowType,
                                     dialect.getRowConverter());
         } else if (primaryKeys == null || primaryKeys.isEmpty()) {
-            statementExecutorFactory =
-                    () -> createSimpleBufferedExecutor(dialect, database, table, seaTunnelRowType);
+            Optional<JdbcBulkLoader> bulkLoader =
+                    jdbcSinkConfig.isUseBulkLoad()
+                            ? dialect.getBulkLoader(database, table, seaTunnelRowType)
+                            : Optional.empty();
+            if (bulkLoader.isPresent()) {
+                JdbcBulkLoader loader = bulkLoader.get();
+                statementExecutorFactory = () -> new BulkLoadBatchStatementExecutor(loader);
+            } else {
+                if (jdbcSinkConfig.isUseBulkLoad()) {
+                    log.warn(
+                            "The {} dialect can't bulk load the rows of {}.{}, fallback to insert statements",
+                            dialect.dialectName(),
+                            database,
+                            table);
+                }
+                statementExecutorFactory =
+                        () ->
+                                createSimpleBufferedExecutor(
+                                        dialect, database, table, seaTunnelRowType);
+            }
         } else {
             statementExecutorFactory =
                     () ->
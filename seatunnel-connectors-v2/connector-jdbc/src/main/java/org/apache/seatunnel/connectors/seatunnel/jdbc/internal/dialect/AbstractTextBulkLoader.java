@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A bulk loader which streams the rows as comma separated text, one line per row, into the load
+ * statement of the database. The lines are encoded while the driver reads the stream, so a batch is
+ * never copied into one large buffer.
+ */
+public abstract class AbstractTextBulkLoader implements JdbcBulkLoader {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final char FIELD_DELIMITER = ',';
+    protected static final char LINE_DELIMITER = '\n';
+
+    protected final String loadStatement;
+
+    protected AbstractTextBulkLoader(String loadStatement) {
+        this.loadStatement = loadStatement;
+    }
+
+    /** Whether the values of all the columns can be written as text. */
+    public static boolean supports(SeaTunnelRowType rowType) {
+        for (SeaTunnelDataType<?> fieldType : rowType.getFieldTypes()) {
+            switch (fieldType.getSqlType()) {
+                case BYTES:
+                case ARRAY:
+                case MAP:
+                case ROW:
+                    return false;
+                default:
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void load(Connection connection, List<SeaTunnelRow> rows) throws SQLException {
+        if (!rows.isEmpty()) {
+            load(connection, loadStatement, openStream(rows));
+        }
+    }
+
+    /** Executes the load statement, which reads the lines from the data stream. */
+    protected abstract void load(Connection connection, String loadStatement, InputStream data)
+            throws SQLException;
+
+    /** Appends a value which isn't null, quoted and escaped as the load statement expects. */
+    protected abstract void writeField(StringBuilder line, Object value);
+
+    /** Appends the marker of a null value. */
+    protected abstract void writeNull(StringBuilder line);
+
+    /** Formats a value the way the database parses it from text, without quoting. */
+    protected String toText(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            return dateTime.toLocalDate() + " " + dateTime.toLocalTime();
+        }
+        return value.toString();
+    }
+
+    protected InputStream openStream(List<SeaTunnelRow> rows) {
+        return new LineInputStream(rows.iterator());
+    }
+
+    private void writeRow(StringBuilder line, SeaTunnelRow row) {
+        for (int i = 0; i < row.getArity(); i++) {
+            if (i > 0) {
+                line.append(FIELD_DELIMITER);
+            }
+            Object value = row.getField(i);
+            if (value == null) {
+                writeNull(line);
+            } else {
+                writeField(line, value);
+            }
+        }
+        line.append(LINE_DELIMITER);
+    }
+
+    /** Encodes one row at a time, when the previous line was read. */
+    private class LineInputStream extends InputStream {
+        private final Iterator<SeaTunnelRow> rows;
+        private final StringBuilder line = new StringBuilder();
+        private byte[] buffer = new byte[0];
+        private int position;
+
+        LineInputStream(Iterator<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        private boolean fill() {
+            while (position >= buffer.length) {
+                if (!rows.hasNext()) {
+                    return false;
+                }
+                line.setLength(0);
+                writeRow(line, rows.next());
+                buffer = line.toString().getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            return fill() ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.length - position);
+            System.arraycopy(buffer, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
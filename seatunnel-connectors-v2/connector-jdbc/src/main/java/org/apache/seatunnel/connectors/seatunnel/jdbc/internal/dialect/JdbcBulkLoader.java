@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes rows through the native bulk load path of a database, which skips the parsing and binding
+ * of one statement per row. Loaders are created by {@link JdbcDialect#getBulkLoader} for one table
+ * and row type.
+ */
+public interface JdbcBulkLoader extends Serializable {
+
+    /**
+     * Load the rows into the table. The rows are written in the current transaction of the
+     * connection, so they are committed together with the other rows of the checkpoint.
+     *
+     * @param connection the connection of the writer
+     * @param rows the buffered rows, in the order they were written
+     */
+    void load(Connection connection, List<SeaTunnelRow> rows) throws SQLException;
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 
@@ -26,7 +27,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -160,6 +163,20 @@ public interface JdbcDialect extends Serializable {
                 tableIdentifier(database, tableName), fieldExpressions);
     }
 
+    /**
+     * Gets the loader which writes the rows through the native bulk path of the database, such as
+     * PostgreSQL's {@code COPY ... FROM STDIN}, instead of batched {@code INSERT} statements.
+     *
+     * <p>If the dialect does not support bulk loads, or can't load one of the column types, the
+     * writer will fallback to the statement from {@link #getInsertIntoStatement}.
+     *
+     * @return the bulk loader of the table or {@link Optional#empty()}.
+     */
+    default Optional<JdbcBulkLoader> getBulkLoader(
+            String database, String tableName, SeaTunnelRowType rowType) {
+        return Optional.empty();
+    }
+
     /**
      * Constructs the dialects upsert statement if supported; such as MySQL's {@code DUPLICATE KEY
      * UPDATE}, or PostgreSQL's {@code ON CONFLICT... DO UPDATE SET..}.
@@ -196,4 +213,66 @@ public interface JdbcDialect extends Serializable {
         PreparedStatement ps = conn.prepareStatement(jdbcSourceConfig.getQuery());
         return ps.getMetaData();
     }
+
+    /**
+     * Sample the values of a column of the source query in ascending order, one of every {@code
+     * inverseSamplingRate} rows. Dialects may override it to read the statistics of the database
+     * instead of scanning the column.
+     *
+     * @return the sampled values in ascending order, without nulls
+     */
+    default List<Object> sampleDataFromColumn(
+            Connection connection,
+            JdbcSourceConfig jdbcSourceConfig,
+            String columnName,
+            int inverseSamplingRate)
+            throws SQLException {
+        Optional<String> sampleQuery =
+                getSampleQuery(
+                        connection, jdbcSourceConfig.getQuery(), columnName, inverseSamplingRate);
+        // without a sample query all the values are sent and sampled here
+        String query =
+                sampleQuery.orElse(
+                        String.format(
+                                "SELECT %s FROM (%s) tt WHERE %s IS NOT NULL ORDER BY %s",
+                                columnName, jdbcSourceConfig.getQuery(), columnName, columnName));
+        int sampledEvery = sampleQuery.isPresent() ? 1 : inverseSamplingRate;
+        List<Object> samples = new ArrayList<>();
+        try (PreparedStatement statement =
+                        creatPreparedStatement(connection, query, jdbcSourceConfig.getFetchSize());
+                ResultSet resultSet = statement.executeQuery()) {
+            long rowCount = 0;
+            while (resultSet.next()) {
+                if (rowCount++ % sampledEvery == 0) {
+                    samples.add(resultSet.getObject(1));
+                }
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Constructs the query which numbers the non null values of a column of the source query in
+     * ascending order with {@code ROW_NUMBER()} and returns one of every {@code
+     * inverseSamplingRate} of them, so that only the samples are sent by the database.
+     *
+     * @return the sample query, or {@link Optional#empty()} if the database has no window
+     *     functions.
+     */
+    default Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate)
+            throws SQLException {
+        return Optional.of(
+                String.format(
+                        "SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (ORDER BY %s) AS rn"
+                                + " FROM (%s) tt WHERE %s IS NOT NULL) ts"
+                                + " WHERE MOD(rn - 1, %d) = 0 ORDER BY %s",
+                        columnName,
+                        columnName,
+                        columnName,
+                        query,
+                        columnName,
+                        inverseSamplingRate,
+                        columnName));
+    }
 }
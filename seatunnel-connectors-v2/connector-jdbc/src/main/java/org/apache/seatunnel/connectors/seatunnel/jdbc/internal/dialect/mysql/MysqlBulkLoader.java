@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.AbstractTextBulkLoader;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Streams the rows into {@code LOAD DATA LOCAL INFILE}, the driver reads the file from the stream
+ * set on the statement instead of the local file system. The connection needs {@code
+ * allowLoadLocalInfile=true} and the server {@code local_infile=ON}.
+ */
+public class MysqlBulkLoader extends AbstractTextBulkLoader {
+
+    private static final long serialVersionUID = 1L;
+
+    public MysqlBulkLoader(String tableIdentifier, String columns) {
+        super(
+                String.format(
+                        "LOAD DATA LOCAL INFILE 'stream' INTO TABLE %s CHARACTER SET utf8mb4"
+                                + " FIELDS TERMINATED BY '%s' OPTIONALLY ENCLOSED BY '\"'"
+                                + " ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (%s)",
+                        tableIdentifier, FIELD_DELIMITER, columns));
+    }
+
+    @Override
+    protected void load(Connection connection, String loadStatement, InputStream data)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(data);
+            statement.execute(loadStatement);
+        }
+    }
+
+    @Override
+    protected void writeField(StringBuilder line, Object value) {
+        String text = toText(value);
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\0') {
+                line.append("\\0");
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    @Override
+    protected void writeNull(StringBuilder line) {
+        line.append("\\N");
+    }
+
+    @Override
+    protected String toText(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        return super.toText(value);
+    }
+}
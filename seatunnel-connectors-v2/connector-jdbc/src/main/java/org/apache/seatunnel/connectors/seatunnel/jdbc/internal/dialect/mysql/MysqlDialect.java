@@ -17,7 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.AbstractTextBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
@@ -69,6 +72,19 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader(
+            String database, String tableName, SeaTunnelRowType rowType) {
+        if (!AbstractTextBulkLoader.supports(rowType)) {
+            return Optional.empty();
+        }
+        String columns =
+                Arrays.stream(rowType.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(new MysqlBulkLoader(tableIdentifier(database, tableName), columns));
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -78,4 +94,15 @@ public class MysqlDialect implements JdbcDialect {
         statement.setFetchSize(Integer.MIN_VALUE);
         return statement;
     }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate)
+            throws SQLException {
+        // window functions are supported since MySQL 8.0
+        if (connection.getMetaData().getDatabaseMajorVersion() < 8) {
+            return Optional.empty();
+        }
+        return JdbcDialect.super.getSampleQuery(connection, query, columnName, inverseSamplingRate);
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
 import java.util.Optional;
 
 public class PhoenixDialect implements JdbcDialect {
@@ -44,4 +45,11 @@ public class PhoenixDialect implements JdbcDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate) {
+        // Phoenix has no window functions
+        return Optional.empty();
+    }
 }
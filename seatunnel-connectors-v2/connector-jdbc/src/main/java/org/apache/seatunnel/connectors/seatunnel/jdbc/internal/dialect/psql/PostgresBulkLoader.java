@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.AbstractTextBulkLoader;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Streams the rows as CSV into {@code COPY ... FROM STDIN} with the {@code CopyManager} of the
+ * driver. Every value is quoted, so only an unquoted empty field is read as null.
+ */
+public class PostgresBulkLoader extends AbstractTextBulkLoader {
+
+    private static final long serialVersionUID = 1L;
+
+    public PostgresBulkLoader(String tableIdentifier, String columns) {
+        super(String.format("COPY %s (%s) FROM STDIN WITH (FORMAT csv)", tableIdentifier, columns));
+    }
+
+    @Override
+    protected void load(Connection connection, String loadStatement, InputStream data)
+            throws SQLException {
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(loadStatement, data);
+        } catch (IOException e) {
+            throw new SQLException("Failed to stream the rows of " + loadStatement, e);
+        }
+    }
+
+    @Override
+    protected void writeField(StringBuilder line, Object value) {
+        String text = toText(value);
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    @Override
+    protected void writeNull(StringBuilder line) {}
+}
@@ -17,7 +17,10 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.AbstractTextBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
@@ -72,6 +75,19 @@ public class PostgresDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader(
+            String database, String tableName, SeaTunnelRowType rowType) {
+        if (!AbstractTextBulkLoader.supports(rowType)) {
+            return Optional.empty();
+        }
+        String columns =
+                Arrays.stream(rowType.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(new PostgresBulkLoader(tableIdentifier(database, tableName), columns));
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -21,6 +21,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -72,4 +73,22 @@ public class SqliteDialect implements JdbcDialect {
                         + updateClause;
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate) {
+        // SQLite has no MOD function
+        return Optional.of(
+                String.format(
+                        "SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (ORDER BY %s) AS rn"
+                                + " FROM (%s) tt WHERE %s IS NOT NULL) ts"
+                                + " WHERE (rn - 1) %% %d = 0 ORDER BY %s",
+                        columnName,
+                        columnName,
+                        columnName,
+                        query,
+                        columnName,
+                        inverseSamplingRate,
+                        columnName));
+    }
 }
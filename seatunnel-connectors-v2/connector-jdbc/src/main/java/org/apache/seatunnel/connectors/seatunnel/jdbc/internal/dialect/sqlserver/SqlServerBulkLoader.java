@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the rows with {@link SQLServerBulkCopy}, which sends them to the server in the TDS bulk
+ * load format. Constraints and triggers are checked and nulls are kept, as for an {@code INSERT}.
+ */
+public class SqlServerBulkLoader implements JdbcBulkLoader {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DATETIME2_PRECISION = 27;
+    private static final int TIME_PRECISION = 16;
+    private static final int FRACTION_SCALE = 7;
+
+    private final String tableIdentifier;
+    private final SeaTunnelRowType rowType;
+
+    public SqlServerBulkLoader(String tableIdentifier, SeaTunnelRowType rowType) {
+        this.tableIdentifier = tableIdentifier;
+        this.rowType = rowType;
+    }
+
+    /** Whether the values of all the columns can be sent by the bulk copy. */
+    public static boolean supports(SeaTunnelRowType rowType) {
+        for (SeaTunnelDataType<?> fieldType : rowType.getFieldTypes()) {
+            switch (fieldType.getSqlType()) {
+                case ARRAY:
+                case MAP:
+                case ROW:
+                    return false;
+                default:
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void load(Connection connection, List<SeaTunnelRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setCheckConstraints(true);
+        options.setFireTriggers(true);
+        options.setKeepNulls(true);
+        SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection);
+        try {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(tableIdentifier);
+            String[] fieldNames = rowType.getFieldNames();
+            for (int i = 0; i < fieldNames.length; i++) {
+                bulkCopy.addColumnMapping(i + 1, fieldNames[i]);
+            }
+            bulkCopy.writeToServer(new RowBulkData(rowType, rows.iterator()));
+        } finally {
+            bulkCopy.close();
+        }
+    }
+
+    /** Exposes the buffered rows with the column metadata the bulk copy reads them by. */
+    private static class RowBulkData implements ISQLServerBulkData {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SeaTunnelRowType rowType;
+        private final transient Iterator<SeaTunnelRow> rows;
+        private transient SeaTunnelRow current;
+
+        RowBulkData(SeaTunnelRowType rowType, Iterator<SeaTunnelRow> rows) {
+            this.rowType = rowType;
+            this.rows = rows;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new TreeSet<>();
+            for (int i = 1; i <= rowType.getTotalFields(); i++) {
+                ordinals.add(i);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return rowType.getFieldName(column - 1);
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            switch (rowType.getFieldType(column - 1).getSqlType()) {
+                case BOOLEAN:
+                    return Types.BIT;
+                case TINYINT:
+                    return Types.TINYINT;
+                case SMALLINT:
+                    return Types.SMALLINT;
+                case INT:
+                    return Types.INTEGER;
+                case BIGINT:
+                    return Types.BIGINT;
+                case FLOAT:
+                    return Types.REAL;
+                case DOUBLE:
+                    return Types.DOUBLE;
+                case DECIMAL:
+                    return Types.DECIMAL;
+                case DATE:
+                    return Types.DATE;
+                case TIME:
+                    return Types.TIME;
+                case TIMESTAMP:
+                    return Types.TIMESTAMP;
+                case BYTES:
+                    return Types.VARBINARY;
+                case STRING:
+                case NULL:
+                default:
+                    return Types.NVARCHAR;
+            }
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(column - 1);
+            switch (fieldType.getSqlType()) {
+                case DECIMAL:
+                    return ((DecimalType) fieldType).getPrecision();
+                case TIMESTAMP:
+                    return DATETIME2_PRECISION;
+                case TIME:
+                    return TIME_PRECISION;
+                case STRING:
+                case BYTES:
+                case NULL:
+                    return Integer.MAX_VALUE;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public int getScale(int column) {
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(column - 1);
+            switch (fieldType.getSqlType()) {
+                case DECIMAL:
+                    return ((DecimalType) fieldType).getScale();
+                case TIMESTAMP:
+                case TIME:
+                    return FRACTION_SCALE;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public boolean next() {
+            current = rows.hasNext() ? rows.next() : null;
+            return current != null;
+        }
+
+        @Override
+        public Object[] getRowData() {
+            Object[] data = new Object[current.getArity()];
+            for (int i = 0; i < data.length; i++) {
+                Object value = current.getField(i);
+                if (value instanceof LocalDate) {
+                    value = java.sql.Date.valueOf((LocalDate) value);
+                } else if (value instanceof LocalTime) {
+                    value = java.sql.Time.valueOf((LocalTime) value);
+                } else if (value instanceof LocalDateTime) {
+                    value = java.sql.Timestamp.valueOf((LocalDateTime) value);
+                }
+                data[i] = value;
+            }
+            return data;
+        }
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -100,4 +103,31 @@ public class SqlServerDialect implements JdbcDialect {
 
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public Optional<JdbcBulkLoader> getBulkLoader(
+            String database, String tableName, SeaTunnelRowType rowType) {
+        if (!SqlServerBulkLoader.supports(rowType)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SqlServerBulkLoader(tableIdentifier(database, tableName), rowType));
+    }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate) {
+        // SQL Server has no MOD function
+        return Optional.of(
+                String.format(
+                        "SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (ORDER BY %s) AS rn"
+                                + " FROM (%s) tt WHERE %s IS NOT NULL) ts"
+                                + " WHERE (rn - 1) %% %d = 0 ORDER BY %s",
+                        columnName,
+                        columnName,
+                        columnName,
+                        query,
+                        columnName,
+                        inverseSamplingRate,
+                        columnName));
+    }
 }
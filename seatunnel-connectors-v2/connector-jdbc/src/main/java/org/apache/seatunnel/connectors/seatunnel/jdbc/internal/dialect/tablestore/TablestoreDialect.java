@@ -64,4 +64,11 @@ public class TablestoreDialect implements JdbcDialect {
         PreparedStatement ps = conn.prepareStatement(jdbcSourceConfig.getQuery());
         return ps.executeQuery().getMetaData();
     }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate) {
+        // the SQL of Tablestore has no window functions
+        return Optional.empty();
+    }
 }
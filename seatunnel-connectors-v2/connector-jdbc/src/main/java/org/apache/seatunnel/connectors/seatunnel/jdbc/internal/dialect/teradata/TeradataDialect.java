@@ -21,6 +21,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 
+import java.sql.Connection;
 import java.util.Optional;
 
 public class TeradataDialect implements JdbcDialect {
@@ -45,4 +46,22 @@ public class TeradataDialect implements JdbcDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<String> getSampleQuery(
+            Connection connection, String query, String columnName, int inverseSamplingRate) {
+        // MOD is an operator in Teradata
+        return Optional.of(
+                String.format(
+                        "SELECT %s FROM (SELECT %s, ROW_NUMBER() OVER (ORDER BY %s) AS rn"
+                                + " FROM (%s) tt WHERE %s IS NOT NULL) ts"
+                                + " WHERE (rn - 1) MOD %d = 0 ORDER BY %s",
+                        columnName,
+                        columnName,
+                        columnName,
+                        query,
+                        columnName,
+                        inverseSamplingRate,
+                        columnName));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcBulkLoader;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers the rows like {@link BufferedBatchStatementExecutor}, and writes them with one bulk load
+ * of the dialect when the batch is executed.
+ */
+@RequiredArgsConstructor
+public class BulkLoadBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    @NonNull private final JdbcBulkLoader bulkLoader;
+    @NonNull private final List<SeaTunnelRow> buffer = new ArrayList<>();
+    private Connection connection;
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.connection = connection;
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        buffer.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (!buffer.isEmpty()) {
+            bulkLoader.load(connection, buffer);
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        if (!buffer.isEmpty()) {
+            executeBatch();
+        }
+    }
+}
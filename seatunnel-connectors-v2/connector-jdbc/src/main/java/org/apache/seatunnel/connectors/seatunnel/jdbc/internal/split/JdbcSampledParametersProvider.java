@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * This query parameters generator divides the values of a column into ranges of about the same row
+ * count, bounded by values sampled in ascending order from the column. Unlike {@link
+ * JdbcNumericBetweenParametersProvider} the keys don't need to be evenly distributed, and the
+ * column may be of any type the database can order, e.g. strings and dates.
+ *
+ * <p>Each row of the generated parameters holds the "from" value (inclusive) and the "to" value
+ * (exclusive) of a range. The "from" value of the first range and the "to" value of the last range
+ * are null, as these ranges are not bounded.
+ */
+public class JdbcSampledParametersProvider implements JdbcParameterValuesProvider {
+
+    private final List<?> samples;
+    private final int batchNum;
+
+    /**
+     * @param samples the values sampled from the column, in ascending order
+     * @param batchNum the number of ranges, fewer are generated if the samples have fewer distinct
+     *     values
+     */
+    public JdbcSampledParametersProvider(List<?> samples, int batchNum) {
+        checkArgument(batchNum > 0, "Batch number must be positive");
+        this.samples = samples;
+        this.batchNum = batchNum;
+    }
+
+    @Override
+    public Serializable[][] getParameterValues() {
+        List<Integer> boundIndexes = getBoundIndexes();
+        Serializable[][] parameters = new Serializable[boundIndexes.size() + 1][2];
+        for (int i = 0; i < boundIndexes.size(); i++) {
+            Serializable bound = toSerializable(samples.get(boundIndexes.get(i)));
+            parameters[i][1] = bound;
+            parameters[i + 1][0] = bound;
+        }
+        return parameters;
+    }
+
+    /** Gets the number of samples in each of the ranges of {@link #getParameterValues()}. */
+    public long[] getSampleCounts() {
+        List<Integer> boundIndexes = getBoundIndexes();
+        long[] sampleCounts = new long[boundIndexes.size() + 1];
+        int previous = 0;
+        for (int i = 0; i < boundIndexes.size(); i++) {
+            sampleCounts[i] = boundIndexes.get(i) - previous;
+            previous = boundIndexes.get(i);
+        }
+        sampleCounts[boundIndexes.size()] = samples.size() - previous;
+        return sampleCounts;
+    }
+
+    /** The index of the first sample equal to each bound of the ranges. */
+    private List<Integer> getBoundIndexes() {
+        List<Integer> boundIndexes = new ArrayList<>();
+        if (samples.isEmpty()) {
+            return boundIndexes;
+        }
+        // a bound equal to the smallest sample would only bound an empty range
+        Object previous = samples.get(0);
+        for (int i = 1; i < batchNum; i++) {
+            int index = (int) ((long) i * samples.size() / batchNum);
+            Object bound = samples.get(index);
+            if (!Objects.equals(previous, bound)) {
+                while (Objects.equals(samples.get(index - 1), bound)) {
+                    index--;
+                }
+                boundIndexes.add(index);
+                previous = bound;
+            }
+        }
+        return boundIndexes;
+    }
+
+    private static Serializable toSerializable(Object value) {
+        if (!(value instanceof Serializable)) {
+            throw new JdbcConnectorException(
+                    CommonErrorCode.UNSUPPORTED_DATA_TYPE,
+                    "The sampled value of type " + value.getClass() + " can't bound a split");
+        }
+        return (Serializable) value;
+    }
+}
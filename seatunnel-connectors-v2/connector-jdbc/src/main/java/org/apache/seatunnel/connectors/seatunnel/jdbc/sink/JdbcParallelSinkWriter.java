@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormatBuilder;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSinkState;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.XidInfo;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A sink writer which writes through {@code write_parallelism} connections at once. The rows are
+ * routed by their primary key, so the changes of one key are written in order through the same
+ * connection, and rows without a primary key are spread round robin. Every connection builds and
+ * flushes its batches on its own thread, and {@link #prepareCommit()} waits until all of them have
+ * flushed and committed the rows written before the checkpoint.
+ */
+public class JdbcParallelSinkWriter implements SinkWriter<SeaTunnelRow, XidInfo, JdbcSinkState> {
+
+    private static final int MIN_PENDING_ROWS = 1024;
+
+    private final SinkWriter.Context context;
+    private final List<Shard> shards;
+    /** The indexes of the primary key fields, or {@code null} to route round robin. */
+    private final int[] keyFields;
+
+    private int nextShard;
+    private transient boolean isOpen;
+    private volatile Throwable writeException;
+
+    public JdbcParallelSinkWriter(
+            SinkWriter.Context context,
+            JdbcDialect dialect,
+            JdbcSinkConfig jdbcSinkConfig,
+            SeaTunnelRowType rowType) {
+        this(
+                context,
+                jdbcSinkConfig,
+                rowType,
+                () ->
+                        new JdbcOutputFormatBuilder(
+                                        dialect,
+                                        new SimpleJdbcConnectionProvider(
+                                                jdbcSinkConfig.getJdbcConnectionConfig()),
+                                        jdbcSinkConfig,
+                                        rowType)
+                                .build());
+    }
+
+    /** @param outputFormats creates the output format of each connection, on its own connection */
+    JdbcParallelSinkWriter(
+            SinkWriter.Context context,
+            JdbcSinkConfig jdbcSinkConfig,
+            SeaTunnelRowType rowType,
+            Supplier<JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>>>
+                    outputFormats) {
+        this.context = context;
+        // the task thread may get ahead of a connection by two batches
+        int pendingRows =
+                Math.max(
+                        2 * jdbcSinkConfig.getJdbcConnectionConfig().getBatchSize(),
+                        MIN_PENDING_ROWS);
+        this.shards = new ArrayList<>(jdbcSinkConfig.getWriteParallelism());
+        for (int i = 0; i < jdbcSinkConfig.getWriteParallelism(); i++) {
+            shards.add(new Shard(outputFormats.get(), pendingRows));
+        }
+        List<String> primaryKeys = jdbcSinkConfig.getPrimaryKeys();
+        this.keyFields =
+                primaryKeys == null || primaryKeys.isEmpty()
+                        ? null
+                        : primaryKeys.stream().mapToInt(rowType::indexOf).toArray();
+    }
+
+    private void tryOpen() throws IOException {
+        if (!isOpen) {
+            isOpen = true;
+            for (int i = 0; i < shards.size(); i++) {
+                shards.get(i).open(i);
+            }
+        }
+    }
+
+    @Override
+    public List<JdbcSinkState> snapshotState(long checkpointId) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void write(SeaTunnelRow element) throws IOException {
+        tryOpen();
+        checkWriteException();
+        SeaTunnelRow copy = SerializationUtils.clone(element);
+        try {
+            shards.get(shardOf(copy)).write(copy);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCode.WRITER_OPERATION_FAILED,
+                    "Interrupted while waiting for the JDBC writer threads",
+                    e);
+        }
+    }
+
+    int shardOf(SeaTunnelRow row) {
+        if (keyFields == null) {
+            int shard = nextShard;
+            nextShard = (nextShard + 1) % shards.size();
+            return shard;
+        }
+        Object[] key = new Object[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            key[i] = row.getField(keyFields[i]);
+        }
+        return Math.floorMod(Arrays.deepHashCode(key), shards.size());
+    }
+
+    @Override
+    public Optional<XidInfo> prepareCommit() throws IOException {
+        tryOpen();
+        checkWriteException();
+        flushAll();
+        return Optional.empty();
+    }
+
+    @Override
+    public void abortPrepare() {}
+
+    @Override
+    public void close() throws IOException {
+        tryOpen();
+        try {
+            flushAll();
+        } finally {
+            for (Shard shard : shards) {
+                shard.close();
+            }
+        }
+    }
+
+    /** Flushes and commits the rows of all connections in parallel, and waits for them. */
+    private void flushAll() {
+        CompletableFuture<?>[] flushes =
+                shards.stream().map(Shard::flush).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(flushes).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCode.FLUSH_DATA_FAILED,
+                    "Interrupted while waiting for the JDBC writer threads",
+                    e);
+        } catch (ExecutionException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCode.FLUSH_DATA_FAILED,
+                    "Writing records to JDBC failed.",
+                    e.getCause());
+        }
+        checkWriteException();
+    }
+
+    private void checkWriteException() {
+        if (writeException != null) {
+            throw new JdbcConnectorException(
+                    CommonErrorCode.FLUSH_DATA_FAILED,
+                    "Writing records to JDBC failed.",
+                    writeException);
+        }
+    }
+
+    /** One connection, and the thread which writes the rows routed to it. */
+    private class Shard {
+        private final JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>>
+                outputFormat;
+        private final Semaphore pendingRows;
+        private ExecutorService executor;
+
+        Shard(
+                JdbcOutputFormat<SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>>
+                        outputFormat,
+                int pendingRows) {
+            this.outputFormat = outputFormat;
+            this.pendingRows = new Semaphore(pendingRows);
+        }
+
+        void open(int index) throws IOException {
+            outputFormat.open();
+            String threadName =
+                    String.format("jdbc-sink-writer-%d-%d", context.getIndexOfSubtask(), index);
+            executor =
+                    Executors.newSingleThreadExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, threadName);
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+
+        void write(SeaTunnelRow row) throws InterruptedException {
+            pendingRows.acquire();
+            executor.execute(
+                    () -> {
+                        try {
+                            if (writeException == null) {
+                                outputFormat.writeRecord(row);
+                            }
+                        } catch (Throwable t) {
+                            writeException = t;
+                        } finally {
+                            pendingRows.release();
+                        }
+                    });
+        }
+
+        /** Runs after the rows which are already queued for this connection. */
+        CompletableFuture<Void> flush() {
+            return CompletableFuture.runAsync(
+                    () -> {
+                        outputFormat.checkFlushException();
+                        try {
+                            outputFormat.flush();
+                        } catch (IOException e) {
+                            throw new JdbcConnectorException(CommonErrorCode.FLUSH_DATA_FAILED, e);
+                        }
+                        try {
+                            Connection connection = outputFormat.getConnection();
+                            if (!connection.getAutoCommit()) {
+                                connection.commit();
+                            }
+                        } catch (SQLException e) {
+                            throw new JdbcConnectorException(
+                                    JdbcConnectorErrorCode.TRANSACTION_OPERATION_FAILED,
+                                    "commit failed," + e.getMessage(),
+                                    e);
+                        }
+                    },
+                    executor);
+        }
+
+        void close() {
+            if (executor != null) {
+                executor.shutdown();
+                try {
+                    // the row being written when a flush failed still uses the connection
+                    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JdbcConnectorException(
+                            CommonErrorCode.WRITER_OPERATION_FAILED,
+                            "Interrupted while waiting for the JDBC writer threads",
+                            e);
+                }
+            }
+            outputFormat.close();
+        }
+    }
+}
@@ -121,6 +121,9 @@ public class JdbcSink
                             jdbcSinkConfig,
                             seaTunnelRowType,
                             new ArrayList<>());
+        } else if (jdbcSinkConfig.getWriteParallelism() > 1) {
+            sinkWriter =
+                    new JdbcParallelSinkWriter(context, dialect, jdbcSinkConfig, seaTunnelRowType);
         } else {
             sinkWriter = new JdbcSinkWriter(context, dialect, jdbcSinkConfig, seaTunnelRowType);
         }
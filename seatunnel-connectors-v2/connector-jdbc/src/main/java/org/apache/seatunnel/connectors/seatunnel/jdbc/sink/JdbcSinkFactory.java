@@ -56,6 +56,8 @@ import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.TRANSACTION_TIMEOUT_SEC;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.URL;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.USER;
+import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.USE_BULK_LOAD;
+import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.WRITE_PARALLELISM;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.XA_DATA_SOURCE_CLASS_NAME;
 
 @AutoService(Factory.class)
@@ -106,7 +108,9 @@ public class JdbcSinkFactory implements TableSinkFactory {
                         GENERATE_SINK_SQL,
                         AUTO_COMMIT,
                         SUPPORT_UPSERT_BY_QUERY_PRIMARY_KEY_EXIST,
-                        PRIMARY_KEYS)
+                        PRIMARY_KEYS,
+                        USE_BULK_LOAD,
+                        WRITE_PARALLELISM)
                 .conditional(
                         IS_EXACTLY_ONCE,
                         true,
@@ -185,7 +185,8 @@ public class JdbcSource
     private PartitionParameter createPartitionParameter(Connection connection) {
         if (jdbcSourceConfig.getPartitionColumn().isPresent()) {
             String partitionColumn = jdbcSourceConfig.getPartitionColumn().get();
-            JdbcSourceFactory.validationPartitionColumn(partitionColumn, typeInfo);
+            JdbcSourceFactory.validationPartitionColumn(
+                    partitionColumn, typeInfo, jdbcSourceConfig.getPartitionStrategy());
             return JdbcSourceFactory.createPartitionParameter(
                     jdbcSourceConfig, partitionColumn, connection);
         } else {
@@ -35,6 +35,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.PartitionStrategy;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
@@ -57,9 +58,11 @@ import java.util.Optional;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.CONNECTION_CHECK_TIMEOUT_SEC;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.DRIVER;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.FETCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.INVERSE_SAMPLING_RATE;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PARTITION_COLUMN;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PARTITION_LOWER_BOUND;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PARTITION_NUM;
+import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PARTITION_STRATEGY;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PARTITION_UPPER_BOUND;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcOptions.QUERY;
@@ -125,7 +128,10 @@ public class JdbcSourceFactory implements TableSourceFactory {
         Optional<String> partitionColumnOptional = getPartitionColumn(config, tableSchema);
         if (partitionColumnOptional.isPresent()) {
             String partitionColumn = partitionColumnOptional.get();
-            validationPartitionColumn(partitionColumn, tableSchema.toPhysicalRowDataType());
+            validationPartitionColumn(
+                    partitionColumn,
+                    tableSchema.toPhysicalRowDataType(),
+                    config.getPartitionStrategy());
             return Optional.of(
                     createPartitionParameter(
                             config, partitionColumn, connectionProvider.getConnection()));
@@ -139,6 +145,11 @@ public class JdbcSourceFactory implements TableSourceFactory {
             JdbcSourceConfig config, String columnName, Connection connection) {
         BigDecimal max = null;
         BigDecimal min = null;
+        if (config.getPartitionStrategy() == PartitionStrategy.SAMPLE) {
+            // the ranges are bounded by values sampled by the enumerator instead of min and max
+            return new PartitionParameter(
+                    columnName, null, null, config.getPartitionNumber().orElse(null));
+        }
         if (config.getPartitionLowerBound().isPresent()
                 && config.getPartitionUpperBound().isPresent()) {
             max = config.getPartitionUpperBound().get();
@@ -181,7 +192,8 @@ public class JdbcSourceFactory implements TableSourceFactory {
         return Optional.empty();
     }
 
-    static void validationPartitionColumn(String partitionColumn, SeaTunnelRowType rowType) {
+    static void validationPartitionColumn(
+            String partitionColumn, SeaTunnelRowType rowType, PartitionStrategy strategy) {
         Map<String, SeaTunnelDataType<?>> fieldTypes = new HashMap<>();
         for (int i = 0; i < rowType.getFieldNames().length; i++) {
             fieldTypes.put(rowType.getFieldName(i), rowType.getFieldType(i));
@@ -194,6 +206,15 @@ public class JdbcSourceFactory implements TableSourceFactory {
                             partitionColumn));
         }
         SeaTunnelDataType<?> partitionColumnType = fieldTypes.get(partitionColumn);
+        if (strategy == PartitionStrategy.SAMPLE) {
+            if (!isSampledType(partitionColumnType)) {
+                throw new JdbcConnectorException(
+                        CommonErrorCode.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "%s is not numeric, string, date or time type", partitionColumn));
+            }
+            return;
+        }
         if (!isNumericType(partitionColumnType)) {
             throw new JdbcConnectorException(
                     CommonErrorCode.ILLEGAL_ARGUMENT,
@@ -201,6 +222,25 @@ public class JdbcSourceFactory implements TableSourceFactory {
         }
     }
 
+    private static boolean isSampledType(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case STRING:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private static boolean isNumericType(SeaTunnelDataType<?> type) {
         int scale = 1;
         if (type instanceof DecimalType) {
@@ -228,7 +268,9 @@ public class JdbcSourceFactory implements TableSourceFactory {
                         PARTITION_COLUMN,
                         PARTITION_UPPER_BOUND,
                         PARTITION_LOWER_BOUND,
-                        PARTITION_NUM)
+                        PARTITION_NUM,
+                        PARTITION_STRATEGY,
+                        INVERSE_SAMPLING_RATE)
                 .build();
     }
 
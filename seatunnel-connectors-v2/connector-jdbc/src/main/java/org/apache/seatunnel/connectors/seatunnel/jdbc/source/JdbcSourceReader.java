@@ -36,6 +36,8 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     JdbcInputFormat inputFormat;
     private volatile boolean noMoreSplit;
+    /** Whether a split was requested from the enumerator and the answer didn't arrive yet. */
+    private volatile boolean splitRequested;
 
     public JdbcSourceReader(JdbcInputFormat inputFormat, SourceReader.Context context) {
         this.inputFormat = inputFormat;
@@ -69,7 +71,14 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
                 log.info("Closed the bounded jdbc source");
                 context.signalNoMoreElement();
             } else {
-                Thread.sleep(1000L);
+                if (!splitRequested) {
+                    // the next split is only requested once the previous one is read
+                    splitRequested = true;
+                    context.sendSplitRequest();
+                }
+                if (splits.isEmpty() && !noMoreSplit) {
+                    Thread.sleep(100L);
+                }
             }
         }
     }
@@ -82,11 +91,13 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @Override
     public void addSplits(List<JdbcSourceSplit> splits) {
         this.splits.addAll(splits);
+        splitRequested = false;
     }
 
     @Override
     public void handleNoMoreSplits() {
         noMoreSplit = true;
+        splitRequested = false;
     }
 
     @Override
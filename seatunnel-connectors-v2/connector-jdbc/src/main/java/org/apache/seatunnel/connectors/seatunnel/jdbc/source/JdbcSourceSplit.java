@@ -25,9 +25,23 @@ import lombok.Data;
 @Data
 @AllArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    // the UID of the splits stored before they had a query, so their state can be restored
+    private static final long serialVersionUID = 3231296742495473742L;
 
     Object[] parameterValues;
     Integer splitId;
+    /** The query of this split, or null if the split runs the query template of the source. */
+    String splitQuery;
+    /** The number of rows of this split estimated from the samples, or 0 if not sampled. */
+    long estimatedRowCount;
+
+    public JdbcSourceSplit(Object[] parameterValues, Integer splitId) {
+        this(parameterValues, splitId, null);
+    }
+
+    public JdbcSourceSplit(Object[] parameterValues, Integer splitId, String splitQuery) {
+        this(parameterValues, splitId, splitQuery, 0L);
+    }
 
     @Override
     public String splitId() {
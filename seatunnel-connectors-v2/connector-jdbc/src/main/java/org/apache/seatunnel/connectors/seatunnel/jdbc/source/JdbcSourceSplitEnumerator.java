@@ -20,8 +20,14 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.PartitionStrategy;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcNumericBetweenParametersProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split.JdbcSampledParametersProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 
 import org.slf4j.Logger;
@@ -29,21 +35,35 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * Hand out the splits one at a time to the readers which request one, the split of the widest range
+ * of the partition column first, so that a reader which finished its split early takes over the
+ * remaining work instead of waiting for the others.
+ */
 public class JdbcSourceSplitEnumerator
         implements SourceSplitEnumerator<JdbcSourceSplit, JdbcSourceState> {
     private static final Logger LOG = LoggerFactory.getLogger(JdbcSourceSplitEnumerator.class);
+    private static final Comparator<JdbcSourceSplit> LARGEST_FIRST =
+            Comparator.comparing(JdbcSourceSplitEnumerator::getSplitRange)
+                    .reversed()
+                    .thenComparing(JdbcSourceSplit::getSplitId);
+
     private final SourceSplitEnumerator.Context<JdbcSourceSplit> enumeratorContext;
 
-    private final Map<Integer, List<JdbcSourceSplit>> pendingSplits;
+    private final PriorityQueue<JdbcSourceSplit> pendingSplits;
+    private final TreeSet<Integer> readersAwaitingSplit;
 
     private final Object stateLock = new Object();
     private volatile boolean shouldEnumerate;
@@ -66,11 +86,13 @@ public class JdbcSourceSplitEnumerator
         this.enumeratorContext = enumeratorContext;
         this.jdbcSourceConfig = jdbcSourceConfig;
         this.partitionParameter = partitionParameter;
-        this.pendingSplits = new HashMap<>();
+        this.pendingSplits = new PriorityQueue<>(LARGEST_FIRST);
+        this.readersAwaitingSplit = new TreeSet<>();
         this.shouldEnumerate = sourceState == null;
         if (sourceState != null) {
+            // the splits assigned before the checkpoint are restored by the readers
             this.shouldEnumerate = sourceState.isShouldEnumerate();
-            this.pendingSplits.putAll(sourceState.getPendingSplits());
+            this.pendingSplits.addAll(sourceState.getPendingSplits());
         }
     }
 
@@ -81,7 +103,6 @@ public class JdbcSourceSplitEnumerator
 
     @Override
     public void run() throws Exception {
-        Set<Integer> readers = enumeratorContext.registeredReaders();
         if (shouldEnumerate) {
             Set<JdbcSourceSplit> newSplits = discoverySplits();
 
@@ -89,13 +110,11 @@ public class JdbcSourceSplitEnumerator
                 addPendingSplit(newSplits);
                 shouldEnumerate = false;
             }
-
-            assignSplit(readers);
         }
 
-        LOG.debug(
-                "No more splits to assign." + " Sending NoMoreSplitsEvent to reader {}.", readers);
-        readers.forEach(enumeratorContext::signalNoMoreSplits);
+        synchronized (stateLock) {
+            assignPendingSplits();
+        }
     }
 
     private Set<JdbcSourceSplit> discoverySplits() {
@@ -106,6 +125,10 @@ public class JdbcSourceSplitEnumerator
                     partitionParameter.getPartitionNumber() != null
                             ? partitionParameter.getPartitionNumber()
                             : enumeratorContext.currentParallelism();
+            if (jdbcSourceConfig.getPartitionStrategy() == PartitionStrategy.SAMPLE) {
+                allSplit.addAll(discoverySampledSplits(partitionNumber));
+                return allSplit;
+            }
             JdbcNumericBetweenParametersProvider jdbcNumericBetweenParametersProvider =
                     new JdbcNumericBetweenParametersProvider(
                                     partitionParameter.getMinValue(),
@@ -122,6 +145,83 @@ public class JdbcSourceSplitEnumerator
         return allSplit;
     }
 
+    private List<JdbcSourceSplit> discoverySampledSplits(int partitionNumber) {
+        String column = partitionParameter.getPartitionColumnName();
+        JdbcDialect jdbcDialect =
+                JdbcDialectLoader.load(jdbcSourceConfig.getJdbcConnectionConfig().getUrl());
+        JdbcConnectionProvider connectionProvider =
+                new SimpleJdbcConnectionProvider(jdbcSourceConfig.getJdbcConnectionConfig());
+        List<Object> samples;
+        try {
+            samples =
+                    jdbcDialect.sampleDataFromColumn(
+                            connectionProvider.getOrEstablishConnection(),
+                            jdbcSourceConfig,
+                            column,
+                            jdbcSourceConfig.getInverseSamplingRate());
+        } catch (SQLException | ClassNotFoundException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCode.SQL_OPERATION_FAILED,
+                    String.format("Failed to sample the partition column %s", column),
+                    e);
+        } finally {
+            connectionProvider.closeConnection();
+        }
+        JdbcSampledParametersProvider parametersProvider =
+                new JdbcSampledParametersProvider(samples, partitionNumber);
+        Serializable[][] ranges = parametersProvider.getParameterValues();
+        long[] sampleCounts = parametersProvider.getSampleCounts();
+        LOG.info(
+                "Divided {} sampled values of {} into {} ranges.",
+                samples.size(),
+                column,
+                ranges.length);
+
+        String query = jdbcSourceConfig.getQuery();
+        List<JdbcSourceSplit> splits = new ArrayList<>();
+        if (ranges.length == 1) {
+            splits.add(new JdbcSourceSplit(null, 0, query));
+            return splits;
+        }
+        for (int i = 0; i < ranges.length; i++) {
+            Serializable lower = ranges[i][0];
+            Serializable upper = ranges[i][1];
+            // every sample stands for the rows up to the next one
+            long estimatedRowCount = sampleCounts[i] * jdbcSourceConfig.getInverseSamplingRate();
+            if (lower == null) {
+                splits.add(
+                        new JdbcSourceSplit(
+                                new Object[] {upper},
+                                i,
+                                String.format("SELECT * FROM (%s) tt WHERE %s < ?", query, column),
+                                estimatedRowCount));
+            } else if (upper == null) {
+                splits.add(
+                        new JdbcSourceSplit(
+                                new Object[] {lower},
+                                i,
+                                String.format("SELECT * FROM (%s) tt WHERE %s >= ?", query, column),
+                                estimatedRowCount));
+            } else {
+                splits.add(
+                        new JdbcSourceSplit(
+                                new Object[] {lower, upper},
+                                i,
+                                String.format(
+                                        "SELECT * FROM (%s) tt WHERE %s >= ? AND %s < ?",
+                                        query, column, column),
+                                estimatedRowCount));
+            }
+        }
+        // the rows of which the partition column is null are in none of the ranges
+        splits.add(
+                new JdbcSourceSplit(
+                        null,
+                        ranges.length,
+                        String.format("SELECT * FROM (%s) tt WHERE %s IS NULL", query, column)));
+        return splits;
+    }
+
     @Override
     public void close() throws IOException {
         // nothing
@@ -130,18 +230,22 @@ public class JdbcSourceSplitEnumerator
     @Override
     public void addSplitsBack(List<JdbcSourceSplit> splits, int subtaskId) {
         LOG.debug("Add back splits {} to JdbcSourceSplitEnumerator.", splits);
-        if (!splits.isEmpty()) {
-            addPendingSplit(splits);
-            assignSplit(Collections.singletonList(subtaskId));
+        // the splits are handed out again when the restarted reader requests them
+        synchronized (stateLock) {
+            pendingSplits.addAll(splits);
         }
     }
 
-    private void addPendingSplit(Collection<JdbcSourceSplit> splits) {
+    private void addPendingSplit(Set<JdbcSourceSplit> splits) {
+        Set<Integer> readers = enumeratorContext.registeredReaders();
         int readerCount = enumeratorContext.currentParallelism();
         for (JdbcSourceSplit split : splits) {
-            int ownerReader = getSplitOwner(split.splitId(), readerCount);
-            LOG.info("Assigning {} to {} reader.", split, ownerReader);
-            pendingSplits.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(split);
+            // every reader has its own enumerator when the source isn't coordinated, the owner
+            // of the split decides which of them hands it out
+            if (readers.size() >= readerCount
+                    || readers.contains(getSplitOwner(split.splitId(), readerCount))) {
+                pendingSplits.add(split);
+            }
         }
     }
 
@@ -149,51 +253,81 @@ public class JdbcSourceSplitEnumerator
         return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
     }
 
-    private void assignSplit(Collection<Integer> readers) {
-        LOG.debug("Assign pendingSplits to readers {}", readers);
+    /**
+     * The number of rows of a sampled split, or the width of the range of the partition column of a
+     * split between the min and max value.
+     */
+    private static BigDecimal getSplitRange(JdbcSourceSplit split) {
+        if (split.getEstimatedRowCount() > 0) {
+            return BigDecimal.valueOf(split.getEstimatedRowCount());
+        }
+        Object[] parameterValues = split.getParameterValues();
+        if (parameterValues == null
+                || parameterValues.length < 2
+                || !(parameterValues[0] instanceof BigDecimal)
+                || !(parameterValues[1] instanceof BigDecimal)) {
+            return BigDecimal.ZERO;
+        }
+        return ((BigDecimal) parameterValues[1]).subtract((BigDecimal) parameterValues[0]);
+    }
 
-        for (int reader : readers) {
-            List<JdbcSourceSplit> assignmentForReader = pendingSplits.remove(reader);
-            if (assignmentForReader != null && !assignmentForReader.isEmpty()) {
-                LOG.info("Assign splits {} to reader {}", assignmentForReader, reader);
+    /** Give the next split to each waiting reader, or tell it all splits are assigned. */
+    private void assignPendingSplits() {
+        Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        while (awaitingReader.hasNext()) {
+            int reader = awaitingReader.next();
+            // the reader failed after sending the request, it requests again once restarted
+            if (!enumeratorContext.registeredReaders().contains(reader)) {
+                awaitingReader.remove();
+                continue;
+            }
+            JdbcSourceSplit split = pendingSplits.poll();
+            if (split != null) {
+                LOG.info("Assign split {} to reader {}", split, reader);
                 try {
-                    enumeratorContext.assignSplit(reader, assignmentForReader);
+                    enumeratorContext.assignSplit(reader, Collections.singletonList(split));
                 } catch (Exception e) {
-                    LOG.error(
-                            "Failed to assign splits {} to reader {}",
-                            assignmentForReader,
-                            reader,
-                            e);
-                    pendingSplits.put(reader, assignmentForReader);
+                    LOG.error("Failed to assign split {} to reader {}", split, reader, e);
+                    pendingSplits.add(split);
+                    return;
                 }
+            } else if (!shouldEnumerate) {
+                LOG.debug(
+                        "No more splits to assign." + " Sending NoMoreSplitsEvent to reader {}.",
+                        reader);
+                enumeratorContext.signalNoMoreSplits(reader);
+            } else {
+                // the splits are not discovered yet, the reader is served once they are
+                return;
             }
+            awaitingReader.remove();
         }
     }
 
     @Override
     public int currentUnassignedSplitSize() {
-        return pendingSplits.size();
+        synchronized (stateLock) {
+            return pendingSplits.size();
+        }
     }
 
     @Override
     public void handleSplitRequest(int subtaskId) {
-        throw new JdbcConnectorException(
-                CommonErrorCode.UNSUPPORTED_OPERATION,
-                String.format("Unsupported handleSplitRequest: %d", subtaskId));
+        synchronized (stateLock) {
+            readersAwaitingSplit.add(subtaskId);
+            assignPendingSplits();
+        }
     }
 
     @Override
     public void registerReader(int subtaskId) {
         LOG.debug("Register reader {} to JdbcSourceSplitEnumerator.", subtaskId);
-        if (!pendingSplits.isEmpty()) {
-            assignSplit(Collections.singletonList(subtaskId));
-        }
     }
 
     @Override
     public JdbcSourceState snapshotState(long checkpointId) throws Exception {
         synchronized (stateLock) {
-            return new JdbcSourceState(shouldEnumerate, pendingSplits);
+            return new JdbcSourceState(shouldEnumerate, new ArrayList<>(pendingSplits));
         }
     }
 
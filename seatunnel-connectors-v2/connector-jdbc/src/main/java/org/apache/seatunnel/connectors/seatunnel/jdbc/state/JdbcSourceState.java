@@ -24,11 +24,11 @@ import lombok.Getter;
 
 import java.io.Serializable;
 import java.util.List;
-import java.util.Map;
 
 @AllArgsConstructor
 @Getter
 public class JdbcSourceState implements Serializable {
     private boolean shouldEnumerate;
-    private Map<Integer, List<JdbcSourceSplit>> pendingSplits;
+    /** The splits not assigned to a reader yet, the assigned ones are in the reader states. */
+    private List<JdbcSourceSplit> pendingSplits;
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlBulkLoader;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresBulkLoader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+class AbstractTextBulkLoaderTest {
+
+    private static final List<SeaTunnelRow> ROWS =
+            Arrays.asList(
+                    new SeaTunnelRow(
+                            new Object[] {
+                                1,
+                                "say \"hi\"",
+                                true,
+                                new BigDecimal("1E+3"),
+                                LocalDateTime.of(2023, 1, 2, 3, 4, 5)
+                            }),
+                    new SeaTunnelRow(new Object[] {2, "a\\b,c\nd", false, null, null}),
+                    new SeaTunnelRow(new Object[] {3, "", null, null, null}));
+
+    @Test
+    void testPostgresCsv() throws IOException {
+        PostgresBulkLoader loader = new PostgresBulkLoader("\"public\".\"t\"", "\"a\"");
+        Assertions.assertEquals(
+                "\"1\",\"say \"\"hi\"\"\",\"true\",\"1000\",\"2023-01-02 03:04:05\"\n"
+                        + "\"2\",\"a\\b,c\nd\",\"false\",,\n"
+                        + "\"3\",\"\",,,\n",
+                read(loader.openStream(ROWS)));
+    }
+
+    @Test
+    void testMysqlEscapedText() throws IOException {
+        MysqlBulkLoader loader = new MysqlBulkLoader("`db`.`t`", "`a`");
+        Assertions.assertEquals(
+                "\"1\",\"say \\\"hi\\\"\",\"1\",\"1000\",\"2023-01-02 03:04:05\"\n"
+                        + "\"2\",\"a\\\\b,c\nd\",\"0\",\\N,\\N\n"
+                        + "\"3\",\"\",\\N,\\N,\\N\n",
+                read(loader.openStream(ROWS)));
+    }
+
+    @Test
+    void testSupportedTypes() {
+        Assertions.assertTrue(
+                AbstractTextBulkLoader.supports(
+                        rowType(
+                                BasicType.STRING_TYPE,
+                                new DecimalType(10, 2),
+                                LocalTimeType.LOCAL_DATE_TIME_TYPE)));
+        Assertions.assertFalse(
+                AbstractTextBulkLoader.supports(
+                        rowType(BasicType.STRING_TYPE, PrimitiveByteArrayType.INSTANCE)));
+    }
+
+    private static SeaTunnelRowType rowType(SeaTunnelDataType<?>... fieldTypes) {
+        String[] fieldNames = new String[fieldTypes.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = "f" + i;
+        }
+        return new SeaTunnelRowType(fieldNames, fieldTypes);
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        // a small buffer splits the lines over several reads
+        byte[] buffer = new byte[7];
+        int count;
+        while ((count = stream.read(buffer, 0, buffer.length)) != -1) {
+            bytes.write(buffer, 0, count);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.split;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class JdbcSampledParametersProviderTest {
+
+    @Test
+    void testRangesOfSkewedKeys() {
+        // most keys are small, a few are very large
+        List<Long> samples = new ArrayList<>();
+        for (long i = 0; i < 90; i++) {
+            samples.add(i);
+        }
+        for (long i = 0; i < 10; i++) {
+            samples.add(1_000_000_000L + i);
+        }
+        Serializable[][] ranges =
+                new JdbcSampledParametersProvider(samples, 4).getParameterValues();
+        Assertions.assertEquals(4, ranges.length);
+        Assertions.assertArrayEquals(new Serializable[] {null, 25L}, ranges[0]);
+        Assertions.assertArrayEquals(new Serializable[] {25L, 50L}, ranges[1]);
+        Assertions.assertArrayEquals(new Serializable[] {50L, 75L}, ranges[2]);
+        Assertions.assertArrayEquals(new Serializable[] {75L, null}, ranges[3]);
+        Assertions.assertArrayEquals(
+                new long[] {25, 25, 25, 25},
+                new JdbcSampledParametersProvider(samples, 4).getSampleCounts());
+    }
+
+    @Test
+    void testRangesOfStringKeys() {
+        List<String> samples = Arrays.asList("a", "a", "a", "b", "c", "c", "d", "e");
+        Serializable[][] ranges =
+                new JdbcSampledParametersProvider(samples, 4).getParameterValues();
+        // the bound "a" of the first range is dropped as the range would be empty
+        Assertions.assertEquals(3, ranges.length);
+        Assertions.assertArrayEquals(new Serializable[] {null, "c"}, ranges[0]);
+        Assertions.assertArrayEquals(new Serializable[] {"c", "d"}, ranges[1]);
+        Assertions.assertArrayEquals(new Serializable[] {"d", null}, ranges[2]);
+        // the samples equal to a bound are counted in the range it starts
+        Assertions.assertArrayEquals(
+                new long[] {4, 2, 2},
+                new JdbcSampledParametersProvider(samples, 4).getSampleCounts());
+    }
+
+    @Test
+    void testFewerSamplesThanRanges() {
+        Serializable[][] ranges =
+                new JdbcSampledParametersProvider(Collections.singletonList(1), 8)
+                        .getParameterValues();
+        Assertions.assertEquals(1, ranges.length);
+        Assertions.assertArrayEquals(new Serializable[] {null, null}, ranges[0]);
+
+        ranges = new JdbcSampledParametersProvider(Collections.emptyList(), 8).getParameterValues();
+        Assertions.assertEquals(1, ranges.length);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.sink;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcOutputFormat;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+class JdbcParallelSinkWriterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    void testRowsOfOneKeyUseOneConnection() {
+        JdbcParallelSinkWriter writer = createWriter(Collections.singletonList("id"));
+        Set<Integer> shards = new HashSet<>();
+        for (long id = 0; id < 100; id++) {
+            int shard = writer.shardOf(new SeaTunnelRow(new Object[] {id, "a"}));
+            Assertions.assertEquals(
+                    shard, writer.shardOf(new SeaTunnelRow(new Object[] {id, "b"})));
+            shards.add(shard);
+        }
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3)), shards);
+    }
+
+    @Test
+    void testRowsWithoutKeyRoundRobin() {
+        JdbcParallelSinkWriter writer = createWriter(null);
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "a"});
+        for (int i = 0; i < 8; i++) {
+            Assertions.assertEquals(i % 4, writer.shardOf(row));
+        }
+    }
+
+    @Test
+    void testRowsAreWrittenThroughTheirConnection() throws Exception {
+        List<FakeConnection> connections = new ArrayList<>();
+        JdbcParallelSinkWriter writer =
+                createWriter(Collections.singletonList("id"), connections, -1);
+        for (long id = 0; id < 300; id++) {
+            writer.write(row(id));
+        }
+        writer.prepareCommit();
+
+        List<Long> written = new ArrayList<>();
+        for (int shard = 0; shard < connections.size(); shard++) {
+            List<Long> rows = connections.get(shard).written;
+            Assertions.assertFalse(rows.isEmpty());
+            for (int i = 0; i < rows.size(); i++) {
+                Assertions.assertEquals(shard, writer.shardOf(row(rows.get(i))));
+                // the changes of one key keep their order
+                Assertions.assertTrue(i == 0 || rows.get(i - 1) < rows.get(i));
+            }
+            written.addAll(rows);
+        }
+        Collections.sort(written);
+        Assertions.assertEquals(
+                LongStream.range(0, 300).boxed().collect(Collectors.toList()), written);
+        writer.close();
+    }
+
+    @Test
+    void testPrepareCommitFlushesAndCommitsEveryConnection() throws Exception {
+        List<FakeConnection> connections = new ArrayList<>();
+        JdbcParallelSinkWriter writer = createWriter(null, connections, -1);
+        for (int checkpoint = 1; checkpoint <= 2; checkpoint++) {
+            for (long id = 0; id < 30; id++) {
+                writer.write(row(id));
+            }
+            writer.prepareCommit();
+            for (FakeConnection connection : connections) {
+                // every row queued before the checkpoint is flushed, then committed
+                Assertions.assertEquals(10 * checkpoint, connection.written.size());
+                List<String> events = connection.events;
+                Assertions.assertEquals(
+                        Arrays.asList("executeBatch", "commit"),
+                        events.subList(events.size() - 2, events.size()));
+                Assertions.assertEquals(
+                        10 * checkpoint, Collections.frequency(events, "addToBatch"));
+                Assertions.assertEquals(checkpoint, Collections.frequency(events, "commit"));
+            }
+        }
+        writer.close();
+    }
+
+    @Test
+    void testWriteExceptionIsPropagated() throws Exception {
+        List<FakeConnection> connections = new ArrayList<>();
+        JdbcParallelSinkWriter writer = createWriter(null, connections, 5);
+        JdbcConnectorException exception =
+                Assertions.assertThrows(
+                        JdbcConnectorException.class,
+                        () -> {
+                            for (long id = 0; id < 30; id++) {
+                                writer.write(row(id));
+                            }
+                            writer.prepareCommit();
+                        });
+        Assertions.assertEquals(
+                "failed to write 5", ExceptionUtils.getRootCause(exception).getMessage());
+
+        Assertions.assertThrows(JdbcConnectorException.class, writer::close);
+        for (FakeConnection connection : connections) {
+            List<String> events = connection.events;
+            // the statements are closed after the connection thread wrote its last row
+            Assertions.assertEquals("closeStatements", events.get(events.size() - 1));
+            Assertions.assertEquals(1, Collections.frequency(events, "closeStatements"));
+        }
+    }
+
+    private static SeaTunnelRow row(long id) {
+        return new SeaTunnelRow(new Object[] {id, "name_" + id});
+    }
+
+    /** A writer whose connections are faked, the row with {@code failingId} fails to write. */
+    private static JdbcParallelSinkWriter createWriter(
+            List<String> primaryKeys, List<FakeConnection> connections, long failingId) {
+        JdbcConnectionConfig connectionConfig =
+                JdbcConnectionConfig.builder()
+                        .url("jdbc:fake://localhost/test")
+                        .batchSize(1000)
+                        .batchIntervalMs(0)
+                        .maxRetries(0)
+                        .build();
+        JdbcSinkConfig sinkConfig =
+                JdbcSinkConfig.builder()
+                        .jdbcConnectionConfig(connectionConfig)
+                        .database("test")
+                        .table("t")
+                        .primaryKeys(primaryKeys)
+                        .writeParallelism(3)
+                        .build();
+        return new JdbcParallelSinkWriter(
+                new TestContext(),
+                sinkConfig,
+                ROW_TYPE,
+                () -> {
+                    FakeConnection connection = new FakeConnection(failingId);
+                    connections.add(connection);
+                    return new JdbcOutputFormat<
+                            SeaTunnelRow, JdbcBatchStatementExecutor<SeaTunnelRow>>(
+                            connection, connectionConfig, () -> connection);
+                });
+    }
+
+    private static JdbcParallelSinkWriter createWriter(List<String> primaryKeys) {
+        JdbcSinkConfig sinkConfig =
+                JdbcSinkConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:mysql://localhost:3306/test")
+                                        .driverName("com.mysql.cj.jdbc.Driver")
+                                        .build())
+                        .database("test")
+                        .table("t")
+                        .primaryKeys(primaryKeys)
+                        .writeParallelism(4)
+                        .build();
+        // the connections are only opened by the first write
+        return new JdbcParallelSinkWriter(null, new MysqlDialect(), sinkConfig, ROW_TYPE);
+    }
+
+    /** One faked connection, recording what its connection thread did. */
+    private static class FakeConnection
+            implements JdbcConnectionProvider, JdbcBatchStatementExecutor<SeaTunnelRow> {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> written = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> batch = new ArrayList<>();
+        private final long failingId;
+        private final Connection connection;
+
+        FakeConnection(long failingId) {
+            this.failingId = failingId;
+            this.connection =
+                    (Connection)
+                            Proxy.newProxyInstance(
+                                    FakeConnection.class.getClassLoader(),
+                                    new Class<?>[] {Connection.class},
+                                    (proxy, method, args) -> {
+                                        switch (method.getName()) {
+                                            case "commit":
+                                                events.add("commit");
+                                                return null;
+                                            case "getAutoCommit":
+                                                return false;
+                                            case "isValid":
+                                                return true;
+                                            case "isClosed":
+                                                return false;
+                                            case "hashCode":
+                                                return System.identityHashCode(proxy);
+                                            case "equals":
+                                                return proxy == args[0];
+                                            default:
+                                                return null;
+                                        }
+                                    });
+        }
+
+        @Override
+        public Connection getConnection() {
+            return connection;
+        }
+
+        @Override
+        public boolean isConnectionValid() {
+            return true;
+        }
+
+        @Override
+        public Connection getOrEstablishConnection() {
+            return connection;
+        }
+
+        @Override
+        public void closeConnection() {}
+
+        @Override
+        public Connection reestablishConnection() {
+            return connection;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) throws SQLException {
+            long id = (Long) record.getField(0);
+            if (id == failingId) {
+                throw new SQLException("failed to write " + id);
+            }
+            try {
+                // keep rows queued for the connection thread
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+            events.add("addToBatch");
+            batch.add(id);
+        }
+
+        @Override
+        public void executeBatch() {
+            events.add("executeBatch");
+            written.addAll(batch);
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {
+            events.add("closeStatements");
+        }
+    }
+
+    private static class TestContext implements SinkWriter.Context {
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.PartitionStrategy;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class JdbcSourceSplitEnumeratorTest {
+
+    @Test
+    public void testSampledSplitsOfMostRowsFirst(@TempDir Path tempDir) throws Exception {
+        String url = "jdbc:sqlite:" + tempDir.resolve("sample.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id INTEGER)");
+            try (PreparedStatement insert =
+                    connection.prepareStatement("INSERT INTO t VALUES (?)")) {
+                for (int i = 0; i < 100; i++) {
+                    insert.setInt(1, i);
+                    insert.addBatch();
+                }
+                insert.setObject(1, null);
+                insert.addBatch();
+                insert.executeBatch();
+            }
+        }
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url(url)
+                                        .driverName("org.sqlite.JDBC")
+                                        .build())
+                        .query("SELECT * FROM t")
+                        .partitionColumn("id")
+                        .partitionStrategy(PartitionStrategy.SAMPLE)
+                        .inverseSamplingRate(10)
+                        .build();
+        TestContext context = new TestContext(1, 0);
+        JdbcSourceSplitEnumerator enumerator =
+                new JdbcSourceSplitEnumerator(
+                        context, config, new PartitionParameter("id", null, null, 4));
+        enumerator.run();
+        for (int i = 0; i < 6; i++) {
+            enumerator.handleSplitRequest(0);
+        }
+
+        // the samples 0, 10, ..., 90 are divided at 20, 50 and 70
+        List<JdbcSourceSplit> splits = context.assignedSplits;
+        Assertions.assertEquals(5, splits.size());
+        Assertions.assertArrayEquals(new Object[] {20, 50}, splits.get(0).getParameterValues());
+        Assertions.assertEquals(30L, splits.get(0).getEstimatedRowCount());
+        Assertions.assertArrayEquals(new Object[] {70}, splits.get(1).getParameterValues());
+        Assertions.assertEquals(30L, splits.get(1).getEstimatedRowCount());
+        Assertions.assertArrayEquals(new Object[] {20}, splits.get(2).getParameterValues());
+        Assertions.assertEquals(20L, splits.get(2).getEstimatedRowCount());
+        Assertions.assertArrayEquals(new Object[] {50, 70}, splits.get(3).getParameterValues());
+        Assertions.assertEquals(20L, splits.get(3).getEstimatedRowCount());
+        // the rows of which the partition column is null go last
+        Assertions.assertNull(splits.get(4).getParameterValues());
+        Assertions.assertEquals(Collections.singleton(0), context.noMoreSplits);
+    }
+
+    @Test
+    public void testRestoreSampledSplitsOfDecimalColumn() {
+        String query = "SELECT * FROM t";
+        List<JdbcSourceSplit> pendingSplits =
+                Arrays.asList(
+                        new JdbcSourceSplit(
+                                new Object[] {new BigDecimal("10.5"), new BigDecimal("99.5")},
+                                1,
+                                query,
+                                1000L),
+                        new JdbcSourceSplit(new Object[] {new BigDecimal("99.5")}, 2, query, 2000L),
+                        new JdbcSourceSplit(null, 3, query),
+                        new JdbcSourceSplit(
+                                new Object[] {new BigDecimal("10.5")}, 0, query, 3000L));
+        TestContext context = new TestContext(1, 0);
+        JdbcSourceSplitEnumerator enumerator =
+                new JdbcSourceSplitEnumerator(
+                        context,
+                        JdbcSourceConfig.builder().query(query).build(),
+                        new PartitionParameter("price", null, null, 3),
+                        new JdbcSourceState(false, pendingSplits));
+        for (int i = 0; i < 5; i++) {
+            enumerator.handleSplitRequest(0);
+        }
+
+        List<Integer> splitIds = new ArrayList<>();
+        context.assignedSplits.forEach(split -> splitIds.add(split.getSplitId()));
+        Assertions.assertEquals(Arrays.asList(0, 2, 1, 3), splitIds);
+        Assertions.assertEquals(Collections.singleton(0), context.noMoreSplits);
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<JdbcSourceSplit> {
+        private final int parallelism;
+        private final Set<Integer> readers;
+        private final List<JdbcSourceSplit> assignedSplits = new ArrayList<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        TestContext(int parallelism, Integer... readers) {
+            this.parallelism = parallelism;
+            this.readers = new HashSet<>(Arrays.asList(readers));
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<JdbcSourceSplit> splits) {
+            assignedSplits.addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+    }
+}
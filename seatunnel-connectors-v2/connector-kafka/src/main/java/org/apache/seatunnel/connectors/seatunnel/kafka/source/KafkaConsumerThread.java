@@ -20,48 +20,99 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
+/**
+ * Fetch the records of all splits of a reader with one long-lived consumer. The thread keeps
+ * polling into a bounded handover buffer while the reader emits the previous batches, and only
+ * waits when the buffer is full. Assigning splits and committing offsets run on this thread between
+ * two polls, as the consumer isn't thread safe.
+ */
 public class KafkaConsumerThread implements Runnable {
 
-    private final KafkaConsumer<byte[], byte[]> consumer;
     private static final String CLIENT_ID_PREFIX = "seatunnel";
+    private static final long POLL_TIMEOUT = 100L;
+    private static final long IDLE_WAIT_TIME = 1000L;
+    private static final int HANDOVER_CAPACITY = 2;
+
+    private final Consumer<byte[], byte[]> consumer;
     private final ConsumerMetadata metadata;
+    private final boolean bounded;
+
+    private final LinkedBlockingQueue<Runnable> tasks;
+    private final BlockingQueue<Fetch> handover;
+    /** The offsets at which the splits of a bounded read end, only used by this thread. */
+    private final Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
 
-    private final LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> tasks;
+    private volatile boolean running = true;
+    private volatile Throwable error;
 
-    public KafkaConsumerThread(ConsumerMetadata metadata) {
+    public KafkaConsumerThread(ConsumerMetadata metadata, boolean bounded) {
+        this(metadata, bounded, null);
+    }
+
+    /** @param consumer the consumer to fetch with, {@code null} to create one from the metadata */
+    KafkaConsumerThread(
+            ConsumerMetadata metadata, boolean bounded, Consumer<byte[], byte[]> consumer) {
         this.metadata = metadata;
+        this.bounded = bounded;
         this.tasks = new LinkedBlockingQueue<>();
+        this.handover = new ArrayBlockingQueue<>(HANDOVER_CAPACITY);
         this.consumer =
-                initConsumer(
-                        this.metadata.getBootstrapServers(),
-                        this.metadata.getConsumerGroup(),
-                        this.metadata.getProperties(),
-                        !this.metadata.isCommitOnCheckpoint());
+                consumer != null
+                        ? consumer
+                        : initConsumer(
+                                this.metadata.getBootstrapServers(),
+                                this.metadata.getConsumerGroup(),
+                                this.metadata.getProperties(),
+                                !this.metadata.isCommitOnCheckpoint());
     }
 
     @Override
     public void run() {
         try {
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    Consumer<KafkaConsumer<byte[], byte[]>> task = tasks.poll(1, TimeUnit.SECONDS);
+            while (running) {
+                runTasks();
+                if (consumer.assignment().isEmpty()) {
+                    Runnable task = tasks.poll(IDLE_WAIT_TIME, TimeUnit.MILLISECONDS);
                     if (task != null) {
-                        task.accept(consumer);
+                        task.run();
                     }
-                } catch (Exception e) {
-                    throw new KafkaConnectorException(
-                            KafkaConnectorErrorCode.CONSUME_THREAD_RUN_ERROR, e);
+                    continue;
+                }
+                ConsumerRecords<byte[], byte[]> records =
+                        consumer.poll(Duration.ofMillis(POLL_TIMEOUT));
+                Set<TopicPartition> finishedPartitions = removeFinishedPartitions();
+                if (!records.isEmpty() || !finishedPartitions.isEmpty()) {
+                    handOver(new Fetch(records, finishedPartitions));
                 }
             }
+        } catch (InterruptedException | InterruptException | WakeupException e) {
+            // the reader is closed
+        } catch (Throwable t) {
+            error = t;
         } finally {
             try {
                 consumer.close();
@@ -71,11 +122,116 @@ public class KafkaConsumerThread implements Runnable {
         }
     }
 
-    public LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> getTasks() {
-        return tasks;
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void handOver(Fetch fetch) throws InterruptedException {
+        // keep committing offsets while the reader is behind
+        while (!handover.offer(fetch, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+            if (!running) {
+                return;
+            }
+            runTasks();
+        }
+    }
+
+    /** Stop fetching the partitions of a bounded read which reached their end offset. */
+    private Set<TopicPartition> removeFinishedPartitions() {
+        if (stoppingOffsets.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<TopicPartition> finishedPartitions = new HashSet<>();
+        Iterator<Map.Entry<TopicPartition, Long>> iterator = stoppingOffsets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<TopicPartition, Long> stoppingOffset = iterator.next();
+            if (consumer.position(stoppingOffset.getKey()) >= stoppingOffset.getValue()) {
+                finishedPartitions.add(stoppingOffset.getKey());
+                iterator.remove();
+            }
+        }
+        if (!finishedPartitions.isEmpty()) {
+            Set<TopicPartition> assignment = new HashSet<>(consumer.assignment());
+            assignment.removeAll(finishedPartitions);
+            consumer.assign(assignment);
+        }
+        return finishedPartitions;
+    }
+
+    /** Add the splits to the assignment of the consumer, starting at their start offset. */
+    public void assign(List<KafkaSourceSplit> splits) {
+        Map<TopicPartition, Long> startOffsets = new HashMap<>();
+        Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        for (KafkaSourceSplit split : splits) {
+            startOffsets.put(split.getTopicPartition(), split.getStartOffset());
+            endOffsets.put(split.getTopicPartition(), split.getEndOffset());
+        }
+        submit(
+                () -> {
+                    Set<TopicPartition> assignment = new HashSet<>(consumer.assignment());
+                    assignment.addAll(startOffsets.keySet());
+                    consumer.assign(assignment);
+                    startOffsets.forEach(
+                            (partition, offset) -> {
+                                if (offset >= 0) {
+                                    consumer.seek(partition, offset);
+                                }
+                            });
+                    if (bounded) {
+                        endOffsets.forEach(
+                                (partition, offset) -> {
+                                    if (offset >= 0) {
+                                        stoppingOffsets.put(partition, offset);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    public void commit(Map<TopicPartition, Long> offsets) {
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = new HashMap<>();
+        offsets.forEach(
+                (partition, offset) -> {
+                    if (offset >= 0) {
+                        offsetsToCommit.put(partition, new OffsetAndMetadata(offset));
+                    }
+                });
+        if (!offsetsToCommit.isEmpty()) {
+            submit(() -> consumer.commitSync(offsetsToCommit));
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            tasks.put(task);
+        } catch (InterruptedException e) {
+            throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUME_THREAD_RUN_ERROR, e);
+        }
+    }
+
+    /**
+     * Take the next batch fetched by this thread.
+     *
+     * @return the batch, or {@code null} if nothing was fetched within the timeout
+     */
+    public Fetch poll(long timeoutMillis) throws InterruptedException {
+        Fetch fetch = handover.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (fetch == null && error != null) {
+            throw new KafkaConnectorException(
+                    KafkaConnectorErrorCode.CONSUME_THREAD_RUN_ERROR, error);
+        }
+        return fetch;
     }
 
-    private KafkaConsumer<byte[], byte[]> initConsumer(
+    public void close() {
+        running = false;
+        consumer.wakeup();
+    }
+
+    private Consumer<byte[], byte[]> initConsumer(
             String bootstrapServer,
             String consumerGroup,
             Properties properties,
@@ -106,4 +262,23 @@ public class KafkaConsumerThread implements Runnable {
         props.setProperty(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, "false");
         return new KafkaConsumer<>(props);
     }
+
+    /** The records of one poll, and the partitions of a bounded read finished after it. */
+    public static class Fetch {
+        private final ConsumerRecords<byte[], byte[]> records;
+        private final Set<TopicPartition> finishedPartitions;
+
+        Fetch(ConsumerRecords<byte[], byte[]> records, Set<TopicPartition> finishedPartitions) {
+            this.records = records;
+            this.finishedPartitions = finishedPartitions;
+        }
+
+        public ConsumerRecords<byte[], byte[]> getRecords() {
+            return records;
+        }
+
+        public Set<TopicPartition> getFinishedPartitions() {
+            return finishedPartitions;
+        }
+    }
 }
@@ -27,23 +27,17 @@ import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorE
 import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
-import org.apache.kafka.common.serialization.StringDeserializer;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -54,20 +48,26 @@ import java.util.stream.Collectors;
 public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSourceSplit> {
 
     private static final long THREAD_WAIT_TIME = 500L;
-    private static final long POLL_TIMEOUT = 10000L;
+    private static final long POLL_TIMEOUT = 100L;
 
     private final SourceReader.Context context;
     private final ConsumerMetadata metadata;
-    private final Set<KafkaSourceSplit> sourceSplits;
+    /** The splits of this reader by partition, their start offset is the next offset to emit. */
+    private final Map<TopicPartition, KafkaSourceSplit> sourceSplits;
+
+    private final Set<TopicPartition> finishedSplits;
     private final Map<Long, Map<TopicPartition, Long>> checkpointOffsetMap;
-    private final Map<TopicPartition, KafkaConsumerThread> consumerThreadMap;
     private final ExecutorService executorService;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
     private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
+    private final boolean bounded;
 
     private final LinkedBlockingQueue<KafkaSourceSplit> pendingPartitionsQueue;
 
+    private KafkaConsumerThread consumerThread;
+
     private volatile boolean running = false;
+    private volatile boolean noMoreSplits = false;
 
     KafkaSourceReader(
             ConsumerMetadata metadata,
@@ -77,12 +77,13 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
         this.metadata = metadata;
         this.context = context;
         this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
-        this.sourceSplits = new HashSet<>();
+        this.sourceSplits = new HashMap<>();
+        this.finishedSplits = new HashSet<>();
         this.deserializationSchema = deserializationSchema;
-        this.consumerThreadMap = new ConcurrentHashMap<>();
         this.checkpointOffsetMap = new ConcurrentHashMap<>();
+        this.bounded = Boundedness.BOUNDED.equals(context.getBoundedness());
         this.executorService =
-                Executors.newCachedThreadPool(r -> new Thread(r, "Kafka Source Data Consumer"));
+                Executors.newSingleThreadExecutor(r -> new Thread(r, "Kafka Source Data Consumer"));
         pendingPartitionsQueue = new LinkedBlockingQueue<>();
     }
 
@@ -91,6 +92,9 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
 
     @Override
     public void close() throws IOException {
+        if (consumerThread != null) {
+            consumerThread.close();
+        }
         if (executorService != null) {
             executorService.shutdownNow();
         }
@@ -99,120 +103,107 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         if (!running) {
+            if (bounded && noMoreSplits) {
+                // no split was assigned to this reader
+                context.signalNoMoreElement();
+                return;
+            }
             Thread.sleep(THREAD_WAIT_TIME);
             return;
         }
 
-        while (pendingPartitionsQueue.size() != 0) {
-            sourceSplits.add(pendingPartitionsQueue.poll());
+        assignPendingSplits();
+
+        KafkaConsumerThread.Fetch fetch =
+                consumerThread == null ? null : consumerThread.poll(POLL_TIMEOUT);
+        if (fetch != null) {
+            for (ConsumerRecord<byte[], byte[]> record : fetch.getRecords()) {
+                emitRecord(record, output);
+            }
+            finishedSplits.addAll(fetch.getFinishedPartitions());
         }
-        sourceSplits.forEach(
-                sourceSplit ->
-                        consumerThreadMap.computeIfAbsent(
-                                sourceSplit.getTopicPartition(),
-                                s -> {
-                                    KafkaConsumerThread thread = new KafkaConsumerThread(metadata);
-                                    executorService.submit(thread);
-                                    return thread;
-                                }));
-        sourceSplits.forEach(
-                sourceSplit -> {
-                    CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-                    try {
-                        consumerThreadMap
-                                .get(sourceSplit.getTopicPartition())
-                                .getTasks()
-                                .put(
-                                        consumer -> {
-                                            try {
-                                                Set<TopicPartition> partitions =
-                                                        Sets.newHashSet(
-                                                                sourceSplit.getTopicPartition());
-                                                StringDeserializer stringDeserializer =
-                                                        new StringDeserializer();
-                                                stringDeserializer.configure(
-                                                        Maps.fromProperties(
-                                                                this.metadata.getProperties()),
-                                                        false);
-                                                consumer.assign(partitions);
-                                                if (sourceSplit.getStartOffset() >= 0) {
-                                                    consumer.seek(
-                                                            sourceSplit.getTopicPartition(),
-                                                            sourceSplit.getStartOffset());
-                                                }
-                                                ConsumerRecords<byte[], byte[]> records =
-                                                        consumer.poll(
-                                                                Duration.ofMillis(POLL_TIMEOUT));
-                                                for (TopicPartition partition : partitions) {
-                                                    List<ConsumerRecord<byte[], byte[]>>
-                                                            recordList = records.records(partition);
-                                                    for (ConsumerRecord<byte[], byte[]> record :
-                                                            recordList) {
 
-                                                        try {
-                                                            deserializationSchema.deserialize(
-                                                                    record.value(), output);
-                                                        } catch (Exception e) {
-                                                            if (this.messageFormatErrorHandleWay
-                                                                    == MessageFormatErrorHandleWay
-                                                                            .SKIP) {
-                                                                log.warn(
-                                                                        "Deserialize message failed, skip this message, message: {}",
-                                                                        new String(record.value()));
-                                                                continue;
-                                                            }
-                                                            throw e;
-                                                        }
+        if (bounded
+                && noMoreSplits
+                && pendingPartitionsQueue.isEmpty()
+                && finishedSplits.size() == sourceSplits.size()) {
+            // signal to the source that we have reached the end of the data.
+            context.signalNoMoreElement();
+        }
+    }
 
-                                                        if (Boundedness.BOUNDED.equals(
-                                                                        context.getBoundedness())
-                                                                && record.offset()
-                                                                        >= sourceSplit
-                                                                                .getEndOffset()) {
-                                                            break;
-                                                        }
-                                                    }
-                                                    long lastOffset = -1;
-                                                    if (!recordList.isEmpty()) {
-                                                        lastOffset =
-                                                                recordList
-                                                                        .get(recordList.size() - 1)
-                                                                        .offset();
-                                                        sourceSplit.setStartOffset(lastOffset + 1);
-                                                    }
+    private void assignPendingSplits() {
+        if (pendingPartitionsQueue.isEmpty()) {
+            return;
+        }
+        List<KafkaSourceSplit> splits = new ArrayList<>();
+        KafkaSourceSplit split;
+        while ((split = pendingPartitionsQueue.poll()) != null) {
+            sourceSplits.put(split.getTopicPartition(), split);
+            if (bounded
+                    && split.getEndOffset() >= 0
+                    && split.getStartOffset() >= split.getEndOffset()) {
+                finishedSplits.add(split.getTopicPartition());
+            } else {
+                splits.add(split);
+            }
+        }
+        if (splits.isEmpty()) {
+            return;
+        }
+        if (consumerThread == null) {
+            consumerThread = createConsumerThread();
+            executorService.submit(consumerThread);
+        }
+        consumerThread.assign(splits);
+    }
 
-                                                    if (lastOffset >= sourceSplit.getEndOffset()) {
-                                                        sourceSplit.setEndOffset(lastOffset);
-                                                    }
-                                                }
-                                            } catch (Exception e) {
-                                                completableFuture.completeExceptionally(e);
-                                            }
-                                            completableFuture.complete(null);
-                                        });
-                    } catch (InterruptedException e) {
-                        throw new KafkaConnectorException(
-                                KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
-                    }
-                    completableFuture.join();
-                });
+    KafkaConsumerThread createConsumerThread() {
+        return new KafkaConsumerThread(metadata, bounded);
+    }
 
-        if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
-            // signal to the source that we have reached the end of the data.
-            context.signalNoMoreElement();
+    private void emitRecord(ConsumerRecord<byte[], byte[]> record, Collector<SeaTunnelRow> output)
+            throws IOException {
+        KafkaSourceSplit sourceSplit =
+                sourceSplits.get(new TopicPartition(record.topic(), record.partition()));
+        if (sourceSplit == null || finishedSplits.contains(sourceSplit.getTopicPartition())) {
+            return;
+        }
+        // the end offset of a bounded split is the exclusive latest offset at discovery time
+        if (bounded
+                && sourceSplit.getEndOffset() >= 0
+                && record.offset() >= sourceSplit.getEndOffset()) {
+            return;
         }
+        try {
+            deserializationSchema.deserialize(record.value(), output);
+        } catch (Exception e) {
+            if (this.messageFormatErrorHandleWay != MessageFormatErrorHandleWay.SKIP) {
+                throw e;
+            }
+            log.warn(
+                    "Deserialize message failed, skip this message, message: {}",
+                    new String(record.value()));
+        }
+        sourceSplit.setStartOffset(record.offset() + 1);
     }
 
     @Override
     public List<KafkaSourceSplit> snapshotState(long checkpointId) {
         checkpointOffsetMap.put(
                 checkpointId,
-                sourceSplits.stream()
+                sourceSplits.values().stream()
                         .collect(
                                 Collectors.toMap(
                                         KafkaSourceSplit::getTopicPartition,
                                         KafkaSourceSplit::getStartOffset)));
-        return sourceSplits.stream().map(KafkaSourceSplit::copy).collect(Collectors.toList());
+        List<KafkaSourceSplit> splits =
+                sourceSplits.values().stream()
+                        .map(KafkaSourceSplit::copy)
+                        .collect(Collectors.toList());
+        // splits not yet handed to the consumer still belong to this reader
+        pendingPartitionsQueue.forEach(split -> splits.add(split.copy()));
+        return splits;
     }
 
     @Override
@@ -232,39 +223,18 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
     @Override
     public void handleNoMoreSplits() {
         log.info("receive no more splits message, this reader will not add new split.");
+        noMoreSplits = true;
     }
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) {
         if (!checkpointOffsetMap.containsKey(checkpointId)) {
             log.warn("checkpoint {} do not exist or have already been committed.", checkpointId);
-        } else {
-            checkpointOffsetMap
-                    .remove(checkpointId)
-                    .forEach(
-                            (topicPartition, offset) -> {
-                                try {
-                                    consumerThreadMap
-                                            .get(topicPartition)
-                                            .getTasks()
-                                            .put(
-                                                    consumer -> {
-                                                        if (this.metadata.isCommitOnCheckpoint()) {
-                                                            Map<TopicPartition, OffsetAndMetadata>
-                                                                    offsets = new HashMap<>();
-                                                            if (offset >= 0) {
-                                                                offsets.put(
-                                                                        topicPartition,
-                                                                        new OffsetAndMetadata(
-                                                                                offset));
-                                                                consumer.commitSync(offsets);
-                                                            }
-                                                        }
-                                                    });
-                                } catch (InterruptedException e) {
-                                    log.error("commit offset to kafka failed", e);
-                                }
-                            });
+            return;
+        }
+        Map<TopicPartition, Long> offsets = checkpointOffsetMap.remove(checkpointId);
+        if (this.metadata.isCommitOnCheckpoint() && consumerThread != null) {
+            consumerThread.commit(offsets);
         }
     }
 }
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+public class KafkaSourceReaderTest {
+
+    private static final String TOPIC = "test_topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"value"}, new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE});
+
+    private static final DeserializationSchema<SeaTunnelRow> DESERIALIZATION_SCHEMA =
+            new DeserializationSchema<SeaTunnelRow>() {
+                @Override
+                public SeaTunnelRow deserialize(byte[] message) {
+                    return new SeaTunnelRow(
+                            new Object[] {new String(message, StandardCharsets.UTF_8)});
+                }
+
+                @Override
+                public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+                    return ROW_TYPE;
+                }
+            };
+
+    @Test
+    public void testBoundedReaderWaitsForNoMoreSplits() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TestContext context = new TestContext(Boundedness.BOUNDED);
+        TestCollector output = new TestCollector();
+        KafkaSourceReader reader = createReader(consumer, context);
+
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_0, 0, 3)));
+        addRecords(consumer, PARTITION_0, 0, 3);
+        pollUntil(reader, output, () -> output.values.size() == 3);
+        // the split is finished, but the enumerator may still assign more splits
+        for (int i = 0; i < 3; i++) {
+            reader.pollNext(output);
+        }
+        Assertions.assertFalse(context.noMoreElement);
+
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_1, 0, 2)));
+        addRecords(consumer, PARTITION_1, 0, 2);
+        reader.handleNoMoreSplits();
+        pollUntil(reader, output, () -> context.noMoreElement);
+        Assertions.assertEquals(
+                Arrays.asList("0-0", "0-1", "0-2", "1-0", "1-1"), sorted(output.values));
+        reader.close();
+    }
+
+    @Test
+    public void testBoundedReaderWithoutSplits() throws Exception {
+        TestContext context = new TestContext(Boundedness.BOUNDED);
+        KafkaSourceReader reader =
+                createReader(new MockConsumer<>(OffsetResetStrategy.EARLIEST), context);
+
+        reader.pollNext(new TestCollector());
+        Assertions.assertFalse(context.noMoreElement);
+        reader.handleNoMoreSplits();
+        reader.pollNext(new TestCollector());
+        Assertions.assertTrue(context.noMoreElement);
+        reader.close();
+    }
+
+    @Test
+    public void testBoundedReaderStopsAtEndOffset() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TestContext context = new TestContext(Boundedness.BOUNDED);
+        TestCollector output = new TestCollector();
+        KafkaSourceReader reader = createReader(consumer, context);
+
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_0, 1, 3)));
+        reader.handleNoMoreSplits();
+        // records appended after the end offset was discovered aren't read
+        addRecords(consumer, PARTITION_0, 0, 5);
+        pollUntil(reader, output, () -> context.noMoreElement);
+        Assertions.assertEquals(Arrays.asList("0-1", "0-2"), output.values);
+        reader.close();
+    }
+
+    @Test
+    public void testSnapshotAndCommitEmittedOffsets() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TestContext context = new TestContext(Boundedness.UNBOUNDED);
+        TestCollector output = new TestCollector();
+        KafkaSourceReader reader = createReader(consumer, context);
+
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_0, 2, -1)));
+        addRecords(consumer, PARTITION_0, 2, 6);
+        pollUntil(reader, output, () -> output.values.size() == 4);
+
+        List<KafkaSourceSplit> splits = reader.snapshotState(1L);
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertEquals(6, splits.get(0).getStartOffset());
+
+        reader.notifyCheckpointComplete(1L);
+        pollUntil(
+                reader,
+                output,
+                () -> {
+                    Map<TopicPartition, OffsetAndMetadata> committed =
+                            consumer.committed(Collections.singleton(PARTITION_0));
+                    return committed.get(PARTITION_0) != null
+                            && committed.get(PARTITION_0).offset() == 6;
+                });
+        Assertions.assertFalse(context.noMoreElement);
+        reader.close();
+    }
+
+    @Test
+    public void testFetchErrorSurfacesInPollNext() throws Exception {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TestContext context = new TestContext(Boundedness.UNBOUNDED);
+        KafkaSourceReader reader = createReader(consumer, context);
+
+        reader.addSplits(Collections.singletonList(new KafkaSourceSplit(PARTITION_0, 0, -1)));
+        consumer.setPollException(new KafkaException("broker unavailable"));
+        Assertions.assertThrows(
+                KafkaConnectorException.class,
+                () -> pollUntil(reader, new TestCollector(), () -> false));
+        reader.close();
+    }
+
+    private static KafkaSourceReader createReader(
+            MockConsumer<byte[], byte[]> consumer, TestContext context) {
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setTopic(TOPIC);
+        metadata.setProperties(new Properties());
+        metadata.setCommitOnCheckpoint(true);
+        boolean bounded = Boundedness.BOUNDED.equals(context.getBoundedness());
+        return new KafkaSourceReader(
+                metadata, DESERIALIZATION_SCHEMA, context, MessageFormatErrorHandleWay.FAIL) {
+            @Override
+            KafkaConsumerThread createConsumerThread() {
+                return new KafkaConsumerThread(metadata, bounded, consumer);
+            }
+        };
+    }
+
+    /** Append the records once the fetch thread assigned the partition. */
+    private static void addRecords(
+            MockConsumer<byte[], byte[]> consumer, TopicPartition partition, long from, long to) {
+        consumer.schedulePollTask(
+                () -> {
+                    for (long offset = from; offset < to; offset++) {
+                        String value = partition.partition() + "-" + offset;
+                        consumer.addRecord(
+                                new ConsumerRecord<>(
+                                        partition.topic(),
+                                        partition.partition(),
+                                        offset,
+                                        null,
+                                        value.getBytes(StandardCharsets.UTF_8)));
+                    }
+                });
+    }
+
+    private static void pollUntil(
+            KafkaSourceReader reader, TestCollector output, BooleanSupplier condition)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(
+                    System.currentTimeMillis() < deadline, "Timed out polling the reader");
+            reader.pollNext(output);
+        }
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<String> values = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            values.add((String) record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestContext implements SourceReader.Context {
+        private final Boundedness boundedness;
+        private volatile boolean noMoreElement;
+
+        TestContext(Boundedness boundedness) {
+            this.boundedness = boundedness;
+        }
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return boundedness;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+    }
+}
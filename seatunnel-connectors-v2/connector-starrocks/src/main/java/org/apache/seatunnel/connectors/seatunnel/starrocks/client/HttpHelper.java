@@ -113,9 +113,14 @@ public class HttpHelper {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Map<String, Object> doHttpPut(String url, byte[] data, Map<String, String> header)
             throws IOException {
+        return doHttpPut(url, new ByteArrayEntity(data), header);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> doHttpPut(String url, HttpEntity entity, Map<String, String> header)
+            throws IOException {
         final HttpClientBuilder httpClientBuilder =
                 HttpClients.custom()
                         .setRedirectStrategy(
@@ -132,7 +137,7 @@ public class HttpHelper {
                     httpPut.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
-            httpPut.setEntity(new ByteArrayEntity(data));
+            httpPut.setEntity(entity);
             httpPut.setConfig(RequestConfig.custom().setRedirectsEnabled(true).build());
             try (CloseableHttpResponse resp = httpclient.execute(httpPut)) {
                 int code = resp.getStatusLine().getStatusCode();
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
+import org.apache.seatunnel.connectors.seatunnel.common.sink.ChunkPool;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.ChunkedRecordStream;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
@@ -30,14 +32,22 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class StarRocksSinkManager {
 
+    private static final byte[] JSON_ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+
     private final SinkConfig sinkConfig;
     private final List<byte[]> batchList;
 
@@ -50,11 +60,23 @@ public class StarRocksSinkManager {
     private long batchBytesSize = 0;
     private final Integer batchIntervalMs;
 
+    // only used with enable_streaming_load, the rows are sent while they are written
+    private ChunkPool chunkPool;
+    private ExecutorService loadExecutor;
+    private Semaphore loadPermits;
+    private final List<Future<?>> pendingLoads = new ArrayList<>();
+    private StreamingLoad currentLoad;
+
     public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
+        this(sinkConfig, new StarRocksStreamLoadVisitor(sinkConfig, fileNames));
+    }
+
+    StarRocksSinkManager(
+            SinkConfig sinkConfig, StarRocksStreamLoadVisitor starrocksStreamLoadVisitor) {
         this.sinkConfig = sinkConfig;
         this.batchList = new ArrayList<>();
         this.batchIntervalMs = sinkConfig.getBatchIntervalMs();
-        starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
+        this.starrocksStreamLoadVisitor = starrocksStreamLoadVisitor;
     }
 
     private void tryInit() throws IOException {
@@ -63,6 +85,22 @@ public class StarRocksSinkManager {
         }
         initialize = true;
 
+        if (sinkConfig.isEnableStreamingLoad()) {
+            int concurrentLoads = sinkConfig.getMaxConcurrentLoads();
+            int chunkSize = sinkConfig.getStreamingLoadChunkSize();
+            // every load may hold the chunks of batch_max_bytes and a partially written one, so
+            // the writer never waits for a chunk which is held by itself
+            long chunksPerLoad = (sinkConfig.getBatchMaxBytes() + chunkSize - 1) / chunkSize + 1;
+            chunkPool = new ChunkPool(chunkSize, Math.toIntExact(chunksPerLoad * concurrentLoads));
+            loadPermits = new Semaphore(concurrentLoads);
+            loadExecutor =
+                    Executors.newFixedThreadPool(
+                            concurrentLoads,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("StarRocks-stream-load-%d")
+                                    .build());
+        }
+
         if (batchIntervalMs != null) {
             scheduler =
                     Executors.newSingleThreadScheduledExecutor(
@@ -86,8 +124,12 @@ public class StarRocksSinkManager {
 
     public synchronized void write(String record) throws IOException {
         tryInit();
-        checkFlushException();
         byte[] bts = record.getBytes(StandardCharsets.UTF_8);
+        if (sinkConfig.isEnableStreamingLoad()) {
+            writeStreaming(bts);
+            return;
+        }
+        checkFlushException();
         batchList.add(bts);
         batchRowCount++;
         batchBytesSize += bts.length;
@@ -97,26 +139,134 @@ public class StarRocksSinkManager {
         }
     }
 
+    /**
+     * Appends the row to the body of the current load, which is sent while the rows are written.
+     * Once a load reaches batch_max_rows or batch_max_bytes its input is ended, and the next rows
+     * go to a new load while the previous ones are still in flight.
+     */
+    private void writeStreaming(byte[] row) throws IOException {
+        if (flushException != null) {
+            endCurrentLoad();
+            checkFlushException();
+        }
+        if (currentLoad != null && !currentLoad.fits(row)) {
+            endCurrentLoad();
+        }
+        if (currentLoad == null) {
+            currentLoad = startLoad(row);
+        }
+        try {
+            currentLoad.append(row);
+        } catch (IOException e) {
+            // the load failed and released its body while the row was appended
+            checkFlushException();
+            throw e;
+        }
+        if (currentLoad.rows >= sinkConfig.getBatchMaxSize()) {
+            endCurrentLoad();
+        }
+    }
+
+    private StreamingLoad startLoad(byte[] row) {
+        StreamingLoad load = new StreamingLoad(createBatchLabel());
+        long capacity = (long) chunkPool.getMaxChunks() * chunkPool.getChunkSize();
+        if (load.framedLength(row) + load.closingLength() > capacity) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.WRITE_RECORDS_FAILED,
+                    String.format(
+                            "The row of %d bytes is larger than the memory of the streaming loads, please increase batch_max_bytes.",
+                            row.length));
+        }
+        pendingLoads.removeIf(Future::isDone);
+        try {
+            loadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+        try {
+            pendingLoads.add(loadExecutor.submit(load::load));
+        } catch (RuntimeException e) {
+            loadPermits.release();
+            throw e;
+        }
+        return load;
+    }
+
+    private void endCurrentLoad() throws IOException {
+        if (currentLoad != null) {
+            StreamingLoad load = currentLoad;
+            currentLoad = null;
+            try {
+                load.end();
+            } catch (IOException e) {
+                checkFlushException();
+                throw e;
+            }
+        }
+    }
+
     public synchronized void close() throws IOException {
         if (scheduledFuture != null) {
             scheduledFuture.cancel(false);
             scheduler.shutdown();
         }
 
-        flush();
+        try {
+            flush();
+        } finally {
+            if (loadExecutor != null) {
+                loadExecutor.shutdown();
+            }
+        }
     }
 
     public synchronized void flush() throws IOException {
+        if (sinkConfig.isEnableStreamingLoad()) {
+            flushStreamingLoads();
+            return;
+        }
         checkFlushException();
         if (batchList.isEmpty()) {
             return;
         }
-        String label = createBatchLabel();
         StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+                new StarRocksFlushTuple(
+                        createBatchLabel(), batchBytesSize, new ArrayList<>(batchList));
+        loadWithRetries(
+                tuple.getLabel(),
+                (label, attempt) -> {
+                    tuple.setLabel(label);
+                    return starrocksStreamLoadVisitor.doStreamLoad(tuple);
+                });
+        batchList.clear();
+        batchRowCount = 0;
+        batchBytesSize = 0;
+    }
+
+    /** Ends the input of the current load and waits until all loads are done. */
+    private void flushStreamingLoads() throws IOException {
+        endCurrentLoad();
+        try {
+            for (Future<?> load : pendingLoads) {
+                load.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        } catch (ExecutionException e) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e.getCause());
+        } finally {
+            pendingLoads.clear();
+        }
+        checkFlushException();
+    }
+
+    private void loadWithRetries(String label, StreamLoader loader) {
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
-                Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
+                Boolean successFlag = loader.load(label, i);
                 if (successFlag) {
                     break;
                 }
@@ -134,9 +284,8 @@ public class StarRocksSinkManager {
                     String newLabel = createBatchLabel();
                     log.warn(
                             String.format(
-                                    "Batch label changed from [%s] to [%s]",
-                                    tuple.getLabel(), newLabel));
-                    tuple.setLabel(newLabel);
+                                    "Batch label changed from [%s] to [%s]", label, newLabel));
+                    label = newLabel;
                 }
 
                 try {
@@ -152,9 +301,6 @@ public class StarRocksSinkManager {
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
@@ -171,4 +317,80 @@ public class StarRocksSinkManager {
         }
         return sb.append(UUID.randomUUID()).toString();
     }
+
+    @FunctionalInterface
+    private interface StreamLoader {
+        Boolean load(String label, int attempt) throws IOException;
+    }
+
+    /**
+     * A stream load whose body is written by the writer thread while a load thread sends it. The
+     * chunks of the body are retained until the load is done, so a retry sends the same rows.
+     */
+    private class StreamingLoad {
+        private final String label;
+        private final ChunkedRecordStream body;
+        private final boolean json;
+        private final byte[] rowDelimiter;
+        private int rows;
+
+        StreamingLoad(String label) {
+            this.label = label;
+            this.body = new ChunkedRecordStream(chunkPool, true);
+            this.json = SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat());
+            this.rowDelimiter = json ? null : starrocksStreamLoadVisitor.getRowDelimiter();
+        }
+
+        long framedLength(byte[] row) {
+            return row.length + (json ? JSON_ARRAY_SEPARATOR.length : rowDelimiter.length);
+        }
+
+        long closingLength() {
+            return json ? JSON_ARRAY_END.length : 0;
+        }
+
+        boolean fits(byte[] row) {
+            return body.getSize() + framedLength(row) + closingLength()
+                    <= sinkConfig.getBatchMaxBytes();
+        }
+
+        void append(byte[] row) throws IOException {
+            if (json) {
+                body.write(rows == 0 ? JSON_ARRAY_START : JSON_ARRAY_SEPARATOR);
+                body.write(row);
+            } else {
+                body.write(row);
+                body.write(rowDelimiter);
+            }
+            rows++;
+        }
+
+        void end() throws IOException {
+            try {
+                if (json) {
+                    body.write(JSON_ARRAY_END);
+                }
+            } finally {
+                body.endInput();
+            }
+        }
+
+        void load() {
+            try {
+                loadWithRetries(
+                        label,
+                        (label, attempt) ->
+                                starrocksStreamLoadVisitor.doStreamLoad(
+                                        label, attempt == 0 ? body : body.replay()));
+            } catch (RuntimeException e) {
+                flushException = e;
+                throw e;
+            } finally {
+                // a failed load gives its chunks back while the writer may still append to it,
+                // the writer fails on its next row
+                body.release();
+                loadPermits.release();
+            }
+        }
+    }
 }
@@ -25,11 +25,15 @@ import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksCo
 import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -64,6 +68,30 @@ public class StarRocksStreamLoadVisitor {
     }
 
     public Boolean doStreamLoad(StarRocksFlushTuple flushData) throws IOException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    String.format(
+                            "Start to join batch data: rows[%d] bytes[%d] label[%s].",
+                            flushData.getRows().size(),
+                            flushData.getBytes(),
+                            flushData.getLabel()));
+        }
+        return doStreamLoad(
+                flushData.getLabel(),
+                new ByteArrayEntity(
+                        joinRows(flushData.getRows(), flushData.getBytes().intValue())));
+    }
+
+    /**
+     * Stream load the body which is read from the stream while it is sent, with the chunked
+     * transfer encoding.
+     */
+    public Boolean doStreamLoad(String label, InputStream body) throws IOException {
+        LOG.debug("Start to stream load label[{}].", label);
+        return doStreamLoad(label, new InputStreamEntity(body));
+    }
+
+    private Boolean doStreamLoad(String label, HttpEntity body) throws IOException {
         String host = getAvailableHost();
         if (null == host) {
             throw new StarRocksConnectorException(
@@ -78,19 +106,8 @@ public class StarRocksStreamLoadVisitor {
                         .append(sinkConfig.getTable())
                         .append("/_stream_load")
                         .toString();
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(
-                    String.format(
-                            "Start to join batch data: rows[%d] bytes[%d] label[%s].",
-                            flushData.getRows().size(),
-                            flushData.getBytes(),
-                            flushData.getLabel()));
-        }
         Map<String, Object> loadResult =
-                httpHelper.doHttpPut(
-                        loadUrl,
-                        joinRows(flushData.getRows(), flushData.getBytes().intValue()),
-                        getStreamLoadHttpHeader(flushData.getLabel()));
+                httpHelper.doHttpPut(loadUrl, body, getStreamLoadHttpHeader(label));
         final String keyStatus = "Status";
         if (null == loadResult || !loadResult.containsKey(keyStatus)) {
             LOG.error("unknown result status. {}", loadResult);
@@ -130,7 +147,7 @@ public class StarRocksStreamLoadVisitor {
         } else if (RESULT_LABEL_EXISTED.equals(loadResult.get(keyStatus))) {
             LOG.debug("StreamLoad response:\n" + JsonUtils.toJsonString(loadResult));
             // has to block-checking the state to get the final result
-            checkLabelState(host, flushData.getLabel());
+            checkLabelState(host, label);
         }
         return RESULT_SUCCESS.equals(loadResult.get(keyStatus));
     }
@@ -147,12 +164,16 @@ public class StarRocksStreamLoadVisitor {
         return null;
     }
 
+    /** The delimiter after each row of the CSV format. */
+    public byte[] getRowDelimiter() {
+        Map<String, Object> props = sinkConfig.getStreamLoadProps();
+        return StarRocksDelimiterParser.parse((String) props.get("row_delimiter"), "\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
     private byte[] joinRows(List<byte[]> rows, int totalBytes) {
         if (SinkConfig.StreamLoadFormat.CSV.equals(sinkConfig.getLoadFormat())) {
-            Map<String, Object> props = sinkConfig.getStreamLoadProps();
-            byte[] lineDelimiter =
-                    StarRocksDelimiterParser.parse((String) props.get("row_delimiter"), "\n")
-                            .getBytes(StandardCharsets.UTF_8);
+            byte[] lineDelimiter = getRowDelimiter();
             ByteBuffer bos = ByteBuffer.allocate(totalBytes + rows.size() * lineDelimiter.length);
             for (byte[] row : rows) {
                 bos.put(row);
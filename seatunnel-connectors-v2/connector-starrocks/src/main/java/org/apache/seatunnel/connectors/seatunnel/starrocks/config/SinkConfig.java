@@ -55,6 +55,9 @@ public class SinkConfig implements Serializable {
     private int retryBackoffMultiplierMs;
     private int maxRetryBackoffMs;
     private boolean enableUpsertDelete;
+    private boolean enableStreamingLoad;
+    private int maxConcurrentLoads;
+    private int streamingLoadChunkSize;
 
     private String saveModeCreateTemplate;
 
@@ -80,6 +83,10 @@ public class SinkConfig implements Serializable {
                 .ifPresent(sinkConfig::setMaxRetryBackoffMs);
         config.getOptional(StarRocksSinkOptions.ENABLE_UPSERT_DELETE)
                 .ifPresent(sinkConfig::setEnableUpsertDelete);
+        sinkConfig.setEnableStreamingLoad(config.get(StarRocksSinkOptions.ENABLE_STREAMING_LOAD));
+        sinkConfig.setMaxConcurrentLoads(config.get(StarRocksSinkOptions.MAX_CONCURRENT_LOADS));
+        sinkConfig.setStreamingLoadChunkSize(
+                config.get(StarRocksSinkOptions.STREAMING_LOAD_CHUNK_SIZE));
         sinkConfig.setSaveModeCreateTemplate(
                 config.get(StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE));
         config.getOptional(StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE)
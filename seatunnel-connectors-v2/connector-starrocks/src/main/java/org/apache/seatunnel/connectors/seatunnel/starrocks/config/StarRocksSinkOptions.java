@@ -107,6 +107,27 @@ public interface StarRocksSinkOptions {
                     .withDescription(
                             "The amount of time to wait before attempting to retry a request to StarRocks");
 
+    Option<Boolean> ENABLE_STREAMING_LOAD =
+            Options.key("enable_streaming_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to send the rows to StarRocks while they are written, with the chunked transfer encoding, instead of buffering a batch and loading it when it is full");
+
+    Option<Integer> MAX_CONCURRENT_LOADS =
+            Options.key("max_concurrent_loads")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The number of stream loads of a writer which may be in flight at the same time, only used when enable_streaming_load is true");
+
+    Option<Integer> STREAMING_LOAD_CHUNK_SIZE =
+            Options.key("streaming_load_chunk_size")
+                    .intType()
+                    .defaultValue(256 * 1024)
+                    .withDescription(
+                            "The size in bytes of the chunks of a streaming load body, only used when enable_streaming_load is true");
+
     Option<Boolean> ENABLE_UPSERT_DELETE =
             Options.key("enable_upsert_delete")
                     .booleanType()
@@ -56,6 +56,9 @@ public class StarRocksSinkFactory implements TableSinkFactory {
                         StarRocksSinkOptions.RETRY_BACKOFF_MULTIPLIER_MS,
                         StarRocksSinkOptions.STARROCKS_CONFIG,
                         StarRocksSinkOptions.ENABLE_UPSERT_DELETE,
+                        StarRocksSinkOptions.ENABLE_STREAMING_LOAD,
+                        StarRocksSinkOptions.MAX_CONCURRENT_LOADS,
+                        StarRocksSinkOptions.STREAMING_LOAD_CHUNK_SIZE,
                         StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE)
                 .build();
     }
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+public class StarRocksSinkManagerTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @Test
+    public void testRowsAreSentWhileTheyAreWritten() throws Exception {
+        SinkConfig sinkConfig = streamingSinkConfig(SinkConfig.StreamLoadFormat.CSV, 3, 0);
+        CountDownLatch firstChunkRead = new CountDownLatch(1);
+        TestStreamLoadVisitor visitor =
+                new TestStreamLoadVisitor(
+                        sinkConfig,
+                        (label, body) -> {
+                            byte[] chunk = new byte[4];
+                            int read = body.read(chunk, 0, chunk.length);
+                            firstChunkRead.countDown();
+                            return new String(chunk, 0, read, StandardCharsets.UTF_8)
+                                    + readAll(body);
+                        });
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+
+        // the first chunk of the load is sent before the rows of the load are complete
+        manager.write("row0");
+        Assertions.assertTrue(firstChunkRead.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        for (int i = 1; i < 7; i++) {
+            manager.write("row" + i);
+        }
+        manager.flush();
+
+        // a load ends at batch_max_rows, the next rows go to a new label
+        Assertions.assertEquals(
+                Arrays.asList("row0\nrow1\nrow2\n", "row3\nrow4\nrow5\n", "row6\n"),
+                visitor.sortedBodies());
+        Assertions.assertEquals(3, visitor.labels().size());
+        manager.close();
+    }
+
+    @Test
+    public void testJsonRowsAreSentAsArray() throws Exception {
+        SinkConfig sinkConfig = streamingSinkConfig(SinkConfig.StreamLoadFormat.JSON, 2, 0);
+        TestStreamLoadVisitor visitor =
+                new TestStreamLoadVisitor(sinkConfig, (label, body) -> readAll(body));
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+
+        for (int i = 0; i < 3; i++) {
+            manager.write("{\"id\":" + i + "}");
+        }
+        manager.close();
+        Assertions.assertEquals(
+                Arrays.asList("[{\"id\":0},{\"id\":1}]", "[{\"id\":2}]"), visitor.sortedBodies());
+    }
+
+    @Test
+    public void testRetryReplaysTheBody() throws Exception {
+        SinkConfig sinkConfig = streamingSinkConfig(SinkConfig.StreamLoadFormat.CSV, 3, 1);
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        TestStreamLoadVisitor visitor =
+                new TestStreamLoadVisitor(
+                        sinkConfig,
+                        (label, body) -> {
+                            if (failedOnce.compareAndSet(false, true)) {
+                                // the connection breaks after the first chunk was sent
+                                body.read(new byte[4], 0, 4);
+                                throw new IOException("Broken pipe");
+                            }
+                            return readAll(body);
+                        });
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+
+        for (int i = 0; i < 3; i++) {
+            manager.write("row" + i);
+        }
+        manager.flush();
+
+        // the retry sends the whole body again, with the same label as the load may have been
+        // committed by StarRocks
+        Assertions.assertEquals(
+                Collections.singletonList("row0\nrow1\nrow2\n"), visitor.sortedBodies());
+        Assertions.assertEquals(2, visitor.attemptedLabels.size());
+        Assertions.assertEquals(1, visitor.labels().size());
+        manager.close();
+    }
+
+    @Test
+    public void testRetryWithNewLabel() throws Exception {
+        SinkConfig sinkConfig = streamingSinkConfig(SinkConfig.StreamLoadFormat.CSV, 3, 1);
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        TestStreamLoadVisitor visitor =
+                new TestStreamLoadVisitor(
+                        sinkConfig,
+                        (label, body) -> {
+                            if (failedOnce.compareAndSet(false, true)) {
+                                body.read(new byte[4], 0, 4);
+                                throw new StarRocksConnectorException(
+                                        StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                                        String.format("label[%s] state[ABORTED]", label),
+                                        true);
+                            }
+                            return readAll(body);
+                        });
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+
+        for (int i = 0; i < 3; i++) {
+            manager.write("row" + i);
+        }
+        manager.flush();
+
+        // the label was aborted by StarRocks, the retry sends the whole body with a new label
+        Assertions.assertEquals(
+                Collections.singletonList("row0\nrow1\nrow2\n"), visitor.sortedBodies());
+        Assertions.assertEquals(2, visitor.attemptedLabels.size());
+        Assertions.assertEquals(2, visitor.labels().size());
+        manager.close();
+    }
+
+    @Test
+    public void testLoadFailingWhileTheWriterAppends() throws Exception {
+        SinkConfig sinkConfig = streamingSinkConfig(SinkConfig.StreamLoadFormat.CSV, 100, 0);
+        CountDownLatch failed = new CountDownLatch(1);
+        TestStreamLoadVisitor visitor =
+                new TestStreamLoadVisitor(
+                        sinkConfig,
+                        (label, body) -> {
+                            body.read(new byte[4], 0, 4);
+                            failed.countDown();
+                            throw new IOException("Connection reset");
+                        });
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+
+        // the failed load gives its chunks back right away, even while a row is appended to it,
+        // and the writer fails on the row it is writing or the next one
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Assertions.assertThrows(
+                StarRocksConnectorException.class,
+                () -> {
+                    for (int i = 0; System.currentTimeMillis() < deadline; i++) {
+                        manager.write("row" + i);
+                    }
+                });
+        Assertions.assertEquals(0, failed.getCount());
+        // the failed load is done, so closing doesn't wait for it
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::close);
+    }
+
+    private static SinkConfig streamingSinkConfig(
+            SinkConfig.StreamLoadFormat loadFormat, int batchMaxRows, int maxRetries) {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setDatabase("test");
+        sinkConfig.setTable("test");
+        sinkConfig.setLoadFormat(loadFormat);
+        sinkConfig.setBatchMaxSize(batchMaxRows);
+        sinkConfig.setBatchMaxBytes(1024);
+        sinkConfig.setMaxRetries(maxRetries);
+        sinkConfig.setRetryBackoffMultiplierMs(0);
+        sinkConfig.setMaxRetryBackoffMs(0);
+        sinkConfig.setEnableStreamingLoad(true);
+        sinkConfig.setMaxConcurrentLoads(2);
+        sinkConfig.setStreamingLoadChunkSize(4);
+        return sinkConfig;
+    }
+
+    private static String readAll(InputStream body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[3];
+        int read;
+        while ((read = body.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        String load(String label, InputStream body) throws IOException;
+    }
+
+    /** Reads the streamed bodies instead of sending them to StarRocks. */
+    private static class TestStreamLoadVisitor extends StarRocksStreamLoadVisitor {
+        private final Loader loader;
+        private final List<String> attemptedLabels = new ArrayList<>();
+        private final List<String> bodies = new ArrayList<>();
+
+        TestStreamLoadVisitor(SinkConfig sinkConfig, Loader loader) {
+            super(sinkConfig, Collections.emptyList());
+            this.loader = loader;
+        }
+
+        @Override
+        public Boolean doStreamLoad(String label, InputStream body) throws IOException {
+            synchronized (this) {
+                attemptedLabels.add(label);
+            }
+            String read = loader.load(label, body);
+            synchronized (this) {
+                bodies.add(read);
+            }
+            return true;
+        }
+
+        synchronized List<String> sortedBodies() {
+            return bodies.stream().sorted().collect(Collectors.toList());
+        }
+
+        synchronized List<String> labels() {
+            return attemptedLabels.stream().distinct().collect(Collectors.toList());
+        }
+    }
+}
@@ -61,10 +61,18 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
     private static final String MYSQL_USER_NAME = "st_user";
     private static final String MYSQL_USER_PASSWORD = "seatunnel";
     private static final String MYSQL_DATABASE = "mysql_cdc";
-    private static final MySqlContainer MYSQL_CONTAINER = createMySqlContainer(MySqlVersion.V8_0);
+    private static final MySqlContainer MYSQL_CONTAINER =
+            createMySqlContainer(MySqlVersion.V8_0, "docker/server-gtids/my.cnf", MYSQL_HOST);
+
+    // the mysql without gtids, whose binlog is read by two jobs through a shared reader
+    private static final String SHARED_MYSQL_HOST = "mysql_cdc_shared_e2e";
+    private static final MySqlContainer SHARED_MYSQL_CONTAINER =
+            createMySqlContainer(MySqlVersion.V8_0, "docker/server/my.cnf", SHARED_MYSQL_HOST);
 
     private final UniqueDatabase inventoryDatabase =
             new UniqueDatabase(MYSQL_CONTAINER, MYSQL_DATABASE, "mysqluser", "mysqlpw");
+    private final UniqueDatabase sharedDatabase =
+            new UniqueDatabase(SHARED_MYSQL_CONTAINER, MYSQL_DATABASE, "mysqluser", "mysqlpw");
 
     // mysql source table query sql
     private static final String SOURCE_SQL =
@@ -85,13 +93,14 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
                     + " f_enum, cast(f_mediumblob as char) as f_mediumblob, f_long_varchar, f_real, f_time, f_tinyint, f_tinyint_unsigned,"
                     + " f_json, cast(f_year as year) from mysql_cdc_e2e_sink_table";
 
-    private static MySqlContainer createMySqlContainer(MySqlVersion version) {
+    private static MySqlContainer createMySqlContainer(
+            MySqlVersion version, String configuration, String host) {
         MySqlContainer mySqlContainer =
                 new MySqlContainer(version)
-                        .withConfigurationOverride("docker/server-gtids/my.cnf")
+                        .withConfigurationOverride(configuration)
                         .withSetupSQL("docker/setup.sql")
                         .withNetwork(NETWORK)
-                        .withNetworkAliases(MYSQL_HOST)
+                        .withNetworkAliases(host)
                         .withDatabaseName(MYSQL_DATABASE)
                         .withUsername(MYSQL_USER_NAME)
                         .withPassword(MYSQL_USER_PASSWORD)
@@ -106,9 +115,10 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
     @Override
     public void startUp() throws ClassNotFoundException, InterruptedException {
         log.info("The second stage: Starting Mysql containers...");
-        Startables.deepStart(Stream.of(MYSQL_CONTAINER)).join();
+        Startables.deepStart(Stream.of(MYSQL_CONTAINER, SHARED_MYSQL_CONTAINER)).join();
         log.info("Mysql Containers are started");
         inventoryDatabase.createAndInitialize();
+        sharedDatabase.createAndInitialize();
         log.info("Mysql ddl execution is complete");
     }
 
@@ -116,17 +126,7 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
     public void testMysqlCdcCheckDataE2e(TestContainer container)
             throws IOException, InterruptedException {
 
-        CompletableFuture<Void> executeJobFuture =
-                CompletableFuture.supplyAsync(
-                        () -> {
-                            try {
-                                container.executeJob("/mysqlcdc_to_mysql.conf");
-                            } catch (Exception e) {
-                                log.error("Commit task exception :" + e.getMessage());
-                                throw new RuntimeException(e);
-                            }
-                            return null;
-                        });
+        executeJobAsync(container, "/mysqlcdc_to_mysql.conf");
         await().atMost(60000, TimeUnit.MILLISECONDS)
                 .untilAsserted(
                         () -> {
@@ -136,7 +136,7 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
                         });
 
         // insert update delete
-        upsertDeleteSourceTable();
+        upsertDeleteSourceTable(MYSQL_CONTAINER);
 
         // stream stage
         await().atMost(60000, TimeUnit.MILLISECONDS)
@@ -147,15 +147,89 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
                         });
     }
 
-    private Connection getJdbcConnection() throws SQLException {
+    @TestTemplate
+    public void testMysqlCdcSharedBinlogReaderE2e(TestContainer container) {
+        String firstSinkSql =
+                SINK_SQL.replace("mysql_cdc_e2e_sink_table", "mysql_cdc_e2e_shared_sink_table_1");
+        String secondSinkSql =
+                SINK_SQL.replace("mysql_cdc_e2e_sink_table", "mysql_cdc_e2e_shared_sink_table_2");
+
+        // the first job opens the shared binlog connection
+        executeJobAsync(container, "/mysqlcdc_shared_binlog_reader_to_mysql_1.conf");
+        await().atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertIterableEquals(
+                                    querySql(SHARED_MYSQL_CONTAINER, SOURCE_SQL),
+                                    querySql(MYSQL_CONTAINER, firstSinkSql));
+                            Assertions.assertEquals(1, countBinlogDumps(SHARED_MYSQL_CONTAINER));
+                        });
+
+        // the second job subscribes it once its snapshot is read, the sinks don't write to the
+        // server, so the binlog stays at the position the second job starts from
+        executeJobAsync(container, "/mysqlcdc_shared_binlog_reader_to_mysql_2.conf");
+        await().atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertIterableEquals(
+                                        querySql(SHARED_MYSQL_CONTAINER, SOURCE_SQL),
+                                        querySql(MYSQL_CONTAINER, secondSinkSql)));
+        await().pollDelay(15000, TimeUnit.MILLISECONDS)
+                .atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> Assertions.assertEquals(1, countBinlogDumps(SHARED_MYSQL_CONTAINER)));
+
+        // insert update delete
+        upsertDeleteSourceTable(SHARED_MYSQL_CONTAINER);
+
+        // both jobs receive the changes through the one binlog connection
+        await().atMost(60000, TimeUnit.MILLISECONDS)
+                .untilAsserted(
+                        () -> {
+                            List<List<Object>> source =
+                                    querySql(SHARED_MYSQL_CONTAINER, SOURCE_SQL);
+                            Assertions.assertIterableEquals(
+                                    source, querySql(MYSQL_CONTAINER, firstSinkSql));
+                            Assertions.assertIterableEquals(
+                                    source, querySql(MYSQL_CONTAINER, secondSinkSql));
+                        });
+        Assertions.assertEquals(1, countBinlogDumps(SHARED_MYSQL_CONTAINER));
+    }
+
+    private void executeJobAsync(TestContainer container, String confFile) {
+        CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        container.executeJob(confFile);
+                    } catch (Exception e) {
+                        log.error("Commit task exception :" + e.getMessage());
+                        throw new RuntimeException(e);
+                    }
+                    return null;
+                });
+    }
+
+    /** The binlog connections of the readers, which connect as the test user. */
+    private long countBinlogDumps(MySqlContainer mysql) {
+        List<List<Object>> result =
+                querySql(
+                        mysql,
+                        "select count(*) from information_schema.processlist"
+                                + " where command like 'Binlog Dump%'");
+        return ((Number) result.get(0).get(0)).longValue();
+    }
+
+    private Connection getJdbcConnection(MySqlContainer mysql) throws SQLException {
         return DriverManager.getConnection(
-                MYSQL_CONTAINER.getJdbcUrl(),
-                MYSQL_CONTAINER.getUsername(),
-                MYSQL_CONTAINER.getPassword());
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
     }
 
     private List<List<Object>> querySql(String sql) {
-        try (Connection connection = getJdbcConnection()) {
+        return querySql(MYSQL_CONTAINER, sql);
+    }
+
+    private List<List<Object>> querySql(MySqlContainer mysql, String sql) {
+        try (Connection connection = getJdbcConnection(mysql)) {
             ResultSet resultSet = connection.createStatement().executeQuery(sql);
             List<List<Object>> result = new ArrayList<>();
             int columnCount = resultSet.getMetaData().getColumnCount();
@@ -180,17 +254,18 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
     }
 
     // Execute SQL
-    private void executeSql(String sql) {
-        try (Connection connection = getJdbcConnection()) {
+    private void executeSql(MySqlContainer mysql, String sql) {
+        try (Connection connection = getJdbcConnection(mysql)) {
             connection.createStatement().execute(sql);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private void upsertDeleteSourceTable() {
+    private void upsertDeleteSourceTable(MySqlContainer mysql) {
 
         executeSql(
+                mysql,
                 "INSERT INTO mysql_cdc_e2e_source_table ( id, f_binary, f_blob, f_long_varbinary, f_longblob, f_tinyblob, f_varbinary, f_smallint,\n"
                         + "                                         f_smallint_unsigned, f_mediumint, f_mediumint_unsigned, f_int, f_int_unsigned, f_integer,\n"
                         + "                                         f_integer_unsigned, f_bigint, f_bigint_unsigned, f_numeric, f_decimal, f_float, f_double,\n"
@@ -206,6 +281,7 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
                         + "         0x1B000000789C0BC9C82C5600A24485DCD494CCD25C85A49CFC2485B4CCD49C140083FF099A, 'This is a long varchar field',\n"
                         + "         12.345, '14:30:00', -128, 255, '{ \"key\": \"value\" }', 1992 )");
         executeSql(
+                mysql,
                 "INSERT INTO mysql_cdc_e2e_source_table ( id, f_binary, f_blob, f_long_varbinary, f_longblob, f_tinyblob, f_varbinary, f_smallint,\n"
                         + "                                         f_smallint_unsigned, f_mediumint, f_mediumint_unsigned, f_int, f_int_unsigned, f_integer,\n"
                         + "                                         f_integer_unsigned, f_bigint, f_bigint_unsigned, f_numeric, f_decimal, f_float, f_double,\n"
@@ -220,9 +296,11 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
                         + "         '2023-04-27 11:08:40', 1, b'0101010101010101010101010101010101010101010101010101010101010101', 'C', 'enum2',\n"
                         + "         0x1B000000789C0BC9C82C5600A24485DCD494CCD25C85A49CFC2485B4CCD49C140083FF099A, 'This is a long varchar field',\n"
                         + "         12.345, '14:30:00', -128, 255, '{ \"key\": \"value\" }', 1999 )");
-        executeSql("DELETE FROM mysql_cdc.mysql_cdc_e2e_source_table where id = 2");
+        executeSql(mysql, "DELETE FROM mysql_cdc.mysql_cdc_e2e_source_table where id = 2");
 
-        executeSql("UPDATE mysql_cdc.mysql_cdc_e2e_source_table SET f_bigint = 10000 where id = 3");
+        executeSql(
+                mysql,
+                "UPDATE mysql_cdc.mysql_cdc_e2e_source_table SET f_bigint = 10000 where id = 3");
     }
 
     @Override
@@ -232,5 +310,8 @@ public class MysqlCDCIT extends TestSuiteBase implements TestResource {
         if (MYSQL_CONTAINER != null) {
             MYSQL_CONTAINER.close();
         }
+        if (SHARED_MYSQL_CONTAINER != null) {
+            SHARED_MYSQL_CONTAINER.close();
+        }
     }
 }
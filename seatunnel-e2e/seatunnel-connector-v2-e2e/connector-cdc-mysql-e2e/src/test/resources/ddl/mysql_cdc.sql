@@ -122,6 +122,10 @@ CREATE TABLE mysql_cdc_e2e_sink_table
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_0900_ai_ci;
 
+-- The sink tables of the jobs sharing a binlog reader
+CREATE TABLE mysql_cdc_e2e_shared_sink_table_1 LIKE mysql_cdc_e2e_sink_table;
+CREATE TABLE mysql_cdc_e2e_shared_sink_table_2 LIKE mysql_cdc_e2e_sink_table;
+
 truncate table mysql_cdc_e2e_source_table;
 truncate table mysql_cdc_e2e_sink_table;
 
@@ -58,4 +58,6 @@ public class Constant {
     public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
 
     public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
+
+    public static final String IMAP_SHUFFLE_CHANNEL_ADDRESS = "engine_shuffleChannelAddress";
 }
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
@@ -45,6 +46,9 @@ public class EngineConfig {
     private ThreadShareMode taskExecutionThreadShareMode =
             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.defaultValue();
 
+    private BlockingTaskThreadMode blockingTaskThreadMode =
+            ServerConfigOptions.BLOCKING_TASK_THREAD_MODE.defaultValue();
+
     private SlotServiceConfig slotServiceConfig = ServerConfigOptions.SLOT_SERVICE.defaultValue();
 
     private CheckpointConfig checkpointConfig = ServerConfigOptions.CHECKPOINT.defaultValue();
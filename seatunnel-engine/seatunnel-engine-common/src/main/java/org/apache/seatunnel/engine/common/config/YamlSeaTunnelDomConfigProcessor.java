@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
@@ -127,6 +128,14 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.BLOCKING_TASK_THREAD_MODE.key().equals(name)) {
+                String mode = getTextContent(node).toUpperCase(Locale.ROOT);
+                if (!Arrays.asList("PLATFORM", "VIRTUAL").contains(mode)) {
+                    throw new IllegalArgumentException(
+                            ServerConfigOptions.BLOCKING_TASK_THREAD_MODE
+                                    + " must in [PLATFORM, VIRTUAL]");
+                }
+                engineConfig.setBlockingTaskThreadMode(BlockingTaskThreadMode.valueOf(mode));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
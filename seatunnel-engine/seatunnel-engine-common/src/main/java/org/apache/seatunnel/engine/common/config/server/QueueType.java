@@ -19,5 +19,6 @@ package org.apache.seatunnel.engine.common.config.server;
 
 public enum QueueType {
     DISRUPTOR,
-    BLOCKINGQUEUE
+    BLOCKINGQUEUE,
+    BATCHQUEUE
 }
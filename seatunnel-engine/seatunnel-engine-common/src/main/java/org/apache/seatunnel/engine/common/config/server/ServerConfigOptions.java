@@ -59,6 +59,13 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<BlockingTaskThreadMode> BLOCKING_TASK_THREAD_MODE =
+            Options.key("blocking-task-thread-mode")
+                    .type(new TypeReference<BlockingTaskThreadMode>() {})
+                    .defaultValue(BlockingTaskThreadMode.PLATFORM)
+                    .withDescription(
+                            "The kind of thread that runs the blocking tasks, including PLATFORM, VIRTUAL. VIRTUAL only takes effect on JVMs supporting virtual threads and falls back to PLATFORM otherwise. Default is PLATFORM");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -111,9 +118,10 @@ public class ServerConfigOptions {
 
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
-                    .type(new TypeReference<QueueType>() {})
+                    .enumType(QueueType.class)
                     .defaultValue(QueueType.BLOCKINGQUEUE)
-                    .withDescription("The internal data cache queue type.");
+                    .withDescription(
+                            "The internal data cache queue type, can be overridden by the job env.");
 
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
             Options.key("storage")
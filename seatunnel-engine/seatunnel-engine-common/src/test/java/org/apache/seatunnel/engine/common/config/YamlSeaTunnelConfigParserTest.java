@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +45,10 @@ public class YamlSeaTunnelConfigParserTest {
 
         Assertions.assertEquals(2, config.getEngineConfig().getPrintExecutionInfoInterval());
 
+        Assertions.assertEquals(
+                BlockingTaskThreadMode.VIRTUAL,
+                config.getEngineConfig().getBlockingTaskThreadMode());
+
         Assertions.assertFalse(config.getEngineConfig().getSlotServiceConfig().isDynamicSlot());
 
         Assertions.assertEquals(5, config.getEngineConfig().getSlotServiceConfig().getSlotNum());
@@ -17,12 +17,16 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.configuration.Option;
+import org.apache.seatunnel.api.configuration.Options;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Tolerate;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Getter
@@ -33,8 +37,34 @@ public class ShuffleConfig implements Config {
     public static final int DEFAULT_BATCH_SIZE = 1024;
     public static final long DEFAULT_BATCH_FLUSH_INTERVAL = TimeUnit.SECONDS.toMillis(3);
 
+    public static final Option<ShuffleTransport> SHUFFLE_TRANSPORT =
+            Options.key("shuffle.transport")
+                    .enumType(ShuffleTransport.class)
+                    .defaultValue(ShuffleTransport.QUEUE)
+                    .withDescription(
+                            "The data plane of shuffles, QUEUE (Hazelcast IQueue) or DIRECT (member to member batches)");
+
+    public static final Option<List<String>> SHUFFLE_KEY_COLUMNS =
+            Options.key("shuffle.key-columns")
+                    .listType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Shuffle the rows into every sink by the hash of these columns, so all changes of one key are written by the same sink writer");
+
+    public static final Option<Boolean> SHUFFLE_UNALIGNED_CHECKPOINT =
+            Options.key("shuffle.unaligned-checkpoint")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Let checkpoint barriers overtake the records queued in key-hash shuffles and store these in-flight records in the checkpoint, so checkpoints don't wait for backpressured queues to drain");
+
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
+    @Builder.Default private ShuffleTransport transport = SHUFFLE_TRANSPORT.defaultValue();
+
+    @Builder.Default
+    private boolean unalignedCheckpoint = SHUFFLE_UNALIGNED_CHECKPOINT.defaultValue();
+
     private ShuffleStrategy shuffleStrategy;
 
     @Tolerate
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import lombok.experimental.Tolerate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Route every row to a downstream task by the hash of its key columns, so all changes of one key
+ * are written by the same downstream task in the order they were produced.
+ */
+@SuperBuilder
+@Getter
+@Setter
+@ToString
+public class ShuffleKeyHashStrategy extends ShuffleStrategy {
+    private final Map<Integer, String[]> inputQueueMapping = new HashMap<>();
+    private int targetPartitions;
+    private int[] keyFieldIndexes;
+    private SeaTunnelRowType inputRowType;
+
+    @Tolerate
+    public ShuffleKeyHashStrategy() {}
+
+    public static int[] getKeyFieldIndexes(SeaTunnelRowType rowType, List<String> keyColumns) {
+        checkArgument(!keyColumns.isEmpty(), "The shuffle key columns can't be empty");
+        return keyColumns.stream().mapToInt(rowType::indexOf).toArray();
+    }
+
+    @Override
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        return new ArrayList<>(Arrays.asList(getInputQueueNames(pipelineId, inputIndex)));
+    }
+
+    @Override
+    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
+        return getInputQueueNames(pipelineId, inputIndex)[
+                computeTargetIndex((SeaTunnelRow) record.getData())];
+    }
+
+    @Override
+    public boolean isIndexedRouting() {
+        return true;
+    }
+
+    @Override
+    public int createShuffleIndex(Record<?> record, int inputIndex) {
+        return computeTargetIndex((SeaTunnelRow) record.getData());
+    }
+
+    @Override
+    public String[] getShuffleNames(int pipelineId, int targetIndex) {
+        checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
+        String[] queueNames = new String[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
+        }
+        return queueNames;
+    }
+
+    @Override
+    public SeaTunnelDataType<?> getShuffleRowType() {
+        return inputRowType;
+    }
+
+    /** The index of the downstream task that receives all rows with the key of {@code row}. */
+    public int computeTargetIndex(SeaTunnelRow row) {
+        int hash = 0;
+        for (int keyFieldIndex : keyFieldIndexes) {
+            hash = 31 * hash + hashField(row.getField(keyFieldIndex));
+        }
+        // spread the high bits, small key ranges often only differ in the low bits
+        return Math.floorMod(hash ^ (hash >>> 16), targetPartitions);
+    }
+
+    private static int hashField(Object field) {
+        if (field instanceof byte[]) {
+            return Arrays.hashCode((byte[]) field);
+        }
+        return Objects.hashCode(field);
+    }
+
+    private String[] getInputQueueNames(int pipelineId, int inputIndex) {
+        return inputQueueMapping.computeIfAbsent(
+                inputIndex,
+                key -> {
+                    String[] queueNames = new String[targetPartitions];
+                    for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+                        queueNames[targetIndex] = generateQueueName(pipelineId, key, targetIndex);
+                    }
+                    return queueNames;
+                });
+    }
+
+    private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
+        return String.format(
+                "ShuffleKeyHash-Queue_%s_%s_%s_%s",
+                getJobId(), pipelineId, inputIndex, targetIndex);
+    }
+}
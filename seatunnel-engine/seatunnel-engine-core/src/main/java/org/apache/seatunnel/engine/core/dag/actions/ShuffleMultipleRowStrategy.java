@@ -19,25 +19,21 @@ package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -50,25 +46,12 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     public ShuffleMultipleRowStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        Map<String, IQueue<Record<?>>> shuffleMap = new HashMap<>();
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
+        List<String> queueNames = new ArrayList<>();
         for (Map.Entry<String, SeaTunnelRowType> entry : inputRowType) {
-            String tableId = entry.getKey();
-            String queueName = generateQueueName(pipelineId, inputIndex, tableId);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, entry.getKey()));
         }
-
-        log.info(
-                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                inputIndex,
-                shuffleMap.keySet());
-
-        return shuffleMap;
+        return queueNames;
     }
 
     @Override
@@ -78,22 +61,18 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
-        IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
+    public String[] getShuffleNames(int pipelineId, int targetIndex) {
+        Objects.requireNonNull(targetTableId);
+        String[] queueNames = new String[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            Objects.requireNonNull(targetTableId);
-            String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
-            queues[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetTableId);
         }
+        return queueNames;
+    }
 
-        log.info(
-                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                targetIndex,
-                Stream.of(queues).map(e -> e.getName()).collect(Collectors.toList()));
-
-        return queues;
+    @Override
+    public SeaTunnelDataType<?> getShuffleRowType() {
+        return inputRowType;
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
@@ -19,25 +19,20 @@ package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
-import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-@Slf4j
 @SuperBuilder
 @Getter
 @Setter
@@ -50,25 +45,13 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     public ShufflePartitionStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
         checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
-        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        List<String> queueNames = new ArrayList<>(targetPartitions);
         for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetIndex));
         }
-
-        log.info(
-                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                inputIndex,
-                shuffleMap.keySet());
-
-        return shuffleMap;
+        return queueNames;
     }
 
     @Override
@@ -90,22 +73,23 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+    public boolean isIndexedRouting() {
+        return true;
+    }
+
+    @Override
+    public int createShuffleIndex(Record<?> record, int inputIndex) {
+        return ThreadLocalRandom.current().nextInt(targetPartitions);
+    }
+
+    @Override
+    public String[] getShuffleNames(int pipelineId, int targetIndex) {
         checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
-        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        String[] queueNames = new String[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            shuffles[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
         }
-
-        log.info(
-                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                targetIndex,
-                Stream.of(shuffles).map(e -> e.getName()).collect(Collectors.toList()));
-
-        return shuffles;
+        return queueNames;
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
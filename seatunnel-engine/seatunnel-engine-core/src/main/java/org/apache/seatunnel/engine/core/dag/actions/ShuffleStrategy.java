@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.config.QueueConfig;
@@ -28,10 +29,15 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -51,13 +57,76 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    /** The names of all shuffle channels written by the upstream task {@code inputIndex}. */
+    public abstract List<String> createShuffleNames(int pipelineId, int inputIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+    /**
+     * Whether the records are routed by {@link #createShuffleIndex}, which spares building and
+     * looking up the channel name of every record.
+     */
+    public boolean isIndexedRouting() {
+        return false;
+    }
+
+    /**
+     * The index in {@link #createShuffleNames} of the channel receiving {@code record}, only used
+     * if {@link #isIndexedRouting()}.
+     */
+    public int createShuffleIndex(Record<?> record, int inputIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The names of all shuffle channels read by the downstream task {@code targetIndex}, indexed by
+     * the upstream task that writes them.
+     */
+    public abstract String[] getShuffleNames(int pipelineId, int targetIndex);
+
+    /**
+     * The row type of the shuffled rows, used to encode batches with a schema aware codec, or
+     * {@code null} if it isn't known.
+     */
+    public SeaTunnelDataType<?> getShuffleRowType() {
+        return null;
+    }
+
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : createShuffleNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        String[] queueNames = getShuffleNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] shuffles = new IQueue[queueNames.length];
+        for (int inputIndex = 0; inputIndex < queueNames.length; inputIndex++) {
+            shuffles[inputIndex] = getIQueue(hazelcast, queueNames[inputIndex]);
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                Arrays.asList(queueNames));
+
+        return shuffles;
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
@@ -0,0 +1,30 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+/** The data plane used to move records between the two sides of a {@link ShuffleAction}. */
+public enum ShuffleTransport {
+    /** Records are exchanged through Hazelcast {@code IQueue}s owned by partition members. */
+    QUEUE,
+    /**
+     * Record batches are pushed straight to the member running the consuming task over the
+     * member-to-member connection, with credit based backpressure. If both tasks run on the same
+     * member the records are handed over in memory, without serializing them.
+     */
+    DIRECT
+}
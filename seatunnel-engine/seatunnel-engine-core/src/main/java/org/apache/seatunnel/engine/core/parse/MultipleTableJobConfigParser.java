@@ -47,10 +47,12 @@ import org.apache.seatunnel.common.constants.CollectionConstants;
 import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.core.starter.utils.ConfigBuilder;
 import org.apache.seatunnel.engine.common.config.JobConfig;
+import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.exception.JobDefineCheckException;
 import org.apache.seatunnel.engine.common.loader.SeaTunnelChildFirstClassLoader;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.core.dag.actions.SinkConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
@@ -237,6 +239,42 @@ public class MultipleTableJobConfigParser {
                                 jobConfig
                                         .getEnvOptions()
                                         .put(EnvCommonOptions.CHECKPOINT_INTERVAL.key(), interval));
+        envOptions
+                .getOptional(ShuffleConfig.SHUFFLE_TRANSPORT)
+                .ifPresent(
+                        transport ->
+                                jobConfig
+                                        .getEnvOptions()
+                                        .put(
+                                                ShuffleConfig.SHUFFLE_TRANSPORT.key(),
+                                                transport.name()));
+        envOptions
+                .getOptional(ShuffleConfig.SHUFFLE_KEY_COLUMNS)
+                .ifPresent(
+                        keyColumns ->
+                                jobConfig
+                                        .getEnvOptions()
+                                        .put(
+                                                ShuffleConfig.SHUFFLE_KEY_COLUMNS.key(),
+                                                new ArrayList<>(keyColumns)));
+        envOptions
+                .getOptional(ShuffleConfig.SHUFFLE_UNALIGNED_CHECKPOINT)
+                .ifPresent(
+                        unaligned ->
+                                jobConfig
+                                        .getEnvOptions()
+                                        .put(
+                                                ShuffleConfig.SHUFFLE_UNALIGNED_CHECKPOINT.key(),
+                                                unaligned));
+        envOptions
+                .getOptional(ServerConfigOptions.QUEUE_TYPE)
+                .ifPresent(
+                        queueType ->
+                                jobConfig
+                                        .getEnvOptions()
+                                        .put(
+                                                ServerConfigOptions.QUEUE_TYPE.key(),
+                                                queueType.name()));
     }
 
     private static <T extends Factory> boolean isFallback(
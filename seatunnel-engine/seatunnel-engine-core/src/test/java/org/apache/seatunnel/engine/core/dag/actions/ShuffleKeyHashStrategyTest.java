@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class ShuffleKeyHashStrategyTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "payload"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE, BasicType.STRING_TYPE, PrimitiveByteArrayType.INSTANCE
+                    });
+
+    @Test
+    public void testEqualKeysGoToSameTarget() {
+        ShuffleKeyHashStrategy strategy = createStrategy("id", "name");
+        Set<Integer> targets = new HashSet<>();
+        for (long id = 0; id < 1000; id++) {
+            int target = strategy.computeTargetIndex(row(id, "name_" + id, null));
+            Assertions.assertTrue(target >= 0 && target < 4);
+            // the other columns don't change the target
+            Assertions.assertEquals(
+                    target,
+                    strategy.computeTargetIndex(row(id, "name_" + id, new byte[] {1, 2, 3})));
+            targets.add(target);
+        }
+        Assertions.assertEquals(4, targets.size());
+    }
+
+    @Test
+    public void testByteArrayKeysAreHashedByContent() {
+        ShuffleKeyHashStrategy strategy = createStrategy("payload");
+        for (int i = 0; i < 100; i++) {
+            byte[] key = ("key_" + i).getBytes();
+            Assertions.assertEquals(
+                    strategy.computeTargetIndex(row(1L, "a", key)),
+                    strategy.computeTargetIndex(row(2L, "b", Arrays.copyOf(key, key.length))));
+        }
+    }
+
+    @Test
+    public void testNullKeys() {
+        ShuffleKeyHashStrategy strategy = createStrategy("id", "payload");
+        int target = strategy.computeTargetIndex(row(null, "a", null));
+        Assertions.assertTrue(target >= 0 && target < 4);
+        Assertions.assertEquals(target, strategy.computeTargetIndex(row(null, "b", null)));
+    }
+
+    @Test
+    public void testShuffleKeyMatchesTargetQueue() {
+        ShuffleKeyHashStrategy strategy = createStrategy("id");
+        for (long id = 0; id < 100; id++) {
+            Record<?> record = new Record<>(row(id, "name", null));
+            int target = strategy.computeTargetIndex((SeaTunnelRow) record.getData());
+            for (int inputIndex = 0; inputIndex < 2; inputIndex++) {
+                Assertions.assertEquals(
+                        strategy.getShuffleNames(1, target)[inputIndex],
+                        strategy.createShuffleKey(record, 1, inputIndex));
+                // the index routes to the same channel as the name
+                Assertions.assertEquals(
+                        strategy.createShuffleKey(record, 1, inputIndex),
+                        strategy.createShuffleNames(1, inputIndex)
+                                .get(strategy.createShuffleIndex(record, inputIndex)));
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownKeyColumn() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        ShuffleKeyHashStrategy.getKeyFieldIndexes(
+                                ROW_TYPE, Arrays.asList("id", "unknown")));
+    }
+
+    private static ShuffleKeyHashStrategy createStrategy(String... keyColumns) {
+        return ShuffleKeyHashStrategy.builder()
+                .jobId(1L)
+                .inputPartitions(2)
+                .targetPartitions(4)
+                .keyFieldIndexes(
+                        ShuffleKeyHashStrategy.getKeyFieldIndexes(
+                                ROW_TYPE, Arrays.asList(keyColumns)))
+                .inputRowType(ROW_TYPE)
+                .build();
+    }
+
+    private static SeaTunnelRow row(Long id, String name, byte[] payload) {
+        return new SeaTunnelRow(new Object[] {id, name, payload});
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.BlockingTaskThreadMode;
+import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
 import org.apache.seatunnel.engine.common.loader.SeaTunnelChildFirstClassLoader;
@@ -31,7 +33,6 @@ import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundExce
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
-import org.apache.seatunnel.engine.server.execution.TaskCallTimer;
 import org.apache.seatunnel.engine.server.execution.TaskDeployState;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -40,10 +41,12 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
+import org.apache.seatunnel.engine.server.execution.VirtualThreads;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelRegistry;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -53,7 +56,11 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
@@ -62,41 +69,43 @@ import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
-import static java.lang.Thread.currentThread;
-import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
@@ -109,16 +118,52 @@ import static org.apache.seatunnel.api.common.metrics.MetricTags.TASK_ID;
 /** This class is responsible for the execution of the Task */
 public class TaskExecutionService implements DynamicMetricsProvider {
 
+    /** A cooperative task call taking longer than this is considered to be blocking. */
+    private static final long SLOW_CALL_THRESHOLD_MILLIS = 50;
+
+    /** Consecutive slow calls after which a task is moved to the blocking task pool. */
+    private static final int SLOW_CALLS_BEFORE_DEMOTION = 3;
+
+    /** Consecutive fast calls after which a moved task returns to the cooperative workers. */
+    private static final int FAST_CALLS_BEFORE_PROMOTION = 1000;
+
+    private static final IdleStrategy COOPERATIVE_IDLER =
+            new BackoffIdleStrategy(
+                    0, 0, TimeUnit.MICROSECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(1));
+
+    /**
+     * Workers without any task park for longer, a task offered to the deque of a worker unparks it
+     * right away.
+     */
+    private static final IdleStrategy EMPTY_DEQUE_IDLER =
+            new BackoffIdleStrategy(
+                    0, 0, TimeUnit.MICROSECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(100));
+
     private final String hzInstanceName;
     private final NodeEngineImpl nodeEngine;
     private final ILogger logger;
     private volatile boolean isRunning = true;
-    private final LinkedBlockingDeque<TaskTracker> threadShareTaskQueue =
-            new LinkedBlockingDeque<>();
-    private final ExecutorService executorService =
-            newCachedThreadPool(new BlockingTaskThreadFactory());
-    private final RunBusWorkSupplier runBusWorkSupplier =
-            new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    private final ExecutorService executorService;
+    // carrier pinning of the blocking tasks running on virtual threads
+    @Probe(name = "blockingTaskPinnedCount")
+    private final AtomicLong blockingTaskPinnedCount = new AtomicLong();
+
+    @Probe(name = "blockingTaskPinnedTime", unit = ProbeUnit.MS)
+    private final AtomicLong blockingTaskPinnedMillis = new AtomicLong();
+
+    private AutoCloseable blockingTaskPinningMonitor;
+    // one local deque of thread share tasks per cooperative worker, indexed by worker
+    private final ConcurrentLinkedDeque<TaskTracker>[] threadShareTaskQueues;
+    private final AtomicReferenceArray<CooperativeTaskWorker> cooperativeTaskWorkers;
+    private final AtomicInteger nextThreadShareTaskQueue = new AtomicInteger();
+    private final ThreadFactory cooperativeTaskThreadFactory = new CooperativeTaskThreadFactory();
+    private final AtomicBoolean cooperativeTaskWorkersStarted = new AtomicBoolean();
+    // replaced workers wait here once their stuck call returns, to replace the next stuck worker
+    private final ConcurrentLinkedQueue<CooperativeTaskWorker> spareCooperativeTaskWorkers =
+            new ConcurrentLinkedQueue<>();
+    // the workers started to replace stuck workers, at most one per deque
+    private volatile int replacementCooperativeTaskWorkers;
+    private final ScheduledExecutorService slowCallWatchdog;
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts =
             new ConcurrentHashMap<>();
@@ -134,11 +179,45 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final ScheduledExecutorService scheduledExecutorService;
 
+    private final ShuffleChannelRegistry shuffleChannelRegistry;
+
     public TaskExecutionService(NodeEngineImpl nodeEngine, HazelcastProperties properties) {
-        seaTunnelConfig = ConfigProvider.locateAndGetSeaTunnelConfig();
+        this(
+                nodeEngine,
+                properties,
+                ConfigProvider.locateAndGetSeaTunnelConfig(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /** Tests choose the config and the number of cooperative workers of the service. */
+    @SuppressWarnings("unchecked")
+    TaskExecutionService(
+            NodeEngineImpl nodeEngine,
+            HazelcastProperties properties,
+            SeaTunnelConfig seaTunnelConfig,
+            int cooperativeThreadCount) {
+        this.seaTunnelConfig = seaTunnelConfig;
         this.hzInstanceName = nodeEngine.getHazelcastInstance().getName();
         this.nodeEngine = nodeEngine;
         this.logger = nodeEngine.getLoggingService().getLogger(TaskExecutionService.class);
+        this.shuffleChannelRegistry = new ShuffleChannelRegistry(nodeEngine);
+
+        this.threadShareTaskQueues = new ConcurrentLinkedDeque[cooperativeThreadCount];
+        for (int i = 0; i < cooperativeThreadCount; i++) {
+            threadShareTaskQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.cooperativeTaskWorkers = new AtomicReferenceArray<>(cooperativeThreadCount);
+        this.slowCallWatchdog =
+                Executors.newSingleThreadScheduledExecutor(
+                        r ->
+                                new Thread(
+                                        r,
+                                        String.format(
+                                                "hz.%s.seaTunnel.cooperative.watchdog",
+                                                hzInstanceName)));
+        this.executorService =
+                createBlockingTaskExecutor(
+                        seaTunnelConfig.getEngineConfig().getBlockingTaskThreadMode());
 
         MetricsRegistry registry = nodeEngine.getMetricsRegistry();
         MetricDescriptor descriptor =
@@ -154,14 +233,128 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 TimeUnit.SECONDS);
     }
 
-    public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+    private ExecutorService createBlockingTaskExecutor(BlockingTaskThreadMode mode) {
+        if (mode == BlockingTaskThreadMode.VIRTUAL) {
+            if (VirtualThreads.isSupported()) {
+                blockingTaskPinningMonitor =
+                        VirtualThreads.monitorPinning(
+                                pinned -> {
+                                    blockingTaskPinnedCount.incrementAndGet();
+                                    blockingTaskPinnedMillis.addAndGet(pinned.toMillis());
+                                });
+                return VirtualThreads.newThreadPerTaskExecutor(
+                        VirtualThreads.newThreadFactory(
+                                String.format(
+                                        "hz.%s.seaTunnel.task.virtual-thread-", hzInstanceName)));
+            }
+            logger.warning(
+                    String.format(
+                            "%s is %s, but the JVM %s doesn't support virtual threads, run the blocking tasks on platform threads",
+                            ServerConfigOptions.BLOCKING_TASK_THREAD_MODE.key(),
+                            mode,
+                            System.getProperty("java.version")));
+        }
+        return newCachedThreadPool(new BlockingTaskThreadFactory());
     }
 
+    /**
+     * The cooperative workers aren't started here but with the first thread share task, so a node
+     * which only runs blocking tasks has no cooperative workers.
+     */
+    public void start() {}
+
     public void shutdown() {
         isRunning = false;
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
+        slowCallWatchdog.shutdownNow();
+        if (blockingTaskPinningMonitor != null) {
+            try {
+                blockingTaskPinningMonitor.close();
+            } catch (Exception e) {
+                logger.warning("Close blocking task pinning monitor error", e);
+            }
+        }
+        for (int i = 0; i < cooperativeTaskWorkers.length(); i++) {
+            CooperativeTaskWorker worker = cooperativeTaskWorkers.get(i);
+            if (worker != null) {
+                worker.thread.interrupt();
+            }
+        }
+        spareCooperativeTaskWorkers.forEach(worker -> worker.thread.interrupt());
+    }
+
+    private void startCooperativeTaskWorkers() {
+        if (cooperativeTaskWorkersStarted.get()
+                || !cooperativeTaskWorkersStarted.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 0; i < cooperativeTaskWorkers.length(); i++) {
+            startCooperativeTaskWorker(i);
+        }
+        slowCallWatchdog.scheduleAtFixedRate(
+                this::replaceStuckCooperativeTaskWorkers,
+                SLOW_CALL_THRESHOLD_MILLIS,
+                SLOW_CALL_THRESHOLD_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void startCooperativeTaskWorker(int index) {
+        CooperativeTaskWorker worker = new CooperativeTaskWorker(index);
+        cooperativeTaskWorkers.set(index, worker);
+        worker.thread.start();
+    }
+
+    /** The number of cooperative worker threads, including the spare and the stuck ones. */
+    int getCooperativeThreadCount() {
+        return cooperativeTaskWorkersStarted.get()
+                ? cooperativeTaskWorkers.length() + replacementCooperativeTaskWorkers
+                : 0;
+    }
+
+    /**
+     * A cooperative task that doesn't return from a call within {@link #SLOW_CALL_THRESHOLD_MILLIS}
+     * is blocking its worker. The other tasks of the worker's deque are handed to a spare worker,
+     * or to a new one, and the stuck worker hands the slow task back once the call returns and
+     * becomes a spare worker itself. At most one worker per deque is started this way, a deque
+     * whose worker can't be replaced is still drained by the other workers stealing its tasks.
+     */
+    private void replaceStuckCooperativeTaskWorkers() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < cooperativeTaskWorkers.length(); i++) {
+            CooperativeTaskWorker worker = cooperativeTaskWorkers.get(i);
+            long callStartTime = worker.callStartTime.get();
+            if (callStartTime <= 0 || now - callStartTime <= SLOW_CALL_THRESHOLD_MILLIS) {
+                continue;
+            }
+            CooperativeTaskWorker spare = spareCooperativeTaskWorkers.poll();
+            if (spare == null
+                    && replacementCooperativeTaskWorkers >= cooperativeTaskWorkers.length()) {
+                continue;
+            }
+            if (!worker.callStartTime.compareAndSet(
+                    callStartTime, CooperativeTaskWorker.REPLACED)) {
+                // the call returned in the meantime
+                if (spare != null) {
+                    spareCooperativeTaskWorkers.offer(spare);
+                }
+                continue;
+            }
+            logger.info(
+                    String.format(
+                            "Cooperative worker %s is stuck in %s, hand its deque to %s",
+                            worker.thread.getName(),
+                            worker.runningTracker,
+                            spare == null ? "a new worker" : spare.thread.getName()));
+            if (spare == null) {
+                replacementCooperativeTaskWorkers++;
+                startCooperativeTaskWorker(i);
+            } else {
+                cooperativeTaskWorkers.set(i, spare);
+                spare.index = i;
+                LockSupport.unpark(spare.thread);
+            }
+        }
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -177,6 +370,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return taskGroupContext;
     }
 
+    public ShuffleChannelRegistry getShuffleChannelRegistry() {
+        return shuffleChannelRegistry;
+    }
+
     public TaskGroupContext getActiveExecutionContext(TaskGroupLocation taskGroupLocation) {
         TaskGroupContext taskGroupContext = executionContexts.get(taskGroupLocation);
 
@@ -208,7 +405,19 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            taskTrackerStream.filter(Objects::nonNull).forEach(this::offerThreadShareTask);
+        }
+    }
+
+    private void offerThreadShareTask(TaskTracker taskTracker) {
+        startCooperativeTaskWorkers();
+        int index =
+                Math.floorMod(
+                        nextThreadShareTaskQueue.getAndIncrement(), threadShareTaskQueues.length);
+        threadShareTaskQueues[index].offerLast(taskTracker);
+        CooperativeTaskWorker worker = cooperativeTaskWorkers.get(index);
+        if (worker != null) {
+            LockSupport.unpark(worker.thread);
         }
     }
 
@@ -216,15 +425,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
-        taskGroupExecutionTracker.blockingFutures =
+        taskGroupExecutionTracker.blockingFutures.addAll(
                 tasks.stream()
                         .map(
                                 t ->
                                         new BlockingWorker(
                                                 new TaskTracker(t, taskGroupExecutionTracker),
-                                                startedLatch))
+                                                startedLatch,
+                                                false))
                         .map(executorService::submit)
-                        .collect(toList());
+                        .collect(toList()));
 
         // Do not return from this method until all workers have started. Otherwise,
         // on cancellation there is a race where the executor might not have started
@@ -233,6 +443,29 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         uncheckRun(startedLatch::await);
     }
 
+    /**
+     * Move a thread share task that keeps blocking its cooperative worker to the blocking task
+     * pool. It returns to the cooperative workers once its calls are fast again.
+     */
+    private void submitDemotedTask(TaskTracker taskTracker) {
+        logger.info(
+                String.format(
+                        "%s keeps blocking its cooperative worker, move it to the blocking task pool",
+                        taskTracker));
+        TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        Future<?> future =
+                executorService.submit(new BlockingWorker(taskTracker, startedLatch, true));
+        // a worker cancelled before it started would never finish the task, see submitBlockingTask
+        uncheckRun(startedLatch::await);
+        taskGroupExecutionTracker.blockingFutures.removeIf(Future::isDone);
+        taskGroupExecutionTracker.blockingFutures.add(future);
+        if (taskGroupExecutionTracker.isCancel.get()) {
+            // the task group was cancelled before the future was registered
+            future.cancel(true);
+        }
+    }
+
     public TaskDeployState deployTask(@NonNull Data taskImmutableInformation) {
         TaskGroupImmutableInformation taskImmutableInfo =
                 nodeEngine.getSerializationService().toObject(taskImmutableInformation);
@@ -565,9 +798,24 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     public void printTaskExecutionRuntimeInfo() {
         if (logger.isFineEnabled()) {
+            if (!(executorService instanceof ThreadPoolExecutor)) {
+                logger.fine(
+                        StringFormatUtils.formatTable(
+                                "TaskExecutionServer Virtual Thread Status",
+                                "threadShareTaskQueueSize",
+                                Arrays.stream(threadShareTaskQueues)
+                                        .mapToInt(Collection::size)
+                                        .sum(),
+                                "pinnedCount",
+                                blockingTaskPinnedCount.get(),
+                                "pinnedTimeMillis",
+                                blockingTaskPinnedMillis.get()));
+                return;
+            }
             ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
             int activeCount = threadPoolExecutor.getActiveCount();
-            int taskQueueSize = threadShareTaskQueue.size();
+            int taskQueueSize =
+                    Arrays.stream(threadShareTaskQueues).mapToInt(Collection::size).sum();
             long completedTaskCount = threadPoolExecutor.getCompletedTaskCount();
             long taskCount = threadPoolExecutor.getTaskCount();
             logger.fine(
@@ -588,10 +836,13 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
         private final TaskTracker tracker;
         private final CountDownLatch startedLatch;
+        /** The task was moved from a cooperative worker and is already initialized. */
+        private final boolean demoted;
 
-        private BlockingWorker(TaskTracker tracker, CountDownLatch startedLatch) {
+        private BlockingWorker(TaskTracker tracker, CountDownLatch startedLatch, boolean demoted) {
             this.tracker = tracker;
             this.startedLatch = startedLatch;
+            this.demoted = demoted;
         }
 
         @Override
@@ -605,15 +856,20 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
             Thread.currentThread().setContextClassLoader(classLoader);
             final Task t = tracker.task;
+            boolean promoted = false;
             try {
                 startedLatch.countDown();
-                t.init();
-                ProgressState result;
-                do {
-                    result = t.call();
-                } while (!result.isDone()
-                        && isRunning
-                        && !taskGroupExecutionTracker.executionCompletedExceptionally());
+                if (demoted) {
+                    taskGroupExecutionTracker.currRunningTaskThreads.put(
+                            t.getTaskID(), Thread.currentThread());
+                    promoted = callDemotedTask();
+                } else {
+                    t.init();
+                    ProgressState result;
+                    do {
+                        result = t.call();
+                    } while (!result.isDone() && isActive(taskGroupExecutionTracker));
+                }
             } catch (InterruptedException e) {
                 logger.warning(String.format("Interrupted task %d - %s", t.getTaskID(), t));
                 if (taskGroupExecutionTracker.executionException.get() == null
@@ -624,15 +880,63 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 logger.warning("Exception in " + t, e);
                 taskGroupExecutionTracker.exception(e);
             } finally {
-                taskGroupExecutionTracker.taskDone(t);
-                try {
-                    tracker.task.close();
-                } catch (IOException e) {
-                    logger.severe("Close task error", e);
+                taskGroupExecutionTracker.currRunningTaskThreads.remove(
+                        t.getTaskID(), Thread.currentThread());
+                if (promoted) {
+                    tracker.slowCallCount = 0;
+                    offerThreadShareTask(tracker);
+                } else {
+                    taskGroupExecutionTracker.taskDone(t);
+                    try {
+                        tracker.task.close();
+                    } catch (IOException e) {
+                        logger.severe("Close task error", e);
+                    }
                 }
             }
             Thread.currentThread().setContextClassLoader(oldClassLoader);
         }
+
+        /**
+         * Call a task moved from a cooperative worker, backing off while it makes no progress.
+         *
+         * @return {@code true} if the calls got fast again and the task should return to the
+         *     cooperative workers
+         */
+        private boolean callDemotedTask() throws Exception {
+            long idleCount = 0;
+            int fastCalls = 0;
+            while (isActive(tracker.taskGroupExecutionTracker)) {
+                long startTime = System.currentTimeMillis();
+                ProgressState result = tracker.task.call();
+                if (result.isDone()) {
+                    return false;
+                }
+                if (System.currentTimeMillis() - startTime < SLOW_CALL_THRESHOLD_MILLIS) {
+                    if (++fastCalls >= FAST_CALLS_BEFORE_PROMOTION) {
+                        logger.info(
+                                String.format(
+                                        "%s doesn't block anymore, move it back to the cooperative workers",
+                                        tracker));
+                        return true;
+                    }
+                } else {
+                    fastCalls = 0;
+                }
+                if (result.isMadeProgress()) {
+                    idleCount = 0;
+                } else {
+                    COOPERATIVE_IDLER.idle(++idleCount);
+                }
+            }
+            return false;
+        }
+
+        private boolean isActive(TaskGroupExecutionTracker taskGroupExecutionTracker) {
+            return isRunning
+                    && !taskGroupExecutionTracker.isCancel.get()
+                    && !taskGroupExecutionTracker.executionCompletedExceptionally();
+        }
     }
 
     private final class BlockingTaskThreadFactory implements ThreadFactory {
@@ -648,138 +952,181 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    private final class CooperativeTaskThreadFactory implements ThreadFactory {
+        private final AtomicInteger seq = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable r) {
+            return new Thread(
+                    r,
+                    String.format(
+                            "hz.%s.seaTunnel.cooperative.thread-%d",
+                            hzInstanceName, seq.getAndIncrement()));
+        }
+    }
+
     /**
-     * CooperativeTaskWorker is used to poll the task call method, When a task times out, a new
-     * BusWork will be created to take over the execution of the task
+     * CooperativeTaskWorker calls the thread share tasks of its local deque one after another. When
+     * its deque is empty it steals tasks from the tail of the other workers' deques, and when a
+     * whole round of calls made no progress it backs off until there is work again.
      */
-    public final class CooperativeTaskWorker implements Runnable {
-
-        AtomicBoolean keep = new AtomicBoolean(true);
-        public AtomicReference<TaskTracker> exclusiveTaskTracker = new AtomicReference<>();
-        final TaskCallTimer timer;
-        private Thread myThread;
-        public LinkedBlockingDeque<TaskTracker> taskqueue;
-        private Future<?> thisTaskFuture;
-        private BlockingQueue<Future<?>> futureBlockingQueue;
-
-        @SuppressWarnings("checkstyle:MagicNumber")
-        public CooperativeTaskWorker(
-                LinkedBlockingDeque<TaskTracker> taskqueue,
-                RunBusWorkSupplier runBusWorkSupplier,
-                BlockingQueue<Future<?>> futureBlockingQueue) {
-            logger.info(String.format("Created new BusWork : %s", this.hashCode()));
-            this.taskqueue = taskqueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
-            this.futureBlockingQueue = futureBlockingQueue;
-        }
-
-        @SneakyThrows
+    private final class CooperativeTaskWorker implements Runnable {
+
+        private static final long IDLE = 0;
+        private static final long REPLACED = -1;
+        private static final int SPARE = -1;
+
+        private final Thread thread;
+        /** The index of the deque of the worker, or {@link #SPARE}. */
+        private volatile int index;
+        /** The start time of the running call, {@link #IDLE} or {@link #REPLACED}. */
+        private final AtomicLong callStartTime = new AtomicLong(IDLE);
+
+        private volatile TaskTracker runningTracker;
+        private long lastCallMillis;
+
+        private CooperativeTaskWorker(int index) {
+            this.index = index;
+            this.thread = cooperativeTaskThreadFactory.newThread(this);
+        }
+
         @Override
         public void run() {
-            thisTaskFuture = futureBlockingQueue.take();
-            futureBlockingQueue = null;
-            myThread = currentThread();
-            while (keep.get() && isRunning) {
-                TaskTracker taskTracker =
-                        null != exclusiveTaskTracker.get()
-                                ? exclusiveTaskTracker.get()
-                                : taskqueue.takeFirst();
-                TaskGroupExecutionTracker taskGroupExecutionTracker =
-                        taskTracker.taskGroupExecutionTracker;
-                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    if (null != exclusiveTaskTracker.get()) {
-                        // If it's exclusive need to end the work
-                        break;
-                    } else {
-                        // No action required and don't put back
-                        continue;
-                    }
+            while (isRunning) {
+                callTasks(index);
+                // replaced while it was stuck in a call, wait until it replaces another worker
+                index = SPARE;
+                callStartTime.set(IDLE);
+                spareCooperativeTaskWorkers.offer(this);
+                Thread.interrupted();
+                while (isRunning && index == SPARE) {
+                    LockSupport.park(this);
                 }
-                taskGroupExecutionTracker.currRunningTaskFuture.put(
-                        taskTracker.task.getTaskID(), thisTaskFuture);
-                // start timer, if it's exclusive, don't need to start
-                if (null == exclusiveTaskTracker.get()) {
-                    timer.timerStart(taskTracker);
+            }
+        }
+
+        /** Call the tasks of the deque {@code index} until the worker is replaced. */
+        private void callTasks(int index) {
+            long idleCount = 0;
+            int roundCalls = 0;
+            boolean roundProgress = false;
+            while (isRunning) {
+                TaskTracker taskTracker = threadShareTaskQueues[index].pollFirst();
+                if (taskTracker == null) {
+                    taskTracker = stealTask(index);
                 }
-                ProgressState call = null;
-                try {
-                    // run task
-                    myThread.setContextClassLoader(
-                            executionContexts
-                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
-                                    .getClassLoader());
-                    call = taskTracker.task.call();
-                    synchronized (timer) {
-                        timer.timerStop();
-                    }
-                } catch (InterruptedException e) {
-                    if (taskGroupExecutionTracker.executionException.get() == null
-                            && !taskGroupExecutionTracker.isCancel.get()) {
-                        taskGroupExecutionTracker.exception(e);
-                    }
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
+                if (taskTracker == null) {
+                    EMPTY_DEQUE_IDLER.idle(++idleCount);
+                    continue;
+                }
+                ProgressState call = call(taskTracker);
+                boolean replaced = callStartTime.get() == REPLACED;
+                if (null != call && !call.isDone()) {
+                    if (replaced || lastCallMillis >= SLOW_CALL_THRESHOLD_MILLIS) {
+                        taskTracker.slowCallCount++;
+                    } else {
+                        taskTracker.slowCallCount = 0;
                     }
-                } catch (Throwable e) {
-                    // task Failure and complete
-                    taskGroupExecutionTracker.exception(e);
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    // If it's exclusive need to end the work
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
+                    if (taskTracker.slowCallCount >= SLOW_CALLS_BEFORE_DEMOTION) {
+                        // the task keeps blocking in its calls, keep it off the cooperative workers
+                        submitDemotedTask(taskTracker);
+                        call = null;
+                    } else if (replaced) {
+                        // the new worker took over the deque of this worker
+                        offerThreadShareTask(taskTracker);
+                        call = null;
                     }
-                } finally {
-                    // stop timer
-                    timer.timerStop();
-                    taskGroupExecutionTracker.currRunningTaskFuture.remove(
-                            taskTracker.task.getTaskID());
                 }
-                // task call finished
-                if (null != call) {
-                    if (call.isDone()) {
-                        // If it's exclusive, you need to end the work
-                        taskGroupExecutionTracker.taskDone(taskTracker.task);
-                        if (null != exclusiveTaskTracker.get()) {
-                            break;
-                        }
+                if (replaced) {
+                    return;
+                }
+                if (null == call || call.isDone()) {
+                    continue;
+                }
+                threadShareTaskQueues[index].offerLast(taskTracker);
+                roundProgress |= call.isMadeProgress();
+                if (++roundCalls >= threadShareTaskQueues[index].size()) {
+                    if (roundProgress) {
+                        idleCount = 0;
                     } else {
-                        // Task is not completed. Put task to the end of the queue
-                        // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
-                            taskqueue.offer(taskTracker);
-                        }
+                        COOPERATIVE_IDLER.idle(++idleCount);
                     }
+                    roundCalls = 0;
+                    roundProgress = false;
                 }
             }
         }
-    }
 
-    /** Used to create a new BusWork and run */
-    public final class RunBusWorkSupplier {
-
-        ExecutorService executorService;
-        LinkedBlockingDeque<TaskTracker> taskQueue;
-
-        public RunBusWorkSupplier(
-                ExecutorService executorService, LinkedBlockingDeque<TaskTracker> taskqueue) {
-            this.executorService = executorService;
-            this.taskQueue = taskqueue;
+        private TaskTracker stealTask(int index) {
+            for (int i = 1; i < threadShareTaskQueues.length; i++) {
+                TaskTracker taskTracker =
+                        threadShareTaskQueues[(index + i) % threadShareTaskQueues.length]
+                                .pollLast();
+                if (taskTracker != null) {
+                    return taskTracker;
+                }
+            }
+            return null;
         }
 
-        public boolean runNewBusWork(boolean checkTaskQueue) {
-            if (!checkTaskQueue || taskQueue.size() > 0) {
-                BlockingQueue<Future<?>> futureBlockingQueue = new LinkedBlockingQueue<>();
-                CooperativeTaskWorker cooperativeTaskWorker =
-                        new CooperativeTaskWorker(taskQueue, this, futureBlockingQueue);
-                Future<?> submit = executorService.submit(cooperativeTaskWorker);
-                futureBlockingQueue.add(submit);
-                return true;
+        /** @return the state of the call, or {@code null} if the task failed */
+        private ProgressState call(TaskTracker taskTracker) {
+            TaskGroupExecutionTracker taskGroupExecutionTracker =
+                    taskTracker.taskGroupExecutionTracker;
+            if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                return null;
             }
-            return false;
+            Long taskId = taskTracker.task.getTaskID();
+            taskGroupExecutionTracker.currRunningTaskThreads.put(taskId, thread);
+            runningTracker = taskTracker;
+            long startTime = System.currentTimeMillis();
+            callStartTime.set(startTime);
+            ProgressState call = null;
+            try {
+                // run task
+                thread.setContextClassLoader(
+                        executionContexts
+                                .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                                .getClassLoader());
+                call = taskTracker.task.call();
+                if (call.isDone()) {
+                    taskGroupExecutionTracker.taskDone(taskTracker.task);
+                }
+            } catch (InterruptedException e) {
+                if (taskGroupExecutionTracker.executionException.get() == null
+                        && !taskGroupExecutionTracker.isCancel.get()) {
+                    taskGroupExecutionTracker.exception(e);
+                }
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                logger.warning("Exception in " + taskTracker.task, e);
+            } catch (Throwable e) {
+                // task Failure and complete
+                taskGroupExecutionTracker.exception(e);
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                logger.warning("Exception in " + taskTracker.task, e);
+            } finally {
+                lastCallMillis = System.currentTimeMillis() - startTime;
+                callStartTime.compareAndSet(startTime, IDLE);
+                runningTracker = null;
+                taskGroupExecutionTracker.currRunningTaskThreads.remove(taskId, thread);
+            }
+            // workers are only interrupted to cancel the running task, the interrupt must not hit
+            // the next task of the worker
+            if (Thread.interrupted()) {
+                if (null != call
+                        && !call.isDone()
+                        && taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                    // the task returned without noticing the cancellation, finish it now
+                    taskGroupExecutionTracker.taskDone(taskTracker.task);
+                    return null;
+                }
+                logger.fine(
+                        String.format(
+                                "Ignore the interrupt of %s after its call, its task group is still running",
+                                thread.getName()));
+            }
+            return call;
         }
     }
 
@@ -791,14 +1138,14 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
         private final TaskGroup taskGroup;
         final CompletableFuture<TaskExecutionState> future;
-        volatile List<Future<?>> blockingFutures = emptyList();
+        final List<Future<?>> blockingFutures = new CopyOnWriteArrayList<>();
 
         private final AtomicInteger completionLatch;
         private final AtomicReference<Throwable> executionException = new AtomicReference<>();
 
         private final AtomicBoolean isCancel = new AtomicBoolean(false);
 
-        @Getter private Map<Long, Future<?>> currRunningTaskFuture = new ConcurrentHashMap<>();
+        @Getter private Map<Long, Thread> currRunningTaskThreads = new ConcurrentHashMap<>();
 
         TaskGroupExecutionTracker(
                 @NonNull CompletableFuture<Void> cancellationFuture,
@@ -829,7 +1176,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         private void cancelAllTask(TaskGroupLocation taskGroupLocation) {
             try {
                 blockingFutures.forEach(f -> f.cancel(true));
-                currRunningTaskFuture.values().forEach(f -> f.cancel(true));
+                currRunningTaskThreads.values().forEach(Thread::interrupt);
             } catch (CancellationException ignore) {
                 // ignore
             }
@@ -17,8 +17,10 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
@@ -26,8 +28,10 @@ import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleTransport;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.core.dag.actions.SinkConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
@@ -53,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -196,6 +201,18 @@ public class ExecutionPlanGenerator {
         return executionEdges;
     }
 
+    private ReadonlyConfig getEnvOptions() {
+        return ReadonlyConfig.fromMap(jobImmutableInformation.getJobConfig().getEnvOptions());
+    }
+
+    private ShuffleTransport getShuffleTransport() {
+        return getEnvOptions().get(ShuffleConfig.SHUFFLE_TRANSPORT);
+    }
+
+    private boolean isUnalignedCheckpoint() {
+        return getEnvOptions().get(ShuffleConfig.SHUFFLE_UNALIGNED_CHECKPOINT);
+    }
+
     @SuppressWarnings("MagicNumber")
     private Set<ExecutionEdge> generateShuffleEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new LinkedHashMap<>();
@@ -212,14 +229,19 @@ public class ExecutionPlanGenerator {
                             .add(rightVertex);
                 });
         if (sourceExecutionVertices.size() != 1) {
-            return executionEdges;
+            return generateKeyHashShuffleEdges(executionEdges);
         }
         ExecutionVertex sourceExecutionVertex = sourceExecutionVertices.stream().findFirst().get();
         SourceAction sourceAction = (SourceAction) sourceExecutionVertex.getAction();
         SeaTunnelDataType sourceProducedType = sourceAction.getSource().getProducedType();
         if (!SqlType.MULTIPLE_ROW.equals(sourceProducedType.getSqlType())) {
-            return executionEdges;
+            return generateKeyHashShuffleEdges(executionEdges);
         }
+        checkArgument(
+                !getEnvOptions().getOptional(ShuffleConfig.SHUFFLE_KEY_COLUMNS).isPresent(),
+                String.format(
+                        "%s isn't supported by multi-table sources, their rows are shuffled by table to one sink writer per table",
+                        ShuffleConfig.SHUFFLE_KEY_COLUMNS.key()));
 
         List<ExecutionVertex> sinkVertices =
                 targetVerticesMap.get(sourceExecutionVertex.getVertexId());
@@ -238,7 +260,10 @@ public class ExecutionPlanGenerator {
                         .queueEmptyQueueTtl((int) (checkpointConfig.getCheckpointInterval() * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .transport(getShuffleTransport())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -259,6 +284,77 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    /**
+     * Insert a {@link ShuffleKeyHashStrategy} shuffle in front of every sink when the job defines
+     * shuffle key columns, so the sink can run with any parallelism without spreading the changes
+     * of one key over several writers.
+     */
+    @SuppressWarnings("MagicNumber")
+    private Set<ExecutionEdge> generateKeyHashShuffleEdges(Set<ExecutionEdge> executionEdges) {
+        Optional<List<String>> keyColumns =
+                getEnvOptions().getOptional(ShuffleConfig.SHUFFLE_KEY_COLUMNS);
+        if (!keyColumns.isPresent()) {
+            return executionEdges;
+        }
+
+        Map<Long, Long> sinkInputCount =
+                executionEdges.stream()
+                        .filter(edge -> edge.getRightVertex().getAction() instanceof SinkAction)
+                        .collect(
+                                Collectors.groupingBy(
+                                        edge -> edge.getRightVertex().getVertexId(),
+                                        Collectors.counting()));
+        checkArgument(
+                sinkInputCount.values().stream().allMatch(count -> count == 1),
+                "Shuffle by key columns requires every sink to have exactly one input");
+
+        Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        for (ExecutionEdge executionEdge : executionEdges) {
+            ExecutionVertex leftVertex = executionEdge.getLeftVertex();
+            ExecutionVertex rightVertex = executionEdge.getRightVertex();
+            if (!(rightVertex.getAction() instanceof SinkAction)) {
+                newExecutionEdges.add(executionEdge);
+                continue;
+            }
+            SinkAction<?, ?, ?, ?> sinkAction = (SinkAction<?, ?, ?, ?>) rightVertex.getAction();
+            SeaTunnelDataType<?> consumedType = sinkAction.getSink().getConsumedType();
+            checkArgument(
+                    consumedType instanceof SeaTunnelRowType,
+                    "Shuffle by key columns isn't supported by sink " + sinkAction.getName());
+
+            ShuffleStrategy shuffleStrategy =
+                    ShuffleKeyHashStrategy.builder()
+                            .jobId(jobImmutableInformation.getJobId())
+                            .inputPartitions(leftVertex.getParallelism())
+                            .targetPartitions(rightVertex.getParallelism())
+                            .keyFieldIndexes(
+                                    ShuffleKeyHashStrategy.getKeyFieldIndexes(
+                                            (SeaTunnelRowType) consumedType, keyColumns.get()))
+                            .inputRowType((SeaTunnelRowType) consumedType)
+                            .queueEmptyQueueTtl(
+                                    (int) (checkpointConfig.getCheckpointInterval() * 3))
+                            .build();
+            ShuffleConfig shuffleConfig =
+                    ShuffleConfig.builder()
+                            .shuffleStrategy(shuffleStrategy)
+                            .transport(getShuffleTransport())
+                            .unalignedCheckpoint(isUnalignedCheckpoint())
+                            .build();
+
+            long shuffleVertexId = idGenerator.getNextId();
+            String shuffleActionName = String.format("Shuffle [%s]", sinkAction.getName());
+            ShuffleAction shuffleAction =
+                    new ShuffleAction(shuffleVertexId, shuffleActionName, shuffleConfig);
+            shuffleAction.setParallelism(rightVertex.getParallelism());
+            ExecutionVertex shuffleVertex =
+                    new ExecutionVertex(
+                            shuffleVertexId, shuffleAction, shuffleAction.getParallelism());
+            newExecutionEdges.add(new ExecutionEdge(leftVertex, shuffleVertex));
+            newExecutionEdges.add(new ExecutionEdge(shuffleVertex, rightVertex));
+        }
+        return newExecutionEdges;
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
@@ -54,6 +54,7 @@ import org.apache.seatunnel.engine.server.task.SinkAggregatedCommitterTask;
 import org.apache.seatunnel.engine.server.task.SourceSeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
 import org.apache.seatunnel.engine.server.task.TransformSeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBatchQueue;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
 import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
 
@@ -83,6 +84,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.apache.seatunnel.engine.common.config.server.QueueType.BATCHQUEUE;
 import static org.apache.seatunnel.engine.common.config.server.QueueType.BLOCKINGQUEUE;
 
 public class PhysicalPlanGenerator {
@@ -581,6 +583,14 @@ public class PhysicalPlanGenerator {
                                                         taskList.stream()
                                                                 .map(task -> (Task) task)
                                                                 .collect(Collectors.toList()));
+                                    } else if (queueType.equals(BATCHQUEUE)) {
+                                        taskGroup =
+                                                new TaskGroupWithIntermediateBatchQueue(
+                                                        taskGroupLocation,
+                                                        flow.getAction().getName() + "-SourceTask",
+                                                        taskList.stream()
+                                                                .map(task -> (Task) task)
+                                                                .collect(Collectors.toList()));
                                     } else {
                                         taskGroup =
                                                 new TaskGroupWithIntermediateDisruptor(
@@ -19,12 +19,11 @@ package org.apache.seatunnel.engine.server.execution;
 
 import org.apache.seatunnel.engine.server.TaskExecutionService;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 public class TaskTracker {
-    public final AtomicInteger expiredTimes = new AtomicInteger(0);
     public final TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker;
     public final Task task;
+    /** Consecutive calls of the task that blocked its cooperative worker. */
+    public int slowCallCount;
 
     public TaskTracker(
             Task task, TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker) {
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+/**
+ * Access to the virtual threads of the running JVM. The engine is built for Java 8, so everything
+ * is looked up by reflection and {@link #isSupported()} tells whether the JVM provides virtual
+ * threads at all.
+ */
+public final class VirtualThreads {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor =
+                    Class.forName("java.util.concurrent.Executors")
+                            .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // preview builds expose the methods but refuse to create virtual threads
+            ofVirtual.invoke(null);
+        } catch (Throwable e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /** Creates a factory of virtual threads named {@code prefix0}, {@code prefix1} and so on. */
+    public static ThreadFactory newThreadFactory(@NonNull String prefix) {
+        checkSupported();
+        Object builder = invoke(OF_VIRTUAL, null);
+        builder = invoke(BUILDER_NAME, builder, prefix, 0L);
+        return (ThreadFactory) invoke(BUILDER_FACTORY, builder);
+    }
+
+    /** Creates an executor that starts a new thread of the factory for each task. */
+    public static ExecutorService newThreadPerTaskExecutor(@NonNull ThreadFactory threadFactory) {
+        checkSupported();
+        return (ExecutorService) invoke(NEW_THREAD_PER_TASK_EXECUTOR, null, threadFactory);
+    }
+
+    /**
+     * Starts listening to the JFR events emitted when a virtual thread blocks while pinned to its
+     * carrier thread, e.g. inside a {@code synchronized} block or a native frame. The listener
+     * receives how long the carrier was pinned.
+     *
+     * @return the handle to stop listening, or {@code null} if the JVM can't stream JFR events
+     */
+    public static AutoCloseable monitorPinning(@NonNull Consumer<Duration> listener) {
+        checkSupported();
+        try {
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Method getDuration =
+                    Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getDuration");
+            AutoCloseable stream = (AutoCloseable) streamClass.getConstructor().newInstance();
+            streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            Consumer<Object> handler =
+                    event -> listener.accept((Duration) invoke(getDuration, event));
+            streamClass
+                    .getMethod("onEvent", String.class, Consumer.class)
+                    .invoke(stream, PINNED_EVENT, handler);
+            streamClass.getMethod("startAsync").invoke(stream);
+            return stream;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by JVM "
+                            + System.getProperty("java.version"));
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.seatunnel.engine.server.master;
 
 import org.apache.seatunnel.api.common.metrics.JobMetrics;
 import org.apache.seatunnel.api.common.metrics.RawJobMetrics;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.configuration.util.OptionValidationException;
 import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.RetryUtils;
@@ -28,6 +30,8 @@ import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.EngineConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
+import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
 import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
 import org.apache.seatunnel.engine.common.loader.SeaTunnelChildFirstClassLoader;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
@@ -215,7 +219,9 @@ public class JobMaster {
                         flakeIdGenerator,
                         runningJobStateIMap,
                         runningJobStateTimestampsIMap,
-                        engineConfig.getQueueType(),
+                        getJobQueueType(
+                                jobImmutableInformation.getJobConfig().getEnvOptions(),
+                                engineConfig.getQueueType()),
                         jobCheckpointConfig);
         this.physicalPlan = planTuple.f0();
         this.physicalPlan.setJobMaster(this);
@@ -278,6 +284,22 @@ public class JobMaster {
         return jobCheckpointConfig;
     }
 
+    // the job env can choose another intermediate queue than the engine default.
+    static QueueType getJobQueueType(Map<String, Object> jobEnv, QueueType engineQueueType) {
+        try {
+            return ReadonlyConfig.fromMap(jobEnv)
+                    .getOptional(ServerConfigOptions.QUEUE_TYPE)
+                    .orElse(engineQueueType);
+        } catch (IllegalArgumentException e) {
+            throw new OptionValidationException(
+                    String.format(
+                            "The option(\"%s\") must be one of %s",
+                            ServerConfigOptions.QUEUE_TYPE.key(),
+                            Arrays.toString(QueueType.values())),
+                    e);
+        }
+    }
+
     public void initStateFuture() {
         jobMasterCompleteFuture = new CompletableFuture<>();
         PassiveCompletableFuture<JobResult> jobStatusFuture = physicalPlan.initStateFuture();
@@ -0,0 +1,571 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A schema driven binary codec of {@link Record}s, compiled once from the {@link SeaTunnelRowType}
+ * (or {@link MultipleRowType}) of the rows.
+ *
+ * <p>Unlike {@link RecordSerializer} no type tag is written per value: every row is encoded as its
+ * {@link RowKind}, a varint dictionary code of its table id, a null bitmap and the non null fields
+ * in their type's fixed width or varint length prefixed form.
+ */
+public class RecordCodec {
+
+    private static final byte SEATUNNEL_ROW = 0;
+    private static final byte CHECKPOINT_BARRIER = 1;
+
+    private static final int NULL_TABLE_ID = 0;
+
+    private final String[] tableIds;
+    private final Map<String, Integer> tableCodes;
+    private final RowCodec[] tableRowCodecs;
+    /** Used for rows whose table id isn't in the dictionary, {@code null} if there is none. */
+    private final RowCodec defaultRowCodec;
+
+    private RecordCodec(String[] tableIds, RowCodec[] tableRowCodecs, RowCodec defaultRowCodec) {
+        this.tableIds = tableIds;
+        this.tableRowCodecs = tableRowCodecs;
+        this.defaultRowCodec = defaultRowCodec;
+        this.tableCodes = new HashMap<>();
+        for (int i = 0; i < tableIds.length; i++) {
+            tableCodes.put(tableIds[i], i + 1);
+        }
+    }
+
+    public static RecordCodec of(SeaTunnelDataType<?> rowType) {
+        if (rowType instanceof MultipleRowType) {
+            MultipleRowType multipleRowType = (MultipleRowType) rowType;
+            String[] tableIds = multipleRowType.getTableIds();
+            RowCodec[] rowCodecs = new RowCodec[tableIds.length];
+            for (int i = 0; i < tableIds.length; i++) {
+                rowCodecs[i] = new RowCodec(multipleRowType.getRowType(tableIds[i]));
+            }
+            return new RecordCodec(tableIds, rowCodecs, null);
+        }
+        if (rowType instanceof SeaTunnelRowType) {
+            RowCodec rowCodec = new RowCodec((SeaTunnelRowType) rowType);
+            // rows of a single table usually keep the default empty table id
+            return new RecordCodec(new String[] {""}, new RowCodec[] {rowCodec}, rowCodec);
+        }
+        throw new IllegalArgumentException("Unsupported record codec type: " + rowType);
+    }
+
+    public byte[] encode(List<Record<?>> records) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            writeVarInt(out, records.size());
+            for (Record<?> record : records) {
+                write(out, record);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public List<Record<?>> decode(byte[] bytes) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            int size = readVarInt(in);
+            List<Record<?>> records = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                records.add(read(in));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(DataOutput out, Record<?> record) throws IOException {
+        Object data = record.getData();
+        if (data instanceof SeaTunnelRow) {
+            out.writeByte(SEATUNNEL_ROW);
+            writeRow(out, (SeaTunnelRow) data);
+        } else if (data instanceof CheckpointBarrier) {
+            CheckpointBarrier checkpointBarrier = (CheckpointBarrier) data;
+            out.writeByte(CHECKPOINT_BARRIER);
+            out.writeLong(checkpointBarrier.getId());
+            out.writeLong(checkpointBarrier.getTimestamp());
+            writeString(out, checkpointBarrier.getCheckpointType().getName());
+        } else {
+            throw new UnsupportedEncodingException(
+                    "Unsupported serialize class: " + data.getClass());
+        }
+    }
+
+    public Record<?> read(DataInput in) throws IOException {
+        byte dataType = in.readByte();
+        if (dataType == SEATUNNEL_ROW) {
+            return new Record<>(readRow(in));
+        } else if (dataType == CHECKPOINT_BARRIER) {
+            return new Record<>(
+                    new CheckpointBarrier(
+                            in.readLong(), in.readLong(), CheckpointType.fromName(readString(in))));
+        }
+        throw new UnsupportedEncodingException("Unsupported deserialize data type: " + dataType);
+    }
+
+    private void writeRow(DataOutput out, SeaTunnelRow row) throws IOException {
+        out.writeByte(row.getRowKind().toByteValue());
+        String tableId = row.getTableId();
+        RowCodec rowCodec;
+        if (tableId == null) {
+            writeVarInt(out, NULL_TABLE_ID);
+            rowCodec = defaultRowCodec;
+        } else {
+            Integer tableCode = tableCodes.get(tableId);
+            if (tableCode != null) {
+                writeVarInt(out, tableCode);
+                rowCodec = tableRowCodecs[tableCode - 1];
+            } else {
+                // not in the dictionary, the table id follows as a literal
+                writeVarInt(out, tableIds.length + 1);
+                writeString(out, tableId);
+                rowCodec = defaultRowCodec;
+            }
+        }
+        checkRowCodec(rowCodec, tableId).write(out, row);
+    }
+
+    private SeaTunnelRow readRow(DataInput in) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        int tableCode = readVarInt(in);
+        String tableId;
+        RowCodec rowCodec;
+        if (tableCode == NULL_TABLE_ID) {
+            tableId = null;
+            rowCodec = defaultRowCodec;
+        } else if (tableCode <= tableIds.length) {
+            tableId = tableIds[tableCode - 1];
+            rowCodec = tableRowCodecs[tableCode - 1];
+        } else {
+            tableId = readString(in);
+            rowCodec = defaultRowCodec;
+        }
+        SeaTunnelRow row = checkRowCodec(rowCodec, tableId).read(in);
+        row.setRowKind(rowKind);
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private static RowCodec checkRowCodec(RowCodec rowCodec, String tableId) {
+        if (rowCodec == null) {
+            throw new IllegalArgumentException(
+                    String.format("No row type is known for table [%s]", tableId));
+        }
+        return rowCodec;
+    }
+
+    private interface FieldCodec {
+        void write(DataOutput out, Object value) throws IOException;
+
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static class RowCodec implements FieldCodec {
+        private final FieldCodec[] fieldCodecs;
+        private final int bitmapBytes;
+
+        RowCodec(SeaTunnelRowType rowType) {
+            this.fieldCodecs = new FieldCodec[rowType.getTotalFields()];
+            for (int i = 0; i < fieldCodecs.length; i++) {
+                fieldCodecs[i] = createFieldCodec(rowType.getFieldType(i));
+            }
+            this.bitmapBytes = (fieldCodecs.length + 7) / 8;
+        }
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            Object[] fields = row.getFields();
+            if (fields.length != fieldCodecs.length) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The arity %s of row doesn't match the arity %s of its type",
+                                fields.length, fieldCodecs.length));
+            }
+            for (int offset = 0; offset < bitmapBytes; offset++) {
+                int bits = 0;
+                int end = Math.min(fields.length, (offset + 1) * 8);
+                for (int i = offset * 8; i < end; i++) {
+                    if (fields[i] == null) {
+                        bits |= 1 << (i & 7);
+                    }
+                }
+                out.writeByte(bits);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    fieldCodecs[i].write(out, fields[i]);
+                }
+            }
+        }
+
+        @Override
+        public SeaTunnelRow read(DataInput in) throws IOException {
+            byte[] bitmap = new byte[bitmapBytes];
+            in.readFully(bitmap);
+            Object[] fields = new Object[fieldCodecs.length];
+            for (int i = 0; i < fields.length; i++) {
+                if ((bitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                    fields[i] = fieldCodecs[i].read(in);
+                }
+            }
+            return new SeaTunnelRow(fields);
+        }
+    }
+
+    private static FieldCodec createFieldCodec(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case STRING:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        writeString(out, (String) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return readString(in);
+                    }
+                };
+            case BOOLEAN:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeBoolean((Boolean) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readBoolean();
+                    }
+                };
+            case TINYINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeByte((Byte) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readByte();
+                    }
+                };
+            case SMALLINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeShort((Short) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readShort();
+                    }
+                };
+            case INT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeInt((Integer) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readInt();
+                    }
+                };
+            case BIGINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeLong((Long) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readLong();
+                    }
+                };
+            case FLOAT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeFloat((Float) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readFloat();
+                    }
+                };
+            case DOUBLE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeDouble((Double) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return in.readDouble();
+                    }
+                };
+            case DECIMAL:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        BigDecimal decimal = (BigDecimal) value;
+                        writeVarInt(out, decimal.scale());
+                        writeBytes(out, decimal.unscaledValue().toByteArray());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        int scale = readVarInt(in);
+                        return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                    }
+                };
+            case BYTES:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        writeBytes(out, (byte[]) value);
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return readBytes(in);
+                    }
+                };
+            case DATE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeLong(((LocalDate) value).toEpochDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return LocalDate.ofEpochDay(in.readLong());
+                    }
+                };
+            case TIME:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        out.writeLong(((LocalTime) value).toNanoOfDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return LocalTime.ofNanoOfDay(in.readLong());
+                    }
+                };
+            case TIMESTAMP:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) throws IOException {
+                        LocalDateTime dateTime = (LocalDateTime) value;
+                        out.writeLong(dateTime.toLocalDate().toEpochDay());
+                        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                    }
+
+                    @Override
+                    public Object read(DataInput in) throws IOException {
+                        return LocalDateTime.of(
+                                LocalDate.ofEpochDay(in.readLong()),
+                                LocalTime.ofNanoOfDay(in.readLong()));
+                    }
+                };
+            case NULL:
+                return new FieldCodec() {
+                    @Override
+                    public void write(DataOutput out, Object value) {}
+
+                    @Override
+                    public Object read(DataInput in) {
+                        return null;
+                    }
+                };
+            case ARRAY:
+                return new ArrayCodec((ArrayType<?, ?>) type);
+            case MAP:
+                return new MapCodec((MapType<?, ?>) type);
+            case ROW:
+                return new RowCodec((SeaTunnelRowType) type);
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported record codec field type: " + type);
+        }
+    }
+
+    private static class ArrayCodec implements FieldCodec {
+        private final Class<?> elementClass;
+        private final FieldCodec elementCodec;
+
+        ArrayCodec(ArrayType<?, ?> type) {
+            this.elementClass = type.getElementType().getTypeClass();
+            this.elementCodec = createFieldCodec(type.getElementType());
+        }
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            int length = Array.getLength(value);
+            writeVarInt(out, length);
+            for (int i = 0; i < length; i++) {
+                Object element = Array.get(value, i);
+                out.writeBoolean(element != null);
+                if (element != null) {
+                    elementCodec.write(out, element);
+                }
+            }
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            int length = readVarInt(in);
+            Object array = Array.newInstance(elementClass, length);
+            for (int i = 0; i < length; i++) {
+                if (in.readBoolean()) {
+                    Array.set(array, i, elementCodec.read(in));
+                }
+            }
+            return array;
+        }
+    }
+
+    private static class MapCodec implements FieldCodec {
+        private final FieldCodec keyCodec;
+        private final FieldCodec valueCodec;
+
+        MapCodec(MapType<?, ?> type) {
+            this.keyCodec = createFieldCodec(type.getKeyType());
+            this.valueCodec = createFieldCodec(type.getValueType());
+        }
+
+        @Override
+        public void write(DataOutput out, Object value) throws IOException {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeNullable(out, keyCodec, entry.getKey());
+                writeNullable(out, valueCodec, entry.getValue());
+            }
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            int size = readVarInt(in);
+            Map<Object, Object> map = new HashMap<>(Math.max(16, (int) (size / .75f) + 1));
+            for (int i = 0; i < size; i++) {
+                map.put(readNullable(in, keyCodec), readNullable(in, valueCodec));
+            }
+            return map;
+        }
+
+        private static void writeNullable(DataOutput out, FieldCodec codec, Object value)
+                throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                codec.write(out, value);
+            }
+        }
+
+        private static Object readNullable(DataInput in, FieldCodec codec) throws IOException {
+            return in.readBoolean() ? codec.read(in) : null;
+        }
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+}
@@ -33,7 +33,10 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        // the arity is written as a byte, the format of the records stored before wide rows
+        SEATUNNEL_ROW,
+        // the arity is written as an int, only used for rows of more than 127 fields
+        SEATUNNEL_WIDE_ROW;
     }
 
     @Override
@@ -47,10 +50,20 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeString(checkpointBarrier.getCheckpointType().getName());
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
-            out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
+            // the rows which fit keep the byte arity, so records written by this version can be
+            // read by the previous one and the other way round
+            boolean wide = row.getArity() > Byte.MAX_VALUE;
+            out.writeByte(
+                    wide
+                            ? RecordDataType.SEATUNNEL_WIDE_ROW.ordinal()
+                            : RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            if (wide) {
+                out.writeInt(row.getArity());
+            } else {
+                out.writeByte(row.getArity());
+            }
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
@@ -68,10 +81,14 @@ public class RecordSerializer implements StreamSerializer<Record> {
             data =
                     new CheckpointBarrier(
                             in.readLong(), in.readLong(), CheckpointType.fromName(in.readString()));
-        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
+        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()
+                || dataType == RecordDataType.SEATUNNEL_WIDE_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity =
+                    dataType == RecordDataType.SEATUNNEL_WIDE_ROW.ordinal()
+                            ? in.readInt()
+                            : in.readByte();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -30,6 +30,8 @@ import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOper
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.CloseRequestOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleBatchOperation;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.AssignSplitOperation;
@@ -89,6 +91,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CHECK_TASKGROUP_IS_EXECUTING = 21;
 
+    public static final int SHUFFLE_BATCH_OPERATION = 22;
+
+    public static final int SHUFFLE_CREDIT_OPERATION = 23;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -151,6 +157,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new SourceReaderEventOperation();
                 case CHECK_TASKGROUP_IS_EXECUTING:
                     return new CheckTaskGroupIsExecutingOperation();
+                case SHUFFLE_BATCH_OPERATION:
+                    return new ShuffleBatchOperation();
+                case SHUFFLE_CREDIT_OPERATION:
+                    return new ShuffleCreditOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
@@ -56,7 +56,6 @@ import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithInterm
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
-import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import lombok.NonNull;
@@ -236,23 +235,14 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 completableFuture);
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
-                HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
                 if (flow.getNext().isEmpty()) {
                     lifeCycle =
                             new ShuffleSinkFlowLifeCycle(
-                                    this,
-                                    indexID,
-                                    shuffleAction,
-                                    hazelcastInstance,
-                                    completableFuture);
+                                    this, indexID, shuffleAction, completableFuture);
                 } else {
                     lifeCycle =
                             new ShuffleSourceFlowLifeCycle(
-                                    this,
-                                    indexID,
-                                    shuffleAction,
-                                    hazelcastInstance,
-                                    completableFuture);
+                                    this, indexID, shuffleAction, completableFuture);
                 }
                 outputs = flowLifeCycles;
             } else {
@@ -23,33 +23,38 @@ import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannels;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleOutputChannel;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-@SuppressWarnings("MagicNumber")
+@SuppressWarnings({"MagicNumber", "unchecked"})
 @Slf4j
 public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, ShuffleOutputChannel> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
-    private final Map<String, Queue<Record<?>>> shuffleBuffer;
+    // the channels and their buffered records, in the order of the shuffle names
+    private final ShuffleOutputChannel[] shuffleChannels;
+    private final List<Record<?>>[] shuffleBuffer;
+    // the index of each channel by name, for the strategies which route by name
+    private final Map<String, Integer> shuffleIndexes;
     private final ShuffleStrategy shuffleStrategy;
+    private final boolean unalignedCheckpoint;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -57,26 +62,46 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
-            HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                ShuffleChannels.createOutputChannels(
+                        shuffleAction.getConfig(),
+                        runningTask.getExecutionContext(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
-        this.shuffleBuffer = new HashMap<>();
+        this.shuffleChannels = shuffles.values().toArray(new ShuffleOutputChannel[0]);
+        this.shuffleBuffer = new List[shuffleChannels.length];
+        this.shuffleIndexes = new HashMap<>();
+        int shuffleIndex = 0;
+        for (String shuffleName : shuffles.keySet()) {
+            shuffleBuffer[shuffleIndex] = new ArrayList<>();
+            shuffleIndexes.put(shuffleName, shuffleIndex++);
+        }
+        this.unalignedCheckpoint = ShuffleChannels.isUnalignedCheckpoint(shuffleAction.getConfig());
     }
 
     @Override
     public void received(Record<?> record) throws IOException {
         if (record.getData() instanceof Barrier) {
+            Barrier barrier = (Barrier) record.getData();
+            if (unalignedCheckpoint && ShuffleChannels.isUnalignedBarrier(barrier)) {
+                overtake(record);
+                runningTask.ack(barrier);
+                // the barrier still marks the end of the in-flight records of each channel
+                putBarrier(record);
+                return;
+            }
+
             // flush shuffle buffer
             shuffleFlush();
 
-            Barrier barrier = (Barrier) record.getData();
             if (barrier.prepareClose()) {
                 prepareClose = true;
             }
@@ -86,15 +111,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             }
             runningTask.ack(barrier);
 
-            // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
-                try {
-                    shuffleQueue.put(record);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+            putBarrier(record);
         } else {
             if (prepareClose) {
                 return;
@@ -104,10 +121,42 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
+    private void putBarrier(Record<?> record) {
+        // The barrier needs to be replicated to all channels
+        for (ShuffleOutputChannel shuffleQueue : shuffleChannels) {
+            try {
+                shuffleQueue.put(record);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Send the barrier ahead of the records queued in the channels, together with the records
+     * buffered here. The downstream task stores both as the in-flight records of the checkpoint and
+     * emits the buffered records when it reaches the barrier in the channel.
+     */
+    private synchronized void overtake(Record<?> record) {
+        for (int shuffleIndex = 0; shuffleIndex < shuffleChannels.length; shuffleIndex++) {
+            List<Record<?>> batch = new ArrayList<>();
+            batch.add(record);
+            List<Record<?>> buffered = shuffleBuffer[shuffleIndex];
+            batch.addAll(buffered);
+            buffered.clear();
+            try {
+                shuffleChannels[shuffleIndex].putPriority(batch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        shuffleBufferSize = 0;
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
+        for (Map.Entry<String, ShuffleOutputChannel> shuffleItem : shuffles.entrySet()) {
             log.info("destroy shuffle queue: {}", shuffleItem.getKey());
             shuffleItem.getValue().destroy();
         }
@@ -151,8 +200,12 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     }
 
     private synchronized void shuffleItem(Record<?> record) {
-        String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+        int shuffleIndex =
+                shuffleStrategy.isIndexedRouting()
+                        ? shuffleStrategy.createShuffleIndex(record, taskIndex)
+                        : shuffleIndexes.get(
+                                shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex));
+        shuffleBuffer[shuffleIndex].add(record);
         shuffleBufferSize++;
 
         if (shuffleBufferSize >= shuffleBatchSize
@@ -165,21 +218,13 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     }
 
     private synchronized void shuffleFlush() {
-        for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+        for (int shuffleIndex = 0; shuffleIndex < shuffleChannels.length; shuffleIndex++) {
+            List<Record<?>> shuffleQueueBatch = shuffleBuffer[shuffleIndex];
+            if (!shuffleQueueBatch.isEmpty()) {
+                try {
+                    shuffleChannels[shuffleIndex].putAll(shuffleQueueBatch);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
                 }
             }
             shuffleQueueBatch.clear();
@@ -14,64 +14,106 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannels;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleInputChannel;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @SuppressWarnings("MagicNumber")
-public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
+public class ShuffleSourceFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleInputChannel[] shuffles;
     private List<Record<?>> unsentBuffer;
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
 
+    private final boolean unalignedCheckpoint;
+    private final RecordCodec codec;
+    /** The id of the last barrier which overtook the records of each channel. */
+    private final long[] receivedBarrierIds;
+    /** The records carried by the barriers of each channel, emitted when reaching the barrier. */
+    private final List<Map<Long, List<Record<?>>>> carriedRecords;
+    /** The barriers already sent downstream, which haven't overtaken all the channels yet. */
+    private final TreeMap<Long, UnalignedBarrier> unalignedBarriers = new TreeMap<>();
+    /**
+     * The records taken from each channel while looking for the in-band position of an overtaking
+     * barrier, they are read before the records still queued in the channel.
+     */
+    private final List<Deque<Record<?>>> channelBuffers;
+
+    private List<Record<?>> restoredRecords;
+
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
-            HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
-        super(runningTask, completableFuture);
+        super(shuffleAction, runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+                ShuffleChannels.createInputChannels(
+                        shuffleAction.getConfig(),
+                        runningTask.getExecutionContext(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.unalignedCheckpoint = ShuffleChannels.isUnalignedCheckpoint(shuffleAction.getConfig());
+        this.codec = ShuffleChannels.createCodec(shuffleAction.getConfig().getShuffleStrategy());
+        this.receivedBarrierIds = new long[shuffles.length];
+        this.carriedRecords = new ArrayList<>(shuffles.length);
+        this.channelBuffers = new ArrayList<>(shuffles.length);
+        for (int i = 0; i < shuffles.length; i++) {
+            receivedBarrierIds[i] = Long.MIN_VALUE;
+            carriedRecords.add(new HashMap<>());
+            channelBuffers.add(new ArrayDeque<>());
+        }
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (restoredRecords != null) {
+            // the in-flight records of the restored checkpoint come before any record of the
+            // channels
+            for (Record<?> record : restoredRecords) {
+                collector.collect(record);
+            }
+            restoredRecords = null;
+        }
+
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
-            if (shuffleQueue.size() == 0) {
+            if (unalignedCheckpoint) {
+                receiveUnalignedBarriers(i, collector);
+            }
+            if (size(i) == 0) {
                 emptyShuffleQueueCount++;
                 continue;
             }
@@ -83,19 +125,26 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
 
             List<Record<?>> shuffleBatch = new LinkedList<>();
             if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
+                shuffleBatch.add(take(i));
             } else if (unsentBuffer != null && !unsentBuffer.isEmpty()) {
                 shuffleBatch = unsentBuffer;
                 unsentBuffer = null;
             }
 
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+            drainTo(i, shuffleBatch, shuffleBatchSize);
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
                 if (record.getData() instanceof Barrier) {
                     Barrier barrier = (Barrier) record.getData();
 
+                    if (unalignedCheckpoint && ShuffleChannels.isUnalignedBarrier(barrier)) {
+                        // the barrier overtook the records before it, it only marks where the
+                        // records it carried belong
+                        reachUnalignedBarrier(i, barrier, collector);
+                        continue;
+                    }
+
                     // mark queue barrier
                     alignedBarriers.put(i, barrier);
                     alignedBarriersCounter++;
@@ -130,7 +179,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
-                    collector.collect(record);
+                    emit(i, record, collector);
                 }
             }
         }
@@ -140,12 +189,217 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         }
     }
 
+    /**
+     * Receive the barriers which overtook the records of the channel. The records between the head
+     * of the channel and the barrier, and the records it carried, are the in-flight records of the
+     * channel for the checkpoint.
+     */
+    private void receiveUnalignedBarriers(int channel, Collector<Record<?>> collector)
+            throws Exception {
+        List<Record<?>> batch;
+        while ((batch = shuffles[channel].pollPriority()) != null) {
+            Barrier barrier = (Barrier) batch.get(0).getData();
+            receiveUnalignedBarrier(
+                    channel, batch, inFlightRecords(channel, barrier.getId()), collector);
+        }
+    }
+
+    /**
+     * The records of the channel before the barrier, the earlier barriers replaced by their
+     * records. Only the records up to the in-band position of the barrier are read, the ones still
+     * queued are moved to the buffer of the channel until it's found.
+     */
+    private List<Record<?>> inFlightRecords(int channel, long barrierId) {
+        List<Record<?>> records = new ArrayList<>();
+        Deque<Record<?>> buffer = channelBuffers.get(channel);
+        for (Record<?> record : buffer) {
+            if (!addInFlightRecord(channel, barrierId, record, records)) {
+                return records;
+            }
+        }
+        List<Record<?>> batch = new ArrayList<>(shuffleBatchSize);
+        // the records before the barrier were queued before it overtook them
+        while (shuffles[channel].drainTo(batch, shuffleBatchSize) > 0) {
+            buffer.addAll(batch);
+            for (Record<?> record : batch) {
+                if (!addInFlightRecord(channel, barrierId, record, records)) {
+                    return records;
+                }
+            }
+            batch.clear();
+        }
+        return records;
+    }
+
+    /**
+     * Add the record to the in-flight records, false if it is the in-band position of the barrier.
+     */
+    private boolean addInFlightRecord(
+            int channel, long barrierId, Record<?> record, List<Record<?>> records) {
+        if (record.getData() instanceof Barrier) {
+            Barrier barrier = (Barrier) record.getData();
+            if (!ShuffleChannels.isUnalignedBarrier(barrier) || barrier.getId() >= barrierId) {
+                return false;
+            }
+            records.addAll(
+                    carriedRecords
+                            .get(channel)
+                            .getOrDefault(barrier.getId(), Collections.emptyList()));
+        } else {
+            records.add(record);
+        }
+        return true;
+    }
+
+    private int size(int channel) {
+        return channelBuffers.get(channel).size() + shuffles[channel].size();
+    }
+
+    private Record<?> take(int channel) throws InterruptedException {
+        Record<?> record = channelBuffers.get(channel).poll();
+        return record != null ? record : shuffles[channel].take();
+    }
+
+    private void drainTo(int channel, List<Record<?>> target, int maxElements) {
+        Deque<Record<?>> buffer = channelBuffers.get(channel);
+        int drained = 0;
+        while (drained < maxElements && !buffer.isEmpty()) {
+            target.add(buffer.poll());
+            drained++;
+        }
+        if (drained < maxElements) {
+            shuffles[channel].drainTo(target, maxElements - drained);
+        }
+    }
+
+    private void receiveUnalignedBarrier(
+            int channel,
+            List<Record<?>> batch,
+            List<Record<?>> inFlightRecords,
+            Collector<Record<?>> collector)
+            throws Exception {
+        Record<?> barrierRecord = batch.get(0);
+        Barrier barrier = (Barrier) barrierRecord.getData();
+        receivedBarrierIds[channel] = barrier.getId();
+        List<Record<?>> carried = new ArrayList<>(batch.subList(1, batch.size()));
+        carriedRecords.get(channel).put(barrier.getId(), carried);
+
+        UnalignedBarrier unalignedBarrier = unalignedBarriers.get(barrier.getId());
+        if (unalignedBarrier == null) {
+            // the first channel sends the barrier downstream, the records of the other channels
+            // emitted before their barrier arrives are stored as in-flight records
+            unalignedBarrier = new UnalignedBarrier(shuffles.length);
+            unalignedBarriers.put(barrier.getId(), unalignedBarrier);
+            collector.collect(barrierRecord);
+        }
+        unalignedBarrier.arrive(channel, inFlightRecords, carried);
+
+        if (unalignedBarrier.isArrived()) {
+            unalignedBarriers.remove(barrier.getId());
+            List<byte[]> channelStates = new ArrayList<>(shuffles.length);
+            for (List<Record<?>> records : unalignedBarrier.channelRecords) {
+                channelStates.add(codec.encode(records));
+            }
+            runningTask.addState(barrier, ActionStateKey.of(shuffleAction), channelStates);
+            runningTask.ack(barrier);
+        }
+    }
+
+    private void reachUnalignedBarrier(int channel, Barrier barrier, Collector<Record<?>> collector)
+            throws Exception {
+        // the barrier was put into the channel right after the batch it overtook with
+        while (receivedBarrierIds[channel] < barrier.getId()) {
+            List<Record<?>> batch = shuffles[channel].pollPriority();
+            if (batch == null) {
+                log.warn(
+                        "Barrier {} of shuffle channel {} arrived without its priority batch",
+                        barrier.getId(),
+                        shuffles[channel].getName());
+                return;
+            }
+            receiveUnalignedBarrier(channel, batch, Collections.emptyList(), collector);
+        }
+        List<Record<?>> carried = carriedRecords.get(channel).remove(barrier.getId());
+        if (carried != null) {
+            for (Record<?> record : carried) {
+                emit(channel, record, collector);
+            }
+        }
+    }
+
+    private void emit(int channel, Record<?> record, Collector<Record<?>> collector)
+            throws Exception {
+        for (UnalignedBarrier unalignedBarrier : unalignedBarriers.values()) {
+            unalignedBarrier.emitted(channel, record);
+        }
+        collector.collect(record);
+    }
+
+    @Override
+    public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
+        List<Record<?>> records = new ArrayList<>();
+        for (ActionSubtaskState state : actionStateList) {
+            for (byte[] channelState : state.getState()) {
+                if (channelState == null || channelState.length == 0) {
+                    continue;
+                }
+                if (codec == null) {
+                    throw new IllegalStateException(
+                            "Can't restore the in-flight records of shuffle "
+                                    + shuffleAction.getName()
+                                    + " without its row type");
+                }
+                records.addAll(codec.decode(channelState));
+            }
+        }
+        if (!records.isEmpty()) {
+            log.info(
+                    "restore {} in-flight records of shuffle {}",
+                    records.size(),
+                    shuffleAction.getName());
+            restoredRecords = records;
+        }
+    }
+
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
+        for (ShuffleInputChannel shuffleQueue : shuffles) {
             log.info("destroy shuffle queue: {}", shuffleQueue.getName());
             shuffleQueue.destroy();
         }
+        channelBuffers.forEach(Deque::clear);
+    }
+
+    /** A barrier sent downstream ahead of the records of the channels it hasn't overtaken yet. */
+    private static class UnalignedBarrier {
+        private final List<List<Record<?>>> channelRecords;
+        private final boolean[] arrived;
+        private int arrivedCounter;
+
+        UnalignedBarrier(int channels) {
+            this.channelRecords = new ArrayList<>(channels);
+            for (int i = 0; i < channels; i++) {
+                channelRecords.add(new ArrayList<>());
+            }
+            this.arrived = new boolean[channels];
+        }
+
+        void emitted(int channel, Record<?> record) {
+            if (!arrived[channel]) {
+                channelRecords.get(channel).add(record);
+            }
+        }
+
+        void arrive(int channel, List<Record<?>> inFlightRecords, List<Record<?>> carried) {
+            channelRecords.get(channel).addAll(inFlightRecords);
+            channelRecords.get(channel).addAll(carried);
+            arrived[channel] = true;
+            arrivedCounter++;
+        }
+
+        boolean isArrived() {
+            return arrivedCounter == arrived.length;
+        }
     }
 }
@@ -19,8 +19,11 @@ package org.apache.seatunnel.engine.server.task.group.queue;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.common.utils.function.ConsumerWithException;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -48,4 +51,21 @@ public abstract class AbstractIntermediateQueue<T> {
     public abstract void collect(Collector<Record<?>> collector) throws Exception;
 
     public abstract void close() throws IOException;
+
+    protected void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer)
+            throws Exception {
+        if (record.getData() instanceof Barrier) {
+            CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+            getRunningTask().ack(barrier);
+            if (barrier.prepareClose()) {
+                getIntermediateQueueFlowLifeCycle().setPrepareClose(true);
+            }
+            consumer.accept(record);
+        } else {
+            if (getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                return;
+            }
+            consumer.accept(record);
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded queue of {@code Record[]} batches shared by the producing and the consuming task of an
+ * intermediate queue. The producer fills the current batch and hands it off once it is full or
+ * flushed; a batch shorter than the array is terminated by a {@code null} entry. Drained batches
+ * are recycled, so the steady state doesn't allocate any arrays.
+ */
+public class RecordBatchQueue {
+
+    /** How long the producer has to stop adding records before its partial batch is taken. */
+    private static final long IDLE_FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final BlockingQueue<Record<?>[]> batches;
+    private final BlockingQueue<Record<?>[]> freeBatches;
+    private final int batchSize;
+
+    private Record<?>[] currentBatch;
+    private int currentSize;
+    /** Full batches taken from the producer but not yet put into {@link #batches}. */
+    private int publishing;
+    /** Records ever added, tells the consumer whether the producer is still filling the batch. */
+    private long addedRecords;
+
+    public RecordBatchQueue(int capacity, int batchSize) {
+        this.batches = new ArrayBlockingQueue<>(capacity);
+        // every batch is either free, queued, filled by the producer or read by the consumer
+        this.freeBatches = new ArrayBlockingQueue<>(capacity + 2);
+        this.batchSize = batchSize;
+    }
+
+    /** Append a record to the current batch, and hand the batch off if it is full. */
+    public void add(Record<?> record) throws InterruptedException {
+        Record<?>[] fullBatch;
+        synchronized (this) {
+            if (currentBatch == null) {
+                currentBatch = newBatch();
+            }
+            currentBatch[currentSize++] = record;
+            addedRecords++;
+            if (currentSize < batchSize) {
+                return;
+            }
+            fullBatch = detachCurrentBatch();
+            publishing++;
+        }
+        publish(fullBatch);
+    }
+
+    /** Hand off the current batch even if it isn't full. */
+    public void flush() throws InterruptedException {
+        Record<?>[] batch;
+        synchronized (this) {
+            if (currentSize == 0) {
+                return;
+            }
+            batch = detachCurrentBatch();
+            publishing++;
+        }
+        publish(batch);
+    }
+
+    /**
+     * Take the next batch, waiting up to {@code timeout} for one. The batch the producer is still
+     * filling is taken as soon as the producer stops adding records for {@link #IDLE_FLUSH_NANOS},
+     * so slow producers don't hold back records until the timeout.
+     *
+     * @return the next batch, or {@code null} if there are no records
+     */
+    public Record<?>[] poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long seenRecords;
+        synchronized (this) {
+            seenRecords = addedRecords;
+        }
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            Record<?>[] batch =
+                    batches.poll(
+                            Math.max(0, Math.min(remaining, IDLE_FLUSH_NANOS)),
+                            TimeUnit.NANOSECONDS);
+            if (batch != null) {
+                return batch;
+            }
+            boolean timedOut = System.nanoTime() - deadline >= 0;
+            synchronized (this) {
+                // only overtake the handoff if no older batch is still on its way into the queue
+                boolean handoffPending = publishing > 0 || !batches.isEmpty();
+                boolean producerIdle = addedRecords == seenRecords;
+                if (currentSize > 0 && !handoffPending && (producerIdle || timedOut)) {
+                    return detachCurrentBatch();
+                }
+                if (timedOut) {
+                    return batches.poll();
+                }
+                seenRecords = addedRecords;
+            }
+        }
+    }
+
+    /** Return a batch that was completely read, to be refilled by the producer. */
+    public void recycle(Record<?>[] batch) {
+        Arrays.fill(batch, null);
+        freeBatches.offer(batch);
+    }
+
+    public synchronized void clear() {
+        batches.clear();
+        freeBatches.clear();
+        currentBatch = null;
+        currentSize = 0;
+    }
+
+    private void publish(Record<?>[] batch) throws InterruptedException {
+        try {
+            batches.put(batch);
+        } finally {
+            synchronized (this) {
+                publishing--;
+            }
+        }
+    }
+
+    private Record<?>[] detachCurrentBatch() {
+        Record<?>[] batch = currentBatch;
+        currentBatch = null;
+        currentSize = 0;
+        return batch;
+    }
+
+    private Record<?>[] newBatch() {
+        Record<?>[] batch = freeBatches.poll();
+        return batch != null ? batch : new Record<?>[batchSize];
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInputChannel;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Push a batch of records to the consuming end of a direct shuffle channel. The response is the
+ * number of records accepted, or {@link #CHANNEL_NOT_FOUND} if the channel isn't hosted by the
+ * target member (yet). If not all records were accepted, the channel announces its credits to the
+ * caller with a {@link ShuffleCreditOperation} once it has room again.
+ *
+ * <p>The batch is either a list of records or, if the channel has a {@link
+ * org.apache.seatunnel.engine.server.serializable.RecordCodec}, the records encoded by it. A
+ * priority batch overtakes the records buffered by the channel and doesn't need credits.
+ */
+public class ShuffleBatchOperation extends Operation implements IdentifiedDataSerializable {
+
+    public static final int CHANNEL_NOT_FOUND = -1;
+
+    private String channelName;
+
+    private List<Record<?>> records;
+
+    private byte[] payload;
+
+    private boolean priority;
+
+    private int response;
+
+    public ShuffleBatchOperation() {}
+
+    public ShuffleBatchOperation(String channelName, List<Record<?>> records) {
+        this.channelName = channelName;
+        this.records = records;
+    }
+
+    public ShuffleBatchOperation(String channelName, List<Record<?>> records, boolean priority) {
+        this.channelName = channelName;
+        this.records = records;
+        this.priority = priority;
+    }
+
+    public ShuffleBatchOperation(String channelName, byte[] payload) {
+        this.channelName = channelName;
+        this.payload = payload;
+    }
+
+    @Override
+    public void run() throws Exception {
+        SeaTunnelServer server = getService();
+        DirectShuffleInputChannel channel =
+                server.getTaskExecutionService().getShuffleChannelRegistry().get(channelName);
+        if (channel == null) {
+            response = CHANNEL_NOT_FOUND;
+            return;
+        }
+        if (payload != null) {
+            if (channel.getCodec() == null) {
+                throw new IllegalStateException(
+                        "Shuffle channel " + channelName + " can't decode encoded batches");
+            }
+            records = channel.getCodec().decode(payload);
+        }
+        response =
+                priority
+                        ? channel.offerPriority(records)
+                        : channel.offer(records, getCallerAddress());
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(channelName);
+        out.writeBoolean(priority);
+        out.writeBoolean(payload != null);
+        if (payload != null) {
+            out.writeByteArray(payload);
+            return;
+        }
+        out.writeInt(records.size());
+        for (Record<?> record : records) {
+            out.writeObject(record);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        channelName = in.readString();
+        priority = in.readBoolean();
+        if (in.readBoolean()) {
+            payload = in.readByteArray();
+            return;
+        }
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(in.readObject());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_BATCH_OPERATION;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+/**
+ * The credits announced to the producing end of a direct shuffle channel. The producer waits here
+ * after the consumer rejected records for lack of credits, until the consumer announces that its
+ * buffer has room again.
+ */
+class CreditGate {
+
+    private boolean announced;
+
+    synchronized void announce() {
+        announced = true;
+        notifyAll();
+    }
+
+    /**
+     * Waits until credits are announced, at most {@code timeoutMillis} in case the announcement was
+     * lost, and consumes the announcement.
+     */
+    synchronized void await(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (!announced && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        announced = false;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleTransport;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import com.hazelcast.cluster.Address;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The consuming end of a {@link ShuffleTransport#DIRECT} channel. It lives on the member running
+ * the downstream task and is filled by {@link
+ * org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleBatchOperation}s sent by the
+ * upstream task. The free slots of the bounded buffer are the credits granted to the producer.
+ *
+ * <p>When the producer runs out of credits, it waits until the channel announces new credits, once
+ * the reader freed half of the buffer.
+ */
+public class DirectShuffleInputChannel implements ShuffleInputChannel {
+
+    private final String name;
+    private final BlockingQueue<Record<?>> buffer;
+    private final int creditThreshold;
+    private final Queue<List<Record<?>>> priorityBatches = new ConcurrentLinkedQueue<>();
+    private final RecordCodec codec;
+    private final ShuffleChannelRegistry registry;
+    /** Whether the producer waits for credits, and its member, {@code null} if it's this one. */
+    private volatile boolean creditsRequested;
+
+    private volatile Address producer;
+
+    public DirectShuffleInputChannel(
+            String name, int capacity, RecordCodec codec, ShuffleChannelRegistry registry) {
+        this.name = name;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.creditThreshold = Math.max(1, capacity / 2);
+        this.codec = codec;
+        this.registry = registry;
+    }
+
+    /** The codec of the encoded batches sent to this channel, {@code null} if they aren't. */
+    public RecordCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Accept the longest prefix of {@code records} that fits into the free credits of this channel.
+     * If not all records fit, the credits are announced to the {@code producer} once the reader
+     * made room.
+     *
+     * @param producer the member of the producing end, {@code null} if it's this one
+     * @return the number of accepted records
+     */
+    public synchronized int offer(List<Record<?>> records, Address producer) {
+        int accepted = 0;
+        for (Record<?> record : records) {
+            if (!buffer.offer(record)) {
+                this.producer = producer;
+                creditsRequested = true;
+                // the reader may have made room before it could see the request
+                if (!buffer.offer(record)) {
+                    break;
+                }
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /** Accept a batch that overtakes the buffered records, it doesn't need credits. */
+    public int offerPriority(List<Record<?>> batch) {
+        priorityBatches.add(batch);
+        return batch.size();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int size() {
+        return buffer.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record = buffer.take();
+        announceCredits();
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> target, int maxElements) {
+        int drained = buffer.drainTo(target, maxElements);
+        if (drained > 0) {
+            announceCredits();
+        }
+        return drained;
+    }
+
+    private void announceCredits() {
+        if (!creditsRequested || buffer.remainingCapacity() < creditThreshold) {
+            return;
+        }
+        synchronized (this) {
+            if (!creditsRequested) {
+                return;
+            }
+            creditsRequested = false;
+        }
+        registry.announceCredits(name, producer);
+    }
+
+    @Override
+    public List<Record<?>> pollPriority() {
+        return priorityBatches.poll();
+    }
+
+    @Override
+    public void destroy() {
+        registry.unregister(this);
+        buffer.clear();
+        priorityBatches.clear();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.common.utils.RetryUtils;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleBatchOperation;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.map.IMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The producing end of a {@link
+ * org.apache.seatunnel.engine.core.dag.actions.ShuffleTransport#DIRECT} channel. Batches are sent
+ * straight to the member hosting the {@link DirectShuffleInputChannel}, one batch in flight at a
+ * time so the channel keeps its order. When the consumer runs out of credits the producer blocks
+ * until the consumer announces new credits, and then sends the unaccepted tail. If a {@link
+ * RecordCodec} is given, batches are sent encoded by it instead of one Hazelcast serialized record
+ * after another.
+ *
+ * <p>If the consuming end is hosted by this member, the records are handed to it by reference,
+ * without encoding them or invoking an operation.
+ */
+public class DirectShuffleOutputChannel implements ShuffleOutputChannel {
+
+    private static final long CHANNEL_NOT_FOUND_BACKOFF_MILLIS = 10;
+
+    /** Send again if no credits were announced for so long, in case the announcement was lost. */
+    private static final long CREDIT_WAIT_TIMEOUT_MILLIS = 1000;
+
+    private final String name;
+    private final TaskExecutionContext executionContext;
+    private final ShuffleChannelRegistry registry;
+    private final RecordCodec codec;
+    private final CreditGate creditGate;
+    private Address consumerAddress;
+
+    public DirectShuffleOutputChannel(
+            String name,
+            TaskExecutionContext executionContext,
+            ShuffleChannelRegistry registry,
+            RecordCodec codec) {
+        this.name = name;
+        this.executionContext = executionContext;
+        this.registry = registry;
+        this.codec = codec;
+        this.creditGate = registry.createCreditGate(name);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        putAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws InterruptedException {
+        List<Record<?>> pending = new ArrayList<>(records);
+        while (!pending.isEmpty()) {
+            int accepted = send(pending);
+            if (accepted == ShuffleBatchOperation.CHANNEL_NOT_FOUND) {
+                // the consumer hasn't registered yet or was redeployed to another member
+                consumerAddress = null;
+                Thread.sleep(CHANNEL_NOT_FOUND_BACKOFF_MILLIS);
+                continue;
+            }
+            pending = pending.subList(accepted, pending.size());
+            if (!pending.isEmpty()) {
+                creditGate.await(CREDIT_WAIT_TIMEOUT_MILLIS);
+            }
+        }
+    }
+
+    @Override
+    public void putPriority(List<Record<?>> batch) throws InterruptedException {
+        while (true) {
+            int accepted = sendPriority(new ArrayList<>(batch));
+            if (accepted != ShuffleBatchOperation.CHANNEL_NOT_FOUND) {
+                return;
+            }
+            consumerAddress = null;
+            Thread.sleep(CHANNEL_NOT_FOUND_BACKOFF_MILLIS);
+        }
+    }
+
+    private int send(List<Record<?>> records) throws InterruptedException {
+        Address address = getConsumerAddress();
+        if (registry.isLocal(address)) {
+            DirectShuffleInputChannel channel = registry.get(name);
+            return channel == null
+                    ? ShuffleBatchOperation.CHANNEL_NOT_FOUND
+                    : channel.offer(records, null);
+        }
+        return send(
+                codec == null
+                        ? new ShuffleBatchOperation(name, new ArrayList<>(records))
+                        : new ShuffleBatchOperation(name, codec.encode(records)),
+                address);
+    }
+
+    private int sendPriority(List<Record<?>> batch) throws InterruptedException {
+        Address address = getConsumerAddress();
+        if (registry.isLocal(address)) {
+            DirectShuffleInputChannel channel = registry.get(name);
+            return channel == null
+                    ? ShuffleBatchOperation.CHANNEL_NOT_FOUND
+                    : channel.offerPriority(batch);
+        }
+        return send(new ShuffleBatchOperation(name, batch, true), address);
+    }
+
+    private int send(ShuffleBatchOperation operation, Address address) throws InterruptedException {
+        try {
+            return (int) executionContext.sendToMember(operation, address).get();
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Send batch to shuffle channel %s failed", name), e);
+        }
+    }
+
+    private Address getConsumerAddress() {
+        if (consumerAddress == null) {
+            IMap<String, Address> channelAddresses = registry.getChannelAddresses();
+            try {
+                consumerAddress =
+                        RetryUtils.retryWithException(
+                                () -> Objects.requireNonNull(channelAddresses.get(name)),
+                                new RetryUtils.RetryMaterial(
+                                        Constant.OPERATION_RETRY_TIME,
+                                        true,
+                                        exception -> exception instanceof NullPointerException,
+                                        Constant.OPERATION_RETRY_SLEEP));
+            } catch (Exception e) {
+                throw new RuntimeException(
+                        String.format("Can't find the member hosting shuffle channel %s", name), e);
+            }
+        }
+        return consumerAddress;
+    }
+
+    @Override
+    public void destroy() {
+        consumerAddress = null;
+        registry.removeCreditGate(name, creditGate);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import com.hazelcast.collection.IQueue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Both ends of a shuffle channel backed by a Hazelcast {@link IQueue}. Priority batches are written
+ * to a second queue with a single {@code addAll}, so a reader never sees a partial batch.
+ */
+public class QueueShuffleChannel implements ShuffleOutputChannel, ShuffleInputChannel {
+
+    public static final String PRIORITY_QUEUE_SUFFIX = "-priority";
+
+    private final IQueue<Record<?>> queue;
+    private final IQueue<Record<?>> priorityQueue;
+    private final Deque<List<Record<?>>> priorityBatches = new ArrayDeque<>();
+
+    public QueueShuffleChannel(IQueue<Record<?>> queue) {
+        this(queue, null);
+    }
+
+    public QueueShuffleChannel(IQueue<Record<?>> queue, IQueue<Record<?>> priorityQueue) {
+        this.queue = queue;
+        this.priorityQueue = priorityQueue;
+    }
+
+    @Override
+    public String getName() {
+        return queue.getName();
+    }
+
+    @Override
+    public void put(Record<?> record) throws InterruptedException {
+        queue.put(record);
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws InterruptedException {
+        if (queue.remainingCapacity() > 0 && queue.addAll(records)) {
+            return;
+        }
+        for (Record<?> record : records) {
+            queue.put(record);
+        }
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> target, int maxElements) {
+        return queue.drainTo(target, maxElements);
+    }
+
+    @Override
+    public void putPriority(List<Record<?>> batch) {
+        checkPriorityQueue().addAll(batch);
+    }
+
+    @Override
+    public List<Record<?>> pollPriority() {
+        if (priorityBatches.isEmpty()) {
+            List<Record<?>> records = new ArrayList<>();
+            checkPriorityQueue().drainTo(records);
+            for (Record<?> record : records) {
+                if (record.getData() instanceof Barrier || priorityBatches.isEmpty()) {
+                    priorityBatches.addLast(new ArrayList<>());
+                }
+                priorityBatches.getLast().add(record);
+            }
+        }
+        return priorityBatches.pollFirst();
+    }
+
+    private IQueue<Record<?>> checkPriorityQueue() {
+        if (priorityQueue == null) {
+            throw new UnsupportedOperationException(
+                    "Shuffle channel " + getName() + " has no priority queue");
+        }
+        return priorityQueue;
+    }
+
+    @Override
+    public void destroy() {
+        queue.destroy();
+        if (priorityQueue != null) {
+            priorityQueue.destroy();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+import org.apache.seatunnel.engine.server.task.operation.shuffle.ShuffleCreditOperation;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the consuming ends of all direct shuffle channels hosted by this member, and publishes
+ * their location so producers on any member can push batches to them. It also holds the {@link
+ * CreditGate}s of the producing ends on this member, which wait for the credits announced by their
+ * consumer.
+ */
+@Slf4j
+public class ShuffleChannelRegistry {
+
+    private final NodeEngineImpl nodeEngine;
+    private final ConcurrentMap<String, DirectShuffleInputChannel> channels =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CreditGate> creditGates = new ConcurrentHashMap<>();
+
+    public ShuffleChannelRegistry(NodeEngineImpl nodeEngine) {
+        this.nodeEngine = nodeEngine;
+    }
+
+    public DirectShuffleInputChannel register(String name, int capacity, RecordCodec codec) {
+        // replace the channel of a previous attempt to drop old data when job restore
+        DirectShuffleInputChannel channel =
+                new DirectShuffleInputChannel(name, capacity, codec, this);
+        channels.put(name, channel);
+        getChannelAddresses().put(name, nodeEngine.getThisAddress());
+        log.info("register direct shuffle channel: {}", name);
+        return channel;
+    }
+
+    public DirectShuffleInputChannel get(String name) {
+        return channels.get(name);
+    }
+
+    void unregister(DirectShuffleInputChannel channel) {
+        if (channels.remove(channel.getName(), channel)) {
+            getChannelAddresses().remove(channel.getName(), nodeEngine.getThisAddress());
+            log.info("unregister direct shuffle channel: {}", channel.getName());
+        }
+    }
+
+    CreditGate createCreditGate(String name) {
+        CreditGate gate = new CreditGate();
+        creditGates.put(name, gate);
+        return gate;
+    }
+
+    void removeCreditGate(String name, CreditGate gate) {
+        creditGates.remove(name, gate);
+    }
+
+    /** Wake up the producing end of the channel on this member, which waits for credits. */
+    public void grantCredits(String name) {
+        CreditGate gate = creditGates.get(name);
+        if (gate != null) {
+            gate.announce();
+        }
+    }
+
+    /** Announce the credits of the channel to its producing end on the member {@code producer}. */
+    void announceCredits(String name, Address producer) {
+        if (producer == null || isLocal(producer)) {
+            grantCredits(name);
+            return;
+        }
+        nodeEngine
+                .getOperationService()
+                .invokeOnTarget(
+                        SeaTunnelServer.SERVICE_NAME, new ShuffleCreditOperation(name), producer);
+    }
+
+    /** Whether the channel published at {@code address} is hosted by this member. */
+    public boolean isLocal(Address address) {
+        return nodeEngine.getThisAddress().equals(address);
+    }
+
+    public IMap<String, Address> getChannelAddresses() {
+        return nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_CHANNEL_ADDRESS);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleTransport;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Create the {@link ShuffleOutputChannel}s and {@link ShuffleInputChannel}s of a shuffle for the
+ * configured {@link ShuffleTransport}.
+ */
+@Slf4j
+public class ShuffleChannels {
+
+    private ShuffleChannels() {}
+
+    /** The channels written by the upstream task {@code inputIndex}, keyed by channel name. */
+    public static Map<String, ShuffleOutputChannel> createOutputChannels(
+            ShuffleConfig shuffleConfig,
+            TaskExecutionContext executionContext,
+            int pipelineId,
+            int inputIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        Map<String, ShuffleOutputChannel> channels = new LinkedHashMap<>();
+        if (shuffleConfig.getTransport() == ShuffleTransport.DIRECT) {
+            ShuffleChannelRegistry registry =
+                    executionContext.getTaskExecutionService().getShuffleChannelRegistry();
+            RecordCodec codec = createCodec(shuffleStrategy);
+            for (String name : shuffleStrategy.createShuffleNames(pipelineId, inputIndex)) {
+                channels.put(
+                        name,
+                        new DirectShuffleOutputChannel(name, executionContext, registry, codec));
+            }
+            log.info(
+                    "pipeline[{}] / reader[{}] assigned direct shuffle channel list: {}",
+                    pipelineId,
+                    inputIndex,
+                    channels.keySet());
+        } else {
+            for (Map.Entry<String, IQueue<Record<?>>> shuffle :
+                    shuffleStrategy
+                            .createShuffles(executionContext.getInstance(), pipelineId, inputIndex)
+                            .entrySet()) {
+                channels.put(
+                        shuffle.getKey(),
+                        createQueueChannel(shuffleConfig, executionContext, shuffle.getValue()));
+            }
+        }
+        return channels;
+    }
+
+    /** The channels read by the downstream task {@code targetIndex}, indexed by upstream task. */
+    public static ShuffleInputChannel[] createInputChannels(
+            ShuffleConfig shuffleConfig,
+            TaskExecutionContext executionContext,
+            int pipelineId,
+            int targetIndex) {
+        ShuffleStrategy shuffleStrategy = shuffleConfig.getShuffleStrategy();
+        if (shuffleConfig.getTransport() == ShuffleTransport.DIRECT) {
+            ShuffleChannelRegistry registry =
+                    executionContext.getTaskExecutionService().getShuffleChannelRegistry();
+            RecordCodec codec = createCodec(shuffleStrategy);
+            String[] names = shuffleStrategy.getShuffleNames(pipelineId, targetIndex);
+            ShuffleInputChannel[] channels = new ShuffleInputChannel[names.length];
+            for (int i = 0; i < names.length; i++) {
+                channels[i] = registry.register(names[i], shuffleStrategy.getQueueMaxSize(), codec);
+            }
+            log.info(
+                    "pipeline[{}] / writer[{}] assigned direct shuffle channel list: {}",
+                    pipelineId,
+                    targetIndex,
+                    Arrays.asList(names));
+            return channels;
+        }
+        return Arrays.stream(
+                        shuffleStrategy.getShuffles(
+                                executionContext.getInstance(), pipelineId, targetIndex))
+                .map(queue -> createQueueChannel(shuffleConfig, executionContext, queue))
+                .toArray(ShuffleInputChannel[]::new);
+    }
+
+    private static QueueShuffleChannel createQueueChannel(
+            ShuffleConfig shuffleConfig,
+            TaskExecutionContext executionContext,
+            IQueue<Record<?>> queue) {
+        if (!isUnalignedCheckpoint(shuffleConfig)) {
+            return new QueueShuffleChannel(queue);
+        }
+        return new QueueShuffleChannel(
+                queue,
+                executionContext
+                        .getInstance()
+                        .getQueue(queue.getName() + QueueShuffleChannel.PRIORITY_QUEUE_SUFFIX));
+    }
+
+    /**
+     * Whether the barriers of checkpoints overtake the records of the shuffle. The in-flight
+     * records are stored in the checkpoint, so it needs the codec of the records.
+     */
+    public static boolean isUnalignedCheckpoint(ShuffleConfig shuffleConfig) {
+        return shuffleConfig.isUnalignedCheckpoint()
+                && shuffleConfig.getShuffleStrategy().getShuffleRowType() != null;
+    }
+
+    /** The barriers closing a task stay aligned, only the barriers of checkpoints overtake. */
+    public static boolean isUnalignedBarrier(Barrier barrier) {
+        return barrier.snapshot() && !barrier.prepareClose();
+    }
+
+    /** The codec of the records of the shuffle, {@code null} if the row type isn't known. */
+    public static RecordCodec createCodec(ShuffleStrategy shuffleStrategy) {
+        SeaTunnelDataType<?> rowType = shuffleStrategy.getShuffleRowType();
+        return rowType == null ? null : RecordCodec.of(rowType);
+    }
+}
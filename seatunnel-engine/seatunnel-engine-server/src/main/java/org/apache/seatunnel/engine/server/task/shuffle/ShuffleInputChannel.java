@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The reading end of one point-to-point channel of a shuffle, read by exactly one downstream task.
+ * Records, including barriers, are read in the order they were written to the {@link
+ * ShuffleOutputChannel}.
+ */
+public interface ShuffleInputChannel {
+
+    String getName();
+
+    int size();
+
+    Record<?> take() throws InterruptedException;
+
+    int drainTo(Collection<Record<?>> target, int maxElements);
+
+    /** The next batch that overtook the queued records, {@code null} if there is none. */
+    List<Record<?>> pollPriority();
+
+    /** Release the resources held by this end of the channel. */
+    void destroy();
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The writing end of one point-to-point channel of a shuffle, written by exactly one upstream task
+ * and read by exactly one downstream task through its {@link ShuffleInputChannel}. Records,
+ * including barriers, are delivered in the order they were written.
+ */
+public interface ShuffleOutputChannel {
+
+    String getName();
+
+    /** Blocks until the record has been accepted by the channel. */
+    void put(Record<?> record) throws InterruptedException;
+
+    /** Blocks until all records have been accepted by the channel. */
+    void putAll(Collection<Record<?>> records) throws InterruptedException;
+
+    /**
+     * Deliver a batch ahead of all records queued in the channel, used by unaligned checkpoints.
+     * The batch starts with a barrier followed by the records the writer buffered before it.
+     */
+    void putPriority(List<Record<?>> batch) throws InterruptedException;
+
+    /** Release the resources held by this end of the channel. */
+    void destroy();
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server;
+
+import org.apache.seatunnel.engine.common.config.ConfigProvider;
+import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
+import org.apache.seatunnel.engine.server.execution.CallRecordingTask;
+import org.apache.seatunnel.engine.server.execution.ExecutionState;
+import org.apache.seatunnel.engine.server.execution.ProgressState;
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
+import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.seatunnel.engine.server.execution.ExecutionState.CANCELED;
+import static org.apache.seatunnel.engine.server.execution.ExecutionState.FINISHED;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * The thread share tasks of these tests are deployed to a {@link TaskExecutionService} with a fixed
+ * number of cooperative workers, so task {@code i} starts in the deque of worker {@code i %
+ * workers}.
+ */
+public class TaskExecutionServiceCooperativeTest
+        extends AbstractSeaTunnelServerTest<TaskExecutionServiceCooperativeTest> {
+
+    private static final String COOPERATIVE_THREAD = ".seaTunnel.cooperative.thread-";
+    private static final String BLOCKING_THREAD = ".seaTunnel.task.";
+
+    private final AtomicLong taskGroupId = new AtomicLong();
+    private final AtomicBoolean stop = new AtomicBoolean();
+    private TaskExecutionService taskExecutionService;
+
+    @AfterEach
+    public void stopTasks() {
+        stop.set(true);
+        if (taskExecutionService != null) {
+            taskExecutionService.shutdown();
+            taskExecutionService = null;
+        }
+        stop.set(false);
+    }
+
+    @Test
+    public void testIdleWorkerStealsTasks() {
+        startTaskExecutionService(2);
+        CallRecordingTask slowTask =
+                new CallRecordingTask(
+                        0,
+                        callCount -> {
+                            Thread.sleep(20);
+                            return running();
+                        });
+        CallRecordingTask finishedTask = new CallRecordingTask(1, callCount -> ProgressState.DONE);
+        // shares the deque of the slow task, the worker without tasks has to steal it
+        CallRecordingTask fastTask = new CallRecordingTask(2, callCount -> running());
+        CompletableFuture<TaskExecutionState> future =
+                deploy(slowTask, finishedTask, fastTask).getValue();
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            Set<String> threads = new HashSet<>(slowTask.getCallingThreads());
+                            threads.addAll(fastTask.getCallingThreads());
+                            Assertions.assertEquals(2, threads.size());
+                        });
+        stop.set(true);
+        assertState(FINISHED, future);
+    }
+
+    @Test
+    public void testStuckWorkerIsReplaced() throws Exception {
+        startTaskExecutionService(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CallRecordingTask stuckTask =
+                new CallRecordingTask(
+                        0,
+                        callCount -> {
+                            if (callCount == 1) {
+                                release.await();
+                            }
+                            return running();
+                        });
+        CallRecordingTask otherTask = new CallRecordingTask(1, callCount -> running());
+        CompletableFuture<TaskExecutionState> future = deploy(stuckTask, otherTask).getValue();
+
+        // the only worker is stuck, so only a new worker can call the other task
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(otherTask.getCallCount() > 0));
+        Assertions.assertEquals(1, stuckTask.getCallCount());
+        Assertions.assertFalse(
+                otherTask.getCallingThreads().contains(stuckTask.getLastCallingThread()));
+
+        release.countDown();
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(stuckTask.getCallCount() > 1));
+        // a single slow call doesn't move the task to the blocking task pool
+        Assertions.assertTrue(stuckTask.getLastCallingThread().contains(COOPERATIVE_THREAD));
+        stop.set(true);
+        assertState(FINISHED, future);
+    }
+
+    @Test
+    public void testWorkersStartWithTheFirstThreadShareTask() {
+        startTaskExecutionService(2);
+        Assertions.assertEquals(0, taskExecutionService.getCooperativeThreadCount());
+
+        CallRecordingTask task = new CallRecordingTask(0, callCount -> running());
+        CompletableFuture<TaskExecutionState> future = deploy(task).getValue();
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(task.getCallCount() > 0));
+        Assertions.assertEquals(2, taskExecutionService.getCooperativeThreadCount());
+        stop.set(true);
+        assertState(FINISHED, future);
+    }
+
+    @Test
+    public void testReplacedWorkerReplacesTheNextStuckWorker() throws Exception {
+        startTaskExecutionService(1);
+        CountDownLatch firstRelease = new CountDownLatch(1);
+        CountDownLatch secondRelease = new CountDownLatch(1);
+        AtomicBoolean blockAgain = new AtomicBoolean();
+        CallRecordingTask stuckTask =
+                new CallRecordingTask(
+                        0,
+                        callCount -> {
+                            if (callCount == 1) {
+                                firstRelease.await();
+                            } else if (blockAgain.compareAndSet(true, false)) {
+                                secondRelease.await();
+                            }
+                            return running();
+                        });
+        CallRecordingTask otherTask = new CallRecordingTask(1, callCount -> running());
+        CompletableFuture<TaskExecutionState> future = deploy(stuckTask, otherTask).getValue();
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(otherTask.getCallCount() > 0));
+        firstRelease.countDown();
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> Assertions.assertTrue(stuckTask.getCallCount() > 1));
+
+        // the worker stuck first waits as a spare and takes over from the worker stuck next
+        blockAgain.set(true);
+        await().atMost(10, TimeUnit.SECONDS).until(() -> !blockAgain.get());
+        long otherCalls = otherTask.getCallCount();
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> Assertions.assertTrue(otherTask.getCallCount() > otherCalls + 10));
+        Assertions.assertEquals(2, taskExecutionService.getCooperativeThreadCount());
+        Set<String> threads = new HashSet<>(stuckTask.getCallingThreads());
+        threads.addAll(otherTask.getCallingThreads());
+        Assertions.assertEquals(2, threads.size());
+
+        secondRelease.countDown();
+        stop.set(true);
+        assertState(FINISHED, future);
+    }
+
+    @Test
+    public void testBlockingTaskIsMovedAndReturns() {
+        startTaskExecutionService(1);
+        AtomicBoolean blocking = new AtomicBoolean(true);
+        CallRecordingTask task =
+                new CallRecordingTask(
+                        0,
+                        callCount -> {
+                            if (blocking.get()) {
+                                Thread.sleep(60);
+                            }
+                            return running();
+                        });
+        CompletableFuture<TaskExecutionState> future = deploy(task).getValue();
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertTrue(
+                                        task.getLastCallingThread().contains(BLOCKING_THREAD)));
+        // it was only moved after several slow calls
+        Assertions.assertTrue(task.getCallCount() > 3);
+
+        blocking.set(false);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertTrue(
+                                        task.getLastCallingThread().contains(COOPERATIVE_THREAD)));
+        stop.set(true);
+        assertState(FINISHED, future);
+    }
+
+    @Test
+    public void testCancelMovedTask() {
+        startTaskExecutionService(1);
+        // blocks interruptibly once it runs in the blocking task pool
+        CallRecordingTask blockedTask =
+                new CallRecordingTask(
+                        0,
+                        callCount -> {
+                            if (callCount <= 3) {
+                                Thread.sleep(60);
+                                return ProgressState.MADE_PROGRESS;
+                            }
+                            new CountDownLatch(1).await();
+                            return ProgressState.DONE;
+                        });
+        // never notices a cancellation itself once it runs in the blocking task pool
+        CallRecordingTask idleTask =
+                new CallRecordingTask(
+                        1,
+                        callCount -> {
+                            if (callCount <= 3) {
+                                Thread.sleep(60);
+                                return ProgressState.MADE_PROGRESS;
+                            }
+                            return ProgressState.NO_PROGRESS;
+                        });
+        Map.Entry<TaskGroupLocation, CompletableFuture<TaskExecutionState>> blocked =
+                deploy(blockedTask);
+        Map.Entry<TaskGroupLocation, CompletableFuture<TaskExecutionState>> idle = deploy(idleTask);
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            Assertions.assertTrue(
+                                    blockedTask.getLastCallingThread().contains(BLOCKING_THREAD));
+                            Assertions.assertTrue(
+                                    idleTask.getLastCallingThread().contains(BLOCKING_THREAD));
+                        });
+
+        taskExecutionService.cancelTaskGroup(blocked.getKey());
+        taskExecutionService.cancelTaskGroup(idle.getKey());
+        assertState(CANCELED, blocked.getValue());
+        assertState(CANCELED, idle.getValue());
+    }
+
+    private void startTaskExecutionService(int cooperativeThreadCount) {
+        SeaTunnelConfig seaTunnelConfig = ConfigProvider.locateAndGetSeaTunnelConfig();
+        seaTunnelConfig.getEngineConfig().setTaskExecutionThreadShareMode(ThreadShareMode.ALL);
+        taskExecutionService =
+                new TaskExecutionService(
+                        (NodeEngineImpl) nodeEngine,
+                        nodeEngine.getProperties(),
+                        seaTunnelConfig,
+                        cooperativeThreadCount);
+        taskExecutionService.start();
+    }
+
+    private Map.Entry<TaskGroupLocation, CompletableFuture<TaskExecutionState>> deploy(
+            Task... tasks) {
+        TaskGroupLocation location =
+                new TaskGroupLocation(20001, 200001, taskGroupId.incrementAndGet());
+        CompletableFuture<TaskExecutionState> future =
+                taskExecutionService.deployLocalTask(
+                        new TaskGroupDefaultImpl(location, "ts", Lists.newArrayList(tasks)));
+        return new AbstractMap.SimpleImmutableEntry<>(location, future);
+    }
+
+    private ProgressState running() {
+        return stop.get() ? ProgressState.DONE : ProgressState.MADE_PROGRESS;
+    }
+
+    private static void assertState(
+            ExecutionState expected, CompletableFuture<TaskExecutionState> future) {
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> Assertions.assertEquals(expected, future.get().getExecutionState()));
+    }
+}
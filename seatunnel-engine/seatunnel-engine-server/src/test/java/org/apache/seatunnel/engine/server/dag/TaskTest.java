@@ -31,6 +31,7 @@ import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalDag;
@@ -157,6 +158,67 @@ public class TaskTest extends AbstractSeaTunnelServerTest {
                 physicalPlan.getPipelineList().get(0).getPhysicalVertexList().size(), 2);
     }
 
+    @Test
+    public void testKeyHashShuffleWithStringKeyColumns() throws MalformedURLException {
+        IdGenerator idGenerator = new IdGenerator();
+
+        FakeSource fakeSource = createFakeSource();
+        Action fake =
+                new SourceAction<>(
+                        idGenerator.getNextId(),
+                        "fake",
+                        fakeSource,
+                        Sets.newHashSet(new URL("file:///fake.jar")));
+        LogicalVertex fakeVertex = new LogicalVertex(fake.getId(), fake, 2);
+
+        Action console =
+                new SinkAction<>(
+                        idGenerator.getNextId(),
+                        "console",
+                        new ConsoleSink(fakeSource.getProducedType()),
+                        Sets.newHashSet(new URL("file:///console.jar")));
+        LogicalVertex consoleVertex = new LogicalVertex(console.getId(), console, 3);
+
+        LogicalDag logicalDag = new LogicalDag();
+        logicalDag.addLogicalVertex(fakeVertex);
+        logicalDag.addLogicalVertex(consoleVertex);
+        logicalDag.addEdge(new LogicalEdge(fakeVertex, consoleVertex));
+
+        JobConfig config = new JobConfig();
+        config.setName("test");
+        // a single key column is usually written as a plain string in the env block
+        config.getEnvOptions().put(ShuffleConfig.SHUFFLE_KEY_COLUMNS.key(), "id");
+
+        JobImmutableInformation jobImmutableInformation =
+                new JobImmutableInformation(
+                        1,
+                        "Test",
+                        nodeEngine.getSerializationService().toData(logicalDag),
+                        config,
+                        Collections.emptyList());
+
+        PhysicalPlan physicalPlan =
+                PlanUtils.fromLogicalDAG(
+                                logicalDag,
+                                nodeEngine,
+                                jobImmutableInformation,
+                                System.currentTimeMillis(),
+                                Executors.newCachedThreadPool(),
+                                instance.getFlakeIdGenerator(Constant.SEATUNNEL_ID_GENERATOR_NAME),
+                                nodeEngine.getHazelcastInstance().getMap("testRunningJobState"),
+                                nodeEngine
+                                        .getHazelcastInstance()
+                                        .getMap("testRunningJobStateTimestamp"),
+                                QueueType.BLOCKINGQUEUE,
+                                new CheckpointConfig())
+                        .f0();
+
+        Assertions.assertEquals(1, physicalPlan.getPipelineList().size());
+        // 2 source tasks feeding the shuffle and 3 sink tasks reading from it
+        Assertions.assertEquals(
+                5, physicalPlan.getPipelineList().get(0).getPhysicalVertexList().size());
+    }
+
     private static FakeSource createFakeSource() {
         FakeSource fakeSource = new FakeSource();
         Config fakeSourceConfig =
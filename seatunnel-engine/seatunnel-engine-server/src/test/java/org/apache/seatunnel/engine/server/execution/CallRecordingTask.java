@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** For test use, records the threads calling a thread share task. */
+public class CallRecordingTask implements Task {
+
+    private final long taskId;
+    private final TaskCall taskCall;
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final Set<String> callingThreads = ConcurrentHashMap.newKeySet();
+    private volatile String lastCallingThread;
+
+    public CallRecordingTask(long taskId, TaskCall taskCall) {
+        this.taskId = taskId;
+        this.taskCall = taskCall;
+    }
+
+    @NonNull @Override
+    public ProgressState call() throws Exception {
+        String threadName = Thread.currentThread().getName();
+        callingThreads.add(threadName);
+        lastCallingThread = threadName;
+        return taskCall.call(callCount.incrementAndGet());
+    }
+
+    @NonNull @Override
+    public Long getTaskID() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return true;
+    }
+
+    public int getCallCount() {
+        return callCount.get();
+    }
+
+    public Set<String> getCallingThreads() {
+        return callingThreads;
+    }
+
+    public String getLastCallingThread() {
+        return lastCallingThread;
+    }
+
+    @FunctionalInterface
+    public interface TaskCall {
+        /** @param callCount the number of this call, starting at 1 */
+        ProgressState call(int callCount) throws Exception;
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.seatunnel.engine.server.master;
 
+import org.apache.seatunnel.api.configuration.util.OptionValidationException;
 import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalDag;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
@@ -230,4 +232,24 @@ public class JobMasterTest extends AbstractSeaTunnelServerTest {
                                             });
                         });
     }
+
+    @Test
+    public void testJobQueueType() {
+        Assertions.assertEquals(
+                QueueType.BLOCKINGQUEUE,
+                JobMaster.getJobQueueType(Collections.emptyMap(), QueueType.BLOCKINGQUEUE));
+        Assertions.assertEquals(
+                QueueType.BATCHQUEUE,
+                JobMaster.getJobQueueType(
+                        Collections.singletonMap("queue-type", "batchqueue"),
+                        QueueType.BLOCKINGQUEUE));
+        OptionValidationException exception =
+                Assertions.assertThrows(
+                        OptionValidationException.class,
+                        () ->
+                                JobMaster.getJobQueueType(
+                                        Collections.singletonMap("queue-type", "unknown"),
+                                        QueueType.BLOCKINGQUEUE));
+        Assertions.assertTrue(exception.getMessage().contains("BATCHQUEUE"));
+    }
 }
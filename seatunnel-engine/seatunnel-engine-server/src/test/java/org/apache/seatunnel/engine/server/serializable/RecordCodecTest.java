@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RecordCodecTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "id",
+                        "name",
+                        "price",
+                        "bytes",
+                        "date",
+                        "time",
+                        "timestamp",
+                        "tags",
+                        "attributes",
+                        "nested"
+                    },
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.INT_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.DOUBLE_TYPE),
+                        new SeaTunnelRowType(
+                                new String[] {"flag", "score"},
+                                new SeaTunnelDataType<?>[] {
+                                    BasicType.BOOLEAN_TYPE, BasicType.FLOAT_TYPE
+                                })
+                    });
+
+    @Test
+    public void testRowRoundTrip() {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            "数据",
+                            new BigDecimal("12345678.90"),
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(2023, 3, 1),
+                            LocalTime.of(12, 30, 1, 123456789),
+                            LocalDateTime.of(2023, 3, 1, 12, 30, 1, 1),
+                            new Integer[] {1, null, 3},
+                            Collections.singletonMap("k", 1.5d),
+                            new SeaTunnelRow(new Object[] {true, null})
+                        });
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        SeaTunnelRow nullRow = new SeaTunnelRow(new Object[10]);
+        nullRow.setTableId("unknown.table");
+
+        RecordCodec codec = RecordCodec.of(ROW_TYPE);
+        List<Record<?>> records =
+                codec.decode(
+                        codec.encode(
+                                Arrays.asList(
+                                        new Record<>(row),
+                                        new Record<>(nullRow),
+                                        new Record<>(
+                                                new CheckpointBarrier(
+                                                        1L, 2L, CheckpointType.CHECKPOINT_TYPE)))));
+
+        Assertions.assertEquals(3, records.size());
+        SeaTunnelRow decoded = (SeaTunnelRow) records.get(0).getData();
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, decoded.getRowKind());
+        Assertions.assertEquals("", decoded.getTableId());
+        Assertions.assertArrayEquals((byte[]) row.getField(3), (byte[]) decoded.getField(3));
+        Assertions.assertArrayEquals((Integer[]) row.getField(7), (Integer[]) decoded.getField(7));
+        for (int i : new int[] {0, 1, 2, 4, 5, 6, 8, 9}) {
+            Assertions.assertEquals(row.getField(i), decoded.getField(i));
+        }
+        SeaTunnelRow decodedNullRow = (SeaTunnelRow) records.get(1).getData();
+        Assertions.assertEquals(nullRow.getTableId(), decodedNullRow.getTableId());
+        Assertions.assertArrayEquals(nullRow.getFields(), decodedNullRow.getFields());
+        CheckpointBarrier barrier = (CheckpointBarrier) records.get(2).getData();
+        Assertions.assertEquals(1L, barrier.getId());
+        Assertions.assertEquals(2L, barrier.getTimestamp());
+        Assertions.assertEquals(CheckpointType.CHECKPOINT_TYPE, barrier.getCheckpointType());
+    }
+
+    @Test
+    public void testMultipleRowRoundTrip() {
+        SeaTunnelRowType userType =
+                new SeaTunnelRowType(
+                        new String[] {"id"}, new SeaTunnelDataType<?>[] {BasicType.INT_TYPE});
+        SeaTunnelRowType orderType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "note"},
+                        new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+        RecordCodec codec =
+                RecordCodec.of(
+                        new MultipleRowType(
+                                new String[] {"db.user", "db.order"},
+                                new SeaTunnelRowType[] {userType, orderType}));
+
+        SeaTunnelRow user = new SeaTunnelRow(new Object[] {1});
+        user.setTableId("db.user");
+        SeaTunnelRow order = new SeaTunnelRow(new Object[] {2L, null});
+        order.setTableId("db.order");
+        order.setRowKind(RowKind.DELETE);
+
+        List<Record<?>> records =
+                codec.decode(codec.encode(Arrays.asList(new Record<>(user), new Record<>(order))));
+        Assertions.assertEquals(user, records.get(0).getData());
+        Assertions.assertEquals(order, records.get(1).getData());
+    }
+
+    @Test
+    public void testArityMismatch() {
+        RecordCodec codec = RecordCodec.of(ROW_TYPE);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        codec.encode(
+                                Collections.singletonList(
+                                        new Record<>(new SeaTunnelRow(new Object[] {1L})))));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+
+public class RecordSerializerTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+    private final RecordSerializer serializer = new RecordSerializer();
+
+    @Test
+    public void testRowRoundTrip() throws IOException {
+        SeaTunnelRow row = row(3);
+        row.setTableId("db.table");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        assertRowEquals(row, (SeaTunnelRow) roundTrip(row).getData());
+    }
+
+    @Test
+    public void testWideRowRoundTrip() throws IOException {
+        SeaTunnelRow row = row(300);
+        assertRowEquals(row, (SeaTunnelRow) roundTrip(row).getData());
+    }
+
+    @Test
+    public void testReadRowOfPreviousFormat() throws IOException {
+        // the rows written before wide rows were supported, with the arity as a byte
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        out.writeByte(RecordSerializer.RecordDataType.SEATUNNEL_ROW.ordinal());
+        out.writeString("db.table");
+        out.writeByte(RowKind.INSERT.toByteValue());
+        out.writeByte(2);
+        out.writeObject(1L);
+        out.writeObject("a");
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        SeaTunnelRow expected = new SeaTunnelRow(new Object[] {1L, "a"});
+        expected.setTableId("db.table");
+        assertRowEquals(expected, (SeaTunnelRow) serializer.read(in).getData());
+    }
+
+    @Test
+    public void testNarrowRowIsWrittenInPreviousFormat() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, new Record<>(row(127)));
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        Assertions.assertEquals(
+                RecordSerializer.RecordDataType.SEATUNNEL_ROW.ordinal(), in.readByte());
+        in.readString();
+        in.readByte();
+        Assertions.assertEquals(127, in.readByte());
+    }
+
+    private Record<?> roundTrip(SeaTunnelRow row) throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, new Record<>(row));
+        return serializer.read(serializationService.createObjectDataInput(out.toByteArray()));
+    }
+
+    private static void assertRowEquals(SeaTunnelRow expected, SeaTunnelRow actual) {
+        Assertions.assertEquals(expected.getTableId(), actual.getTableId());
+        Assertions.assertEquals(expected.getRowKind(), actual.getRowKind());
+        Assertions.assertArrayEquals(expected.getFields(), actual.getFields());
+    }
+
+    private static SeaTunnelRow row(int arity) {
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            fields[i] = (long) i;
+        }
+        return new SeaTunnelRow(fields);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleTransport;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannels;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleOutputChannel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ShuffleSourceFlowLifeCycleTest extends AbstractSeaTunnelServerTest {
+
+    private static final int PIPELINE_ID = 1;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id"}, new SeaTunnelDataType<?>[] {BasicType.LONG_TYPE});
+
+    @Test
+    public void testRestoreInFlightRecordsOfQueueShuffle() throws Exception {
+        assertRestoreInFlightRecords(ShuffleTransport.QUEUE);
+    }
+
+    @Test
+    public void testRestoreInFlightRecordsOfDirectShuffle() throws Exception {
+        assertRestoreInFlightRecords(ShuffleTransport.DIRECT);
+    }
+
+    private void assertRestoreInFlightRecords(ShuffleTransport transport) throws Exception {
+        long jobId = System.nanoTime();
+        ShuffleAction shuffleAction = createShuffleAction(jobId, transport);
+        RecordingTask task = createTask(jobId);
+        // the direct channels are registered by the consuming end
+        ShuffleSourceFlowLifeCycle<?> source =
+                new ShuffleSourceFlowLifeCycle<>(task, 0, shuffleAction, new CompletableFuture<>());
+        List<ShuffleOutputChannel> channels = new ArrayList<>();
+        for (int inputIndex = 0; inputIndex < 2; inputIndex++) {
+            channels.addAll(
+                    ShuffleChannels.createOutputChannels(
+                                    shuffleAction.getConfig(),
+                                    task.getExecutionContext(),
+                                    PIPELINE_ID,
+                                    inputIndex)
+                            .values());
+        }
+        RecordingCollector downstream = new RecordingCollector();
+
+        // emitted before the checkpoint
+        put(channels.get(0), 0, 6);
+        put(channels.get(1), 100, 106);
+        source.collect(downstream);
+        Assertions.assertEquals(ids(0, 4, 100, 104), downstream.ids());
+
+        // queued in front of the barrier, and buffered by the upstream tasks when it overtakes
+        put(channels.get(0), 6, 10);
+        put(channels.get(1), 106, 110);
+        Record<?> barrier =
+                new Record<>(
+                        new CheckpointBarrier(
+                                1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE));
+        overtake(channels.get(0), barrier, 10, 12);
+        overtake(channels.get(1), barrier, 110, 111);
+        // after the checkpoint, replayed by the upstream tasks on restore
+        put(channels.get(0), 12, 15);
+        put(channels.get(1), 111, 114);
+
+        for (int i = 0; i < 10 && downstream.ids().size() < 29; i++) {
+            source.collect(downstream);
+        }
+        Assertions.assertEquals(29, downstream.ids().size());
+        Assertions.assertEquals(29, new HashSet<>(downstream.ids()).size());
+        // the barrier overtook the records queued in front of it
+        Assertions.assertEquals(8, downstream.barrierIndex());
+        Assertions.assertTrue(task.acked.contains(1L));
+        List<byte[]> state = task.states.get(1L);
+        Assertions.assertEquals(2, state.size());
+        source.close();
+
+        ShuffleSourceFlowLifeCycle<?> restored =
+                new ShuffleSourceFlowLifeCycle<>(task, 0, shuffleAction, new CompletableFuture<>());
+        restored.restoreState(
+                Arrays.asList(new ActionSubtaskState(ActionStateKey.of(shuffleAction), 0, state)));
+        RecordingCollector restoredDownstream = new RecordingCollector();
+        restored.collect(restoredDownstream);
+        restored.close();
+
+        // the records of each channel in front of the barrier, in order, and nothing behind it
+        Assertions.assertEquals(ids(4, 12, 104, 111), restoredDownstream.ids());
+        List<Long> recovered = new ArrayList<>(downstream.ids().subList(0, 8));
+        recovered.addAll(restoredDownstream.ids());
+        recovered.addAll(ids(12, 15, 111, 114));
+        Assertions.assertEquals(29, recovered.size());
+        Assertions.assertEquals(new HashSet<>(downstream.ids()), new HashSet<>(recovered));
+    }
+
+    private ShuffleAction createShuffleAction(long jobId, ShuffleTransport transport) {
+        ShuffleKeyHashStrategy strategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(jobId)
+                        .inputPartitions(2)
+                        .targetPartitions(1)
+                        .keyFieldIndexes(new int[] {0})
+                        .inputRowType(ROW_TYPE)
+                        .build();
+        ShuffleConfig config =
+                ShuffleConfig.builder()
+                        .batchSize(4)
+                        .transport(transport)
+                        .unalignedCheckpoint(true)
+                        .shuffleStrategy(strategy)
+                        .build();
+        return new ShuffleAction(1, "shuffle-" + jobId, config);
+    }
+
+    private RecordingTask createTask(long jobId) {
+        RecordingTask task =
+                new RecordingTask(
+                        jobId,
+                        new TaskLocation(new TaskGroupLocation(jobId, PIPELINE_ID, 1), 1, 0));
+        task.setTaskExecutionContext(
+                new TaskExecutionContext(
+                        task, (NodeEngineImpl) nodeEngine, server.getTaskExecutionService()));
+        return task;
+    }
+
+    private static void put(ShuffleOutputChannel channel, long from, long to)
+            throws InterruptedException {
+        channel.putAll(records(from, to));
+    }
+
+    /** What the shuffle sink does when an unaligned barrier overtakes its buffered records. */
+    private static void overtake(
+            ShuffleOutputChannel channel, Record<?> barrier, long from, long to)
+            throws InterruptedException {
+        List<Record<?>> batch = new ArrayList<>();
+        batch.add(barrier);
+        batch.addAll(records(from, to));
+        channel.putPriority(batch);
+        channel.put(barrier);
+    }
+
+    private static List<Record<?>> records(long from, long to) {
+        return LongStream.range(from, to)
+                .mapToObj(id -> new Record<>(new SeaTunnelRow(new Object[] {id})))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(long from1, long to1, long from2, long to2) {
+        List<Long> ids = LongStream.range(from1, to1).boxed().collect(Collectors.toList());
+        LongStream.range(from2, to2).forEach(ids::add);
+        return ids;
+    }
+
+    private static class RecordingCollector implements Collector<Record<?>> {
+        private final List<Record<?>> records = new ArrayList<>();
+
+        @Override
+        public void collect(Record<?> record) {
+            records.add(record);
+        }
+
+        @Override
+        public void close() {}
+
+        int barrierIndex() {
+            for (int i = 0; i < records.size(); i++) {
+                if (records.get(i).getData() instanceof Barrier) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        List<Long> ids() {
+            return records.stream()
+                    .filter(record -> !(record.getData() instanceof Barrier))
+                    .map(record -> (Long) ((SeaTunnelRow) record.getData()).getField(0))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class RecordingTask extends SeaTunnelTask {
+        private final List<Long> acked = new ArrayList<>();
+        private final Map<Long, List<byte[]>> states = new ConcurrentHashMap<>();
+
+        RecordingTask(long jobID, TaskLocation taskID) {
+            super(jobID, taskID, 0, null);
+        }
+
+        @Override
+        public void ack(Barrier barrier) {
+            acked.add(barrier.getId());
+        }
+
+        @Override
+        public void addState(Barrier barrier, ActionStateKey stateKey, List<byte[]> state) {
+            states.put(barrier.getId(), state);
+        }
+
+        @Override
+        protected SourceFlowLifeCycle<?, ?> createSourceFlowLifeCycle(
+                SourceAction<?, ?, ?> sourceAction,
+                SourceConfig config,
+                CompletableFuture<Void> completableFuture,
+                MetricsContext metricsContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void collect() {}
+    }
+}
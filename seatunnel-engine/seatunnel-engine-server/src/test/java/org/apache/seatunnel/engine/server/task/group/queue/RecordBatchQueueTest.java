@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RecordBatchQueueTest {
+
+    @Test
+    public void testBatchesKeepOrder() throws Exception {
+        RecordBatchQueue queue = new RecordBatchQueue(2, 4);
+        int total = 1001;
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < total; i++) {
+                                    queue.add(new Record<>(i));
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        producer.start();
+
+        List<Object> received = new ArrayList<>();
+        while (received.size() < total) {
+            Record<?>[] batch = queue.poll(10, TimeUnit.MILLISECONDS);
+            if (batch == null) {
+                continue;
+            }
+            for (Record<?> record : batch) {
+                if (record == null) {
+                    break;
+                }
+                received.add(record.getData());
+            }
+            queue.recycle(batch);
+        }
+        producer.join();
+
+        for (int i = 0; i < total; i++) {
+            Assertions.assertEquals(i, received.get(i));
+        }
+        Assertions.assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPollTakesPartialBatch() throws Exception {
+        RecordBatchQueue queue = new RecordBatchQueue(2, 4);
+        queue.add(new Record<>(1));
+        queue.add(new Record<>(2));
+
+        Record<?>[] batch = queue.poll(1, TimeUnit.MILLISECONDS);
+        Assertions.assertNotNull(batch);
+        Assertions.assertEquals(1, batch[0].getData());
+        Assertions.assertEquals(2, batch[1].getData());
+        Assertions.assertNull(batch[2]);
+        Assertions.assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPollTakesPartialBatchOfIdleProducer() throws Exception {
+        RecordBatchQueue queue = new RecordBatchQueue(2, 4);
+        queue.add(new Record<>(1));
+
+        long start = System.nanoTime();
+        Record<?>[] batch = queue.poll(10, TimeUnit.SECONDS);
+        Assertions.assertNotNull(batch);
+        Assertions.assertEquals(1, batch[0].getData());
+        Assertions.assertNull(batch[1]);
+        // the producer went idle, so the consumer doesn't wait for the batch to fill up
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.SeaTunnelServerStarter;
+import org.apache.seatunnel.engine.server.TestUtils;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DirectShuffleOutputChannelTest {
+
+    private static final RecordCodec CODEC =
+            RecordCodec.of(
+                    new SeaTunnelRowType(
+                            new String[] {"id", "name"},
+                            new SeaTunnelDataType<?>[] {
+                                BasicType.LONG_TYPE, BasicType.STRING_TYPE
+                            }));
+
+    private HazelcastInstanceImpl consumerInstance;
+    private HazelcastInstanceImpl producerInstance;
+
+    @BeforeAll
+    public void before() {
+        String clusterName = TestUtils.getClusterName("DirectShuffleOutputChannelTest");
+        consumerInstance = SeaTunnelServerStarter.createHazelcastInstance(clusterName);
+        producerInstance = SeaTunnelServerStarter.createHazelcastInstance(clusterName);
+    }
+
+    @AfterAll
+    public void after() {
+        producerInstance.shutdown();
+        consumerInstance.shutdown();
+    }
+
+    @Test
+    public void testLocalChannelHandsOverRecords() throws Exception {
+        DirectShuffleInputChannel input = register(consumerInstance, "local-channel");
+        List<Record<?>> records = createRecords();
+
+        createOutput(consumerInstance, "local-channel").putAll(records);
+
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(records.size(), input.drainTo(received, Integer.MAX_VALUE));
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertSame(records.get(i), received.get(i));
+        }
+        input.destroy();
+    }
+
+    @Test
+    public void testRemoteChannelReceivesEncodedRecords() throws Exception {
+        DirectShuffleInputChannel input = register(consumerInstance, "remote-channel");
+        List<Record<?>> records = createRecords();
+
+        createOutput(producerInstance, "remote-channel").putAll(records);
+
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(records.size(), input.drainTo(received, Integer.MAX_VALUE));
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertNotSame(records.get(i), received.get(i));
+            Assertions.assertArrayEquals(
+                    ((SeaTunnelRow) records.get(i).getData()).getFields(),
+                    ((SeaTunnelRow) received.get(i).getData()).getFields());
+        }
+        input.destroy();
+    }
+
+    @Test
+    public void testLocalProducerWaitsForCredits() throws Exception {
+        assertProducerWaitsForCredits(consumerInstance, "local-credit-channel");
+    }
+
+    @Test
+    public void testRemoteProducerWaitsForCredits() throws Exception {
+        assertProducerWaitsForCredits(producerInstance, "remote-credit-channel");
+    }
+
+    private void assertProducerWaitsForCredits(HazelcastInstanceImpl producer, String name)
+            throws Exception {
+        DirectShuffleInputChannel input = register(consumerInstance, name, 4);
+        DirectShuffleOutputChannel output = createOutput(producer, name);
+        List<Record<?>> records = createRecords();
+        CompletableFuture<Void> sent =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                output.putAll(records);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        // the producer blocks while the credits of the channel are used up
+        await().atMost(10, TimeUnit.SECONDS).until(() -> input.size() == 4);
+        Thread.sleep(200);
+        Assertions.assertFalse(sent.isDone());
+        Assertions.assertEquals(4, input.size());
+
+        List<Record<?>> received = new ArrayList<>();
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(
+                        () -> {
+                            input.drainTo(received, Integer.MAX_VALUE);
+                            return received.size() == records.size();
+                        });
+        sent.get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertArrayEquals(
+                    ((SeaTunnelRow) records.get(i).getData()).getFields(),
+                    ((SeaTunnelRow) received.get(i).getData()).getFields());
+        }
+        output.destroy();
+        input.destroy();
+    }
+
+    private static DirectShuffleInputChannel register(HazelcastInstanceImpl instance, String name) {
+        return register(instance, name, 16);
+    }
+
+    private static DirectShuffleInputChannel register(
+            HazelcastInstanceImpl instance, String name, int capacity) {
+        return getServer(instance)
+                .getTaskExecutionService()
+                .getShuffleChannelRegistry()
+                .register(name, capacity, CODEC);
+    }
+
+    private static DirectShuffleOutputChannel createOutput(
+            HazelcastInstanceImpl instance, String name) {
+        SeaTunnelServer server = getServer(instance);
+        return new DirectShuffleOutputChannel(
+                name,
+                new TaskExecutionContext(
+                        null, instance.node.getNodeEngine(), server.getTaskExecutionService()),
+                server.getTaskExecutionService().getShuffleChannelRegistry(),
+                CODEC);
+    }
+
+    private static SeaTunnelServer getServer(HazelcastInstanceImpl instance) {
+        return instance.node.getNodeEngine().getService(SeaTunnelServer.SERVICE_NAME);
+    }
+
+    private static List<Record<?>> createRecords() {
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(new Record<>(new SeaTunnelRow(new Object[] {(long) i, "name_" + i})));
+        }
+        return records;
+    }
+}
@@ -23,6 +23,8 @@ package org.apache.seatunnel.engine.checkpoint.storage;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
 public class PipelineState {
@@ -31,4 +33,10 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /**
+     * The chunks the states were stored in by an incremental checkpoint storage, in order. It is
+     * {@code null} if the states were stored as a whole.
+     */
+    private List<String> stateChunks;
 }
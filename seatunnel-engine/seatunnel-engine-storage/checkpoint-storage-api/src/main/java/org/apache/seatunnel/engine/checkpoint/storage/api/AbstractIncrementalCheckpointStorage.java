@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.api;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.StateChunker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_INCREMENTAL;
+
+/**
+ * A checkpoint storage that can store checkpoints incrementally. The states of a checkpoint are
+ * split into content-defined chunks, only the chunks that no stored checkpoint of the job
+ * references are written, and the checkpoint file just lists the chunks.
+ *
+ * <p>A storage stores a checkpoint by writing the data of {@link #serializeCheckPointData} to its
+ * checkpoint file, and then calls {@link #commitCheckPointData} if the file was stored or {@link
+ * #abortCheckPointData} if it wasn't.
+ */
+@Slf4j
+public abstract class AbstractIncrementalCheckpointStorage extends AbstractCheckpointStorage {
+
+    public static final String CHUNK_DIRECTORY = "chunks";
+
+    public static final String CHUNK_FILE_FORMAT = "chunk";
+
+    private static final String CHUNK_DIGEST_ALGORITHM = "SHA-256";
+
+    private volatile boolean incremental;
+
+    /**
+     * job id -> the chunk references of the job. They are loaded from the stored checkpoints of a
+     * job on first use, guarded by the map itself. Chunks are written and read outside the lock.
+     */
+    private final Map<String, ChunkReferences> chunkReferences = new HashMap<>();
+
+    /**
+     * write a chunk of incremental checkpoint states, the chunk may be written by several
+     * checkpoints at the same time
+     *
+     * @param jobId job id
+     * @param chunkId chunk id, the same chunk id always has the same data
+     * @param data chunk data
+     */
+    protected abstract void writeChunk(String jobId, String chunkId, byte[] data)
+            throws IOException;
+
+    /**
+     * read a chunk of incremental checkpoint states
+     *
+     * @param jobId job id
+     * @param chunkId chunk id
+     * @return chunk data
+     */
+    protected abstract byte[] readChunk(String jobId, String chunkId) throws IOException;
+
+    /**
+     * delete a chunk of incremental checkpoint states
+     *
+     * @param jobId job id
+     * @param chunkId chunk id
+     */
+    protected abstract void deleteChunk(String jobId, String chunkId) throws IOException;
+
+    /**
+     * read the data of all checkpoint files of the job, without reassembling their states
+     *
+     * @param jobId job id
+     * @return the data of the checkpoint files
+     */
+    protected abstract List<byte[]> readAllCheckPointData(String jobId) throws IOException;
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /** Enables incremental checkpoints if the storage configuration asks for them. */
+    protected void initIncremental(Map<String, String> configuration) {
+        setIncremental(Boolean.parseBoolean(configuration.get(STORAGE_INCREMENTAL)));
+    }
+
+    /**
+     * Serializes the checkpoint to the data of its checkpoint file. With incremental checkpoints
+     * the chunks that no stored checkpoint of the job references are written, and the chunks of the
+     * checkpoint stay reserved until it is committed or aborted.
+     */
+    @Override
+    public byte[] serializeCheckPointData(PipelineState state) throws IOException {
+        if (!incremental || state.getStates() == null || state.getStates().length == 0) {
+            return super.serializeCheckPointData(state);
+        }
+        List<byte[]> chunks = StateChunker.split(state.getStates());
+        List<String> chunkIds = new ArrayList<>(chunks.size());
+        for (byte[] chunk : chunks) {
+            chunkIds.add(getChunkId(chunk));
+        }
+        String jobId = state.getJobId();
+        Map<String, byte[]> newChunks = new LinkedHashMap<>();
+        synchronized (chunkReferences) {
+            ChunkReferences references = getChunkReferences(jobId);
+            for (int i = 0; i < chunks.size(); i++) {
+                // a chunk only reserved by another checkpoint may not be written yet
+                if (!references.stored.containsKey(chunkIds.get(i))) {
+                    newChunks.putIfAbsent(chunkIds.get(i), chunks.get(i));
+                }
+            }
+            // reserved chunks aren't deleted, even if a checkpoint referencing them is deleted
+            new HashSet<>(chunkIds)
+                    .forEach(chunkId -> references.pending.merge(chunkId, 1, Integer::sum));
+        }
+        try {
+            for (Map.Entry<String, byte[]> chunk : newChunks.entrySet()) {
+                writeChunk(jobId, chunk.getKey(), chunk.getValue());
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                releasePendingChunks(jobId, chunkIds);
+            } catch (IOException releaseException) {
+                e.addSuppressed(releaseException);
+            }
+            throw e;
+        }
+        return super.serializeCheckPointData(
+                PipelineState.builder()
+                        .jobId(jobId)
+                        .pipelineId(state.getPipelineId())
+                        .checkpointId(state.getCheckpointId())
+                        .stateChunks(chunkIds)
+                        .build());
+    }
+
+    /**
+     * The checkpoint file with the data was stored, its chunks count as referenced by a stored
+     * checkpoint from now on.
+     *
+     * @param jobId job id
+     * @param data the data of the stored checkpoint file
+     */
+    public void commitCheckPointData(String jobId, byte[] data) throws IOException {
+        List<String> chunkIds = super.deserializeCheckPointData(data).getStateChunks();
+        if (chunkIds == null) {
+            return;
+        }
+        synchronized (chunkReferences) {
+            ChunkReferences references = getChunkReferences(jobId);
+            for (String chunkId : new HashSet<>(chunkIds)) {
+                references.pending.computeIfPresent(chunkId, (k, v) -> v > 1 ? v - 1 : null);
+                references.stored.merge(chunkId, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * The checkpoint file with the data couldn't be stored, the chunks only it reserved are
+     * deleted.
+     *
+     * @param jobId job id
+     * @param data the data of the checkpoint file
+     */
+    public void abortCheckPointData(String jobId, byte[] data) {
+        try {
+            List<String> chunkIds = super.deserializeCheckPointData(data).getStateChunks();
+            if (chunkIds != null) {
+                releasePendingChunks(jobId, chunkIds);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to release the chunks of an aborted checkpoint of job {}", jobId, e);
+        }
+    }
+
+    /** Deserializes a checkpoint file, the states of an incremental checkpoint are reassembled. */
+    @Override
+    public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
+        PipelineState state = super.deserializeCheckPointData(data);
+        if (state.getStateChunks() != null) {
+            ByteArrayOutputStream states = new ByteArrayOutputStream();
+            for (String chunkId : state.getStateChunks()) {
+                states.write(readChunk(state.getJobId(), chunkId));
+            }
+            state.setStates(states.toByteArray());
+        }
+        return state;
+    }
+
+    /**
+     * Releases the chunks of a checkpoint file that was deleted, the chunks no other checkpoint of
+     * the job references are deleted as well.
+     *
+     * @param jobId job id
+     * @param data the data of the deleted checkpoint file
+     */
+    public void releaseCheckPointData(String jobId, byte[] data) throws IOException {
+        List<String> chunkIds = super.deserializeCheckPointData(data).getStateChunks();
+        if (chunkIds == null) {
+            return;
+        }
+        synchronized (chunkReferences) {
+            // loading the references after the file was deleted doesn't count it anymore
+            boolean loaded = chunkReferences.containsKey(jobId);
+            ChunkReferences references = getChunkReferences(jobId);
+            for (String chunkId : new HashSet<>(chunkIds)) {
+                if (loaded) {
+                    references.stored.computeIfPresent(chunkId, (k, v) -> v > 1 ? v - 1 : null);
+                }
+                deleteIfUnreferenced(jobId, references, chunkId);
+            }
+        }
+    }
+
+    /** Forgets the chunk references of a job whose checkpoints were all deleted. */
+    public void releaseAllCheckPointData(String jobId) {
+        synchronized (chunkReferences) {
+            chunkReferences.remove(jobId);
+        }
+    }
+
+    public String getChunkName(String chunkId) {
+        return chunkId + "." + CHUNK_FILE_FORMAT;
+    }
+
+    private void releasePendingChunks(String jobId, List<String> chunkIds) throws IOException {
+        synchronized (chunkReferences) {
+            ChunkReferences references = getChunkReferences(jobId);
+            for (String chunkId : new HashSet<>(chunkIds)) {
+                references.pending.computeIfPresent(chunkId, (k, v) -> v > 1 ? v - 1 : null);
+                deleteIfUnreferenced(jobId, references, chunkId);
+            }
+        }
+    }
+
+    /**
+     * Deletes a chunk no checkpoint references. It is called under the lock, so no checkpoint can
+     * reserve the chunk while it is deleted.
+     */
+    private void deleteIfUnreferenced(String jobId, ChunkReferences references, String chunkId)
+            throws IOException {
+        if (!references.stored.containsKey(chunkId) && !references.pending.containsKey(chunkId)) {
+            deleteChunk(jobId, chunkId);
+        }
+    }
+
+    private ChunkReferences getChunkReferences(String jobId) throws IOException {
+        ChunkReferences references = chunkReferences.get(jobId);
+        if (references == null) {
+            references = new ChunkReferences();
+            for (byte[] data : readAllCheckPointData(jobId)) {
+                List<String> chunkIds = super.deserializeCheckPointData(data).getStateChunks();
+                if (chunkIds != null) {
+                    for (String chunkId : new HashSet<>(chunkIds)) {
+                        references.stored.merge(chunkId, 1, Integer::sum);
+                    }
+                }
+            }
+            chunkReferences.put(jobId, references);
+        }
+        return references;
+    }
+
+    private String getChunkId(byte[] chunk) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(CHUNK_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        StringBuilder chunkId = new StringBuilder();
+        for (byte b : digest.digest(chunk)) {
+            chunkId.append(String.format("%02x", b));
+        }
+        return chunkId.toString();
+    }
+
+    private static final class ChunkReferences {
+        /** chunk id -> the number of stored checkpoint files referencing the chunk */
+        private final Map<String, Integer> stored = new HashMap<>();
+        /** chunk id -> the number of checkpoints being stored that reserved the chunk */
+        private final Map<String, Integer> pending = new HashMap<>();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Splits checkpoint state into content defined chunks. The chunk boundaries are chosen by a gear
+ * rolling hash over the bytes, so an insertion or a change only moves the boundaries around it and
+ * the chunks of unchanged state stay the same between two checkpoints.
+ */
+public class StateChunker {
+
+    public static final int MIN_CHUNK_SIZE = 2 * 1024;
+
+    public static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    /** Cut a chunk when the low 13 bits of the hash are zero, about every 8 KiB. */
+    private static final long BOUNDARY_MASK = (1L << 13) - 1;
+
+    private static final long GEAR_SEED = 0x5EA7_C0DEL;
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // the table must be stable across JVMs, otherwise the same state is chunked differently
+        Random random = new Random(GEAR_SEED);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private StateChunker() {}
+
+    public static List<byte[]> split(byte[] data) {
+        List<byte[]> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < data.length) {
+            int end = nextBoundary(data, start);
+            chunks.add(Arrays.copyOfRange(data, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static int nextBoundary(byte[] data, int start) {
+        int limit = Math.min(data.length, start + MAX_CHUNK_SIZE);
+        int minEnd = start + MIN_CHUNK_SIZE;
+        if (minEnd >= limit) {
+            return limit;
+        }
+        long hash = 0;
+        for (int i = start; i < limit; i++) {
+            hash = (hash << 1) + GEAR[data[i] & 0xFF];
+            if (i >= minEnd && (hash & BOUNDARY_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+}
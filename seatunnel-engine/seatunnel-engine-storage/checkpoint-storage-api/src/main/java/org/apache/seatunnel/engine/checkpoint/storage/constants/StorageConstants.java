@@ -24,4 +24,10 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /**
+     * The name of the configuration property that enables incremental checkpoints, which only write
+     * the state chunks that are not stored by a previous checkpoint yet.
+     */
+    public static final String STORAGE_INCREMENTAL = "incremental";
 }
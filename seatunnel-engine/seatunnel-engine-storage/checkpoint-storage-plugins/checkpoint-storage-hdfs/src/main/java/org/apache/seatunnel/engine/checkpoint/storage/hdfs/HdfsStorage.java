@@ -21,7 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
-import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractIncrementalCheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.AbstractConfiguration;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.FileConfiguration;
@@ -43,11 +43,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
-public class HdfsStorage extends AbstractCheckpointStorage {
+public class HdfsStorage extends AbstractIncrementalCheckpointStorage {
 
     public FileSystem fs;
     private static final String STORAGE_TMP_SUFFIX = "tmp";
@@ -63,6 +64,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        initIncremental(configuration);
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -104,6 +106,24 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + "/"
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
+        try {
+            writeCheckPointFile(tmpFilePath, filePath, datas, state);
+        } catch (CheckpointStorageException e) {
+            abortCheckPointData(state.getJobId(), datas);
+            throw e;
+        }
+        try {
+            commitCheckPointData(state.getJobId(), datas);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to commit the chunks of checkpoint, state: " + state, e);
+        }
+        return filePath.getName();
+    }
+
+    private void writeCheckPointFile(
+            Path tmpFilePath, Path filePath, byte[] datas, PipelineState state)
+            throws CheckpointStorageException {
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
             out.write(datas);
         } catch (IOException e) {
@@ -128,8 +148,6 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 log.error("Failed to delete tmp file", ioe);
             }
         }
-
-        return filePath.getName();
     }
 
     @Override
@@ -237,6 +255,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint for job {}", jobId, e);
         }
+        releaseAllCheckPointData(jobId);
     }
 
     @Override
@@ -283,7 +302,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
-                            fs.delete(new Path(fileName), false);
+                            deleteCheckpointFile(jobId, fileName);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -311,7 +330,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
-                            fs.delete(new Path(fileName), false);
+                            deleteCheckpointFile(jobId, fileName);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -324,6 +343,84 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    private void deleteCheckpointFile(String jobId, String fileName) throws IOException {
+        Path filePath =
+                new Path(
+                        getStorageParentDirectory()
+                                + jobId
+                                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                                + fileName);
+        if (!isIncremental()) {
+            fs.delete(filePath, false);
+            return;
+        }
+        byte[] data = readFile(filePath);
+        if (fs.delete(filePath, false)) {
+            releaseCheckPointData(jobId, data);
+        }
+    }
+
+    private Path getChunkPath(String jobId, String chunkId) {
+        return new Path(
+                getStorageParentDirectory()
+                        + jobId
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + CHUNK_DIRECTORY
+                        + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                        + getChunkName(chunkId));
+    }
+
+    @Override
+    protected void writeChunk(String jobId, String chunkId, byte[] data) throws IOException {
+        Path chunkPath = getChunkPath(jobId, chunkId);
+        // checkpoints storing the same chunk at the same time don't share the tmp file
+        Path tmpChunkPath = chunkPath.suffix("." + UUID.randomUUID() + STORAGE_TMP_SUFFIX);
+        try (FSDataOutputStream out = fs.create(tmpChunkPath, true)) {
+            out.write(data);
+        }
+        if (!fs.rename(tmpChunkPath, chunkPath)) {
+            fs.delete(tmpChunkPath, false);
+            // the same chunk id always has the same data, an existing chunk is fine
+            if (!fs.exists(chunkPath)) {
+                throw new IOException("Failed to rename tmp chunk to " + chunkPath);
+            }
+        }
+    }
+
+    @Override
+    protected byte[] readChunk(String jobId, String chunkId) throws IOException {
+        return readFile(getChunkPath(jobId, chunkId));
+    }
+
+    @Override
+    protected void deleteChunk(String jobId, String chunkId) throws IOException {
+        fs.delete(getChunkPath(jobId, chunkId), false);
+    }
+
+    @Override
+    protected List<byte[]> readAllCheckPointData(String jobId) throws IOException {
+        String path = getStorageParentDirectory() + jobId;
+        List<byte[]> datas = new ArrayList<>();
+        List<String> fileNames;
+        try {
+            fileNames = getFileNames(path);
+        } catch (CheckpointStorageException e) {
+            throw new IOException(e);
+        }
+        for (String fileName : fileNames) {
+            datas.add(readFile(new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName)));
+        }
+        return datas;
+    }
+
+    private byte[] readFile(Path filePath) throws IOException {
+        try (FSDataInputStream in = fs.open(filePath);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        }
+    }
+
     private List<String> getFileNames(String path) throws CheckpointStorageException {
         try {
             Path parentPath = new Path(path);
@@ -353,11 +450,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
-                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            IOUtils.copyBytes(in, stream, 1024);
-            byte[] bytes = stream.toByteArray();
-            return deserializeCheckPointData(bytes);
+        try {
+            return deserializeCheckPointData(readFile(new Path(fileName)));
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
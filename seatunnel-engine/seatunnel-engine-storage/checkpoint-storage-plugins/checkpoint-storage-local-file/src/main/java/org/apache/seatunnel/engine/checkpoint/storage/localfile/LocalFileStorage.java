@@ -21,7 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
-import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractIncrementalCheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import org.apache.commons.collections4.MapUtils;
@@ -33,7 +33,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -46,7 +48,7 @@ import java.util.stream.Collectors;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
-public class LocalFileStorage extends AbstractCheckpointStorage {
+public class LocalFileStorage extends AbstractIncrementalCheckpointStorage {
 
     private static final String[] FILE_EXTENSIONS = new String[] {FILE_FORMAT};
 
@@ -68,6 +70,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        initIncremental(configuration);
     }
 
     /** set default storage root directory */
@@ -97,17 +100,26 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         File file = new File(fileName);
         try {
             FileUtils.touch(file);
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
+            // commons-io rejects an existing path that is not a regular file
+            abortCheckPointData(state.getJobId(), datas);
             throw new CheckpointStorageException("Failed to create checkpoint file " + fileName, e);
         }
 
         try {
             FileUtils.writeByteArrayToFile(file, datas);
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
+            abortCheckPointData(state.getJobId(), datas);
             throw new CheckpointStorageException(
                     "Failed to write checkpoint data to file " + fileName, e);
         }
 
+        try {
+            commitCheckPointData(state.getJobId(), datas);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    "Failed to commit the chunks of checkpoint file " + fileName, e);
+        }
         return fileName;
     }
 
@@ -279,6 +291,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint directory " + jobPath, e);
         }
+        releaseAllCheckPointData(jobId);
     }
 
     @Override
@@ -341,7 +354,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
-                            FileUtils.delete(file);
+                            deleteCheckpointFile(jobId, file);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -354,6 +367,67 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    private void deleteCheckpointFile(String jobId, File file) throws IOException {
+        if (!isIncremental()) {
+            FileUtils.delete(file);
+            return;
+        }
+        byte[] data = FileUtils.readFileToByteArray(file);
+        FileUtils.delete(file);
+        releaseCheckPointData(jobId, data);
+    }
+
+    private File getChunkFile(String jobId, String chunkId) {
+        return new File(
+                getStorageParentDirectory()
+                        + jobId
+                        + File.separator
+                        + CHUNK_DIRECTORY
+                        + File.separator
+                        + getChunkName(chunkId));
+    }
+
+    @Override
+    protected void writeChunk(String jobId, String chunkId, byte[] data) throws IOException {
+        File chunkFile = getChunkFile(jobId, chunkId);
+        FileUtils.forceMkdir(chunkFile.getParentFile());
+        // checkpoints storing the same chunk at the same time don't share the tmp file
+        File tmpChunkFile = File.createTempFile(chunkId, null, chunkFile.getParentFile());
+        try {
+            FileUtils.writeByteArrayToFile(tmpChunkFile, data);
+            Files.move(
+                    tmpChunkFile.toPath(),
+                    chunkFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpChunkFile.toPath());
+        }
+    }
+
+    @Override
+    protected byte[] readChunk(String jobId, String chunkId) throws IOException {
+        return FileUtils.readFileToByteArray(getChunkFile(jobId, chunkId));
+    }
+
+    @Override
+    protected void deleteChunk(String jobId, String chunkId) throws IOException {
+        Files.deleteIfExists(getChunkFile(jobId, chunkId).toPath());
+    }
+
+    @Override
+    protected List<byte[]> readAllCheckPointData(String jobId) throws IOException {
+        File parentPath = new File(getStorageParentDirectory() + jobId);
+        if (!parentPath.exists()) {
+            return new ArrayList<>();
+        }
+        List<byte[]> datas = new ArrayList<>();
+        for (File file : FileUtils.listFiles(parentPath, FILE_EXTENSIONS, false)) {
+            datas.add(FileUtils.readFileToByteArray(file));
+        }
+        return datas;
+    }
+
     @Override
     public void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException {
@@ -377,7 +451,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
-                            FileUtils.delete(file);
+                            deleteCheckpointFile(jobId, file);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
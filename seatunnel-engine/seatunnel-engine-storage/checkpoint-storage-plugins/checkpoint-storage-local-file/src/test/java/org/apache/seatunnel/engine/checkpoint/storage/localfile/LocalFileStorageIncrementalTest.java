@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.localfile;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractIncrementalCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_INCREMENTAL;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class LocalFileStorageIncrementalTest {
+
+    private static final String NAME_SPACE = "/tmp/seatunnel/checkpoint-incremental/";
+    private static final String JOB_ID = "incremental";
+
+    @AfterEach
+    public void teardown() {
+        createStorage().deleteCheckpoint(JOB_ID);
+    }
+
+    @Test
+    public void testStoreOnlyChangedChunks() throws CheckpointStorageException {
+        LocalFileStorage storage = createStorage();
+        byte[] states1 = new byte[256 * 1024];
+        new Random(1).nextBytes(states1);
+        storage.storeCheckPoint(pipelineState(1, states1));
+        int chunks1 = countChunks();
+
+        byte[] states2 = Arrays.copyOf(states1, states1.length);
+        for (int i = 0; i < 100; i++) {
+            states2[states2.length / 2 + i] = (byte) i;
+        }
+        storage.storeCheckPoint(pipelineState(2, states2));
+        int chunks2 = countChunks();
+        Assertions.assertTrue(chunks2 > chunks1);
+        Assertions.assertTrue(chunks2 - chunks1 < 4);
+
+        Assertions.assertArrayEquals(
+                states2, storage.getLatestCheckpointByJobIdAndPipelineId(JOB_ID, "1").getStates());
+        Assertions.assertArrayEquals(states1, storage.getCheckpoint(JOB_ID, "1", "1").getStates());
+        Assertions.assertArrayEquals(
+                states2, storage.getLatestCheckpoint(JOB_ID).get(0).getStates());
+    }
+
+    @Test
+    public void testDeleteUnreferencedChunks() throws CheckpointStorageException {
+        LocalFileStorage storage = createStorage();
+        byte[] states1 = new byte[128 * 1024];
+        new Random(2).nextBytes(states1);
+        byte[] states2 = Arrays.copyOf(states1, states1.length * 2);
+        new Random(3).nextBytes(states2);
+        System.arraycopy(states1, 0, states2, 0, states1.length);
+        storage.storeCheckPoint(pipelineState(1, states1));
+        storage.storeCheckPoint(pipelineState(2, states2));
+        int chunks = countChunks();
+
+        storage.deleteCheckpoint(JOB_ID, "1", "1");
+        // only the trailing chunk of checkpoint 1 isn't shared with checkpoint 2
+        Assertions.assertEquals(chunks - 1, countChunks());
+        Assertions.assertArrayEquals(states2, storage.getCheckpoint(JOB_ID, "1", "2").getStates());
+
+        // the references are loaded from the stored checkpoints after a restart
+        createStorage().deleteCheckpoint(JOB_ID, "1", "2");
+        Assertions.assertEquals(0, countChunks());
+    }
+
+    @Test
+    public void testFailedStoreReleasesChunks() throws Exception {
+        String checkpointName = "1-1-1-1.ser";
+        LocalFileStorage storage =
+                new LocalFileStorage(createConfig()) {
+                    @Override
+                    public String getCheckPointName(PipelineState state) {
+                        return checkpointName;
+                    }
+                };
+        // the checkpoint file can't be written over a directory
+        Assertions.assertTrue(new File(NAME_SPACE + JOB_ID, checkpointName).mkdirs());
+        byte[] states = new byte[128 * 1024];
+        new Random(4).nextBytes(states);
+        Assertions.assertThrows(
+                CheckpointStorageException.class,
+                () -> storage.storeCheckPoint(pipelineState(1, states)));
+        Assertions.assertEquals(0, countChunks());
+        Assertions.assertTrue(new File(NAME_SPACE + JOB_ID, checkpointName).delete());
+
+        // the failed checkpoint doesn't keep the chunks of the next one alive
+        createStorage().storeCheckPoint(pipelineState(2, states));
+        Assertions.assertTrue(countChunks() > 0);
+        createStorage().deleteCheckpoint(JOB_ID, "1", "2");
+        Assertions.assertEquals(0, countChunks());
+    }
+
+    @Test
+    public void testConcurrentCheckpoints() throws Exception {
+        LocalFileStorage storage = createStorage();
+        byte[] shared = new byte[128 * 1024];
+        new Random(5).nextBytes(shared);
+        int threads = 4;
+        int checkpointsPerThread = 5;
+        Map<Long, byte[]> states = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < checkpointsPerThread; i++) {
+                                        long checkpointId = thread * checkpointsPerThread + i + 1;
+                                        // a shared prefix and a tail of its own
+                                        byte[] checkpointStates =
+                                                Arrays.copyOf(shared, shared.length * 2);
+                                        byte[] tail = new byte[shared.length];
+                                        new Random(checkpointId).nextBytes(tail);
+                                        System.arraycopy(
+                                                tail,
+                                                0,
+                                                checkpointStates,
+                                                shared.length,
+                                                tail.length);
+                                        states.put(checkpointId, checkpointStates);
+                                        storage.storeCheckPoint(
+                                                pipelineState(checkpointId, checkpointStates));
+                                        if (i > 0) {
+                                            // deleting the previous checkpoint releases its
+                                            // chunks while the other threads store theirs
+                                            storage.deleteCheckpoint(
+                                                    JOB_ID, "1", String.valueOf(checkpointId - 1));
+                                        }
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int t = 0; t < threads; t++) {
+            long checkpointId = (long) (t + 1) * checkpointsPerThread;
+            Assertions.assertArrayEquals(
+                    states.get(checkpointId),
+                    createStorage()
+                            .getCheckpoint(JOB_ID, "1", String.valueOf(checkpointId))
+                            .getStates());
+        }
+        for (int t = 0; t < threads; t++) {
+            storage.deleteCheckpoint(
+                    JOB_ID, "1", String.valueOf((long) (t + 1) * checkpointsPerThread));
+        }
+        Assertions.assertEquals(0, countChunks());
+    }
+
+    private static LocalFileStorage createStorage() {
+        return new LocalFileStorage(createConfig());
+    }
+
+    private static Map<String, String> createConfig() {
+        Map<String, String> config = new HashMap<>();
+        config.put(STORAGE_NAME_SPACE, NAME_SPACE);
+        config.put(STORAGE_INCREMENTAL, "true");
+        return config;
+    }
+
+    private static PipelineState pipelineState(long checkpointId, byte[] states) {
+        return PipelineState.builder()
+                .jobId(JOB_ID)
+                .pipelineId(1)
+                .checkpointId(checkpointId)
+                .states(states)
+                .build();
+    }
+
+    private static int countChunks() {
+        String[] chunks =
+                new File(NAME_SPACE + JOB_ID, AbstractIncrementalCheckpointStorage.CHUNK_DIRECTORY)
+                        .list();
+        return chunks == null ? 0 : chunks.length;
+    }
+}
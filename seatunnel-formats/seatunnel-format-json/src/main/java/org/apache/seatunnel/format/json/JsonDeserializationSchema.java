@@ -18,12 +18,12 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.NullNode;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -36,6 +36,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -56,6 +58,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private final JsonToRowConverters.JsonToRowConverter runtimeConverter;
 
+    /**
+     * Runtime converter that converts the tokens of a {@link JsonParser} into objects of internal
+     * data structures, used to deserialize messages without building a {@link JsonNode} tree.
+     */
+    private final JsonParserToRowConverters.JsonParserToRowConverter parserConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -73,7 +81,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
                 new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
                         .createConverter(checkNotNull(rowType));
 
-        if (hasDecimalType(rowType)) {
+        boolean useBigDecimalForFloats = hasDecimalType(rowType);
+        this.parserConverter =
+                new JsonParserToRowConverters(
+                                failOnMissingField, ignoreParseErrors, useBigDecimalForFloats)
+                        .createConverter(rowType);
+        if (useBigDecimalForFloats) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
@@ -99,81 +112,75 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convertBytes(message));
+        try (JsonParser parser = createParser(message)) {
+            parser.nextToken();
+            return convertToRowData(parser);
+        } catch (Throwable t) {
+            return handleDeserializeError(t, new String(message));
+        }
     }
 
     public SeaTunnelRow deserialize(String message) throws IOException {
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convert(message));
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            parser.nextToken();
+            return convertToRowData(parser);
+        } catch (Throwable t) {
+            return handleDeserializeError(t, message);
+        }
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
-        JsonNode jsonNode = convertBytes(message);
-        if (jsonNode.isArray()) {
-            ArrayNode arrayNode = (ArrayNode) jsonNode;
-            for (int i = 0; i < arrayNode.size(); i++) {
-                SeaTunnelRow deserialize = convertJsonNode(arrayNode.get(i));
-                out.collect(deserialize);
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        try (JsonParser parser = createParser(message)) {
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    rows.add(convertToRowData(parser));
+                }
+            } else {
+                rows.add(convertToRowData(parser));
             }
-        } else {
-            SeaTunnelRow deserialize = convertJsonNode(jsonNode);
-            out.collect(deserialize);
+        } catch (Throwable t) {
+            // like a message which fails to parse, nothing of it is emitted
+            rows.clear();
+            rows.add(handleDeserializeError(t, new String(message)));
+        }
+        for (SeaTunnelRow row : rows) {
+            out.collect(row);
         }
     }
 
-    private SeaTunnelRow convertJsonNode(JsonNode jsonNode) {
-        if (jsonNode.isNull()) {
+    private SeaTunnelRow handleDeserializeError(Throwable t, String message) {
+        if (ignoreParseErrors) {
             return null;
         }
-        try {
-            return (SeaTunnelRow) runtimeConverter.convert(jsonNode);
-        } catch (Throwable t) {
-            if (ignoreParseErrors) {
-                return null;
-            }
-            throw new SeaTunnelJsonFormatException(
-                    CommonErrorCode.JSON_OPERATION_FAILED,
-                    String.format("Failed to deserialize JSON '%s'.", jsonNode),
-                    t);
-        }
+        throw new SeaTunnelJsonFormatException(
+                CommonErrorCode.JSON_OPERATION_FAILED,
+                String.format("Failed to deserialize JSON '%s'.", message),
+                t);
     }
 
-    public JsonNode deserializeToJsonNode(byte[] message) throws IOException {
-        return objectMapper.readTree(message);
+    /** Creates a parser of the message, configured the same way as the tree model. */
+    public JsonParser createParser(byte[] message) throws IOException {
+        return objectMapper.getFactory().createParser(message);
     }
 
-    public SeaTunnelRow convertToRowData(JsonNode message) {
-        return (SeaTunnelRow) runtimeConverter.convert(message);
+    /**
+     * Converts the value at the current token of the parser, and leaves the parser at the last
+     * token of the value. Unknown fields are skipped without being materialized.
+     */
+    public SeaTunnelRow convertToRowData(JsonParser parser) throws IOException {
+        return (SeaTunnelRow) parserConverter.convert(parser);
     }
 
-    private JsonNode convertBytes(byte[] message) {
-        try {
-            return objectMapper.readTree(message);
-        } catch (Throwable t) {
-            if (ignoreParseErrors) {
-                return NullNode.getInstance();
-            }
-            throw new SeaTunnelJsonFormatException(
-                    CommonErrorCode.JSON_OPERATION_FAILED,
-                    String.format("Failed to deserialize JSON '%s'.", new String(message)),
-                    t);
-        }
+    public JsonNode deserializeToJsonNode(byte[] message) throws IOException {
+        return objectMapper.readTree(message);
     }
 
-    private JsonNode convert(String message) {
-        try {
-            return objectMapper.readTree(message);
-        } catch (Throwable t) {
-            if (ignoreParseErrors) {
-                return NullNode.getInstance();
-            }
-            throw new SeaTunnelJsonFormatException(
-                    CommonErrorCode.JSON_OPERATION_FAILED,
-                    String.format("Failed to deserialize JSON '%s'.", message),
-                    t);
-        }
+    public SeaTunnelRow convertToRowData(JsonNode message) {
+        return (SeaTunnelRow) runtimeConverter.convert(message);
     }
 
     @Override
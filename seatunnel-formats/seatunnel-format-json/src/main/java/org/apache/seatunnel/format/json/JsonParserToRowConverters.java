@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonStreamContext;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static org.apache.seatunnel.format.json.JsonToRowConverters.TIME_FORMAT;
+
+/**
+ * Tool class used to convert the tokens of a {@link JsonParser} to {@link SeaTunnelRow} without
+ * building a {@link org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode} tree first.
+ * Values are converted the same way as by {@link JsonToRowConverters}, and the subtrees of unknown
+ * fields are skipped.
+ *
+ * <p>A converter is called with the parser positioned at the first token of the value, and leaves
+ * it at the last token of the value.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    /** Flag indicating whether floating point numbers are read as {@link BigDecimal}. */
+    private final boolean useBigDecimalForFloats;
+
+    public JsonParserToRowConverters(
+            boolean failOnMissingField, boolean ignoreParseErrors, boolean useBigDecimalForFloats) {
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /** Creates a runtime converter which is null safe. */
+    public JsonParserToRowConverter createConverter(SeaTunnelDataType<?> type) {
+        return wrapIntoNullableConverter(createNotNullConverter(type));
+    }
+
+    /** Creates a runtime converter which assuming input value is not null. */
+    private JsonParserToRowConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type);
+            case NULL:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                };
+            case BOOLEAN:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToBoolean(parser);
+                    }
+                };
+            case TINYINT:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return Byte.parseByte(convertToText(parser).trim());
+                    }
+                };
+            case SMALLINT:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return Short.parseShort(convertToText(parser).trim());
+                    }
+                };
+            case INT:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToInt(parser);
+                    }
+                };
+            case BIGINT:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLong(parser);
+                    }
+                };
+            case DATE:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLocalDate(parser);
+                    }
+                };
+            case TIME:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLocalTime(parser);
+                    }
+                };
+            case TIMESTAMP:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToLocalDateTime(parser);
+                    }
+                };
+            case FLOAT:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToFloat(parser);
+                    }
+                };
+            case DOUBLE:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToDouble(parser);
+                    }
+                };
+            case STRING:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToString(parser);
+                    }
+                };
+            case BYTES:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToBytes(parser);
+                    }
+                };
+            case DECIMAL:
+                return new JsonParserToRowConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        return convertToBigDecimal(parser);
+                    }
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCode.UNSUPPORTED_DATA_TYPE, "Unsupported type: " + type);
+        }
+    }
+
+    /** The text of the current value, as {@code JsonNode#asText()} would return it. */
+    private String convertToText(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT:
+                return useBigDecimalForFloats
+                        ? readDecimal(parser).toString()
+                        : String.valueOf(parser.getDoubleValue());
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return "";
+            default:
+                return parser.getText();
+        }
+    }
+
+    /** Reads a floating point number the way a tree of {@link BigDecimal} nodes holds it. */
+    private static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.stripTrailingZeros();
+    }
+
+    private boolean convertToBoolean(JsonParser parser) throws IOException {
+        if (parser.currentToken().isBoolean()) {
+            // avoid redundant toString and parseBoolean, for better performance
+            return parser.getBooleanValue();
+        } else {
+            return Boolean.parseBoolean(convertToText(parser).trim());
+        }
+    }
+
+    private int convertToInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT) {
+            // avoid redundant toString and parseInt, for better performance
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = parser.getDoubleValue();
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+        }
+        return Integer.parseInt(convertToText(parser).trim());
+    }
+
+    private long convertToLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            // avoid redundant toString and parseLong, for better performance
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = parser.getDoubleValue();
+            if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                return (long) value;
+            }
+        }
+        return Long.parseLong(convertToText(parser).trim());
+    }
+
+    private double convertToDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            // avoid redundant toString and parseDouble, for better performance
+            return parser.getDoubleValue();
+        } else {
+            return Double.parseDouble(convertToText(parser).trim());
+        }
+    }
+
+    private float convertToFloat(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+            // avoid redundant toString and parseDouble, for better performance
+            return (float) parser.getDoubleValue();
+        } else {
+            return Float.parseFloat(convertToText(parser).trim());
+        }
+    }
+
+    private LocalDate convertToLocalDate(JsonParser parser) throws IOException {
+        return ISO_LOCAL_DATE.parse(convertToText(parser)).query(TemporalQueries.localDate());
+    }
+
+    private LocalTime convertToLocalTime(JsonParser parser) throws IOException {
+        TemporalAccessor parsedTime = TIME_FORMAT.parse(convertToText(parser));
+        return parsedTime.query(TemporalQueries.localTime());
+    }
+
+    private LocalDateTime convertToLocalDateTime(JsonParser parser) throws IOException {
+        TemporalAccessor parsedTimestamp =
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(convertToText(parser));
+        LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
+        LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+        return LocalDateTime.of(localDate, localTime);
+    }
+
+    private String convertToString(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                copyValue(parser, generator);
+            }
+            return writer.toString();
+        } else {
+            return convertToText(parser);
+        }
+    }
+
+    /** Copy the current value, writing numbers as they would be read into a tree. */
+    private void copyValue(JsonParser parser, JsonGenerator generator) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                generator.writeStartObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    generator.writeFieldName(parser.getCurrentName());
+                    parser.nextToken();
+                    copyValue(parser, generator);
+                }
+                generator.writeEndObject();
+                break;
+            case START_ARRAY:
+                generator.writeStartArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    copyValue(parser, generator);
+                }
+                generator.writeEndArray();
+                break;
+            case VALUE_NUMBER_FLOAT:
+                if (useBigDecimalForFloats) {
+                    generator.writeNumber(readDecimal(parser));
+                } else {
+                    generator.writeNumber(parser.getDoubleValue());
+                }
+                break;
+            default:
+                generator.copyCurrentEvent(parser);
+        }
+    }
+
+    private byte[] convertToBytes(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        try {
+            return parser.getBinaryValue();
+        } catch (IOException e) {
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCode.JSON_OPERATION_FAILED, "Unable to deserialize byte array.", e);
+        }
+    }
+
+    private BigDecimal convertToBigDecimal(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            return readDecimal(parser);
+        } else {
+            return new BigDecimal(convertToText(parser));
+        }
+    }
+
+    private JsonParserToRowConverter createRowConverter(SeaTunnelRowType rowType) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final JsonParserToRowConverter[] fieldConverters =
+                new JsonParserToRowConverter[fieldNames.length];
+        final Map<String, Integer> fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+            fieldIndexes.put(fieldNames[i], i);
+        }
+
+        return new JsonParserToRowConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                int arity = fieldNames.length;
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                boolean[] present = failOnMissingField ? new boolean[arity] : null;
+                JsonToken token = parser.currentToken();
+                if (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        Integer index = fieldIndexes.get(parser.getCurrentName());
+                        parser.nextToken();
+                        if (index == null) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        convertField(parser, row, index);
+                        if (present != null) {
+                            present[index] = true;
+                        }
+                    }
+                } else if (token == JsonToken.START_ARRAY) {
+                    int index = 0;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (index < arity) {
+                            convertField(parser, row, index);
+                            if (present != null) {
+                                present[index] = true;
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                        index++;
+                    }
+                }
+                if (present != null) {
+                    for (int i = 0; i < arity; i++) {
+                        if (!present[i]) {
+                            throw new SeaTunnelJsonFormatException(
+                                    CommonErrorCode.JSON_OPERATION_FAILED,
+                                    String.format(
+                                            "Fail to deserialize at field: %s.", fieldNames[i]),
+                                    new SeaTunnelJsonFormatException(
+                                            CommonErrorCode.JSON_OPERATION_FAILED,
+                                            String.format(
+                                                    "Could not find field with name %s .",
+                                                    fieldNames[i])));
+                        }
+                    }
+                }
+                return row;
+            }
+
+            private void convertField(JsonParser parser, SeaTunnelRow row, int index) {
+                try {
+                    row.setField(index, fieldConverters[index].convert(parser));
+                } catch (Throwable t) {
+                    throw new SeaTunnelJsonFormatException(
+                            CommonErrorCode.JSON_OPERATION_FAILED,
+                            String.format("Fail to deserialize at field: %s.", fieldNames[index]),
+                            t);
+                }
+            }
+        };
+    }
+
+    private JsonParserToRowConverter createArrayConverter(ArrayType<?, ?> type) {
+        JsonParserToRowConverter valueConverter = createConverter(type.getElementType());
+        return new JsonParserToRowConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                List<Object> values = new ArrayList<>();
+                if (parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        values.add(valueConverter.convert(parser));
+                    }
+                } else if (parser.currentToken() == JsonToken.START_OBJECT) {
+                    // an object converts to as many nulls as it has fields, like a tree does
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                        values.add(null);
+                    }
+                }
+                Object arr = Array.newInstance(type.getElementType().getTypeClass(), values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    Array.set(arr, i, values.get(i));
+                }
+                return arr;
+            }
+        };
+    }
+
+    private JsonParserToRowConverter createMapConverter(MapType<?, ?> type) {
+        JsonParserToRowConverter valueConverter = createConverter(type.getValueType());
+        return new JsonParserToRowConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                Map<Object, Object> value = new HashMap<>();
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    return value;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    value.put(key, valueConverter.convert(parser));
+                }
+                return value;
+            }
+        };
+    }
+
+    private JsonParserToRowConverter wrapIntoNullableConverter(JsonParserToRowConverter converter) {
+        return new JsonParserToRowConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                JsonToken token = parser.currentToken();
+                if (token == null || token == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                JsonStreamContext parent =
+                        token.isStructStart()
+                                ? parser.getParsingContext().getParent()
+                                : parser.getParsingContext();
+                try {
+                    return converter.convert(parser);
+                } catch (Throwable t) {
+                    if (!ignoreParseErrors) {
+                        throw t;
+                    }
+                    // skip what is left of the value, so the caller can go on with the next one
+                    while (parser.getParsingContext() != parent) {
+                        if (parser.nextToken() == null) {
+                            throw t;
+                        }
+                    }
+                    return null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Runtime converter that converts the current value of a {@link JsonParser} into objects of
+     * internal data structures.
+     */
+    @FunctionalInterface
+    public interface JsonParserToRowConverter extends Serializable {
+        Object convert(JsonParser parser) throws IOException;
+    }
+}
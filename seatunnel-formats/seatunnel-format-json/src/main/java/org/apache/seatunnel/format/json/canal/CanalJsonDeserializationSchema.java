@@ -18,6 +18,9 @@
 
 package org.apache.seatunnel.format.json.canal;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonStreamContext;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
@@ -33,6 +36,9 @@ import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
@@ -118,9 +124,70 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
         if (message == null) {
             return;
         }
-        ObjectNode jsonNode = (ObjectNode) convertBytes(message);
-        assert jsonNode != null;
-        deserialize(jsonNode, out);
+        String database = null;
+        String table = null;
+        String type = null;
+        List<SeaTunnelRow> data = null;
+        ArrayNode oldNode = null;
+        RuntimeException dataError = null;
+        // read the envelope from the token stream, only the "old" values are read into a tree
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("The Canal JSON message is not an object.");
+            }
+            JsonStreamContext envelope = parser.getParsingContext();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE:
+                        database = parser.getValueAsString();
+                        parser.skipChildren();
+                        break;
+                    case FIELD_TABLE:
+                        table = parser.getValueAsString();
+                        parser.skipChildren();
+                        break;
+                    case FIELD_TYPE:
+                        type = parser.getValueAsString();
+                        parser.skipChildren();
+                        break;
+                    case FIELD_DATA:
+                        try {
+                            data = convertRows(parser);
+                        } catch (RuntimeException e) {
+                            // "data" may come before the database and table of a message which
+                            // is filtered out, so the error is only thrown once they are known
+                            dataError = e;
+                            while (parser.getParsingContext() != envelope) {
+                                parser.nextToken();
+                            }
+                        }
+                        break;
+                    case FIELD_OLD:
+                        JsonNode node = parser.readValueAsTree();
+                        oldNode = node instanceof ArrayNode ? (ArrayNode) node : null;
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            if (ignoreParseErrors) {
+                return;
+            }
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCode.JSON_OPERATION_FAILED,
+                    String.format("Failed to deserialize JSON '%s'.", new String(message)),
+                    e);
+        }
+        if (!matches(databasePattern, database) || !matches(tablePattern, table)) {
+            return;
+        }
+        if (dataError != null) {
+            throw dataError;
+        }
+        emit(type, data, oldNode, () -> new String(message), out);
     }
 
     public void deserialize(ObjectNode jsonNode, Collector<SeaTunnelRow> out) {
@@ -133,25 +200,43 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
         }
         JsonNode dataNode = jsonNode.get(FIELD_DATA);
         String type = jsonNode.get(FIELD_TYPE).asText();
+        List<SeaTunnelRow> data = null;
+        if (dataNode != null && !dataNode.isNull()) {
+            data = new ArrayList<>(dataNode.size());
+            for (int i = 0; i < dataNode.size(); i++) {
+                data.add(convertJsonNode(dataNode.get(i)));
+            }
+        }
+        emit(type, data, (ArrayNode) jsonNode.get(FIELD_OLD), jsonNode::toString, out);
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return pattern == null || (value != null && pattern.matcher(value).matches());
+    }
+
+    private void emit(
+            String type,
+            List<SeaTunnelRow> data,
+            ArrayNode oldNode,
+            Supplier<String> message,
+            Collector<SeaTunnelRow> out) {
         // When a null value is encountered, an exception needs to be thrown for easy sensing
-        if (dataNode == null || dataNode.isNull()) {
+        if (data == null) {
             // We'll skip the query or create or alter event data
             if (OP_QUERY.equals(type) || OP_CREATE.equals(type) || OP_ALTER.equals(type)) {
                 return;
             }
             throw new SeaTunnelJsonFormatException(
                     CommonErrorCode.JSON_OPERATION_FAILED,
-                    format("Null data value \"%s\" Cannot send downstream", jsonNode));
+                    format("Null data value \"%s\" Cannot send downstream", message.get()));
         }
         if (OP_INSERT.equals(type)) {
-            for (int i = 0; i < dataNode.size(); i++) {
-                SeaTunnelRow row = convertJsonNode(dataNode.get(i));
+            for (SeaTunnelRow row : data) {
                 out.collect(row);
             }
         } else if (OP_UPDATE.equals(type)) {
-            final ArrayNode oldNode = (ArrayNode) jsonNode.get(FIELD_OLD);
-            for (int i = 0; i < dataNode.size(); i++) {
-                SeaTunnelRow after = convertJsonNode(dataNode.get(i));
+            for (int i = 0; i < data.size(); i++) {
+                SeaTunnelRow after = data.get(i);
                 SeaTunnelRow before = convertJsonNode(oldNode.get(i));
                 for (int f = 0; f < fieldCount; f++) {
                     assert before != null;
@@ -171,8 +256,7 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
                 out.collect(after);
             }
         } else if (OP_DELETE.equals(type)) {
-            for (int i = 0; i < dataNode.size(); i++) {
-                SeaTunnelRow row = convertJsonNode(dataNode.get(i));
+            for (SeaTunnelRow row : data) {
                 assert row != null;
                 row.setRowKind(RowKind.DELETE);
                 out.collect(row);
@@ -183,23 +267,25 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
                         CommonErrorCode.UNSUPPORTED_DATA_TYPE,
                         format(
                                 "Unknown \"type\" value \"%s\". The Canal JSON message is '%s'",
-                                type, jsonNode.asText()));
+                                type, message.get()));
             }
         }
     }
 
-    private JsonNode convertBytes(byte[] message) {
-        try {
-            return jsonDeserializer.deserializeToJsonNode(message);
-        } catch (Exception t) {
-            if (ignoreParseErrors) {
-                return null;
-            }
-            throw new SeaTunnelJsonFormatException(
-                    CommonErrorCode.JSON_OPERATION_FAILED,
-                    String.format("Failed to deserialize JSON '%s'.", new String(message)),
-                    t);
+    /** Converts the rows of the "data" array at the current token of the parser. */
+    private List<SeaTunnelRow> convertRows(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return rows;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            rows.add(jsonDeserializer.convertToRowData(parser));
         }
+        return rows;
     }
 
     private SeaTunnelRow convertJsonNode(JsonNode root) {
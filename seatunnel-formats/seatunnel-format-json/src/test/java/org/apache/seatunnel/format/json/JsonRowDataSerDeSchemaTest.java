@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -45,6 +46,7 @@ import static org.apache.seatunnel.api.table.type.BasicType.FLOAT_TYPE;
 import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
 import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
 import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -253,6 +255,44 @@ public class JsonRowDataSerDeSchemaTest {
         }
     }
 
+    @Test
+    public void testDeserializationSameAsTreeModel() throws Exception {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "price", "ratio", "tags", "attrs", "raw", "nested"},
+                        new SeaTunnelDataType[] {
+                            LONG_TYPE,
+                            new DecimalType(10, 2),
+                            FLOAT_TYPE,
+                            STRING_ARRAY_TYPE,
+                            new MapType(STRING_TYPE, INT_TYPE),
+                            STRING_TYPE,
+                            new SeaTunnelRowType(
+                                    new String[] {"flag", "count"},
+                                    new SeaTunnelDataType[] {BOOLEAN_TYPE, INT_TYPE})
+                        });
+        String[] jsons =
+                new String[] {
+                    "{\"id\":1,\"unknown\":{\"a\":[1,{\"b\":2}]},\"price\":12.50,\"ratio\":0.1,"
+                            + "\"tags\":[\"x\",null],\"attrs\":{\"k\":\"7\"},\"raw\":{\"v\":[1.10,true]},"
+                            + "\"nested\":{\"flag\":\"true\",\"count\":3.0}}",
+                    "{\"id\":\"2\",\"price\":3,\"ratio\":\"1.5\",\"raw\":15,\"nested\":[false,4,5]}",
+                    "[3,\"9.99\",null,[],{},\"text\",null]",
+                    "{\"id\":null,\"nested\":null,\"tags\":{\"a\":1}}"
+                };
+
+        JsonDeserializationSchema deserializationSchema =
+                new JsonDeserializationSchema(false, false, rowType);
+        for (String json : jsons) {
+            byte[] message = json.getBytes();
+            SeaTunnelRow expected =
+                    deserializationSchema.convertToRowData(
+                            deserializationSchema.deserializeToJsonNode(message));
+            assertArrayEquals(
+                    expected.getFields(), deserializationSchema.deserialize(message).getFields());
+        }
+    }
+
     @Test
     public void testDeserializationNullRow() throws Exception {
         SeaTunnelRowType schema =
@@ -31,15 +31,13 @@ import org.apache.seatunnel.common.utils.TimeUtils;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.exception.SeaTunnelTextFormatException;
 
-import org.apache.commons.lang3.StringUtils;
-
 import lombok.NonNull;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
-import java.util.Map;
 
 public class TextDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
     private final SeaTunnelRowType seaTunnelRowType;
@@ -47,18 +45,27 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
     private final DateUtils.Formatter dateFormatter;
     private final DateTimeUtils.Formatter dateTimeFormatter;
     private final TimeUtils.Formatter timeFormatter;
+    /** The tokenizers of the separators by nesting level, only the first level is quoted. */
+    private final TextTokenizer[] tokenizers;
 
     private TextDeserializationSchema(
             @NonNull SeaTunnelRowType seaTunnelRowType,
             String[] separators,
             DateUtils.Formatter dateFormatter,
             DateTimeUtils.Formatter dateTimeFormatter,
-            TimeUtils.Formatter timeFormatter) {
+            TimeUtils.Formatter timeFormatter,
+            Character quoteChar,
+            Character escapeChar) {
         this.seaTunnelRowType = seaTunnelRowType;
         this.separators = separators;
         this.dateFormatter = dateFormatter;
         this.dateTimeFormatter = dateTimeFormatter;
         this.timeFormatter = timeFormatter;
+        this.tokenizers = new TextTokenizer[separators.length];
+        this.tokenizers[0] = new TextTokenizer(separators[0], quoteChar, escapeChar);
+        for (int i = 1; i < separators.length; i++) {
+            this.tokenizers[i] = new TextTokenizer(separators[i]);
+        }
     }
 
     public static Builder builder() {
@@ -72,6 +79,8 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         private DateTimeUtils.Formatter dateTimeFormatter =
                 DateTimeUtils.Formatter.YYYY_MM_DD_HH_MM_SS;
         private TimeUtils.Formatter timeFormatter = TimeUtils.Formatter.HH_MM_SS;
+        private Character quoteChar;
+        private Character escapeChar;
 
         private Builder() {}
 
@@ -105,21 +114,34 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
             return this;
         }
 
+        /** Sets the character quoting fields which contain the delimiter, not set by default. */
+        public Builder quoteChar(Character quoteChar) {
+            this.quoteChar = quoteChar;
+            return this;
+        }
+
+        /** Sets the character escaping the delimiter and the quote, not set by default. */
+        public Builder escapeChar(Character escapeChar) {
+            this.escapeChar = escapeChar;
+            return this;
+        }
+
         public TextDeserializationSchema build() {
             return new TextDeserializationSchema(
-                    seaTunnelRowType, separators, dateFormatter, dateTimeFormatter, timeFormatter);
+                    seaTunnelRowType,
+                    separators,
+                    dateFormatter,
+                    dateTimeFormatter,
+                    timeFormatter,
+                    quoteChar,
+                    escapeChar);
         }
     }
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
         String content = new String(message);
-        Map<Integer, String> splitsMap = splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
-        Object[] objects = new Object[seaTunnelRowType.getTotalFields()];
-        for (int i = 0; i < objects.length; i++) {
-            objects[i] = convert(splitsMap.get(i), seaTunnelRowType.getFieldType(i), 0);
-        }
-        return new SeaTunnelRow(objects);
+        return new SeaTunnelRow(convertRow(content, 0, content.length(), seaTunnelRowType, 0));
     }
 
     @Override
@@ -127,34 +149,87 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         return seaTunnelRowType;
     }
 
-    private Map<Integer, String> splitLineBySeaTunnelRowType(
-            String line, SeaTunnelRowType seaTunnelRowType, int level) {
-        String[] splits = line.split(separators[level], -1);
-        LinkedHashMap<Integer, String> splitsMap = new LinkedHashMap<>();
-        SeaTunnelDataType<?>[] fieldTypes = seaTunnelRowType.getFieldTypes();
-        for (int i = 0; i < splits.length; i++) {
-            splitsMap.put(i, splits[i]);
-        }
-        if (fieldTypes.length > splits.length) {
-            // contains partition columns
-            for (int i = splits.length; i < fieldTypes.length; i++) {
-                splitsMap.put(i, null);
+    /**
+     * Converts the fields in {@code [start, end)} of the text, fields missing at the end (e.g.
+     * partition columns) are null.
+     */
+    private Object[] convertRow(
+            String text, int start, int end, SeaTunnelRowType rowType, int level) {
+        Object[] fields = new Object[rowType.getTotalFields()];
+        TextTokenizer tokenizer = tokenizers[level];
+        if (!tokenizer.isLiteral()) {
+            String[] splits = tokenizer.split(text.substring(start, end), -1);
+            for (int i = 0; i < fields.length && i < splits.length; i++) {
+                fields[i] =
+                        convert(splits[i], 0, splits[i].length(), rowType.getFieldType(i), level);
+            }
+            return fields;
+        }
+        int from = start;
+        for (int i = 0; i < fields.length; i++) {
+            int to = tokenizer.nextSeparator(text, from, end);
+            if (tokenizer.isQuotedOrEscaped(text, from, to)) {
+                String field = tokenizer.unquote(text, from, to);
+                fields[i] = convert(field, 0, field.length(), rowType.getFieldType(i), level);
+            } else {
+                fields[i] = convert(text, from, to, rowType.getFieldType(i), level);
+            }
+            if (to == end) {
+                break;
+            }
+            from = to + tokenizer.getSeparatorLength();
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the bounds of the elements in {@code [start, end)} as pairs of start and end, without
+     * the trailing empty elements, the same as {@link String#split(String)}.
+     */
+    private int[] splitElements(String text, int start, int end, int level) {
+        TextTokenizer tokenizer = tokenizers[level];
+        int[] bounds = new int[8];
+        int count = 0;
+        int from = start;
+        while (true) {
+            int to = tokenizer.nextSeparator(text, from, end);
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+            }
+            bounds[count++] = from;
+            bounds[count++] = to;
+            if (to == end) {
+                break;
             }
+            from = to + tokenizer.getSeparatorLength();
         }
-        return splitsMap;
+        while (count > 0 && bounds[count - 2] == bounds[count - 1]) {
+            count -= 2;
+        }
+        return Arrays.copyOf(bounds, count);
     }
 
-    private Object convert(String field, SeaTunnelDataType<?> fieldType, int level) {
-        if (StringUtils.isBlank(field)) {
+    private Object convert(
+            String text, int start, int end, SeaTunnelDataType<?> fieldType, int level) {
+        if (isBlank(text, start, end)) {
             return null;
         }
         switch (fieldType.getSqlType()) {
             case ARRAY:
                 BasicType<?> elementType = ((ArrayType<?, ?>) fieldType).getElementType();
-                String[] elements = field.split(separators[level + 1]);
                 ArrayList<Object> objectArrayList = new ArrayList<>();
-                for (String element : elements) {
-                    objectArrayList.add(convert(element, elementType, level + 1));
+                if (tokenizers[level + 1].isLiteral()) {
+                    int[] bounds = splitElements(text, start, end, level + 1);
+                    for (int i = 0; i < bounds.length; i += 2) {
+                        objectArrayList.add(
+                                convert(text, bounds[i], bounds[i + 1], elementType, level + 1));
+                    }
+                } else {
+                    for (String element :
+                            tokenizers[level + 1].split(text.substring(start, end), 0)) {
+                        objectArrayList.add(
+                                convert(element, 0, element.length(), elementType, level + 1));
+                    }
                 }
                 switch (elementType.getSqlType()) {
                     case STRING:
@@ -184,54 +259,57 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
                 SeaTunnelDataType<?> keyType = ((MapType<?, ?>) fieldType).getKeyType();
                 SeaTunnelDataType<?> valueType = ((MapType<?, ?>) fieldType).getValueType();
                 LinkedHashMap<Object, Object> objectMap = new LinkedHashMap<>();
-                String[] kvs = field.split(separators[level + 1]);
-                for (String kv : kvs) {
-                    String[] splits = kv.split(separators[level + 2]);
+                if (!tokenizers[level + 1].isLiteral() || !tokenizers[level + 2].isLiteral()) {
+                    String[] kvs = tokenizers[level + 1].split(text.substring(start, end), 0);
+                    for (String kv : kvs) {
+                        String[] splits = tokenizers[level + 2].split(kv, 0);
+                        objectMap.put(
+                                convert(splits[0], 0, splits[0].length(), keyType, level + 1),
+                                convert(splits[1], 0, splits[1].length(), valueType, level + 1));
+                    }
+                    return objectMap;
+                }
+                int[] kvs = splitElements(text, start, end, level + 1);
+                for (int i = 0; i < kvs.length; i += 2) {
+                    int[] kv = splitElements(text, kvs[i], kvs[i + 1], level + 2);
                     objectMap.put(
-                            convert(splits[0], keyType, level + 1),
-                            convert(splits[1], valueType, level + 1));
+                            kv.length < 2 ? null : convert(text, kv[0], kv[1], keyType, level + 1),
+                            kv.length < 4
+                                    ? null
+                                    : convert(text, kv[2], kv[3], valueType, level + 1));
                 }
                 return objectMap;
             case STRING:
-                return field;
+                return text.substring(start, end);
             case BOOLEAN:
-                return Boolean.parseBoolean(field);
+                return end - start == 4 && text.regionMatches(true, start, "true", 0, 4);
             case TINYINT:
-                return Byte.parseByte(field);
+                return (byte) parseLong(text, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
             case SMALLINT:
-                return Short.parseShort(field);
+                return (short) parseLong(text, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
             case INT:
-                return Integer.parseInt(field);
+                return (int) parseLong(text, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
             case BIGINT:
-                return Long.parseLong(field);
+                return parseLong(text, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
             case FLOAT:
-                return Float.parseFloat(field);
+                return Float.parseFloat(text.substring(start, end));
             case DOUBLE:
-                return Double.parseDouble(field);
+                return Double.parseDouble(text.substring(start, end));
             case DECIMAL:
-                return new BigDecimal(field);
+                return new BigDecimal(text.substring(start, end));
             case NULL:
                 return null;
             case BYTES:
-                return field.getBytes();
+                return text.substring(start, end).getBytes();
             case DATE:
-                return DateUtils.parse(field, dateFormatter);
+                return DateUtils.parse(text.substring(start, end), dateFormatter);
             case TIME:
-                return TimeUtils.parse(field, timeFormatter);
+                return TimeUtils.parse(text.substring(start, end), timeFormatter);
             case TIMESTAMP:
-                return DateTimeUtils.parse(field, dateTimeFormatter);
+                return DateTimeUtils.parse(text.substring(start, end), dateTimeFormatter);
             case ROW:
-                Map<Integer, String> splitsMap =
-                        splitLineBySeaTunnelRowType(field, (SeaTunnelRowType) fieldType, level + 1);
-                Object[] objects = new Object[splitsMap.size()];
-                for (int i = 0; i < objects.length; i++) {
-                    objects[i] =
-                            convert(
-                                    splitsMap.get(i),
-                                    ((SeaTunnelRowType) fieldType).getFieldType(i),
-                                    level + 1);
-                }
-                return new SeaTunnelRow(objects);
+                return new SeaTunnelRow(
+                        convertRow(text, start, end, (SeaTunnelRowType) fieldType, level + 1));
             default:
                 throw new SeaTunnelTextFormatException(
                         CommonErrorCode.UNSUPPORTED_DATA_TYPE,
@@ -240,4 +318,56 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
                                 fieldType.getSqlType()));
         }
     }
+
+    private static boolean isBlank(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a decimal integer in {@code [start, end)} without creating a string, anything else
+     * than ASCII digits with an optional sign goes through {@link Long#parseLong} for its checks.
+     */
+    private static long parseLong(String text, int start, int end, long min, long max) {
+        int i = start;
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        // 18 digits never overflow a long
+        if (i == end || end - i > 18) {
+            return parseLongSlow(text, start, end, min, max);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return parseLongSlow(text, start, end, min, max);
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        if (value < min || value > max) {
+            return parseLongSlow(text, start, end, min, max);
+        }
+        return value;
+    }
+
+    private static long parseLongSlow(String text, int start, int end, long min, long max) {
+        String value = text.substring(start, end);
+        if (max == Byte.MAX_VALUE) {
+            return Byte.parseByte(value);
+        } else if (max == Short.MAX_VALUE) {
+            return Short.parseShort(value);
+        } else if (max == Integer.MAX_VALUE) {
+            return Integer.parseInt(value);
+        }
+        return Long.parseLong(value);
+    }
 }
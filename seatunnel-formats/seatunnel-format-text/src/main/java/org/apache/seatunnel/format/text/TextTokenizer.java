@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.text;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the fields of a line in a single pass over its characters, without the regex matching and
+ * the substrings of {@link String#split(String)}. A separator is matched literally when {@link
+ * String#split(String)} would match it literally too, any other separator keeps being applied as a
+ * regex.
+ *
+ * <p>When a quote character is set, a field starting with it may contain separators up to the
+ * closing quote, and a doubled quote stands for the quote itself. When an escape character is set,
+ * the character following it is never taken as a separator or a quote.
+ */
+public class TextTokenizer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String REGEX_META_CHARS = ".$|()[]{}^?*+\\";
+
+    private final String separator;
+    /** The separator as a regex, or {@code null} if it is matched literally. */
+    private final Pattern pattern;
+
+    private final char quoteChar;
+    private final boolean quoting;
+    private final char escapeChar;
+    private final boolean escaping;
+
+    public TextTokenizer(String separator) {
+        this(separator, null, null);
+    }
+
+    public TextTokenizer(String separator, Character quoteChar, Character escapeChar) {
+        String literal = toLiteral(separator);
+        this.separator = literal == null ? separator : literal;
+        this.pattern = literal == null ? Pattern.compile(separator) : null;
+        this.quoting = quoteChar != null;
+        this.quoteChar = quoting ? quoteChar : 0;
+        this.escaping = escapeChar != null;
+        this.escapeChar = escaping ? escapeChar : 0;
+    }
+
+    /** Returns the separator as a literal string, or {@code null} if it has to be a regex. */
+    private static String toLiteral(String separator) {
+        if (separator.isEmpty()) {
+            return null;
+        }
+        if (separator.length() == 2
+                && separator.charAt(0) == '\\'
+                && !Character.isLetterOrDigit(separator.charAt(1))) {
+            return separator.substring(1);
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(separator.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return separator;
+    }
+
+    public boolean isLiteral() {
+        return pattern == null;
+    }
+
+    public int getSeparatorLength() {
+        return separator.length();
+    }
+
+    /** Splits the text by the separator as a regex, the same as {@link String#split}. */
+    public String[] split(String text, int limit) {
+        return pattern.split(text, limit);
+    }
+
+    /**
+     * Returns the index of the next separator in {@code [from, to)} which is not quoted or escaped,
+     * or {@code to} if there is none.
+     */
+    public int nextSeparator(String text, int from, int to) {
+        int i = from;
+        if (quoting && i < to && text.charAt(i) == quoteChar) {
+            i = skipQuoted(text, i + 1, to);
+        }
+        char first = separator.charAt(0);
+        int length = separator.length();
+        for (; i <= to - length; i++) {
+            char c = text.charAt(i);
+            if (escaping && c == escapeChar) {
+                i++;
+            } else if (c == first && (length == 1 || text.startsWith(separator, i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /** Returns the index after the closing quote of a field whose content starts at from. */
+    private int skipQuoted(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (escaping && c == escapeChar) {
+                i++;
+            } else if (c == quoteChar) {
+                if (i + 1 < to && text.charAt(i + 1) == quoteChar) {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return to;
+    }
+
+    /** Whether the field in {@code [start, end)} has quotes or escapes to remove. */
+    public boolean isQuotedOrEscaped(String text, int start, int end) {
+        if (quoting && start < end && text.charAt(start) == quoteChar) {
+            return true;
+        }
+        if (escaping) {
+            for (int i = start; i < end; i++) {
+                if (text.charAt(i) == escapeChar) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Returns the value of the field in {@code [start, end)} without its quotes and escapes. */
+    public String unquote(String text, int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        boolean quoted = false;
+        int i = start;
+        if (quoting && i < end && text.charAt(i) == quoteChar) {
+            quoted = true;
+            i++;
+        }
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (escaping && c == escapeChar && i + 1 < end) {
+                builder.append(text.charAt(++i));
+            } else if (quoted && c == quoteChar) {
+                if (i + 1 < end && text.charAt(i + 1) == quoteChar) {
+                    builder.append(c);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -139,4 +139,56 @@ public class TextFormatSchemaTest {
         Assertions.assertEquals(seaTunnelRow.getField(2), "tyrantlucifer");
         Assertions.assertEquals(data, content);
     }
+
+    @Test
+    public void testParseDelimitedFields() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "tags", "score"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            ArrayType.STRING_ARRAY_TYPE,
+                            BasicType.INT_TYPE
+                        });
+
+        TextDeserializationSchema quoted =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(rowType)
+                        .delimiter(",")
+                        .quoteChar('"')
+                        .escapeChar('\\')
+                        .build();
+        SeaTunnelRow row =
+                quoted.deserialize(
+                        "-42,\"Smith, \"\"J\"\"\",a\\,b\u0002c\u0002\u0002,+7".getBytes());
+        Assertions.assertEquals(-42L, row.getField(0));
+        Assertions.assertEquals("Smith, \"J\"", row.getField(1));
+        Assertions.assertArrayEquals(new String[] {"a,b", "c"}, (String[]) row.getField(2));
+        Assertions.assertEquals(7, row.getField(3));
+
+        TextDeserializationSchema regex =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(rowType)
+                        .delimiter("\\s*;\\s*")
+                        .build();
+        row = regex.deserialize("1 ; x".getBytes());
+        Assertions.assertEquals(1L, row.getField(0));
+        Assertions.assertEquals("x", row.getField(1));
+        Assertions.assertNull(row.getField(2));
+        Assertions.assertNull(row.getField(3));
+
+        TextDeserializationSchema escapedLiteral =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(rowType)
+                        .delimiter("\\|")
+                        .build();
+        row = escapedLiteral.deserialize("2|\"y\"| |2147483647".getBytes());
+        Assertions.assertEquals("\"y\"", row.getField(1));
+        Assertions.assertNull(row.getField(2));
+        Assertions.assertEquals(Integer.MAX_VALUE, row.getField(3));
+        Assertions.assertThrows(
+                NumberFormatException.class,
+                () -> escapedLiteral.deserialize("2|y||2147483648".getBytes()));
+    }
 }
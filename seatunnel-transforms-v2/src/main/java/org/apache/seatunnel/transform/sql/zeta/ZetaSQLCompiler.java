@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLFunction.FunctionExecutor;
+import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeKeyExpression;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Compile the expressions of a query into a tree of evaluators once, instead of interpreting the
+ * parsed SQL for every row. Columns are bound to their index, functions and operators are looked up
+ * and the result types of arithmetic are resolved at compile time, so evaluating a row only runs
+ * the operations themselves. Expressions which aren't compiled fall back to {@link ZetaSQLFunction}
+ * and {@link ZetaSQLFilter}.
+ */
+public class ZetaSQLCompiler {
+
+    private static final CompiledPredicate ALWAYS_TRUE = inputFields -> true;
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+
+    public ZetaSQLCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLType zetaSQLType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = zetaSQLType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+    }
+
+    public CompiledExpression compileExpression(Expression expression) {
+        if (expression instanceof NullValue) {
+            return constant(null);
+        }
+        if (expression instanceof DoubleValue) {
+            return constant(((DoubleValue) expression).getValue());
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
+                return constant((int) longVal);
+            }
+            return constant(longVal);
+        }
+        if (expression instanceof StringValue) {
+            return constant(((StringValue) expression).getValue());
+        }
+        if (expression instanceof Column) {
+            int idx = inputRowType.indexOf(((Column) expression).getColumnName());
+            return inputFields -> inputFields[idx];
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            ExpressionList expressionList = function.getParameters();
+            List<Expression> argExpressions =
+                    expressionList == null ? new ArrayList<>() : expressionList.getExpressions();
+            return call(
+                    zetaSQLFunction.resolveFunction(function.getName()),
+                    compileExpressions(argExpressions.toArray(new Expression[0])));
+        }
+        if (expression instanceof TimeKeyExpression) {
+            return call(
+                    zetaSQLFunction.resolveTimeKeyExpr(
+                            ((TimeKeyExpression) expression).getStringValue()));
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            return call(
+                    zetaSQLFunction.resolveFunction(ZetaSQLFunction.EXTRACT),
+                    compileExpression(extract.getExpression()),
+                    constant(extract.getName()));
+        }
+        if (expression instanceof Parenthesis) {
+            return compileExpression(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return call(
+                    StringFunction::concat,
+                    compileExpression(concat.getLeftExpression()),
+                    compileExpression(concat.getRightExpression()));
+        }
+        if (expression instanceof BinaryExpression) {
+            return compileArithmetic((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            return compileCast((CastExpression) expression);
+        }
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    public CompiledPredicate compilePredicate(Expression whereExpr) {
+        if (whereExpr == null) {
+            return ALWAYS_TRUE;
+        }
+        if (whereExpr instanceof Function) {
+            CompiledExpression function = compileExpression(whereExpr);
+            return inputFields -> {
+                Boolean result = (Boolean) function.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            CompiledExpression left = compileExpression(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> left.evaluate(inputFields) != null;
+            }
+            return inputFields -> left.evaluate(inputFields) == null;
+        }
+        if (whereExpr instanceof InExpression
+                && ((InExpression) whereExpr).getRightItemsList() instanceof ExpressionList) {
+            return compileIn((InExpression) whereExpr);
+        }
+        if (whereExpr instanceof ComparisonOperator) {
+            CompiledPredicate comparison = compileComparison((ComparisonOperator) whereExpr);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            CompiledPredicate left = compilePredicate(andExpression.getLeftExpression());
+            CompiledPredicate right = compilePredicate(andExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) && right.test(inputFields);
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            CompiledPredicate left = compilePredicate(orExpression.getLeftExpression());
+            CompiledPredicate right = compilePredicate(orExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) || right.test(inputFields);
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compilePredicate(((Parenthesis) whereExpr).getExpression());
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(whereExpr, inputFields);
+    }
+
+    private CompiledPredicate compileIn(InExpression inExpression) {
+        CompiledExpression left = compileExpression(inExpression.getLeftExpression());
+        CompiledExpression[] items =
+                compileExpressions(
+                        ((ExpressionList) inExpression.getRightItemsList())
+                                .getExpressions()
+                                .toArray(new Expression[0]));
+        boolean not = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = left.evaluate(inputFields);
+            for (CompiledExpression item : items) {
+                Object rightValue = item.evaluate(inputFields);
+                if (leftValue == null) {
+                    return rightValue == null;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !not;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !not;
+                }
+            }
+            return not;
+        };
+    }
+
+    private CompiledPredicate compileComparison(ComparisonOperator comparisonOperator) {
+        Comparison comparison;
+        if (comparisonOperator instanceof EqualsTo) {
+            comparison = ZetaSQLFilter::equalsToExpr;
+        } else if (comparisonOperator instanceof NotEqualsTo) {
+            comparison = ZetaSQLFilter::notEqualsToExpr;
+        } else if (comparisonOperator instanceof GreaterThan) {
+            comparison = ZetaSQLFilter::greaterThanExpr;
+        } else if (comparisonOperator instanceof GreaterThanEquals) {
+            comparison = ZetaSQLFilter::greaterThanEqualsExpr;
+        } else if (comparisonOperator instanceof MinorThan) {
+            comparison = ZetaSQLFilter::minorThanExpr;
+        } else if (comparisonOperator instanceof MinorThanEquals) {
+            comparison = ZetaSQLFilter::minorThanEqualsExpr;
+        } else {
+            return null;
+        }
+        CompiledExpression left = compileExpression(comparisonOperator.getLeftExpression());
+        CompiledExpression right = compileExpression(comparisonOperator.getRightExpression());
+        return inputFields ->
+                comparison.test(left.evaluate(inputFields), right.evaluate(inputFields));
+    }
+
+    private CompiledExpression compileArithmetic(BinaryExpression binaryExpression) {
+        BiFunction<Number, Number, Object> operator =
+                resolveArithmetic(
+                        binaryExpression, zetaSQLType.getExpressionType(binaryExpression));
+        if (operator == null) {
+            // unsupported operations only fail once both operands are not null
+            return inputFields -> zetaSQLFunction.computeForValue(binaryExpression, inputFields);
+        }
+        CompiledExpression left = compileExpression(binaryExpression.getLeftExpression());
+        CompiledExpression right = compileExpression(binaryExpression.getRightExpression());
+        return inputFields -> {
+            Number leftValue = (Number) left.evaluate(inputFields);
+            Number rightValue = (Number) right.evaluate(inputFields);
+            if (leftValue == null || rightValue == null) {
+                return null;
+            }
+            return operator.apply(leftValue, rightValue);
+        };
+    }
+
+    private BiFunction<Number, Number, Object> resolveArithmetic(
+            BinaryExpression binaryExpression, SeaTunnelDataType<?> resultType) {
+        SqlType sqlType = resultType.getSqlType();
+        if (sqlType == SqlType.INT) {
+            if (binaryExpression instanceof Addition) {
+                return (left, right) -> left.intValue() + right.intValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return (left, right) -> left.intValue() - right.intValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return (left, right) -> left.intValue() * right.intValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return (left, right) -> left.intValue() / right.intValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return (left, right) -> left.intValue() % right.intValue();
+            }
+        }
+        if (sqlType == SqlType.DECIMAL) {
+            if (binaryExpression instanceof Addition) {
+                return (left, right) -> decimal(left).add(decimal(right));
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return (left, right) -> decimal(left).subtract(decimal(right));
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return (left, right) -> decimal(left).multiply(decimal(right));
+            }
+            if (binaryExpression instanceof Division) {
+                int scale = ((DecimalType) resultType).getScale();
+                return (left, right) ->
+                        decimal(left).divide(decimal(right), scale, RoundingMode.UP);
+            }
+            if (binaryExpression instanceof Modulo) {
+                return (left, right) -> NumericFunction.mod(Arrays.asList(left, right));
+            }
+        }
+        if (sqlType == SqlType.DOUBLE) {
+            if (binaryExpression instanceof Addition) {
+                return (left, right) -> left.doubleValue() + right.doubleValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return (left, right) -> left.doubleValue() - right.doubleValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return (left, right) -> left.doubleValue() * right.doubleValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return (left, right) -> left.doubleValue() / right.doubleValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return (left, right) -> left.doubleValue() % right.doubleValue();
+            }
+        }
+        if (sqlType == SqlType.BIGINT) {
+            if (binaryExpression instanceof Addition) {
+                return (left, right) -> left.longValue() + right.longValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return (left, right) -> left.longValue() - right.longValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return (left, right) -> left.longValue() * right.longValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return (left, right) -> left.longValue() / right.longValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return (left, right) -> left.longValue() % right.longValue();
+            }
+        }
+        return null;
+    }
+
+    private CompiledExpression compileCast(CastExpression castExpression) {
+        CompiledExpression left = compileExpression(castExpression.getLeftExpression());
+        String dataType = castExpression.getType().getDataType();
+        Object[] castArgs;
+        if (dataType.equalsIgnoreCase("DECIMAL")) {
+            List<String> ps = castExpression.getType().getArgumentsStringList();
+            castArgs =
+                    new Object[] {
+                        dataType.toUpperCase(),
+                        Integer.parseInt(ps.get(0)),
+                        Integer.parseInt(ps.get(1))
+                    };
+        } else {
+            castArgs = new Object[] {dataType.toUpperCase()};
+        }
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(castArgs.length + 1);
+            args.add(left.evaluate(inputFields));
+            args.addAll(Arrays.asList(castArgs));
+            return SystemFunction.castAs(args);
+        };
+    }
+
+    private static CompiledExpression call(FunctionExecutor executor, CompiledExpression... args) {
+        return inputFields -> {
+            List<Object> argValues = new ArrayList<>(args.length);
+            for (CompiledExpression arg : args) {
+                argValues.add(arg.evaluate(inputFields));
+            }
+            return executor.evaluate(argValues);
+        };
+    }
+
+    private CompiledExpression[] compileExpressions(Expression[] expressions) {
+        CompiledExpression[] compiled = new CompiledExpression[expressions.length];
+        for (int i = 0; i < expressions.length; i++) {
+            compiled[i] = compileExpression(expressions[i]);
+        }
+        return compiled;
+    }
+
+    private static CompiledExpression constant(Object value) {
+        return inputFields -> value;
+    }
+
+    private static BigDecimal decimal(Number value) {
+        return BigDecimal.valueOf(value.doubleValue());
+    }
+
+    /** An expression compiled against the input row type, evaluated for each row. */
+    @FunctionalInterface
+    public interface CompiledExpression {
+        Object evaluate(Object[] inputFields);
+    }
+
+    /** A filter condition compiled against the input row type, tested for each row. */
+    @FunctionalInterface
+    public interface CompiledPredicate {
+        boolean test(Object[] inputFields);
+    }
+
+    @FunctionalInterface
+    private interface Comparison {
+        boolean test(Object leftVal, Object rightVal);
+    }
+}
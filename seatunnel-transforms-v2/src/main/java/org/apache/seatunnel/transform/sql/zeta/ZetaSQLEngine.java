@@ -23,6 +23,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.transform.exception.TransformException;
 import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLCompiler.CompiledExpression;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLCompiler.CompiledPredicate;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
@@ -54,6 +56,9 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
+    private CompiledPredicate compiledFilter;
+    private CompiledExpression[] compiledProjection;
+
     public ZetaSQLEngine() {}
 
     @Override
@@ -71,6 +76,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction);
 
         parseSQL();
+        compileSQL();
     }
 
     private void parseSQL() {
@@ -86,6 +92,18 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void compileSQL() {
+        ZetaSQLCompiler compiler =
+                new ZetaSQLCompiler(inputRowType, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+        this.compiledFilter = compiler.compilePredicate(selectBody.getWhere());
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        this.compiledProjection = new CompiledExpression[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectExpressionItem expressionItem = (SelectExpressionItem) selectItems.get(i);
+            compiledProjection[i] = compiler.compileExpression(expressionItem.getExpression());
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -193,7 +211,7 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = compiledFilter.test(inputFields);
         if (!retain) {
             return null;
         }
@@ -213,13 +231,9 @@ public class ZetaSQLEngine implements SQLEngine {
     }
 
     private Object[] project(Object[] inputFields) {
-        List<SelectItem> selectItems = selectBody.getSelectItems();
-        Object[] fields = new Object[selectItems.size()];
-        for (int i = 0; i < selectItems.size(); i++) {
-            SelectItem selectItem = selectItems.get(i);
-            SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-            Expression expression = expressionItem.getExpression();
-            fields[i] = zetaSQLFunction.computeForValue(expression, inputFields);
+        Object[] fields = new Object[compiledProjection.length];
+        for (int i = 0; i < compiledProjection.length; i++) {
+            fields[i] = compiledProjection[i].evaluate(inputFields);
         }
         return fields;
     }
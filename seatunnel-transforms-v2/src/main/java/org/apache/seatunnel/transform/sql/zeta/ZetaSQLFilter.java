@@ -20,8 +20,6 @@ package org.apache.seatunnel.transform.sql.zeta;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.transform.exception.TransformException;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.Function;
 import net.sf.jsqlparser.expression.Parenthesis;
@@ -67,25 +65,30 @@ public class ZetaSQLFilter {
             return likeExpr((LikeExpression) whereExpr, inputFields);
         }
         if (whereExpr instanceof ComparisonOperator) {
-            Pair<Object, Object> pair =
-                    executeComparisonOperator((ComparisonOperator) whereExpr, inputFields);
+            ComparisonOperator comparisonOperator = (ComparisonOperator) whereExpr;
+            Object leftVal =
+                    zetaSQLFunction.computeForValue(
+                            comparisonOperator.getLeftExpression(), inputFields);
+            Object rightVal =
+                    zetaSQLFunction.computeForValue(
+                            comparisonOperator.getRightExpression(), inputFields);
             if (whereExpr instanceof EqualsTo) {
-                return equalsToExpr(pair);
+                return equalsToExpr(leftVal, rightVal);
             }
             if (whereExpr instanceof NotEqualsTo) {
-                return notEqualsToExpr(pair);
+                return notEqualsToExpr(leftVal, rightVal);
             }
             if (whereExpr instanceof GreaterThan) {
-                return greaterThanExpr(pair);
+                return greaterThanExpr(leftVal, rightVal);
             }
             if (whereExpr instanceof GreaterThanEquals) {
-                return greaterThanEqualsExpr(pair);
+                return greaterThanEqualsExpr(leftVal, rightVal);
             }
             if (whereExpr instanceof MinorThan) {
-                return minorThanExpr(pair);
+                return minorThanExpr(leftVal, rightVal);
             }
             if (whereExpr instanceof MinorThanEquals) {
-                return minorThanEqualsExpr(pair);
+                return minorThanEqualsExpr(leftVal, rightVal);
             }
         }
         if (whereExpr instanceof AndExpression) {
@@ -157,18 +160,7 @@ public class ZetaSQLFilter {
                 CommonErrorCode.UNSUPPORTED_OPERATION, "Unsupported [LIKE] filter expression yet");
     }
 
-    private Pair<Object, Object> executeComparisonOperator(
-            ComparisonOperator comparisonOperator, Object[] inputFields) {
-        Expression leftExpr = comparisonOperator.getLeftExpression();
-        Expression rightExpr = comparisonOperator.getRightExpression();
-        Object leftVal = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        return Pair.of(leftVal, rightVal);
-    }
-
-    private boolean equalsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean equalsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -178,9 +170,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean notEqualsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null) {
             return rightVal != null;
         }
@@ -190,9 +180,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean greaterThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -218,9 +206,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean greaterThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -248,9 +234,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean minorThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -276,9 +260,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    static boolean minorThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
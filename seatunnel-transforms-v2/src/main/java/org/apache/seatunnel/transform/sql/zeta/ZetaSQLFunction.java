@@ -51,6 +51,7 @@ import net.sf.jsqlparser.schema.Column;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ZetaSQLFunction {
@@ -235,181 +236,192 @@ public class ZetaSQLFunction {
     }
 
     public Object executeFunctionExpr(String functionName, List<Object> args) {
+        return resolveFunction(functionName).evaluate(args);
+    }
+
+    /**
+     * Resolve the implementation of a function by its name, so that it can be looked up once and
+     * called for every row.
+     *
+     * @param functionName function name
+     * @return function implementation
+     */
+    public FunctionExecutor resolveFunction(String functionName) {
         switch (functionName.toUpperCase()) {
             case ASCII:
-                return StringFunction.ascii(args);
+                return StringFunction::ascii;
             case BIT_LENGTH:
-                return StringFunction.bitLength(args);
+                return StringFunction::bitLength;
             case CHAR_LENGTH:
             case LENGTH:
-                return StringFunction.charLength(args);
+                return StringFunction::charLength;
             case OCTET_LENGTH:
-                return StringFunction.octetLength(args);
+                return StringFunction::octetLength;
             case CHAR:
             case CHR:
-                return StringFunction.chr(args);
+                return StringFunction::chr;
             case CONCAT:
-                return StringFunction.concat(args);
+                return StringFunction::concat;
             case CONCAT_WS:
-                return StringFunction.concatWs(args);
+                return StringFunction::concatWs;
             case HEXTORAW:
-                return StringFunction.hextoraw(args);
+                return StringFunction::hextoraw;
             case RAWTOHEX:
-                return StringFunction.rawtohex(args);
+                return StringFunction::rawtohex;
             case INSERT:
-                return StringFunction.insert(args);
+                return StringFunction::insert;
             case LOWER:
             case LCASE:
-                return StringFunction.lower(args);
+                return StringFunction::lower;
             case UPPER:
             case UCASE:
-                return StringFunction.upper(args);
+                return StringFunction::upper;
             case LEFT:
-                return StringFunction.left(args);
+                return StringFunction::left;
             case RIGHT:
-                return StringFunction.right(args);
+                return StringFunction::right;
             case LOCATE:
             case POSITION:
-                return StringFunction.location(functionName, args);
+                return args -> StringFunction.location(functionName, args);
             case INSTR:
-                return StringFunction.instr(args);
+                return StringFunction::instr;
             case LPAD:
             case RPAD:
-                return StringFunction.pad(functionName, args);
+                return args -> StringFunction.pad(functionName, args);
             case LTRIM:
-                return StringFunction.ltrim(args);
+                return StringFunction::ltrim;
             case RTRIM:
-                return StringFunction.rtrim(args);
+                return StringFunction::rtrim;
             case TRIM:
-                return StringFunction.trim(args);
+                return StringFunction::trim;
             case REGEXP_REPLACE:
-                return StringFunction.regexpReplace(args);
+                return StringFunction::regexpReplace;
             case REGEXP_LIKE:
-                return StringFunction.regexpLike(args);
+                return StringFunction::regexpLike;
             case REGEXP_SUBSTR:
-                return StringFunction.regexpSubstr(args);
+                return StringFunction::regexpSubstr;
             case REPEAT:
-                return StringFunction.repeat(args);
+                return StringFunction::repeat;
             case REPLACE:
-                return StringFunction.replace(args);
+                return StringFunction::replace;
             case SOUNDEX:
-                return StringFunction.soundex(args);
+                return StringFunction::soundex;
             case SPACE:
-                return StringFunction.space(args);
+                return StringFunction::space;
             case SUBSTRING:
             case SUBSTR:
-                return StringFunction.substring(args);
+                return StringFunction::substring;
             case TO_CHAR:
-                return StringFunction.toChar(args);
+                return StringFunction::toChar;
             case TRANSLATE:
-                return StringFunction.translate(args);
+                return StringFunction::translate;
             case ABS:
-                return NumericFunction.abs(args);
+                return NumericFunction::abs;
             case ACOS:
-                return NumericFunction.acos(args);
+                return NumericFunction::acos;
             case ASIN:
-                return NumericFunction.asin(args);
+                return NumericFunction::asin;
             case ATAN:
-                return NumericFunction.atan(args);
+                return NumericFunction::atan;
             case COS:
-                return NumericFunction.cos(args);
+                return NumericFunction::cos;
             case COSH:
-                return NumericFunction.cosh(args);
+                return NumericFunction::cosh;
             case COT:
-                return NumericFunction.cot(args);
+                return NumericFunction::cot;
             case SIN:
-                return NumericFunction.sin(args);
+                return NumericFunction::sin;
             case SINH:
-                return NumericFunction.sinh(args);
+                return NumericFunction::sinh;
             case TAN:
-                return NumericFunction.tan(args);
+                return NumericFunction::tan;
             case TANH:
-                return NumericFunction.tanh(args);
+                return NumericFunction::tanh;
             case ATAN2:
-                return NumericFunction.atan2(args);
+                return NumericFunction::atan2;
             case MOD:
-                return NumericFunction.mod(args);
+                return NumericFunction::mod;
             case CEIL:
             case CEILING:
-                return NumericFunction.ceil(args);
+                return NumericFunction::ceil;
             case EXP:
-                return NumericFunction.exp(args);
+                return NumericFunction::exp;
             case FLOOR:
-                return NumericFunction.floor(args);
+                return NumericFunction::floor;
             case LN:
-                return NumericFunction.ln(args);
+                return NumericFunction::ln;
             case LOG:
-                return NumericFunction.log(args);
+                return NumericFunction::log;
             case LOG10:
-                return NumericFunction.log10(args);
+                return NumericFunction::log10;
             case RADIANS:
-                return NumericFunction.radians(args);
+                return NumericFunction::radians;
             case SQRT:
-                return NumericFunction.sqrt(args);
+                return NumericFunction::sqrt;
             case PI:
-                return NumericFunction.pi(args);
+                return NumericFunction::pi;
             case POWER:
-                return NumericFunction.power(args);
+                return NumericFunction::power;
             case RAND:
             case RANDOM:
-                return NumericFunction.random(args);
+                return NumericFunction::random;
             case ROUND:
-                return NumericFunction.round(args);
+                return NumericFunction::round;
             case SIGN:
-                return NumericFunction.sign(args);
+                return NumericFunction::sign;
             case TRUNC:
             case TRUNCATE:
-                return NumericFunction.trunc(args);
+                return NumericFunction::trunc;
             case NOW:
-                return DateTimeFunction.currentTimestamp();
+                return args -> DateTimeFunction.currentTimestamp();
             case DATEADD:
             case TIMESTAMPADD:
-                return DateTimeFunction.dateadd(args);
+                return DateTimeFunction::dateadd;
             case DATEDIFF:
-                return DateTimeFunction.datediff(args);
+                return DateTimeFunction::datediff;
             case DATE_TRUNC:
-                return DateTimeFunction.dateTrunc(args);
+                return DateTimeFunction::dateTrunc;
             case DAYNAME:
-                return DateTimeFunction.dayname(args);
+                return DateTimeFunction::dayname;
             case DAY_OF_MONTH:
-                return DateTimeFunction.dayOfMonth(args);
+                return DateTimeFunction::dayOfMonth;
             case DAY_OF_WEEK:
-                return DateTimeFunction.dayOfWeek(args);
+                return DateTimeFunction::dayOfWeek;
             case DAY_OF_YEAR:
-                return DateTimeFunction.dayOfYear(args);
+                return DateTimeFunction::dayOfYear;
             case EXTRACT:
-                return DateTimeFunction.extract(args);
+                return DateTimeFunction::extract;
             case FORMATDATETIME:
-                return DateTimeFunction.formatdatetime(args);
+                return DateTimeFunction::formatdatetime;
             case HOUR:
-                return DateTimeFunction.hour(args);
+                return DateTimeFunction::hour;
             case MINUTE:
-                return DateTimeFunction.minute(args);
+                return DateTimeFunction::minute;
             case MONTH:
-                return DateTimeFunction.month(args);
+                return DateTimeFunction::month;
             case MONTHNAME:
-                return DateTimeFunction.monthname(args);
+                return DateTimeFunction::monthname;
             case PARSEDATETIME:
             case TO_DATE:
-                return DateTimeFunction.parsedatetime(args);
+                return DateTimeFunction::parsedatetime;
             case QUARTER:
-                return DateTimeFunction.quarter(args);
+                return DateTimeFunction::quarter;
             case SECOND:
-                return DateTimeFunction.second(args);
+                return DateTimeFunction::second;
             case WEEK:
-                return DateTimeFunction.week(args);
+                return DateTimeFunction::week;
             case YEAR:
-                return DateTimeFunction.year(args);
+                return DateTimeFunction::year;
             case COALESCE:
-                return SystemFunction.coalesce(args);
+                return SystemFunction::coalesce;
             case IFNULL:
-                return SystemFunction.ifnull(args);
+                return SystemFunction::ifnull;
             case NULLIF:
-                return SystemFunction.nullif(args);
+                return SystemFunction::nullif;
             default:
                 for (ZetaUDF udf : udfList) {
                     if (udf.functionName().equalsIgnoreCase(functionName)) {
-                        return udf.evaluate(args);
+                        return udf::evaluate;
                     }
                 }
                 throw new TransformException(
@@ -419,16 +431,20 @@ public class ZetaSQLFunction {
     }
 
     public Object executeTimeKeyExpr(String timeKeyExpr) {
+        return resolveTimeKeyExpr(timeKeyExpr).evaluate(Collections.emptyList());
+    }
+
+    public FunctionExecutor resolveTimeKeyExpr(String timeKeyExpr) {
         switch (timeKeyExpr.toUpperCase()) {
             case CURRENT_DATE:
             case CURRENT_DATE_P:
-                return DateTimeFunction.currentDate();
+                return args -> DateTimeFunction.currentDate();
             case CURRENT_TIME:
             case CURRENT_TIME_P:
-                return DateTimeFunction.currentTime();
+                return args -> DateTimeFunction.currentTime();
             case CURRENT_TIMESTAMP:
             case CURRENT_TIMESTAMP_P:
-                return DateTimeFunction.currentTimestamp();
+                return args -> DateTimeFunction.currentTimestamp();
         }
         throw new TransformException(
                 CommonErrorCode.UNSUPPORTED_OPERATION,
@@ -550,4 +566,10 @@ public class ZetaSQLFunction {
                 CommonErrorCode.UNSUPPORTED_OPERATION,
                 String.format("Unsupported SQL Expression: %s ", binaryExpression));
     }
+
+    /** The implementation of a function, called with the values of its arguments. */
+    @FunctionalInterface
+    public interface FunctionExecutor {
+        Object evaluate(List<Object> args);
+    }
 }
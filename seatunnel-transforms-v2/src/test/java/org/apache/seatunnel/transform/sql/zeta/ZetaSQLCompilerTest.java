@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+
+public class ZetaSQLCompilerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "price"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE
+                    });
+
+    private static final Object[][] ROWS = {
+        {1L, "a", 18, 1.5d},
+        {2L, "bb", 20, 0.25d},
+        {3L, null, 40, 10d},
+        {4L, "dddd", null, null},
+        {5000000000L, "e", 61, -2d}
+    };
+
+    @Test
+    public void testSameAsInterpreter() throws Exception {
+        assertSameAsInterpreter(
+                "select id, name, age + 1, age * 2 - 3, age / 7, age % 7, id + age, price * 2,"
+                        + " price / age, (age + 1) * 2, 2.5, 'x', null from fake"
+                        + " where age > 18 or name is null");
+        assertSameAsInterpreter(
+                "select upper(name), concat(name, '_', id), name || '!', coalesce(age, 0),"
+                        + " ifnull(name, 'none'), length(name), cast(age as string),"
+                        + " cast(price as decimal(10, 2)) from fake"
+                        + " where age >= 18 and age in (20, 40, 60) or name is null");
+        assertSameAsInterpreter(
+                "select id from fake where id <> 2 and (age < 61 or age <= 61)"
+                        + " and name not in ('bb') and price is not null");
+        assertSameAsInterpreter("select id from fake where name = 'dddd' or age in (null, 18)");
+    }
+
+    private void assertSameAsInterpreter(String sql) throws Exception {
+        PlainSelect select = (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, new ArrayList<>());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, new ArrayList<>());
+        ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction);
+        ZetaSQLCompiler compiler =
+                new ZetaSQLCompiler(ROW_TYPE, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+
+        ZetaSQLCompiler.CompiledPredicate filter = compiler.compilePredicate(select.getWhere());
+        for (Object[] row : ROWS) {
+            Assertions.assertEquals(
+                    zetaSQLFilter.executeFilter(select.getWhere(), row), filter.test(row), sql);
+            for (SelectItem selectItem : select.getSelectItems()) {
+                SelectExpressionItem item = (SelectExpressionItem) selectItem;
+                Assertions.assertEquals(
+                        zetaSQLFunction.computeForValue(item.getExpression(), row),
+                        compiler.compileExpression(item.getExpression()).evaluate(row),
+                        item.toString());
+            }
+        }
+    }
+}